@@ -260,6 +260,11 @@ public final class BuildChainBuilder {
         for (BuildStepBuilder builder : included) {
             buildOne(builder, included, mappedSteps, dependents, dependencies, startSteps, endSteps);
         }
+        for (StepInfo stepInfo : mappedSteps.values()) {
+            for (StepInfo dependent : stepInfo.getDependents()) {
+                dependent.addDirectDependency(stepInfo);
+            }
+        }
         if (GRAPH_OUTPUT != null && !GRAPH_OUTPUT.isEmpty()) {
             try (FileOutputStream fos = new FileOutputStream(GRAPH_OUTPUT)) {
                 try (OutputStreamWriter osw = new OutputStreamWriter(fos, StandardCharsets.UTF_8)) {
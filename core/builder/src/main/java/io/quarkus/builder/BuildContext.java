@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -30,6 +31,7 @@ public final class BuildContext {
     private final Execution execution;
     private final AtomicInteger dependencies;
     private volatile boolean running;
+    private List<Map.Entry<ItemId, BuildItem>> produced;
 
     BuildContext(final StepInfo stepInfo, final Execution execution) {
         this.stepInfo = stepInfo;
@@ -47,6 +49,16 @@ public final class BuildContext {
         return execution.getBuildTargetName();
     }
 
+    /**
+     * Get the build steps which this step depends on, directly or through the items consumed by other steps. All of
+     * them completed before this step was run.
+     *
+     * @return the build steps this step depends on (not {@code null})
+     */
+    public Set<BuildStep> getStepDependencies() {
+        return stepInfo.getTransitiveDependencies();
+    }
+
     /**
      * Produce the given item. If the {@code type} refers to a item which is declared with multiplicity, then this
      * method can be called more than once for the given {@code type}, otherwise it must be called no more than once.
@@ -375,6 +387,10 @@ public final class BuildContext {
         if (!stepInfo.getProduces().contains(id)) {
             throw Messages.msg.undeclaredItem(id);
         }
+        final List<Map.Entry<ItemId, BuildItem>> produced = this.produced;
+        if (produced != null) {
+            produced.add(new StepResultCache.ProducedItem(id, value));
+        }
         if (id.isMulti()) {
             final List<BuildItem> list = execution.getMultis().computeIfAbsent(id, x -> new ArrayList<>());
             synchronized (list) {
@@ -402,6 +418,30 @@ public final class BuildContext {
         }
     }
 
+    private void runCached(StepResultCache cache, BuildStep buildStep) {
+        final long start = System.nanoTime();
+        final String fingerprint = cache.fingerprint(stepInfo, execution);
+        if (fingerprint == null) {
+            buildStep.execute(this);
+            cache.record(stepInfo, System.nanoTime() - start, StepResultCache.Status.NOT_CACHEABLE);
+            return;
+        }
+        final List<Map.Entry<ItemId, BuildItem>> cached = cache.load(fingerprint, buildStep.getClass().getClassLoader());
+        if (cached != null) {
+            for (Map.Entry<ItemId, BuildItem> entry : cached) {
+                doProduce(entry.getKey(), entry.getValue());
+            }
+            cache.record(stepInfo, System.nanoTime() - start, StepResultCache.Status.HIT);
+            return;
+        }
+        produced = Collections.synchronizedList(new ArrayList<>());
+        buildStep.execute(this);
+        final boolean stored = cache.store(fingerprint, produced);
+        produced = null;
+        cache.record(stepInfo, System.nanoTime() - start,
+                stored ? StepResultCache.Status.MISS : StepResultCache.Status.NOT_CACHEABLE);
+    }
+
     void run() {
         final Execution execution = this.execution;
         final StepInfo stepInfo = this.stepInfo;
@@ -412,7 +452,12 @@ public final class BuildContext {
             if (!execution.isErrorReported()) {
                 running = true;
                 try {
-                    buildStep.execute(this);
+                    final StepResultCache cache = execution.getStepResultCache();
+                    if (cache == null) {
+                        buildStep.execute(this);
+                    } else {
+                        runCached(cache, buildStep);
+                    }
                 } catch (Throwable t) {
                     final List<Diagnostic> list = execution.getDiagnostics();
                     synchronized (list) {
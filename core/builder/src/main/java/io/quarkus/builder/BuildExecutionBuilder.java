@@ -1,5 +1,6 @@
 package io.quarkus.builder;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -21,6 +22,7 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private Path stepResultCache;
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -111,6 +113,20 @@ public final class BuildExecutionBuilder {
         return this;
     }
 
+    /**
+     * Persist the items produced by the cacheable build steps in the given directory, and reuse them in later
+     * executions when the items consumed by the steps did not change. A report of the steps and of their cache status
+     * is logged at the end of the execution.
+     *
+     * @param directory the cache directory, or {@code null} to always run the steps
+     * @return this builder
+     * @see BuildStepBuilder#setCacheable(String)
+     */
+    public BuildExecutionBuilder setStepResultCache(Path directory) {
+        this.stepResultCache = directory;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -155,4 +171,8 @@ public final class BuildExecutionBuilder {
     BuildChain getChain() {
         return buildChain;
     }
+
+    Path getStepResultCache() {
+        return stepResultCache;
+    }
 }
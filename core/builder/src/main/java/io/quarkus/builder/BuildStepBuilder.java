@@ -21,6 +21,7 @@ public final class BuildStepBuilder {
     private final Map<ItemId, Consume> consumes = new HashMap<>();
     private final Map<ItemId, Produce> produces = new HashMap<>();
     private BuildStep buildStep;
+    private String cacheIdentity;
 
     BuildStepBuilder(final BuildChainBuilder buildChainBuilder) {
         this.buildChainBuilder = buildChainBuilder;
@@ -38,6 +39,23 @@ public final class BuildStepBuilder {
         return this;
     }
 
+    /**
+     * Declare that the items produced by this step only depend on the items it consumes, so that they can be served
+     * from the step result cache of the execution instead of running the step, see
+     * {@link BuildExecutionBuilder#setStepResultCache(java.nio.file.Path)}. The step must not have any other effect than
+     * producing items.
+     * <p>
+     * The step is always run if one of the items it consumes or produces is not {@link java.io.Serializable}.
+     *
+     * @param identity the identity of the step, it must change whenever the code of the step changes
+     * @return this builder
+     */
+    public BuildStepBuilder setCacheable(final String identity) {
+        Assert.checkNotNullParam("identity", identity);
+        this.cacheIdentity = identity;
+        return this;
+    }
+
     /**
      * This build step should complete before any build steps which consume the given item {@code type} are initiated.
      * If no such build steps exist, no ordering constraint is enacted.
@@ -401,6 +419,10 @@ public final class BuildStepBuilder {
         return buildStep;
     }
 
+    String getCacheIdentity() {
+        return cacheIdentity;
+    }
+
     private void addConsumes(final ItemId itemId, final Constraint constraint, final ConsumeFlags flags) {
         Assert.checkNotNullParam("flags", flags);
         consumes.compute(itemId,
@@ -36,6 +36,7 @@ final class Execution {
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
+    private final StepResultCache stepResultCache;
     private volatile Thread runningThread;
     private volatile boolean done;
 
@@ -50,6 +51,7 @@ final class Execution {
         executorBuilder.setThreadFactory(new JBossThreadFactory(new ThreadGroup("build group"), Boolean.FALSE, null, "build-%t",
                 JBossExecutors.loggingExceptionHandler(), null));
         buildTargetName = builder.getBuildTargetName();
+        stepResultCache = builder.getStepResultCache() != null ? new StepResultCache(builder.getStepResultCache()) : null;
         executor = executorBuilder.build();
         lastStepCount.set(builder.getChain().getEndStepCount());
         if (lastStepCount.get() == 0)
@@ -102,6 +104,9 @@ final class Execution {
                 if (intr)
                     Thread.currentThread().interrupt();
             }
+        if (stepResultCache != null && log.isDebugEnabled()) {
+            log.debug(stepResultCache.report());
+        }
         for (Diagnostic diagnostic : diagnostics) {
             if (diagnostic.getLevel() == Diagnostic.Level.ERROR) {
                 BuildException failed = new BuildException("Build failed due to errors", diagnostic.getThrown(),
@@ -144,6 +149,10 @@ final class Execution {
         return multis;
     }
 
+    StepResultCache getStepResultCache() {
+        return stepResultCache;
+    }
+
     BuildChain getBuildChain() {
         return chain;
     }
@@ -61,4 +61,8 @@ final class ItemId {
     Class<? extends BuildItem> getType() {
         return itemType;
     }
+
+    Object getName() {
+        return name;
+    }
 }
@@ -1,5 +1,8 @@
 package io.quarkus.builder;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -8,13 +11,16 @@ final class StepInfo {
     private final BuildStep buildStep;
     private final int dependencies;
     private final Set<StepInfo> dependents;
+    private final Set<StepInfo> directDependencies = new HashSet<>();
     private final Set<ItemId> consumes;
     private final Set<ItemId> produces;
+    private final String cacheIdentity;
 
     StepInfo(final BuildStepBuilder builder, int dependencies, Set<StepInfo> dependents) {
         buildStep = builder.getBuildStep();
         consumes = builder.getRealConsumes();
         produces = builder.getRealProduces();
+        cacheIdentity = builder.getCacheIdentity();
         this.dependencies = dependencies;
         this.dependents = dependents;
     }
@@ -31,6 +37,29 @@ final class StepInfo {
         return dependents;
     }
 
+    /**
+     * Get the build steps this step depends on, directly or through other steps.
+     *
+     * @return the build steps which complete before this step is run
+     */
+    Set<BuildStep> getTransitiveDependencies() {
+        final Set<StepInfo> visited = new HashSet<>();
+        final ArrayDeque<StepInfo> toVisit = new ArrayDeque<>(directDependencies);
+        final Set<BuildStep> result = new HashSet<>();
+        StepInfo step;
+        while ((step = toVisit.poll()) != null) {
+            if (visited.add(step)) {
+                result.add(step.getBuildStep());
+                toVisit.addAll(step.directDependencies);
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    void addDirectDependency(StepInfo stepInfo) {
+        directDependencies.add(stepInfo);
+    }
+
     Set<ItemId> getConsumes() {
         return consumes;
     }
@@ -38,4 +67,8 @@ final class StepInfo {
     Set<ItemId> getProduces() {
         return produces;
     }
+
+    String getCacheIdentity() {
+        return cacheIdentity;
+    }
 }
@@ -0,0 +1,278 @@
+package io.quarkus.builder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.quarkus.builder.item.BuildItem;
+
+/**
+ * The persistent cache of the items produced by the cacheable build steps.
+ * <p>
+ * The fingerprint of a step execution is a digest of the identity of the step and of the serialized form of every item
+ * it consumes. If a consumed or a produced item is not {@link Serializable} the step is simply run.
+ */
+final class StepResultCache {
+
+    enum Status {
+        HIT,
+        MISS,
+        NOT_CACHEABLE,
+    }
+
+    private static final byte[] ABSENT = new byte[] { 0 };
+
+    private final Path directory;
+    private final ConcurrentLinkedQueue<StepReport> reports = new ConcurrentLinkedQueue<>();
+
+    StepResultCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     *
+     * @return the fingerprint or {@code null} if the step cannot be cached in this execution
+     */
+    String fingerprint(StepInfo stepInfo, Execution execution) {
+        if (stepInfo.getCacheIdentity() == null) {
+            return null;
+        }
+        MessageDigest md = newDigest();
+        md.update(stepInfo.getCacheIdentity().getBytes(StandardCharsets.UTF_8));
+        List<ItemId> consumes = new ArrayList<>(stepInfo.getConsumes());
+        consumes.sort(Comparator.comparing(ItemId::toString));
+        for (ItemId id : consumes) {
+            md.update(id.toString().getBytes(StandardCharsets.UTF_8));
+            if (id.isMulti()) {
+                List<BuildItem> items = execution.getMultis().getOrDefault(id, Collections.emptyList());
+                // the order of the items depends on the order the producers ran in
+                List<String> digests = new ArrayList<>(items.size());
+                synchronized (items) {
+                    for (BuildItem item : items) {
+                        byte[] digest = digest(item);
+                        if (digest == null) {
+                            return null;
+                        }
+                        digests.add(Base64.getEncoder().encodeToString(digest));
+                    }
+                }
+                Collections.sort(digests);
+                for (String digest : digests) {
+                    md.update(digest.getBytes(StandardCharsets.UTF_8));
+                }
+            } else {
+                BuildItem item = execution.getSingles().get(id);
+                byte[] digest = item != null ? digest(item) : ABSENT;
+                if (digest == null) {
+                    return null;
+                }
+                md.update(digest);
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(md.digest());
+    }
+
+    /**
+     *
+     * @return the items produced by the step or {@code null} if the fingerprint is not cached
+     */
+    List<Map.Entry<ItemId, BuildItem>> load(String fingerprint, ClassLoader classLoader) {
+        Path file = directory.resolve(fingerprint);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file));
+                ObjectInputStream objects = new ClassLoaderObjectInputStream(in, classLoader)) {
+            int size = objects.readInt();
+            List<Map.Entry<ItemId, BuildItem>> produced = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String type = objects.readUTF();
+                BuildItem item = (BuildItem) objects.readObject();
+                produced.add(new ProducedItem(
+                        new ItemId(Class.forName(type, false, classLoader).asSubclass(BuildItem.class), null), item));
+            }
+            return produced;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            Execution.log.debugf(e, "Ignoring unreadable cached step result %s", file);
+            return null;
+        }
+    }
+
+    /**
+     *
+     * @return {@code true} if the produced items were stored
+     */
+    boolean store(String fingerprint, List<Map.Entry<ItemId, BuildItem>> produced) {
+        for (Map.Entry<ItemId, BuildItem> entry : produced) {
+            if (entry.getKey().getName() != null || !(entry.getValue() instanceof Serializable)) {
+                return false;
+            }
+        }
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, "step", ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp));
+                    ObjectOutputStream objects = new ObjectOutputStream(out)) {
+                objects.writeInt(produced.size());
+                for (Map.Entry<ItemId, BuildItem> entry : produced) {
+                    objects.writeUTF(entry.getKey().getType().getName());
+                    objects.writeObject(entry.getValue());
+                }
+            }
+            Files.move(tmp, directory.resolve(fingerprint), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            // e.g. a NotSerializableException for an object referenced by an item
+            Execution.log.debugf(e, "Unable to store the result of the build step");
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+            return false;
+        }
+    }
+
+    void record(StepInfo stepInfo, long nanos, Status status) {
+        reports.add(new StepReport(stepInfo.getBuildStep().toString(), nanos, status));
+    }
+
+    /**
+     *
+     * @return the report of the steps executed so far, the slowest first
+     */
+    String report() {
+        List<StepReport> sorted = new ArrayList<>(reports);
+        sorted.sort(Comparator.comparingLong((StepReport r) -> r.nanos).reversed());
+        int hits = 0;
+        int misses = 0;
+        StringBuilder details = new StringBuilder();
+        for (StepReport report : sorted) {
+            if (report.status == Status.HIT) {
+                hits++;
+            } else if (report.status == Status.MISS) {
+                misses++;
+            }
+            details.append(System.lineSeparator()).append("  ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(report.nanos)).append(" ms\t")
+                    .append(report.status).append('\t').append(report.step);
+        }
+        return "Build step cache: " + hits + " hits, " + misses + " misses" + details;
+    }
+
+    private static byte[] digest(BuildItem item) {
+        if (!(item instanceof Serializable)) {
+            return null;
+        }
+        MessageDigest md = newDigest();
+        try (ObjectOutputStream out = new ObjectOutputStream(new DigestOutputStream(NullOutputStream.INSTANCE, md))) {
+            out.writeObject(item);
+        } catch (IOException e) {
+            return null;
+        }
+        return md.digest();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static final class ProducedItem implements Map.Entry<ItemId, BuildItem> {
+
+        private final ItemId id;
+        private final BuildItem item;
+
+        ProducedItem(ItemId id, BuildItem item) {
+            this.id = id;
+            this.item = item;
+        }
+
+        @Override
+        public ItemId getKey() {
+            return id;
+        }
+
+        @Override
+        public BuildItem getValue() {
+            return item;
+        }
+
+        @Override
+        public BuildItem setValue(BuildItem value) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class StepReport {
+
+        final String step;
+        final long nanos;
+        final Status status;
+
+        StepReport(String step, long nanos, Status status) {
+            this.step = step;
+            this.nanos = nanos;
+            this.status = status;
+        }
+    }
+
+    private static final class NullOutputStream extends OutputStream {
+
+        static final NullOutputStream INSTANCE = new NullOutputStream();
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+
+    private static final class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        ClassLoaderObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package io.quarkus.builder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +26,12 @@ public class BasicTests {
     public static final class DummyItem2 extends SimpleBuildItem {
     }
 
+    public static final class DummyItem3 extends SimpleBuildItem {
+    }
+
+    public static final class DummyItem4 extends SimpleBuildItem {
+    }
+
     @Test
     public void testSimple() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -232,4 +243,41 @@ public class BasicTests {
         stepBuilder.build();
         builder.build();
     }
+
+    @Test
+    public void testStepDependencies() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        final BuildStep first = new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem());
+            }
+        };
+        builder.addBuildStep(first).produces(DummyItem.class).build();
+        final BuildStep second = new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem2());
+            }
+        };
+        builder.addBuildStep(second).consumes(DummyItem.class).produces(DummyItem2.class).build();
+        builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem3());
+            }
+        }).produces(DummyItem3.class).build();
+        final AtomicReference<Set<BuildStep>> dependencies = new AtomicReference<>();
+        builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                dependencies.set(context.getStepDependencies());
+                context.produce(new DummyItem4());
+            }
+        }).consumes(DummyItem2.class).produces(DummyItem4.class).build();
+        builder.addFinal(DummyItem3.class);
+        builder.addFinal(DummyItem4.class);
+        builder.build().createExecutionBuilder("my-app.jar").execute();
+        assertEquals(new HashSet<>(Arrays.asList(first, second)), dependencies.get());
+    }
 }
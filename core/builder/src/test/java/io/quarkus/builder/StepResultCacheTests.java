@@ -0,0 +1,109 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ */
+public class StepResultCacheTests {
+
+    public static final class InputItem extends SimpleBuildItem implements Serializable {
+        private final String value;
+
+        public InputItem(String value) {
+            this.value = value;
+        }
+    }
+
+    public static final class InputMultiItem extends MultiBuildItem implements Serializable {
+        private final String value;
+
+        public InputMultiItem(String value) {
+            this.value = value;
+        }
+    }
+
+    public static final class OutputItem extends SimpleBuildItem implements Serializable {
+        private final String value;
+
+        public OutputItem(String value) {
+            this.value = value;
+        }
+    }
+
+    public static final class NotSerializableItem extends SimpleBuildItem {
+    }
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testUnchangedStepIsSkipped() throws ChainBuildException, BuildException {
+        final AtomicInteger runs = new AtomicInteger();
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addInitial(InputItem.class);
+        builder.addInitial(InputMultiItem.class);
+        builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                runs.incrementAndGet();
+                StringBuilder value = new StringBuilder(context.consume(InputItem.class).value);
+                for (InputMultiItem item : context.consumeMulti(InputMultiItem.class)) {
+                    value.append(item.value);
+                }
+                context.produce(new OutputItem(value.toString()));
+            }
+        }).consumes(InputItem.class).consumes(InputMultiItem.class).produces(OutputItem.class).setCacheable("step-1")
+                .build();
+        builder.addFinal(OutputItem.class);
+        final BuildChain chain = builder.build();
+
+        assertEquals("abc", execute(chain, "a", "b", "c").consume(OutputItem.class).value);
+        assertEquals(1, runs.get());
+        assertEquals("abc", execute(chain, "a", "b", "c").consume(OutputItem.class).value);
+        assertEquals(1, runs.get());
+        assertEquals("xbc", execute(chain, "x", "b", "c").consume(OutputItem.class).value);
+        assertEquals(2, runs.get());
+        assertEquals("abcd", execute(chain, "a", "b", "c", "d").consume(OutputItem.class).value);
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    public void testNotSerializableResultIsNotCached() throws ChainBuildException, BuildException {
+        final AtomicInteger runs = new AtomicInteger();
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addInitial(InputItem.class);
+        builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                runs.incrementAndGet();
+                context.produce(new NotSerializableItem());
+            }
+        }).consumes(InputItem.class).produces(NotSerializableItem.class).setCacheable("step-1").build();
+        builder.addFinal(NotSerializableItem.class);
+        final BuildChain chain = builder.build();
+
+        execute(chain, "a");
+        execute(chain, "a");
+        assertEquals(2, runs.get());
+    }
+
+    private BuildResult execute(BuildChain chain, String value, String... multiValues) throws BuildException {
+        final BuildExecutionBuilder execBuilder = chain.createExecutionBuilder("my-app.jar")
+                .setStepResultCache(dir)
+                .produce(new InputItem(value));
+        for (String multiValue : multiValues) {
+            execBuilder.produce(new InputMultiItem(multiValue));
+        }
+        return execBuilder.execute();
+    }
+}
@@ -0,0 +1,298 @@
+package io.quarkus.deployment;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+
+/**
+ * Applies the bytecode transformers to a class and caches the result on disk.
+ * <p>
+ * The entries are content-addressed: the key of an entry is a digest of the context of the cache, the class name, the
+ * original bytecode and the identity of the transformers, i.e. their classes and the archives these classes were loaded
+ * from. A transformer may produce a different result for the same class if another application class changed, e.g. the
+ * Panache accessors of an entity, so the context is a {@link #fingerprint(List) fingerprint} of the application archives.
+ * Dev mode and packaging therefore share the entries as long as the application did not change.
+ * <p>
+ * The entries of a class are stored in a directory named after the class, and a new entry replaces the previous entries
+ * of the class. The entries of the classes that are no longer transformed can be removed with {@link #pruneUnused()}.
+ * <p>
+ * If the cache has no directory the transformers are always applied. This class is thread-safe.
+ */
+public final class ClassTransformationCache {
+
+    private static final Logger log = Logger.getLogger(ClassTransformationCache.class);
+
+    private static final ConcurrentMap<Class<?>, String> TRANSFORMER_IDENTITIES = new ConcurrentHashMap<>();
+
+    private static final String TMP_SUFFIX = ".tmp";
+    private static final long TMP_MAX_AGE = TimeUnit.MINUTES.toMillis(1);
+
+    private final Path directory;
+    private volatile byte[] context = new byte[0];
+    // the names of the classes served by this cache
+    private final Set<String> used = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger transformed = new AtomicInteger();
+    private final AtomicInteger cached = new AtomicInteger();
+
+    /**
+     *
+     * @param directory the cache directory, may be {@code null}
+     */
+    public ClassTransformationCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Sets the context the transformers are applied in, before any class is transformed.
+     *
+     * @param context the context, e.g. the {@link #fingerprint(List)} of the application archives
+     */
+    public void setContext(String context) {
+        this.context = context.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Computes a digest of the content of the given archives. The archives that are directories are digested file by
+     * file, the jars are identified by their location, size and last modified time.
+     *
+     * @param archiveLocations the locations of the application archives
+     * @return the fingerprint
+     * @throws IOException if an archive cannot be read
+     */
+    public static String fingerprint(List<Path> archiveLocations) throws IOException {
+        MessageDigest md = newDigest();
+        List<Path> locations = new ArrayList<>(archiveLocations);
+        Collections.sort(locations);
+        for (Path location : locations) {
+            md.update(location.toString().getBytes(StandardCharsets.UTF_8));
+            if (Files.isDirectory(location)) {
+                List<Path> files;
+                try (Stream<Path> stream = Files.walk(location)) {
+                    files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                }
+                for (Path file : files) {
+                    md.update(location.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                    md.update(Files.readAllBytes(file));
+                }
+            } else if (Files.exists(location)) {
+                md.update(ByteBuffer.allocate(16).putLong(Files.size(location))
+                        .putLong(Files.getLastModifiedTime(location).toMillis()).array());
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(md.digest());
+    }
+
+    /**
+     *
+     * @param className the name of the class
+     * @param bytes the original bytecode
+     * @param transformers the transformers to apply, in order
+     * @return the transformed bytecode
+     */
+    public byte[] transform(String className, byte[] bytes, List<BiFunction<String, ClassVisitor, ClassVisitor>> transformers) {
+        Path cachePath = null;
+        if (directory != null) {
+            used.add(className);
+            cachePath = directory.resolve(className).resolve(key(className, bytes, transformers));
+            try {
+                byte[] data = Files.readAllBytes(cachePath);
+                cached.incrementAndGet();
+                return data;
+            } catch (NoSuchFileException e) {
+                // not cached yet
+            } catch (IOException e) {
+                log.error("Unable to load transformed class from cache", e);
+            }
+        }
+
+        ClassReader cr = new ClassReader(bytes);
+        ClassWriter writer = new QuarkusClassWriter(cr, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        ClassVisitor visitor = writer;
+        for (BiFunction<String, ClassVisitor, ClassVisitor> i : transformers) {
+            visitor = i.apply(className, visitor);
+        }
+        cr.accept(visitor, 0);
+        byte[] data = writer.toByteArray();
+        transformed.incrementAndGet();
+
+        if (cachePath != null) {
+            Path tmp = null;
+            try {
+                Path classDirectory = cachePath.getParent();
+                Files.createDirectories(classDirectory);
+                tmp = Files.createTempFile(classDirectory, "class", TMP_SUFFIX);
+                Files.write(tmp, data);
+                // other threads and processes sharing the directory never see a partially written class
+                Files.move(tmp, cachePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                removeOtherEntries(classDirectory, cachePath);
+            } catch (IOException e) {
+                log.error("Unable to write class to cache", e);
+                if (tmp != null) {
+                    try {
+                        Files.deleteIfExists(tmp);
+                    } catch (IOException ignored) {
+                    }
+                }
+            }
+        }
+        return data;
+    }
+
+    /**
+     *
+     * @return the number of classes the transformers were applied to
+     */
+    public int getTransformed() {
+        return transformed.get();
+    }
+
+    /**
+     *
+     * @return the number of transformed classes served from the cache
+     */
+    public int getCached() {
+        return cached.get();
+    }
+
+    /**
+     * Removes the entries of the classes that were not served by this cache. This must only be called once all the
+     * classes to transform were served, e.g. at the end of a build.
+     *
+     * @return the number of classes whose entries were removed
+     */
+    public int pruneUnused() {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return 0;
+        }
+        int pruned = 0;
+        try (DirectoryStream<Path> classDirectories = Files.newDirectoryStream(directory)) {
+            for (Path classDirectory : classDirectories) {
+                if (!used.contains(classDirectory.getFileName().toString())) {
+                    delete(classDirectory);
+                    pruned++;
+                }
+            }
+        } catch (IOException e) {
+            log.error("Unable to prune the transformed class cache", e);
+        }
+        return pruned;
+    }
+
+    /**
+     * The previous entries of a class are stale, unless a transformer changed back and forth, and the temporary files
+     * are left over by a process that did not complete.
+     */
+    private static void removeOtherEntries(Path classDirectory, Path entry) throws IOException {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(classDirectory)) {
+            for (Path i : entries) {
+                if (i.equals(entry)) {
+                    continue;
+                }
+                if (i.getFileName().toString().endsWith(TMP_SUFFIX)
+                        && System.currentTimeMillis() - Files.getLastModifiedTime(i).toMillis() < TMP_MAX_AGE) {
+                    // possibly being written by a concurrent process
+                    continue;
+                }
+                Files.deleteIfExists(i);
+            }
+        }
+    }
+
+    private static void delete(Path classDirectory) throws IOException {
+        if (!Files.isDirectory(classDirectory)) {
+            Files.deleteIfExists(classDirectory);
+            return;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(classDirectory)) {
+            for (Path i : entries) {
+                Files.deleteIfExists(i);
+            }
+        }
+        Files.deleteIfExists(classDirectory);
+    }
+
+    private String key(String className, byte[] bytes, List<BiFunction<String, ClassVisitor, ClassVisitor>> transformers) {
+        MessageDigest md = newDigest();
+        md.update(context);
+        md.update((byte) 0);
+        md.update(className.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+        for (BiFunction<String, ClassVisitor, ClassVisitor> i : transformers) {
+            md.update(TRANSFORMER_IDENTITIES.computeIfAbsent(i.getClass(), ClassTransformationCache::classIdentity)
+                    .getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+        }
+        md.update(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(md.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     *
+     * @param clazz the class
+     * @return an identity of the class that changes when the class file or the archive it was loaded from changes
+     */
+    static String classIdentity(Class<?> clazz) {
+        String name = clazz.getName();
+        // the names of lambda classes are not stable, the name of the class declaring the lambda is
+        int lambda = name.indexOf("$$Lambda$");
+        if (lambda != -1) {
+            name = name.substring(0, lambda);
+        }
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        URL location = codeSource != null ? codeSource.getLocation() : null;
+        if (location == null) {
+            return name;
+        }
+        StringBuilder identity = new StringBuilder(name).append('@').append(location);
+        if ("file".equals(location.getProtocol())) {
+            // snapshot archives change without changing their location
+            try {
+                Path path = Paths.get(location.toURI());
+                if (Files.isDirectory(path)) {
+                    // the last modified time of a directory does not change when a nested file changes
+                    path = path.resolve(name.replace('.', '/') + ".class");
+                }
+                identity.append('@').append(Files.getLastModifiedTime(path).toMillis());
+            } catch (Exception e) {
+                log.debugf(e, "Unable to determine the last modified time of %s", location);
+            }
+        }
+        return identity.toString();
+    }
+}
@@ -900,6 +900,11 @@ public final class ExtensionLoader {
                 });
             }
 
+            if (buildStep.cacheable()) {
+                final String identity = ClassTransformationCache.classIdentity(clazz) + "#" + method.getName();
+                methodStepConfig = methodStepConfig.andThen(bsb -> bsb.setCacheable(identity));
+            }
+
             final Consumer<BuildStepBuilder> finalStepConfig = stepConfig.andThen(methodStepConfig)
                     .andThen(buildStepBuilder -> buildStepBuilder.buildIf(finalAddStep));
             final BiConsumer<BuildContext, Object> finalStepInstanceSetup = stepInstanceSetup;
@@ -956,7 +961,7 @@ public final class ExtensionLoader {
                                 if (recordAnnotation.value() == ExecutionTime.STATIC_INIT) {
                                     bc.produce(new StaticBytecodeRecorderBuildItem(bri));
                                 } else {
-                                    bc.produce(new MainBytecodeRecorderBuildItem(bri));
+                                    bc.produce(new MainBytecodeRecorderBuildItem(bri, this, bc.getStepDependencies()));
                                 }
 
                             }
@@ -39,6 +39,11 @@ public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    /**
+     * The directory of the output target where the results of the cacheable build steps are persisted.
+     */
+    public static final String BUILD_CACHE_DIRECTORY = "quarkus-build-cache";
+
     private final ClassLoader classLoader;
     private final Path root;
     private final Set<Class<? extends BuildItem>> finalResults;
@@ -126,6 +131,9 @@ public class QuarkusAugmentor {
             for (Path i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            if (targetDir != null) {
+                execBuilder.setStepResultCache(targetDir.resolve(BUILD_CACHE_DIRECTORY));
+            }
             BuildResult buildResult = execBuilder
                     .execute();
             log.info("Quarkus augmentation completed in " + (System.currentTimeMillis() - time) + "ms");
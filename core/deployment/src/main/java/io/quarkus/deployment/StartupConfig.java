@@ -0,0 +1,19 @@
+package io.quarkus.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public class StartupConfig {
+
+    /**
+     * The maximum number of threads running the runtime initialization tasks of the extensions.
+     * <p>
+     * The tasks that do not depend on each other, through the build items of their build steps or the values
+     * returned by their recorders, are run concurrently. If set to 1 the tasks are run one after another on the main
+     * thread, which is the default. If set to 0 the number of available processors is used.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int threads;
+}
@@ -94,4 +94,15 @@ public @interface BuildStep {
      * @return the supplier class array
      */
     Class<? extends BooleanSupplier>[] onlyIfNot() default {};
+
+    /**
+     * Indicates that the items produced by this build step only depend on the items it consumes, so that the step
+     * can be skipped when the step result cache is enabled and the consumed items did not change since a previous
+     * build. A cacheable build step must not have any other effect than producing build items.
+     * <p>
+     * The step is run anyway if one of the items it consumes or produces is not {@link java.io.Serializable}.
+     *
+     * @return {@code true} if the results of this build step can be cached
+     */
+    boolean cacheable() default false;
 }
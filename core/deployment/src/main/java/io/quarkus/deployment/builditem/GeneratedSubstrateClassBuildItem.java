@@ -1,11 +1,13 @@
 package io.quarkus.deployment.builditem;
 
+import java.io.Serializable;
+
 import io.quarkus.builder.item.MultiBuildItem;
 
 /**
  * A generated class that is only applicable to native images
  */
-public final class GeneratedSubstrateClassBuildItem extends MultiBuildItem {
+public final class GeneratedSubstrateClassBuildItem extends MultiBuildItem implements Serializable {
     final String name;
     final byte[] classData;
 
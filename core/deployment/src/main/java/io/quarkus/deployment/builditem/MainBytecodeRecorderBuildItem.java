@@ -1,18 +1,47 @@
 package io.quarkus.deployment.builditem;
 
+import java.util.Set;
+
+import io.quarkus.builder.BuildStep;
 import io.quarkus.builder.item.MultiBuildItem;
 import io.quarkus.deployment.recording.BytecodeRecorderImpl;
 
 public final class MainBytecodeRecorderBuildItem extends MultiBuildItem {
 
     private final BytecodeRecorderImpl bytecodeRecorder;
+    private final BuildStep producer;
+    private final Set<BuildStep> producerDependencies;
 
     public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder) {
+        this(bytecodeRecorder, null, null);
+    }
+
+    /**
+     * @param producer the build step recording the bytecode
+     * @param producerDependencies the build steps the producer depends on
+     */
+    public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder, BuildStep producer,
+            Set<BuildStep> producerDependencies) {
         this.bytecodeRecorder = bytecodeRecorder;
+        this.producer = producer;
+        this.producerDependencies = producerDependencies;
     }
 
     public BytecodeRecorderImpl getBytecodeRecorder() {
         return bytecodeRecorder;
     }
 
+    /**
+     * Whether the build step of this recorder depends on the build step of the given recorder. If the build steps are
+     * not known the recorders are assumed to depend on each other.
+     *
+     * @return {@code true} if the other recorder must be run before this one
+     */
+    public boolean dependsOn(MainBytecodeRecorderBuildItem other) {
+        if (producerDependencies == null || other.producer == null) {
+            return true;
+        }
+        return producerDependencies.contains(other.producer);
+    }
+
 }
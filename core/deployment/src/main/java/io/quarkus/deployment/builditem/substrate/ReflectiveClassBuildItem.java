@@ -2,6 +2,7 @@ package io.quarkus.deployment.builditem.substrate;
 
 import static java.util.Arrays.stream;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -11,7 +12,7 @@ import io.quarkus.builder.item.MultiBuildItem;
 /**
  * Used to register a class for reflection in substrate
  */
-public final class ReflectiveClassBuildItem extends MultiBuildItem {
+public final class ReflectiveClassBuildItem extends MultiBuildItem implements Serializable {
 
     private final List<String> className;
     private final boolean methods;
@@ -1,12 +1,13 @@
 package io.quarkus.deployment.builditem.substrate;
 
+import java.io.Serializable;
 import java.lang.reflect.Field;
 
 import org.jboss.jandex.FieldInfo;
 
 import io.quarkus.builder.item.MultiBuildItem;
 
-public final class ReflectiveFieldBuildItem extends MultiBuildItem {
+public final class ReflectiveFieldBuildItem extends MultiBuildItem implements Serializable {
 
     final String declaringClass;
     final String name;
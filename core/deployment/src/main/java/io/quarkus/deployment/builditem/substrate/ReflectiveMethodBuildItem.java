@@ -1,5 +1,6 @@
 package io.quarkus.deployment.builditem.substrate;
 
+import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Objects;
@@ -8,7 +9,7 @@ import org.jboss.jandex.MethodInfo;
 
 import io.quarkus.builder.item.MultiBuildItem;
 
-public final class ReflectiveMethodBuildItem extends MultiBuildItem {
+public final class ReflectiveMethodBuildItem extends MultiBuildItem implements Serializable {
 
     final String declaringClass;
     final String name;
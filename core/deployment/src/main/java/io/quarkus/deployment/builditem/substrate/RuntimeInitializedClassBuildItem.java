@@ -1,8 +1,10 @@
 package io.quarkus.deployment.builditem.substrate;
 
+import java.io.Serializable;
+
 import io.quarkus.builder.item.MultiBuildItem;
 
-public final class RuntimeInitializedClassBuildItem extends MultiBuildItem {
+public final class RuntimeInitializedClassBuildItem extends MultiBuildItem implements Serializable {
 
     private final String className;
 
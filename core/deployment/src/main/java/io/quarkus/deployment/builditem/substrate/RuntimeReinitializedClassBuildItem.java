@@ -1,12 +1,14 @@
 package io.quarkus.deployment.builditem.substrate;
 
+import java.io.Serializable;
+
 import io.quarkus.builder.item.MultiBuildItem;
 
 /**
  * A class that will be reinitialized at runtime by Substrate. This will result in the static
  * initializer running twice.
  */
-public final class RuntimeReinitializedClassBuildItem extends MultiBuildItem {
+public final class RuntimeReinitializedClassBuildItem extends MultiBuildItem implements Serializable {
 
     private final String className;
 
@@ -1,5 +1,6 @@
 package io.quarkus.deployment.builditem.substrate;
 
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -12,7 +13,7 @@ import io.quarkus.builder.item.MultiBuildItem;
  * on a set of provider
  * classes.
  */
-public final class ServiceProviderBuildItem extends MultiBuildItem {
+public final class ServiceProviderBuildItem extends MultiBuildItem implements Serializable {
 
     public static final String SPI_ROOT = "META-INF/services/";
     private final String serviceInterface;
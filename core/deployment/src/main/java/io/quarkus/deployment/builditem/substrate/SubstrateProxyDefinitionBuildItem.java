@@ -1,5 +1,6 @@
 package io.quarkus.deployment.builditem.substrate;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -11,7 +12,7 @@ import io.quarkus.builder.item.MultiBuildItem;
  * that will be required on substrate. This definition takes the form of an ordered
  * list of interfaces that this proxy will implement.
  */
-public final class SubstrateProxyDefinitionBuildItem extends MultiBuildItem {
+public final class SubstrateProxyDefinitionBuildItem extends MultiBuildItem implements Serializable {
 
     private final List<String> classes;
 
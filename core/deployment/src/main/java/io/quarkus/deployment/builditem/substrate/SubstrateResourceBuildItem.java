@@ -1,5 +1,6 @@
 package io.quarkus.deployment.builditem.substrate;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -9,7 +10,7 @@ import io.quarkus.builder.item.MultiBuildItem;
 /**
  * A build item that indicates that a static resource should be included in the native image
  */
-public final class SubstrateResourceBuildItem extends MultiBuildItem {
+public final class SubstrateResourceBuildItem extends MultiBuildItem implements Serializable {
 
     private final List<String> resources;
 
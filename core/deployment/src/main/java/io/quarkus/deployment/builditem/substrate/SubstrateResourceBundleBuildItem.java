@@ -1,11 +1,13 @@
 package io.quarkus.deployment.builditem.substrate;
 
+import java.io.Serializable;
+
 import io.quarkus.builder.item.MultiBuildItem;
 
 /**
  * Indicates that a resource bundle should be included in the native image
  */
-public final class SubstrateResourceBundleBuildItem extends MultiBuildItem {
+public final class SubstrateResourceBundleBuildItem extends MultiBuildItem implements Serializable {
 
     private final String bundleName;
 
@@ -20,7 +20,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Stream;
@@ -43,6 +46,7 @@ import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -81,7 +85,8 @@ public class ApplicationArchiveBuildStep {
             List<AdditionalApplicationArchiveMarkerBuildItem> appMarkers,
             List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchiveBuildItem,
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
-            LiveReloadBuildItem liveReloadContext) throws IOException {
+            LiveReloadBuildItem liveReloadContext,
+            OutputTargetBuildItem outputTarget) throws IOException {
 
         Set<String> markerFiles = new HashSet<>();
         for (AdditionalApplicationArchiveMarkerBuildItem i : appMarkers) {
@@ -93,9 +98,15 @@ public class ApplicationArchiveBuildStep {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        PersistentIndexCache persistentIndexCache = null;
+        if (outputTarget.getOutputDirectory() != null) {
+            persistentIndexCache = new PersistentIndexCache(
+                    outputTarget.getOutputDirectory().resolve(PersistentIndexCache.DIRECTORY_NAME));
+        }
 
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(Thread.currentThread().getContextClassLoader(),
-                markerFiles, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache);
+                markerFiles, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
+                persistentIndexCache);
         return new ApplicationArchivesBuildItem(
                 new ApplicationArchiveImpl(appindex.getIndex(), root.getArchiveRoot(), null, false, root.getArchiveLocation()),
                 applicationArchives);
@@ -103,7 +114,8 @@ public class ApplicationArchiveBuildStep {
 
     private List<ApplicationArchive> scanForOtherIndexes(ClassLoader classLoader, Set<String> applicationArchiveFiles,
             ArchiveRootBuildItem root, List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchives,
-            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache)
+            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache,
+            PersistentIndexCache persistentIndexCache)
             throws IOException {
         Set<Path> dependenciesToIndex = new HashSet<>();
         //get paths that are included via index-dependencies
@@ -120,7 +132,7 @@ public class ApplicationArchiveBuildStep {
             dependenciesToIndex.add(i.getPath());
         }
 
-        return indexPaths(dependenciesToIndex, classLoader, indexCache);
+        return indexPaths(dependenciesToIndex, classLoader, indexCache, persistentIndexCache);
     }
 
     public List<Path> getIndexDependencyPaths(List<IndexDependencyBuildItem> indexDependencyBuildItems,
@@ -150,8 +162,10 @@ public class ApplicationArchiveBuildStep {
     }
 
     private static List<ApplicationArchive> indexPaths(Set<Path> dependenciesToIndex, ClassLoader classLoader,
-            IndexCache indexCache)
+            IndexCache indexCache, PersistentIndexCache persistentIndexCache)
             throws IOException {
+        indexJars(dependenciesToIndex, indexCache, persistentIndexCache);
+
         List<ApplicationArchive> ret = new ArrayList<>();
 
         for (final Path dep : dependenciesToIndex) {
@@ -160,7 +174,7 @@ public class ApplicationArchiveBuildStep {
                 IndexView indexView = handleFilePath(dep);
                 ret.add(new ApplicationArchiveImpl(indexView, dep, null, false, dep));
             } else {
-                IndexView index = handleJarPath(dep, indexCache);
+                IndexView index = indexCache.cache.get(dep);
                 FileSystem fs = FileSystems.newFileSystem(dep, classLoader);
                 ret.add(new ApplicationArchiveImpl(index, fs.getRootDirectories().iterator().next(), fs, true, dep));
             }
@@ -245,31 +259,94 @@ public class ApplicationArchiveBuildStep {
         return indexer.complete();
     }
 
-    private static Index handleJarPath(Path path, IndexCache indexCache) throws IOException {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try (JarFile file = new JarFile(path.toFile())) {
-                    ZipEntry existing = file.getEntry(JANDEX_INDEX);
-                    if (existing != null) {
-                        try (InputStream in = file.getInputStream(existing)) {
-                            IndexReader reader = new IndexReader(in);
-                            if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
-                                LOGGER.warnf(
-                                        "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
-                                        path);
-                                return indexJar(file);
-                            } else {
-                                return reader.read();
-                            }
-                        }
+    /**
+     * Indexes the jars that are not in the in-memory cache yet, in parallel if there is more than one.
+     */
+    private static void indexJars(Set<Path> dependenciesToIndex, IndexCache indexCache,
+            PersistentIndexCache persistentIndexCache) throws IOException {
+        List<Path> jars = new ArrayList<>();
+        for (Path dep : dependenciesToIndex) {
+            if (!Files.isDirectory(dep) && !indexCache.cache.containsKey(dep)) {
+                jars.add(dep);
+            }
+        }
+        if (jars.isEmpty()) {
+            return;
+        }
+        if (jars.size() == 1) {
+            Path jar = jars.get(0);
+            indexCache.cache.put(jar, handleJarPath(jar, persistentIndexCache));
+        } else {
+            final ExecutorService executorPool = Executors
+                    .newFixedThreadPool(Math.min(jars.size(), Runtime.getRuntime().availableProcessors()));
+            final Map<Path, Future<Index>> indexes = new HashMap<>();
+            try {
+                for (Path jar : jars) {
+                    indexes.put(jar, executorPool.submit(() -> handleJarPath(jar, persistentIndexCache)));
+                }
+            } finally {
+                executorPool.shutdown();
+            }
+            for (Map.Entry<Path, Future<Index>> entry : indexes.entrySet()) {
+                try {
+                    indexCache.cache.put(entry.getKey(), entry.getValue().get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while indexing " + entry.getKey(), e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new RuntimeException("Failed to process " + entry.getKey(), e.getCause());
+                }
+            }
+        }
+        if (persistentIndexCache != null) {
+            if (persistentIndexCache.getHits() > 0) {
+                LOGGER.debugf("Reused %d cached dependency indexes and indexed %d dependencies, saving about %d ms",
+                        persistentIndexCache.getHits(), persistentIndexCache.getMisses(),
+                        persistentIndexCache.getSavedMillis());
+            } else {
+                LOGGER.debugf("Indexed %d dependencies, no cached index could be reused", persistentIndexCache.getMisses());
+            }
+        }
+    }
+
+    private static Index handleJarPath(Path path, PersistentIndexCache persistentIndexCache) {
+        try (JarFile file = new JarFile(path.toFile())) {
+            ZipEntry existing = file.getEntry(JANDEX_INDEX);
+            if (existing != null) {
+                try (InputStream in = file.getInputStream(existing)) {
+                    IndexReader reader = new IndexReader(in);
+                    if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
+                        LOGGER.warnf(
+                                "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
+                                path);
+                        return indexJar(path, file, persistentIndexCache);
+                    } else {
+                        return reader.read();
                     }
-                    return indexJar(file);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
                 }
             }
-        });
+            return indexJar(path, file, persistentIndexCache);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to process " + path, e);
+        }
+    }
+
+    private static Index indexJar(Path path, JarFile file, PersistentIndexCache persistentIndexCache) throws IOException {
+        if (persistentIndexCache != null) {
+            Index cached = persistentIndexCache.get(path);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        long start = System.nanoTime();
+        Index index = indexJar(file);
+        if (persistentIndexCache != null) {
+            persistentIndexCache.put(path, index, System.nanoTime() - start);
+        }
+        return index;
     }
 
     private static Index indexJar(JarFile file) throws IOException {
@@ -288,7 +365,8 @@ public class ApplicationArchiveBuildStep {
 
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
-     * to re-index them each time. We cache them here to reduce the hot reload time.
+     * to re-index them each time. We cache them here to reduce the hot reload time. The indexes of the jars that
+     * need to be indexed are also persisted to the output directory, see {@link PersistentIndexCache}.
      */
     private static final class IndexCache {
 
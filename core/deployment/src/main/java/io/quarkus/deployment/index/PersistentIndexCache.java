@@ -0,0 +1,134 @@
+package io.quarkus.deployment.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * An on-disk cache of the indexes computed for the jars that do not contain a usable Jandex index.
+ * <p>
+ * There is one file per jar, named after a digest of the jar path. The file records the size and the last modified
+ * time of the jar it was computed from, and the entry is ignored (and later overwritten) if the jar has changed since.
+ * The time it took to compute the index is recorded as well so that the time saved by the cache can be reported.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    static final String DIRECTORY_NAME = "quarkus-index-cache";
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path directory;
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicLong savedNanos = new AtomicLong();
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     *
+     * @param jar the jar file
+     * @return the cached index or {@code null} if the jar is not cached or has changed since it was cached
+     */
+    Index get(Path jar) {
+        Path file = directory.resolve(fileName(jar));
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION || in.readLong() != Files.size(jar)
+                    || in.readLong() != Files.getLastModifiedTime(jar).toMillis()) {
+                misses.incrementAndGet();
+                return null;
+            }
+            long indexingNanos = in.readLong();
+            Index index = new IndexReader(in).read();
+            hits.incrementAndGet();
+            savedNanos.addAndGet(indexingNanos);
+            return index;
+        } catch (NoSuchFileException e) {
+            misses.incrementAndGet();
+            return null;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Ignoring unreadable cached index of %s", jar);
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     *
+     * @param jar the jar file
+     * @param index the index of the jar
+     * @param indexingNanos the time it took to compute the index
+     */
+    void put(Path jar, Index index, long indexingNanos) {
+        Path file = directory.resolve(fileName(jar));
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, "index", ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                DataOutputStream data = new DataOutputStream(out);
+                data.writeInt(FORMAT_VERSION);
+                data.writeLong(Files.size(jar));
+                data.writeLong(Files.getLastModifiedTime(jar).toMillis());
+                data.writeLong(indexingNanos);
+                data.flush();
+                new IndexWriter(out).write(index);
+            }
+            // concurrent builds sharing the directory never see a partially written entry
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to write the cached index of %s", jar);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    int getHits() {
+        return hits.get();
+    }
+
+    int getMisses() {
+        return misses.get();
+    }
+
+    long getSavedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(savedNanos.get());
+    }
+
+    private static String fileName(Path jar) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest(jar.toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + ".idx";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -108,6 +108,9 @@ public class BytecodeRecorderImpl implements RecorderContext {
     private final Map<Class<?>, SubstitutionHolder> substitutions = new HashMap<>();
     private final Map<Class<?>, NonDefaultConstructorHolder> nonDefaultConstructors = new HashMap<>();
     private final String className;
+    private final String name;
+    // the keys of the values of the other recorders loaded from the startup context
+    private final Set<String> consumedValues = new HashSet<>();
 
     private final List<ObjectLoader> loaders = new ArrayList<>();
 
@@ -124,14 +127,20 @@ public class BytecodeRecorderImpl implements RecorderContext {
     private boolean loadComplete;
 
     public BytecodeRecorderImpl(ClassLoader classLoader, boolean staticInit, String className) {
-        this.classLoader = classLoader;
-        this.staticInit = staticInit;
-        this.className = className;
+        this(classLoader, staticInit, className, className);
     }
 
     public BytecodeRecorderImpl(boolean staticInit, String buildStepName, String methodName) {
         this(Thread.currentThread().getContextClassLoader(), staticInit,
-                BASE_PACKAGE + buildStepName + "$" + methodName + OUTPUT_COUNT.incrementAndGet());
+                BASE_PACKAGE + buildStepName + "$" + methodName + OUTPUT_COUNT.incrementAndGet(),
+                buildStepName + "#" + methodName);
+    }
+
+    private BytecodeRecorderImpl(ClassLoader classLoader, boolean staticInit, String className, String name) {
+        this.classLoader = classLoader;
+        this.staticInit = staticInit;
+        this.className = className;
+        this.name = name;
     }
 
     public boolean isEmpty() {
@@ -317,6 +326,43 @@ public class BytecodeRecorderImpl implements RecorderContext {
         return className;
     }
 
+    /**
+     *
+     * @return the name of the recording build step, for diagnostic purposes
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     *
+     * @return the keys of the values this recorder puts in the {@link StartupContext}
+     */
+    public Set<String> getProducedValues() {
+        Set<String> produced = new HashSet<>();
+        for (BytecodeInstruction instruction : storedMethodCalls) {
+            if (instruction instanceof StoredMethodCall) {
+                StoredMethodCall call = (StoredMethodCall) instruction;
+                if (call.returnedProxy != null) {
+                    produced.add(call.proxyId);
+                }
+            } else if (instruction instanceof NewInstance) {
+                produced.add(((NewInstance) instruction).proxyId);
+            }
+        }
+        return produced;
+    }
+
+    /**
+     * The values are only known once the bytecode is written.
+     *
+     * @return the keys of the values this recorder reads from the {@link StartupContext}
+     * @see #writeBytecode(ClassOutput)
+     */
+    public Set<String> getConsumedValues() {
+        return Collections.unmodifiableSet(consumedValues);
+    }
+
     public void writeBytecode(ClassOutput classOutput) {
         ClassCreator file = ClassCreator.builder().classOutput(classOutput)
                 .className(className)
@@ -602,6 +648,7 @@ public class BytecodeRecorderImpl implements RecorderContext {
                         + " was created in a runtime recorder method, while this recorder is for a static init method. The object will not have been created at the time this method is run.");
             }
             String proxyId = rp.__returned$proxy$key();
+            consumedValues.add(proxyId);
             //because this is the result of a method invocation that may not have happened at param deserialization time
             //we just load it from the startup context
             return new DeferredParameter() {
@@ -1,5 +1,6 @@
 package io.quarkus.deployment.steps;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -17,29 +18,40 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
 import org.jboss.logging.Logger;
-import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
-import org.objectweb.asm.ClassWriter;
 
 import io.quarkus.deployment.ApplicationArchive;
-import io.quarkus.deployment.QuarkusClassWriter;
+import io.quarkus.deployment.ClassTransformationCache;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.TransformedClassesBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 
 public class ClassTransformingBuildStep {
 
     private static final Logger log = Logger.getLogger(ClassTransformingBuildStep.class);
 
+    static final String TRANSFORMER_CACHE_DIRECTORY = "transformer-cache";
+
     @BuildStep
     TransformedClassesBuildItem handleClassTransformation(List<BytecodeTransformerBuildItem> bytecodeTransformerBuildItems,
-            ApplicationArchivesBuildItem appArchives) throws ExecutionException, InterruptedException {
+            ApplicationArchivesBuildItem appArchives, OutputTargetBuildItem outputTarget)
+            throws ExecutionException, InterruptedException, IOException {
         if (bytecodeTransformerBuildItems.isEmpty()) {
             return new TransformedClassesBuildItem(Collections.emptyMap());
         }
+        //the same cache directory as the one of the RuntimeClassLoader in dev mode, so that the entries are shared
+        final ClassTransformationCache transformationCache = new ClassTransformationCache(
+                outputTarget.getOutputDirectory() != null
+                        ? outputTarget.getOutputDirectory().resolve(TRANSFORMER_CACHE_DIRECTORY)
+                        : null);
+        //the transformers may depend on any application class, e.g. the Panache entities
+        transformationCache.setContext(ClassTransformationCache.fingerprint(appArchives.getAllApplicationArchives().stream()
+                .map(ApplicationArchive::getArchiveLocation).collect(Collectors.toList())));
         final Map<String, List<BiFunction<String, ClassVisitor, ClassVisitor>>> bytecodeTransformers = new HashMap<>(
                 bytecodeTransformerBuildItems.size());
         for (BytecodeTransformerBuildItem i : bytecodeTransformerBuildItems) {
@@ -73,15 +85,8 @@ public class ClassTransformingBuildStep {
                                     throw new RuntimeException(
                                             "Can't process class files larger than Integer.MAX_VALUE bytes");
                                 }
-                                ClassReader cr = new ClassReader(Files.readAllBytes(path));
-                                ClassWriter writer = new QuarkusClassWriter(cr,
-                                        ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-                                ClassVisitor visitor = writer;
-                                for (BiFunction<String, ClassVisitor, ClassVisitor> i : visitors) {
-                                    visitor = i.apply(className, visitor);
-                                }
-                                cr.accept(visitor, 0);
-                                return new TransformedClassesBuildItem.TransformedClass(writer.toByteArray(), classFileName);
+                                byte[] data = transformationCache.transform(className, Files.readAllBytes(path), visitors);
+                                return new TransformedClassesBuildItem.TransformedClass(data, classFileName);
                             } finally {
                                 Thread.currentThread().setContextClassLoader(old);
                             }
@@ -104,6 +109,10 @@ public class ClassTransformingBuildStep {
                         .add(res);
             }
         }
+        //all the classes to transform were served, the other entries belong to classes that are no longer transformed
+        int pruned = transformationCache.pruneUnused();
+        log.debugf("Transformed %d classes, %d transformed classes were served from the cache, %d classes were pruned",
+                transformationCache.getTransformed(), transformationCache.getCached(), pruned);
         return new TransformedClassesBuildItem(transformedClassesByJar);
     }
 
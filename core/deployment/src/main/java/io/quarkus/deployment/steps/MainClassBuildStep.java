@@ -5,6 +5,9 @@ import static io.quarkus.gizmo.MethodDescriptor.ofMethod;
 
 import java.io.File;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -14,6 +17,7 @@ import org.graalvm.nativeimage.ImageInfo;
 
 import io.quarkus.builder.Version;
 import io.quarkus.deployment.GizmoAdaptor;
+import io.quarkus.deployment.StartupConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationClassNameBuildItem;
@@ -42,6 +46,7 @@ import io.quarkus.runtime.Application;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.StartupContext;
 import io.quarkus.runtime.StartupTask;
+import io.quarkus.runtime.StartupTaskGraph;
 import io.quarkus.runtime.SubstrateRuntimePropertiesRecorder;
 import io.quarkus.runtime.Timing;
 import io.quarkus.runtime.configuration.ProfileManager;
@@ -68,7 +73,8 @@ class MainClassBuildStep {
             List<BytecodeRecorderObjectLoaderBuildItem> loaders,
             BuildProducer<GeneratedClassBuildItem> generatedClass,
             LaunchModeBuildItem launchMode,
-            ApplicationInfoBuildItem applicationInfo) {
+            ApplicationInfoBuildItem applicationInfo,
+            StartupConfig startupConfig) {
 
         String appClassName = APP_CLASS + COUNT.incrementAndGet();
         appClassNameProducer.produce(new ApplicationClassNameBuildItem(appClassName));
@@ -176,6 +182,7 @@ class MainClassBuildStep {
         // Load the run time configuration
         tryBlock.invokeStaticMethod(ConfigurationSetup.CREATE_RUN_TIME_CONFIG);
 
+        List<MainBytecodeRecorderBuildItem> mainTasks = new ArrayList<>();
         for (MainBytecodeRecorderBuildItem holder : mainMethod) {
             final BytecodeRecorderImpl recorder = holder.getBytecodeRecorder();
             if (!recorder.isEmpty()) {
@@ -188,11 +195,28 @@ class MainClassBuildStep {
                     recorder.registerObjectLoader(item.getObjectLoader());
                 }
                 recorder.writeBytecode(gizmoOutput);
-                ResultHandle dup = tryBlock.newInstance(ofConstructor(recorder.getClassName()));
-                tryBlock.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
-                        startupContext);
+                mainTasks.add(holder);
+            }
+        }
+
+        // Run the tasks that do not depend on each other concurrently
+        ResultHandle graph = tryBlock.newInstance(ofConstructor(StartupTaskGraph.class));
+        for (MainBytecodeRecorderBuildItem task : mainTasks) {
+            final BytecodeRecorderImpl recorder = task.getBytecodeRecorder();
+            tryBlock.invokeVirtualMethod(ofMethod(StartupTaskGraph.class, "add", int.class, String.class, StartupTask.class),
+                    graph, tryBlock.load(recorder.getName()), tryBlock.newInstance(ofConstructor(recorder.getClassName())));
+        }
+        List<BitSet> dependencies = computeDependencies(mainTasks);
+        for (int i = 0; i < dependencies.size(); i++) {
+            BitSet taskDependencies = dependencies.get(i);
+            for (int j = taskDependencies.nextSetBit(0); j >= 0; j = taskDependencies.nextSetBit(j + 1)) {
+                tryBlock.invokeVirtualMethod(
+                        ofMethod(StartupTaskGraph.class, "addDependency", void.class, int.class, int.class),
+                        graph, tryBlock.load(i), tryBlock.load(j));
             }
         }
+        tryBlock.invokeVirtualMethod(ofMethod(StartupTaskGraph.class, "run", void.class, StartupContext.class, int.class),
+                graph, startupContext, tryBlock.load(startupConfig.threads));
 
         // Startup log messages
         ResultHandle featuresHandle = tryBlock.load(features.stream()
@@ -250,4 +274,37 @@ class MainClassBuildStep {
         return new MainClassBuildItem(MAIN_CLASS);
     }
 
+    /**
+     * A task depends on another one if its build step depends on the build step of the other task, or if it uses a
+     * value returned by the other task. The tasks are sorted so that a task only depends on the tasks before it.
+     *
+     * @return the direct dependencies of each task, without the ones implied by the other dependencies
+     */
+    static List<BitSet> computeDependencies(List<MainBytecodeRecorderBuildItem> tasks) {
+        List<BitSet> transitive = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            MainBytecodeRecorderBuildItem task = tasks.get(i);
+            BitSet dependencies = new BitSet();
+            for (int j = 0; j < i; j++) {
+                MainBytecodeRecorderBuildItem other = tasks.get(j);
+                if (task.dependsOn(other) || !Collections.disjoint(task.getBytecodeRecorder().getConsumedValues(),
+                        other.getBytecodeRecorder().getProducedValues())) {
+                    dependencies.set(j);
+                    dependencies.or(transitive.get(j));
+                }
+            }
+            transitive.add(dependencies);
+        }
+        List<BitSet> direct = new ArrayList<>(tasks.size());
+        for (BitSet dependencies : transitive) {
+            BitSet implied = new BitSet();
+            for (int j = dependencies.nextSetBit(0); j >= 0; j = dependencies.nextSetBit(j + 1)) {
+                implied.or(transitive.get(j));
+            }
+            BitSet reduced = (BitSet) dependencies.clone();
+            reduced.andNot(implied);
+            direct.add(reduced);
+        }
+        return direct;
+    }
 }
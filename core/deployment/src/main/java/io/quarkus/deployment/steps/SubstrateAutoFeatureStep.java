@@ -55,7 +55,7 @@ public class SubstrateAutoFeatureStep {
     static final String DYNAMIC_PROXY_REGISTRY = "com.oracle.svm.core.jdk.proxy.DynamicProxyRegistry";
     static final String LOCALIZATION_SUPPORT = "com.oracle.svm.core.jdk.LocalizationSupport";
 
-    @BuildStep
+    @BuildStep(cacheable = true)
     void generateFeature(BuildProducer<GeneratedSubstrateClassBuildItem> substrateClass,
             List<RuntimeInitializedClassBuildItem> runtimeInitializedClassBuildItems,
             List<RuntimeReinitializedClassBuildItem> runtimeReinitializedClassBuildItems,
@@ -14,9 +14,7 @@ import java.net.URLConnection;
 import java.net.URLStreamHandler;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.MessageDigest;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -26,17 +24,15 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.jboss.logging.Logger;
-import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
-import org.objectweb.asm.ClassWriter;
 
 import io.quarkus.deployment.ClassOutput;
-import io.quarkus.deployment.QuarkusClassWriter;
+import io.quarkus.deployment.ClassTransformationCache;
 
 public class RuntimeClassLoader extends ClassLoader implements ClassOutput, TransformerTarget {
 
@@ -54,7 +50,7 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
     private final Map<String, Path> applicationClasses;
 
     private final Path frameworkClassesPath;
-    private final Path transformerCache;
+    private final ClassTransformationCache transformationCache;
 
     private static final String DEBUG_CLASSES_DIR = System.getProperty("quarkus.debug.generated-classes-dir");
 
@@ -93,7 +89,7 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
             throw new IllegalStateException(
                     "Test classes directory path does not point to an existing directory: " + frameworkClassesPath);
         }
-        this.transformerCache = transformerCache;
+        this.transformationCache = new ClassTransformationCache(transformerCache);
     }
 
     @Override
@@ -278,23 +274,19 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
         }
         try {
             for (Path root : archives) {
-                Map<String, Path> classes = new HashMap<>();
-                AtomicBoolean transform = new AtomicBoolean();
-                Files.walk(root).forEach(new Consumer<Path>() {
-                    @Override
-                    public void accept(Path path) {
-                        if (path.toString().endsWith(".class")) {
-                            String key = root.relativize(path).toString().replace('\\', '/');
-                            classes.put(key, path);
-                            if (bytecodeTransformers
-                                    .containsKey(key.substring(0, key.length() - ".class".length()).replace("/", "."))) {
-                                transform.set(true);
+                if (!containsTransformedClass(root)) {
+                    continue;
+                }
+                //the whole archive is loaded by this class loader so that package private access keeps working
+                try (Stream<Path> paths = Files.walk(root)) {
+                    paths.forEach(new Consumer<Path>() {
+                        @Override
+                        public void accept(Path path) {
+                            if (path.toString().endsWith(".class")) {
+                                applicationClasses.put(root.relativize(path).toString().replace('\\', '/'), path);
                             }
                         }
-                    }
-                });
-                if (transform.get()) {
-                    applicationClasses.putAll(classes);
+                    });
                 }
             }
         } catch (IOException e) {
@@ -302,6 +294,15 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
         }
     }
 
+    private boolean containsTransformedClass(Path root) {
+        for (String className : bytecodeTransformers.keySet()) {
+            if (Files.exists(root.resolve(className.replace('.', '/') + ".class"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void writeResource(String name, byte[] data) throws IOException {
         resources.put(name, data);
@@ -370,43 +371,15 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
             return bytes;
         }
 
-        Path hashPath = null;
-        if (transformerCache != null) {
-
-            try {
-                MessageDigest md = MessageDigest.getInstance("MD5");
-                byte[] thedigest = md.digest(bytes);
-                String hash = Base64.getUrlEncoder().encodeToString(thedigest);
-                hashPath = transformerCache.resolve(hash);
-                if (Files.exists(hashPath)) {
-                    return readFileContent(hashPath);
-                }
-            } catch (Exception e) {
-                log.error("Unable to load transformed class from cache", e);
-            }
-        }
-
-        ClassReader cr = new ClassReader(bytes);
-        ClassWriter writer = new QuarkusClassWriter(cr, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-        ClassVisitor visitor = writer;
-        for (BiFunction<String, ClassVisitor, ClassVisitor> i : transformers) {
-            visitor = i.apply(name, visitor);
-        }
-        cr.accept(visitor, 0);
-        byte[] data = writer.toByteArray();
-        if (hashPath != null) {
-            try {
+        return transformationCache.transform(name, bytes, transformers);
+    }
 
-                File file = hashPath.toFile();
-                file.getParentFile().mkdirs();
-                try (FileOutputStream out = new FileOutputStream(file)) {
-                    out.write(data);
-                }
-            } catch (Exception e) {
-                log.error("Unable to write class to cache", e);
-            }
-        }
-        return data;
+    /**
+     *
+     * @return the cache the transformed classes are served from
+     */
+    public ClassTransformationCache getTransformationCache() {
+        return transformationCache;
     }
 
     private String sanitizeName(String name) {
@@ -19,12 +19,14 @@ import java.util.function.Consumer;
 import java.util.logging.Handler;
 import java.util.stream.Collectors;
 
+import org.jboss.logging.Logger;
 import org.objectweb.asm.ClassVisitor;
 
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildResult;
 import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.ClassOutput;
+import io.quarkus.deployment.ClassTransformationCache;
 import io.quarkus.deployment.QuarkusAugmentor;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ApplicationClassNameBuildItem;
@@ -43,6 +45,8 @@ import io.quarkus.runtime.logging.InitialConfigurator;
  */
 public class RuntimeRunner implements Runnable, Closeable {
 
+    private static final Logger log = Logger.getLogger(RuntimeRunner.class);
+
     private final Path target;
     private final ClassLoader loader;
     private final ClassOutput classOutput;
@@ -54,6 +58,7 @@ public class RuntimeRunner implements Runnable, Closeable {
     private final LaunchMode launchMode;
     private final LiveReloadBuildItem liveReloadState;
     private final Properties buildSystemProperties;
+    private final Path outputDir;
 
     public RuntimeRunner(Builder builder) {
         this.target = builder.target;
@@ -77,6 +82,8 @@ public class RuntimeRunner implements Runnable, Closeable {
             this.loader = builder.classLoader;
         }
         this.buildSystemProperties = builder.buildSystemProperties;
+        // the transformer cache lives in the build output directory, which also hosts the dependency index cache
+        this.outputDir = builder.transformerCache != null ? builder.transformerCache.getParent() : null;
     }
 
     @Override
@@ -95,6 +102,9 @@ public class RuntimeRunner implements Runnable, Closeable {
             builder.setRoot(target);
             builder.setClassLoader(loader);
             builder.setLaunchMode(launchMode);
+            if (outputDir != null) {
+                builder.setTargetDir(outputDir);
+            }
             if (liveReloadState != null) {
                 builder.setLiveReloadState(liveReloadState);
             }
@@ -117,6 +127,13 @@ public class RuntimeRunner implements Runnable, Closeable {
                     functions.computeIfAbsent(i.getClassToTransform(), (f) -> new ArrayList<>()).add(i.getVisitorFunction());
                 }
 
+                if (loader instanceof RuntimeClassLoader) {
+                    // the same context as the one of the packaging, so that the entries are shared
+                    ApplicationArchivesBuildItem archives = result.consume(ApplicationArchivesBuildItem.class);
+                    ((RuntimeClassLoader) loader).getTransformationCache()
+                            .setContext(ClassTransformationCache.fingerprint(archives.getAllApplicationArchives().stream()
+                                    .map(ApplicationArchive::getArchiveLocation).collect(Collectors.toList())));
+                }
                 transformerTarget.setTransformers(functions);
             }
 
@@ -145,6 +162,12 @@ public class RuntimeRunner implements Runnable, Closeable {
                 Thread.currentThread().setContextClassLoader(old);
             }
 
+            if (loader instanceof RuntimeClassLoader) {
+                ClassTransformationCache transformationCache = ((RuntimeClassLoader) loader).getTransformationCache();
+                log.debugf("Transformed %d classes during startup, %d transformed classes were served from the cache",
+                        transformationCache.getTransformed(), transformationCache.getCached());
+            }
+
             closeTask = new Closeable() {
                 @Override
                 public void close() {
@@ -0,0 +1,151 @@
+package io.quarkus.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Opcodes;
+
+import io.quarkus.deployment.util.IoUtil;
+
+public class ClassTransformationCacheTestCase {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testTransformedClassIsCached() throws IOException {
+        byte[] bytes = classBytes();
+        String className = ClassTransformationCacheTestCase.class.getName();
+        AddFieldTransformer transformer = new AddFieldTransformer();
+        List<BiFunction<String, ClassVisitor, ClassVisitor>> transformers = Collections.singletonList(transformer);
+
+        ClassTransformationCache cache = new ClassTransformationCache(dir);
+        byte[] transformed = cache.transform(className, bytes, transformers);
+        assertEquals(1, transformer.invocations.get());
+
+        // a new build reuses the class transformed by the previous one
+        cache = new ClassTransformationCache(dir);
+        assertArrayEquals(transformed, cache.transform(className, bytes, transformers));
+        assertEquals(1, transformer.invocations.get());
+        assertEquals(0, cache.getTransformed());
+        assertEquals(1, cache.getCached());
+
+        // the transformers are applied again to a different class or with different transformers
+        cache = new ClassTransformationCache(dir);
+        cache.transform("other." + className, bytes, transformers);
+        cache.transform(className, bytes, Arrays.asList(transformer, new AddFieldTransformer()));
+        assertEquals(3, transformer.invocations.get());
+        assertEquals(2, cache.getTransformed());
+        assertEquals(0, cache.getCached());
+    }
+
+    @Test
+    public void testStaleEntriesAreRemoved() throws IOException {
+        byte[] bytes = classBytes();
+        String className = ClassTransformationCacheTestCase.class.getName();
+        List<BiFunction<String, ClassVisitor, ClassVisitor>> transformers = Collections
+                .singletonList(new AddFieldTransformer());
+
+        ClassTransformationCache cache = new ClassTransformationCache(dir);
+        cache.transform(className, bytes, transformers);
+        cache.transform("other." + className, bytes, transformers);
+        // the class changed, the new entry replaces the previous one
+        byte[] changed = cache.transform(className, bytes, transformers);
+        cache.transform(className, changed, transformers);
+        assertEquals(1, entries(dir.resolve(className)));
+        assertEquals(1, entries(dir.resolve("other." + className)));
+
+        // the other class is no longer transformed
+        cache = new ClassTransformationCache(dir);
+        cache.transform(className, changed, transformers);
+        assertEquals(1, cache.getCached());
+        assertEquals(1, cache.pruneUnused());
+        assertEquals(1, entries(dir.resolve(className)));
+        assertFalse(Files.exists(dir.resolve("other." + className)));
+    }
+
+    @Test
+    public void testApplicationChangeInvalidatesEntries() throws IOException {
+        byte[] bytes = classBytes();
+        String className = ClassTransformationCacheTestCase.class.getName();
+        AddFieldTransformer transformer = new AddFieldTransformer();
+        List<BiFunction<String, ClassVisitor, ClassVisitor>> transformers = Collections.singletonList(transformer);
+        Path app = Files.createDirectories(dir.resolve("app"));
+        Path entity = app.resolve("Entity.class");
+        Files.write(entity, new byte[] { 1 });
+        Path cacheDir = dir.resolve("cache");
+
+        ClassTransformationCache cache = new ClassTransformationCache(cacheDir);
+        cache.setContext(ClassTransformationCache.fingerprint(Collections.singletonList(app)));
+        cache.transform(className, bytes, transformers);
+
+        cache = new ClassTransformationCache(cacheDir);
+        cache.setContext(ClassTransformationCache.fingerprint(Collections.singletonList(app)));
+        cache.transform(className, bytes, transformers);
+        assertEquals(1, cache.getCached());
+
+        // the transformer may depend on another application class which changed
+        Files.write(entity, new byte[] { 2 });
+        cache = new ClassTransformationCache(cacheDir);
+        cache.setContext(ClassTransformationCache.fingerprint(Collections.singletonList(app)));
+        cache.transform(className, bytes, transformers);
+        assertEquals(0, cache.getCached());
+        assertEquals(2, transformer.invocations.get());
+    }
+
+    @Test
+    public void testNoDirectory() throws IOException {
+        byte[] bytes = classBytes();
+        AddFieldTransformer transformer = new AddFieldTransformer();
+        ClassTransformationCache cache = new ClassTransformationCache(null);
+        for (int i = 0; i < 2; i++) {
+            cache.transform(ClassTransformationCacheTestCase.class.getName(), bytes, Collections.singletonList(transformer));
+        }
+        assertEquals(2, transformer.invocations.get());
+        assertEquals(2, cache.getTransformed());
+    }
+
+    private static long entries(Path classDirectory) throws IOException {
+        try (Stream<Path> entries = Files.list(classDirectory)) {
+            return entries.count();
+        }
+    }
+
+    private static byte[] classBytes() throws IOException {
+        return IoUtil.readClassAsBytes(ClassTransformationCacheTestCase.class.getClassLoader(),
+                ClassTransformationCacheTestCase.class.getName());
+    }
+
+    static class AddFieldTransformer implements BiFunction<String, ClassVisitor, ClassVisitor> {
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public ClassVisitor apply(String className, ClassVisitor classVisitor) {
+            invocations.incrementAndGet();
+            return new ClassVisitor(Opcodes.ASM7, classVisitor) {
+                @Override
+                public void visitEnd() {
+                    FieldVisitor fv = super.visitField(Opcodes.ACC_PRIVATE, "added", "I", null, null);
+                    fv.visitEnd();
+                    super.visitEnd();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTestCase {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testCachedIndexIsReused() throws IOException {
+        Path jar = Files.write(dir.resolve("dependency.jar"), new byte[] { 1, 2, 3 });
+        Index index = index(PersistentIndexCacheTestCase.class);
+
+        PersistentIndexCache cache = new PersistentIndexCache(dir.resolve(PersistentIndexCache.DIRECTORY_NAME));
+        assertNull(cache.get(jar));
+        cache.put(jar, index, 5_000_000);
+
+        // a new build reads the index written by the previous one
+        cache = new PersistentIndexCache(dir.resolve(PersistentIndexCache.DIRECTORY_NAME));
+        Index cached = cache.get(jar);
+        assertNotNull(cached);
+        assertNotNull(cached.getClassByName(DotName.createSimple(PersistentIndexCacheTestCase.class.getName())));
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(5, cache.getSavedMillis());
+    }
+
+    @Test
+    public void testChangedJarIsNotReused() throws IOException {
+        Path jar = Files.write(dir.resolve("dependency.jar"), new byte[] { 1, 2, 3 });
+        PersistentIndexCache cache = new PersistentIndexCache(dir.resolve(PersistentIndexCache.DIRECTORY_NAME));
+        cache.put(jar, index(PersistentIndexCacheTestCase.class), 1);
+
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10_000));
+        assertNull(cache.get(jar));
+
+        Files.write(jar, new byte[] { 1, 2, 3, 4 });
+        assertNull(cache.get(jar));
+        assertEquals(2, cache.getMisses());
+
+        cache.put(jar, index(String.class), 1);
+        Index cached = cache.get(jar);
+        assertNotNull(cached.getClassByName(DotName.createSimple(String.class.getName())));
+    }
+
+    private static Index index(Class<?> clazz) throws IOException {
+        Indexer indexer = new Indexer();
+        try (InputStream in = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+            indexer.index(in);
+        }
+        return indexer.complete();
+    }
+}
@@ -244,6 +244,21 @@ public class BytecodeRecorderTestCase {
         }, new TestJavaBean(null, 2));
     }
 
+    @Test
+    public void testProducedAndConsumedValues() {
+        TestClassLoader tcl = new TestClassLoader(getClass().getClassLoader());
+        BytecodeRecorderImpl producer = new BytecodeRecorderImpl(tcl, false, TEST_CLASS);
+        RuntimeValue<TestJavaBean> instance = producer.newInstance(TestJavaBean.class.getName());
+        BytecodeRecorderImpl consumer = new BytecodeRecorderImpl(tcl, false, TEST_CLASS + "2");
+        consumer.getRecordingProxy(TestRecorder.class).add(instance);
+        producer.writeBytecode(new TestClassOutput(tcl));
+        consumer.writeBytecode(new TestClassOutput(tcl));
+        assertEquals(1, producer.getProducedValues().size());
+        assertTrue(producer.getConsumedValues().isEmpty());
+        assertTrue(consumer.getProducedValues().isEmpty());
+        assertEquals(producer.getProducedValues(), consumer.getConsumedValues());
+    }
+
     @Test
     public void testRecordingProxyToStringNotNull() {
         TestClassLoader tcl = new TestClassLoader(getClass().getClassLoader());
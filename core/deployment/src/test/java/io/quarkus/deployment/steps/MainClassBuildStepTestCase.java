@@ -0,0 +1,85 @@
+package io.quarkus.deployment.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.builder.BuildStep;
+import io.quarkus.deployment.TestClassLoader;
+import io.quarkus.deployment.builditem.MainBytecodeRecorderBuildItem;
+import io.quarkus.deployment.recording.BytecodeRecorderImpl;
+import io.quarkus.deployment.recording.TestJavaBean;
+import io.quarkus.deployment.recording.TestRecorder;
+import io.quarkus.runtime.RuntimeValue;
+
+public class MainClassBuildStepTestCase {
+
+    @Test
+    public void testComputeDependencies() {
+        BuildStep a = context -> {
+        };
+        BuildStep b = context -> {
+        };
+        BuildStep c = context -> {
+        };
+        BuildStep d = context -> {
+        };
+        BuildStep e = context -> {
+        };
+        BytecodeRecorderImpl producer = recorder("d");
+        RuntimeValue<TestJavaBean> value = producer.newInstance(TestJavaBean.class.getName());
+        BytecodeRecorderImpl consumer = recorder("e");
+        consumer.getRecordingProxy(TestRecorder.class).add(value);
+        producer.writeBytecode(tcl::write);
+        consumer.writeBytecode(tcl::write);
+
+        List<BitSet> dependencies = MainClassBuildStep.computeDependencies(Arrays.asList(
+                task(recorder("a"), a),
+                task(recorder("b"), b, a),
+                // the dependency on a is implied by b
+                task(recorder("c"), c, a, b),
+                task(producer, d),
+                // the value returned by d
+                task(consumer, e)));
+        assertEquals(Arrays.asList(bits(), bits(0), bits(1), bits(), bits(3)), dependencies);
+    }
+
+    @Test
+    public void testUnknownProducer() {
+        BuildStep a = context -> {
+        };
+        List<BitSet> dependencies = MainClassBuildStep.computeDependencies(Arrays.asList(
+                task(recorder("a"), a),
+                new MainBytecodeRecorderBuildItem(recorder("b")),
+                task(recorder("c"), a)));
+        assertEquals(Arrays.asList(bits(), bits(0), bits(1)), dependencies);
+    }
+
+    private final TestClassLoader tcl = new TestClassLoader(getClass().getClassLoader());
+
+    private BytecodeRecorderImpl recorder(String name) {
+        return new BytecodeRecorderImpl(tcl, false, "io.quarkus.deployment.steps.Test$" + name);
+    }
+
+    private static MainBytecodeRecorderBuildItem task(BytecodeRecorderImpl recorder, BuildStep step,
+            BuildStep... dependencies) {
+        Set<BuildStep> steps = new HashSet<>();
+        Collections.addAll(steps, dependencies);
+        return new MainBytecodeRecorderBuildItem(recorder, step, steps);
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
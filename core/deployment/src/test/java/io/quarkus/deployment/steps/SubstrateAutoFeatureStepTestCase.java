@@ -0,0 +1,86 @@
+package io.quarkus.deployment.steps;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.BuildChain;
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildException;
+import io.quarkus.builder.BuildExecutionBuilder;
+import io.quarkus.builder.BuildResult;
+import io.quarkus.builder.ChainBuildException;
+import io.quarkus.deployment.ExtensionLoader;
+import io.quarkus.deployment.builditem.GeneratedSubstrateClassBuildItem;
+import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
+import io.quarkus.deployment.builditem.substrate.RuntimeInitializedClassBuildItem;
+import io.quarkus.deployment.configuration.ConfigDefinition;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.runtime.LaunchMode;
+
+public class SubstrateAutoFeatureStepTestCase {
+
+    @TempDir
+    Path cache;
+
+    @Test
+    public void testUnchangedFeatureIsServedFromTheCache() throws Exception {
+        BuildChain chain = chain();
+
+        byte[] feature = feature(execute(chain, "org.acme.Foo"));
+        List<Path> entries = entries();
+        assertEquals(1, entries.size());
+        // a hit does not store the entry again
+        FileTime stored = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(entries.get(0), stored);
+
+        assertArrayEquals(feature, feature(execute(chain, "org.acme.Foo")));
+        assertEquals(entries, entries());
+        assertEquals(stored, Files.getLastModifiedTime(entries.get(0)));
+
+        execute(chain, "org.acme.Bar");
+        assertEquals(2, entries().size());
+    }
+
+    private static BuildChain chain() throws ChainBuildException {
+        BuildChainBuilder builder = BuildChain.builder();
+        builder.addInitial(ReflectiveClassBuildItem.class);
+        builder.addInitial(RuntimeInitializedClassBuildItem.class);
+        ExtensionLoader.loadStepsFrom(SubstrateAutoFeatureStep.class,
+                new ConfigDefinition(FieldDescriptor.of("Bogus", "No field", "Nothing")),
+                new ConfigDefinition(FieldDescriptor.of("Bogus", "No field", "Nothing")), LaunchMode.NORMAL)
+                .accept(builder);
+        builder.addFinal(GeneratedSubstrateClassBuildItem.class);
+        return builder.build();
+    }
+
+    private BuildResult execute(BuildChain chain, String reflectiveClass) throws BuildException {
+        BuildExecutionBuilder execBuilder = chain.createExecutionBuilder("my-app.jar")
+                .setStepResultCache(cache)
+                .produce(new ReflectiveClassBuildItem(true, true, reflectiveClass))
+                .produce(new RuntimeInitializedClassBuildItem("org.acme.Init"));
+        return execBuilder.execute();
+    }
+
+    private static byte[] feature(BuildResult result) {
+        List<GeneratedSubstrateClassBuildItem> classes = result.consumeMulti(GeneratedSubstrateClassBuildItem.class);
+        assertEquals(1, classes.size());
+        return classes.get(0).getClassData();
+    }
+
+    private List<Path> entries() throws IOException {
+        try (Stream<Path> files = Files.list(cache)) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.quarkus.dev;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Tracks which of the directories scanned by the {@link RuntimeUpdatesProcessor} changed since they were last scanned,
+ * so that the directories that did not change do not have to be walked.
+ * <p>
+ * The directory trees are watched with a {@link WatchService}. If there is no native watch service on this platform, if
+ * a tree cannot be watched (e.g. because the limit of inotify watches is reached) or if events were lost, the directories
+ * are reported as changed and the caller falls back to walking them.
+ */
+final class FileChangeTracker implements Closeable {
+
+    private static final Logger log = Logger.getLogger(FileChangeTracker.class.getPackage().getName());
+
+    private final WatchService watchService;
+
+    // root -> changed since last checked
+    private final Map<Path, AtomicBoolean> roots = new ConcurrentHashMap<>();
+    private final Set<Path> unwatchedRoots = ConcurrentHashMap.newKeySet();
+
+    FileChangeTracker() {
+        this.watchService = createWatchService();
+    }
+
+    /**
+     * The first invocation for a given directory always returns {@code true} and starts watching the directory tree.
+     *
+     * @param root the root directory
+     * @return {@code true} if the directory tree may have changed since the previous invocation for this directory
+     */
+    boolean hasChanges(Path root) {
+        if (watchService == null || unwatchedRoots.contains(root)) {
+            return true;
+        }
+        processEvents();
+        AtomicBoolean changed = roots.get(root);
+        if (changed != null) {
+            return changed.getAndSet(false);
+        }
+        if (Files.isDirectory(root)) {
+            roots.put(root, new AtomicBoolean());
+            try {
+                registerTree(root);
+            } catch (IOException e) {
+                log.debugf(e, "Unable to watch %s, it will be scanned on every request", root);
+                roots.remove(root);
+                unwatchedRoots.add(root);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Makes the next invocation of {@link #hasChanges(Path)} return {@code true} for the given directory.
+     *
+     * @param root the root directory
+     */
+    void markChanged(Path root) {
+        AtomicBoolean changed = roots.get(root);
+        if (changed != null) {
+            changed.set(true);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("Failed to close the watch service", e);
+            }
+        }
+    }
+
+    private synchronized void processEvents() {
+        try {
+            WatchKey key;
+            while ((key = watchService.poll()) != null) {
+                Path dir = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == ENTRY_CREATE) {
+                        Path child = dir.resolve((Path) event.context());
+                        if (Files.isDirectory(child)) {
+                            try {
+                                registerTree(child);
+                            } catch (IOException e) {
+                                log.debugf(e, "Unable to watch %s, it will be scanned on every request", child);
+                                changed(dir, true);
+                            }
+                        }
+                    } else if (event.kind() == OVERFLOW) {
+                        log.debugf("Events were lost for %s", dir);
+                    }
+                }
+                changed(dir, false);
+                if (!key.reset()) {
+                    // the directory was deleted, a root is registered again if it is recreated
+                    roots.remove(dir);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // dev mode is shutting down
+        }
+    }
+
+    private void changed(Path dir, boolean unwatch) {
+        for (Map.Entry<Path, AtomicBoolean> entry : roots.entrySet()) {
+            if (dir.startsWith(entry.getKey())) {
+                entry.getValue().set(true);
+                if (unwatch) {
+                    roots.remove(entry.getKey());
+                    unwatchedRoots.add(entry.getKey());
+                }
+            }
+        }
+    }
+
+    private void registerTree(Path dir) throws IOException {
+        try (Stream<Path> stream = Files.walk(dir)) {
+            for (Path path : (Iterable<Path>) stream.filter(Files::isDirectory)::iterator) {
+                path.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+            }
+        }
+    }
+
+    private static WatchService createWatchService() {
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            // the polling implementation, used e.g. on macOS, would delay the detection of changes by several seconds
+            if (watchService.getClass().getName().endsWith("PollingWatchService")) {
+                watchService.close();
+                log.debug("No native watch service available, the directories will be scanned on every request");
+                return null;
+            }
+            return watchService;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("Unable to create a watch service, the directories will be scanned on every request", e);
+            return null;
+        }
+    }
+}
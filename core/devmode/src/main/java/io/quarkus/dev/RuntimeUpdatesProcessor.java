@@ -3,6 +3,7 @@ package io.quarkus.dev;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -29,7 +30,7 @@ import io.quarkus.deployment.devmode.HotReplacementContext;
 import io.quarkus.deployment.devmode.HotReplacementSetup;
 import io.quarkus.runtime.Timing;
 
-public class RuntimeUpdatesProcessor implements HotReplacementContext {
+public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable {
     private static final String CLASS_EXTENSION = ".class";
     private static final Logger log = Logger.getLogger(RuntimeUpdatesProcessor.class.getPackage().getName());
 
@@ -52,6 +53,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
     private final Map<Path, Long> watchedFileTimestamps = new ConcurrentHashMap<>();
     private final Map<Path, Long> classFileChangeTimeStamps = new ConcurrentHashMap<>();
     private final Map<Path, Path> classFilePathToSourceFilePath = new ConcurrentHashMap<>();
+    private final FileChangeTracker changeTracker = new FileChangeTracker();
 
     /**
      * Resources that appear in both src and target, these will be removed if the src resource subsequently disappears.
@@ -164,8 +166,13 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
 
         for (DevModeContext.ModuleInfo module : context.getModules()) {
             final List<Path> moduleChangedSourceFilePaths = new ArrayList<>();
+            boolean sourcesChanged = false;
 
             for (String sourcePath : module.getSourcePaths()) {
+                if (!changeTracker.hasChanges(Paths.get(sourcePath))) {
+                    continue;
+                }
+                sourcesChanged = true;
                 final Set<File> changedSourceFiles;
                 try (final Stream<Path> sourcesStream = Files.walk(Paths.get(sourcePath))) {
                     changedSourceFiles = sourcesStream
@@ -188,13 +195,16 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
                         DevModeMain.compileProblem = null;
                     } catch (Exception e) {
                         DevModeMain.compileProblem = e;
+                        // the class files still have to be checked for deleted sources by the next scan
+                        changeTracker.markChanged(Paths.get(sourcePath));
                         return false;
                     }
                 }
 
             }
 
-            if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, ignoreFirstScanChanges)) {
+            if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, sourcesChanged,
+                    ignoreFirstScanChanges)) {
                 hasChanges = true;
             }
         }
@@ -204,7 +214,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
     }
 
     private boolean checkForClassFilesChangesInModule(DevModeContext.ModuleInfo module, List<Path> moduleChangedSourceFiles,
-            boolean isInitialRun) {
+            boolean sourcesChanged, boolean isInitialRun) {
         boolean hasChanges = !moduleChangedSourceFiles.isEmpty();
 
         if (module.getClassesPath() == null) {
@@ -214,6 +224,10 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         try {
             for (String folder : module.getClassesPath().split(File.pathSeparator)) {
                 final Path moduleClassesPath = Paths.get(folder);
+                // a deleted source file is only detected by looking for its class files
+                if (!changeTracker.hasChanges(moduleClassesPath) && !sourcesChanged) {
+                    continue;
+                }
                 try (final Stream<Path> classesStream = Files.walk(moduleClassesPath)) {
                     final Set<Path> classFilePaths = classesStream
                             .parallel()
@@ -303,7 +317,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
             }
             Path classesDir = Paths.get(module.getClassesPath());
             //copy all modified non hot deployment files over
-            if (doCopy) {
+            if (doCopy && changeTracker.hasChanges(root)) {
                 try {
                     final Set<Path> seen = new HashSet<>(moduleResources);
                     //since the stream is Closeable, use a try with resources so the underlying iterator is closed
@@ -439,6 +453,11 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         return this;
     }
 
+    @Override
+    public void close() {
+        changeTracker.close();
+    }
+
     public void addHotReplacementSetup(HotReplacementSetup service) {
         hotReplacementSetup.add(service);
     }
@@ -0,0 +1,69 @@
+package io.quarkus.dev;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileChangeTrackerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void changesAreTracked() throws Exception {
+        Path root = Files.createDirectories(dir.resolve("src"));
+        Path other = Files.createDirectories(dir.resolve("other"));
+        try (FileChangeTracker tracker = new FileChangeTracker()) {
+            // the first scan always walks the tree
+            assertTrue(tracker.hasChanges(root));
+            assertTrue(tracker.hasChanges(other));
+            if (tracker.hasChanges(root)) {
+                // no native watch service, the tree is walked on every scan
+                return;
+            }
+
+            Files.write(root.resolve("Foo.java"), new byte[] { 1 });
+            awaitChanges(tracker, root);
+            assertFalse(tracker.hasChanges(root));
+            assertFalse(tracker.hasChanges(other));
+
+            // new directories are watched too
+            Path pkg = Files.createDirectories(root.resolve("org/acme"));
+            awaitChanges(tracker, root);
+            Files.write(pkg.resolve("Bar.java"), new byte[] { 1 });
+            awaitChanges(tracker, root);
+
+            Files.delete(pkg.resolve("Bar.java"));
+            awaitChanges(tracker, root);
+
+            tracker.markChanged(other);
+            assertTrue(tracker.hasChanges(other));
+            assertFalse(tracker.hasChanges(other));
+        }
+    }
+
+    @Test
+    void missingDirectoryIsAlwaysScanned() throws IOException {
+        try (FileChangeTracker tracker = new FileChangeTracker()) {
+            assertTrue(tracker.hasChanges(dir.resolve("missing")));
+            assertTrue(tracker.hasChanges(dir.resolve("missing")));
+        }
+    }
+
+    private static void awaitChanges(FileChangeTracker tracker, Path root) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!tracker.hasChanges(root)) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("No change detected in " + root);
+            }
+            Thread.sleep(10);
+        }
+    }
+}
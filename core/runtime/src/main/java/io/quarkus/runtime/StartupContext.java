@@ -19,12 +19,16 @@ public class StartupContext implements Closeable {
     private final ShutdownContext shutdownContext = new ShutdownContext() {
         @Override
         public void addShutdownTask(Runnable runnable) {
-            shutdownTasks.add(runnable);
+            synchronized (shutdownTasks) {
+                shutdownTasks.add(runnable);
+            }
         }
 
         @Override
         public void addLastShutdownTask(Runnable runnable) {
-            lastShutdownTasks.add(runnable);
+            synchronized (lastShutdownTasks) {
+                lastShutdownTasks.add(runnable);
+            }
         }
     };
 
@@ -33,11 +37,15 @@ public class StartupContext implements Closeable {
     }
 
     public void putValue(String name, Object value) {
-        values.put(name, value);
+        synchronized (values) {
+            values.put(name, value);
+        }
     }
 
     public Object getValue(String name) {
-        return values.get(name);
+        synchronized (values) {
+            return values.get(name);
+        }
     }
 
     @Override
@@ -49,7 +57,10 @@ public class StartupContext implements Closeable {
     }
 
     private void runAllInReverseOrder(List<Runnable> tasks) {
-        List<Runnable> toClose = new ArrayList<>(tasks);
+        List<Runnable> toClose;
+        synchronized (tasks) {
+            toClose = new ArrayList<>(tasks);
+        }
         Collections.reverse(toClose);
         for (Runnable r : toClose) {
             try {
@@ -0,0 +1,145 @@
+package io.quarkus.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The startup tasks of the application and the dependencies between them.
+ * <p>
+ * The tasks are added in an order in which they can be run one after another. A task is only started once all the
+ * tasks it depends on completed, the tasks that do not depend on each other may be run concurrently. Generally this
+ * will be used by generated bytecode, and should not be used directly.
+ */
+public final class StartupTaskGraph {
+
+    private final List<String> names = new ArrayList<>();
+    private final List<StartupTask> tasks = new ArrayList<>();
+    private final List<List<Integer>> dependents = new ArrayList<>();
+    private final List<AtomicInteger> dependencies = new ArrayList<>();
+
+    // guarded by this
+    private int running;
+    private int completed;
+    private Throwable failure;
+
+    /**
+     *
+     * @return the index of the task
+     */
+    public int add(String name, StartupTask task) {
+        names.add(name);
+        tasks.add(task);
+        dependents.add(new ArrayList<>());
+        dependencies.add(new AtomicInteger());
+        return tasks.size() - 1;
+    }
+
+    /**
+     * The given task will not be started before the dependency completed.
+     *
+     * @param task the index of the task
+     * @param dependency the index of a task added before
+     */
+    public void addDependency(int task, int dependency) {
+        if (dependency >= task) {
+            throw new IllegalArgumentException("A task can only depend on the tasks added before it");
+        }
+        dependents.get(dependency).add(task);
+        dependencies.get(task).incrementAndGet();
+    }
+
+    /**
+     * Runs the tasks, using up to the given number of threads. If a task fails no other task is started and the failure
+     * is rethrown once the running tasks completed.
+     *
+     * @param threads the maximum number of threads, the number of available processors if not positive
+     */
+    public void run(StartupContext context, int threads) {
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        if (threads == 1 || tasks.size() <= 1) {
+            for (int i = 0; i < tasks.size(); i++) {
+                deploy(i, context);
+            }
+            return;
+        }
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, tasks.size()), r -> {
+            Thread thread = new Thread(r, "quarkus-startup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(tccl);
+            return thread;
+        });
+        try {
+            synchronized (this) {
+                for (int i = 0; i < tasks.size(); i++) {
+                    if (dependencies.get(i).get() == 0) {
+                        submit(executor, i, context);
+                    }
+                }
+                while (completed < tasks.size() && (failure == null || running > 0)) {
+                    wait();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running the startup tasks", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+    }
+
+    // called with the lock held
+    private void submit(ExecutorService executor, int task, StartupContext context) {
+        running++;
+        executor.execute(() -> {
+            Throwable failure = null;
+            try {
+                deploy(task, context);
+            } catch (Throwable t) {
+                failure = t;
+            }
+            completed(executor, task, context, failure);
+        });
+    }
+
+    private synchronized void completed(ExecutorService executor, int task, StartupContext context, Throwable failure) {
+        running--;
+        completed++;
+        if (failure != null) {
+            if (this.failure == null) {
+                this.failure = failure;
+            } else {
+                this.failure.addSuppressed(failure);
+            }
+        } else if (this.failure == null) {
+            for (int dependent : dependents.get(task)) {
+                if (dependencies.get(dependent).decrementAndGet() == 0) {
+                    submit(executor, dependent, context);
+                }
+            }
+        }
+        notifyAll();
+    }
+
+    private void deploy(int task, StartupContext context) {
+        long start = System.nanoTime();
+        try {
+            tasks.get(task).deploy(context);
+        } finally {
+            Timing.startupTaskCompleted(names.get(task), System.nanoTime() - start);
+        }
+    }
+}
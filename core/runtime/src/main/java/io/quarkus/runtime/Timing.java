@@ -1,6 +1,12 @@
 package io.quarkus.runtime;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.logging.Logger;
 
@@ -18,6 +24,10 @@ public class Timing {
 
     private static volatile String httpServerInfo = "";
 
+    private static final Map<String, Long> startupTaskTimes = new ConcurrentHashMap<>();
+
+    private static volatile Map<String, Long> lastStartupTaskTimes = Collections.emptyMap();
+
     private static final String UNSET_VALUE = "<<unset>>";
 
     public static void staticInitStarted() {
@@ -52,6 +62,24 @@ public class Timing {
         bootStartTime = System.nanoTime();
     }
 
+    /**
+     * Records the time spent running a startup task.
+     *
+     * @param name the name of the task
+     * @param nanos the duration in nanoseconds
+     */
+    public static void startupTaskCompleted(String name, long nanos) {
+        startupTaskTimes.merge(name, nanos, Long::sum);
+    }
+
+    /**
+     *
+     * @return the time spent in nanoseconds running each startup task of the last startup, slowest first
+     */
+    public static Map<String, Long> getStartupTaskTimes() {
+        return lastStartupTaskTimes;
+    }
+
     public static void printStartupTime(String name, String version, String quarkusVersion, String features, String profile,
             boolean liveCoding) {
         final long bootTimeNanoSeconds = System.nanoTime() - bootStartTime;
@@ -69,6 +97,16 @@ public class Timing {
         logger.infof("Profile %s activated. %s", profile, liveCoding ? "Live Coding activated." : "");
         logger.infof("Installed features: [%s]", features);
         bootStartTime = -1;
+
+        List<Map.Entry<String, Long>> tasks = new ArrayList<>(startupTaskTimes.entrySet());
+        startupTaskTimes.clear();
+        tasks.sort(Map.Entry.<String, Long> comparingByValue().reversed());
+        Map<String, Long> taskTimes = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> task : tasks) {
+            taskTimes.put(task.getKey(), task.getValue());
+            logger.debugf("Startup task %s completed in %ss", task.getKey(), convertToBigDecimalSeconds(task.getValue()));
+        }
+        lastStartupTaskTimes = Collections.unmodifiableMap(taskTimes);
     }
 
     public static void printStopTime(String name) {
@@ -0,0 +1,89 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTaskGraphTestCase {
+
+    @Test
+    public void testDependenciesRunFirst() {
+        List<String> completed = Collections.synchronizedList(new ArrayList<>());
+        StartupTaskGraph graph = new StartupTaskGraph();
+        int first = graph.add("first", context -> {
+            sleep();
+            completed.add("first");
+        });
+        int second = graph.add("second", context -> completed.add("second"));
+        int third = graph.add("third", context -> completed.add("third"));
+        graph.addDependency(second, first);
+        graph.addDependency(third, second);
+        graph.run(new StartupContext(), 4);
+        assertEquals(Arrays.asList("first", "second", "third"), completed);
+    }
+
+    @Test
+    public void testIndependentTasksRunConcurrently() {
+        CountDownLatch latch = new CountDownLatch(2);
+        StartupTask task = context -> {
+            latch.countDown();
+            try {
+                // both tasks must be running to get past the latch
+                assertTrue(latch.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+        StartupTaskGraph graph = new StartupTaskGraph();
+        graph.add("a", task);
+        graph.add("b", task);
+        graph.run(new StartupContext(), 2);
+        assertEquals(0, latch.getCount());
+    }
+
+    @Test
+    public void testFailureStopsTheDependents() {
+        IllegalStateException failure = new IllegalStateException();
+        AtomicBoolean ran = new AtomicBoolean();
+        StartupTaskGraph graph = new StartupTaskGraph();
+        int failing = graph.add("failing", context -> {
+            throw failure;
+        });
+        int dependent = graph.add("dependent", context -> ran.set(true));
+        graph.add("independent", context -> sleep());
+        graph.addDependency(dependent, failing);
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> graph.run(new StartupContext(), 4)));
+        assertFalse(ran.get());
+    }
+
+    @Test
+    public void testSequential() {
+        List<String> threads = new ArrayList<>();
+        StartupTaskGraph graph = new StartupTaskGraph();
+        graph.add("a", context -> threads.add(Thread.currentThread().getName()));
+        graph.add("b", context -> threads.add(Thread.currentThread().getName()));
+        graph.run(new StartupContext(), 1);
+        String current = Thread.currentThread().getName();
+        assertEquals(Arrays.asList(current, current), threads);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package io.quarkus.amazon.lambda.http;
 
-import java.io.ByteArrayOutputStream;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.List;
@@ -12,6 +12,7 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
@@ -19,6 +20,7 @@ import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.util.ReferenceCountUtil;
@@ -37,13 +39,11 @@ public class LambdaHttpHandler implements RequestHandler<AwsProxyRequest, AwsPro
     }
 
     public AwsProxyResponse handleRequest(AwsProxyRequest request, Context context) {
-        VirtualClientConnection connection = VirtualClientConnection.connect(VertxHttpRecorder.VIRTUAL_HTTP);
+        VirtualClientConnection connection = VirtualClientConnection.acquire(VertxHttpRecorder.VIRTUAL_HTTP);
         try {
             return nettyDispatch(connection, request);
         } catch (Exception e) {
             return new AwsProxyResponse(500, errorHeaders, "{ \"message\": \"Internal Server Error\" }");
-        } finally {
-            connection.close();
         }
 
     }
@@ -51,101 +51,151 @@ public class LambdaHttpHandler implements RequestHandler<AwsProxyRequest, AwsPro
     private AwsProxyResponse nettyDispatch(VirtualClientConnection connection,
             AwsProxyRequest request)
             throws Exception {
-        String path = request.getPath();
-        if (request.getMultiValueQueryStringParameters() != null && !request.getMultiValueQueryStringParameters().isEmpty()) {
-            StringBuilder sb = new StringBuilder(path);
-            sb.append("?");
-            boolean first = true;
-            for (Map.Entry<String, List<String>> e : request.getMultiValueQueryStringParameters().entrySet()) {
-                for (String v : e.getValue()) {
-                    if (first) {
-                        first = false;
-                    } else {
-                        sb.append("&");
-                    }
-                    if (request.getRequestSource() == AwsProxyRequest.RequestSource.ALB) {
-                        sb.append(e.getKey());
-                        sb.append("=");
-                        sb.append(v);
-                    } else {
-                        sb.append(URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8.name()));
-                        sb.append("=");
-                        sb.append(URLEncoder.encode(v, StandardCharsets.UTF_8.name()));
+        // the connection is given back to the pool once the whole response has been read
+        boolean reusable = false;
+        boolean completed = false;
+        boolean textBody = false;
+        CompositeByteBuf body = null;
+        try {
+            String path = request.getPath();
+            if (request.getMultiValueQueryStringParameters() != null
+                    && !request.getMultiValueQueryStringParameters().isEmpty()) {
+                StringBuilder sb = new StringBuilder(path);
+                sb.append("?");
+                boolean first = true;
+                for (Map.Entry<String, List<String>> e : request.getMultiValueQueryStringParameters().entrySet()) {
+                    for (String v : e.getValue()) {
+                        if (first) {
+                            first = false;
+                        } else {
+                            sb.append("&");
+                        }
+                        if (request.getRequestSource() == AwsProxyRequest.RequestSource.ALB) {
+                            sb.append(e.getKey());
+                            sb.append("=");
+                            sb.append(v);
+                        } else {
+                            sb.append(URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8.name()));
+                            sb.append("=");
+                            sb.append(URLEncoder.encode(v, StandardCharsets.UTF_8.name()));
+                        }
                     }
                 }
+                path = sb.toString();
+            }
+            DefaultHttpRequest nettyRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
+                    HttpMethod.valueOf(request.getHttpMethod()), path);
+            for (Map.Entry<String, List<String>> header : request.getMultiValueHeaders().entrySet()) {
+                nettyRequest.headers().add(header.getKey(), header.getValue());
+            }
+            if (!nettyRequest.headers().contains(HttpHeaderNames.HOST)) {
+                nettyRequest.headers().add(HttpHeaderNames.HOST, "localhost");
             }
-            path = sb.toString();
-        }
-        DefaultHttpRequest nettyRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
-                HttpMethod.valueOf(request.getHttpMethod()), path);
-        for (Map.Entry<String, List<String>> header : request.getMultiValueHeaders().entrySet()) {
-            nettyRequest.headers().add(header.getKey(), header.getValue());
-        }
-        if (!nettyRequest.headers().contains(HttpHeaderNames.HOST)) {
-            nettyRequest.headers().add(HttpHeaderNames.HOST, "localhost");
-        }
 
-        HttpContent requestContent = LastHttpContent.EMPTY_LAST_CONTENT;
-        if (request.getBody() != null) {
-            if (request.isBase64Encoded()) {
-                ByteBuf body = Unpooled.wrappedBuffer(Base64.getMimeDecoder().decode(request.getBody()));
-                requestContent = new DefaultLastHttpContent(body);
-            } else {
-                ByteBuf body = Unpooled.copiedBuffer(request.getBody(), StandardCharsets.UTF_8); //TODO: do we need to look at the request encoding?
-                requestContent = new DefaultLastHttpContent(body);
+            HttpContent requestContent = LastHttpContent.EMPTY_LAST_CONTENT;
+            if (request.getBody() != null) {
+                if (request.isBase64Encoded()) {
+                    ByteBuf requestBody = Unpooled.wrappedBuffer(Base64.getMimeDecoder().decode(request.getBody()));
+                    requestContent = new DefaultLastHttpContent(requestBody);
+                } else {
+                    //TODO: do we need to look at the request encoding?
+                    ByteBuf requestBody = Unpooled.copiedBuffer(request.getBody(), StandardCharsets.UTF_8);
+                    requestContent = new DefaultLastHttpContent(requestBody);
+                }
             }
-        }
 
-        connection.sendMessage(nettyRequest);
-        connection.sendMessage(requestContent);
-        AwsProxyResponse responseBuilder = new AwsProxyResponse();
-        ByteArrayOutputStream baos = null;
-        for (;;) {
-            // todo should we timeout? have a timeout config?
-            //log.info("waiting for message");
-            Object msg = connection.queue().poll(100, TimeUnit.MILLISECONDS);
-            try {
-                if (msg == null)
-                    continue;
-                //log.info("Got message: " + msg.getClass().getName());
-
-                if (msg instanceof HttpResponse) {
-                    HttpResponse res = (HttpResponse) msg;
-                    responseBuilder.setStatusCode(res.status().code());
-
-                    if (request.getRequestSource() == AwsProxyRequest.RequestSource.ALB) {
-                        responseBuilder.setStatusDescription(res.status().reasonPhrase());
-                    }
-                    responseBuilder.setMultiValueHeaders(new Headers());
-                    for (String name : res.headers().names()) {
-                        for (String v : res.headers().getAll(name)) {
-                            responseBuilder.getMultiValueHeaders().add(name, v);
+            connection.sendMessage(nettyRequest);
+            connection.sendMessage(requestContent);
+            AwsProxyResponse responseBuilder = new AwsProxyResponse();
+            for (;;) {
+                // todo should we timeout? have a timeout config?
+                Object msg = connection.queue().poll(100, TimeUnit.MILLISECONDS);
+                try {
+                    if (msg == null)
+                        continue;
+
+                    if (msg instanceof HttpResponse) {
+                        HttpResponse res = (HttpResponse) msg;
+                        responseBuilder.setStatusCode(res.status().code());
+
+                        if (request.getRequestSource() == AwsProxyRequest.RequestSource.ALB) {
+                            responseBuilder.setStatusDescription(res.status().reasonPhrase());
                         }
+                        responseBuilder.setMultiValueHeaders(new Headers());
+                        for (String name : res.headers().names()) {
+                            for (String v : res.headers().getAll(name)) {
+                                responseBuilder.getMultiValueHeaders().add(name, v);
+                            }
+                        }
+                        textBody = isUtf8Text(res.headers().get(HttpHeaderNames.CONTENT_TYPE));
+                        reusable = HttpUtil.isKeepAlive(res);
                     }
-                }
-                if (msg instanceof HttpContent) {
-                    HttpContent content = (HttpContent) msg;
-                    int readable = content.content().readableBytes();
-                    if (baos == null && readable > 0) {
-                        // todo what is right size?
-                        baos = new ByteArrayOutputStream(500);
-                    }
-                    for (int i = 0; i < readable; i++) {
-                        baos.write(content.content().readByte());
+                    if (msg instanceof HttpContent) {
+                        ByteBuf content = ((HttpContent) msg).content();
+                        if (content.isReadable()) {
+                            if (body == null) {
+                                body = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+                            }
+                            // the chunks are not copied until the whole body is known
+                            body.addComponent(true, content.retain());
+                        }
                     }
-                }
-                if (msg instanceof LastHttpContent) {
-                    if (baos != null) {
-                        responseBuilder.setBase64Encoded(true);
-                        responseBuilder.setBody(Base64.getMimeEncoder().encodeToString(baos.toByteArray()));
+                    if (msg instanceof LastHttpContent) {
+                        completed = true;
+                        if (body != null) {
+                            if (textBody) {
+                                responseBuilder.setBody(body.toString(StandardCharsets.UTF_8));
+                            } else {
+                                responseBuilder.setBase64Encoded(true);
+                                responseBuilder.setBody(encodeBase64(body));
+                            }
+                        }
+                        return responseBuilder;
                     }
-                    return responseBuilder;
+                } finally {
+                    if (msg != null)
+                        ReferenceCountUtil.release(msg);
                 }
-            } finally {
-                if (msg != null)
-                    ReferenceCountUtil.release(msg);
+            }
+        } finally {
+            if (body != null) {
+                body.release();
+            }
+            if (reusable && completed) {
+                connection.release();
+            } else {
+                connection.close();
             }
         }
     }
 
+    private static String encodeBase64(ByteBuf body) {
+        // a body made of a single chunk is encoded without being copied first
+        ByteBuffer encoded = Base64.getMimeEncoder().encode(body.nioBuffer());
+        return new String(encoded.array(), encoded.arrayOffset(), encoded.remaining(), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Textual bodies are returned as is rather than base64 encoded, which API Gateway and ALB support and which avoids
+     * encoding and decoding them. The charset must be known to be UTF-8 though.
+     */
+    private static boolean isUtf8Text(String contentType) {
+        CharSequence mimeType = contentType != null ? HttpUtil.getMimeType(contentType) : null;
+        if (mimeType == null) {
+            return false;
+        }
+        String type = mimeType.toString().trim().toLowerCase();
+        CharSequence charset = HttpUtil.getCharsetAsSequence(contentType);
+        if (charset != null) {
+            return StandardCharsets.UTF_8.name().equalsIgnoreCase(charset.toString().trim())
+                    && (type.startsWith("text/") || isJson(type) || type.equals("application/xml") || type.endsWith("+xml"));
+        }
+        // JSON is always UTF-8 encoded
+        return isJson(type);
+    }
+
+    private static boolean isJson(String type) {
+        return type.equals("application/json") || type.endsWith("+json");
+    }
+
 }
@@ -5,7 +5,6 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -16,6 +15,7 @@ import com.amazonaws.services.lambda.runtime.ClientContext;
 import com.amazonaws.services.lambda.runtime.CognitoIdentity;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -134,29 +134,32 @@ public class AmazonLambdaRecorder {
             @Override
             public void run() {
 
+                AmazonLambdaRuntimeClient client = null;
                 try {
+                    client = new AmazonLambdaRuntimeClient(AmazonLambdaApi.runtimeApi(),
+                            objectMapper.writerFor(FunctionError.class));
                     checkQuarkusBootstrapped();
-                    URL requestUrl = AmazonLambdaApi.invocationNext();
+                    // the input stream is drained and closed by the client so that the connection is kept alive
+                    ObjectReader eventReader = objectReader.without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
                     while (running.get()) {
 
-                        HttpURLConnection requestConnection = (HttpURLConnection) requestUrl.openConnection();
+                        HttpURLConnection requestConnection = client.next();
                         try {
                             String requestId = requestConnection.getHeaderField(AmazonLambdaApi.LAMBDA_RUNTIME_AWS_REQUEST_ID);
                             Object response;
                             try {
-                                Object val = objectReader.readValue(requestConnection.getInputStream());
+                                Object val = eventReader.readValue(requestConnection.getInputStream());
                                 RequestHandler handler = beanContainer.instance(handlerClass);
                                 response = handler.handleRequest(val,
                                         new AmazonLambdaContext(requestConnection, cognitoIdReader, clientCtxReader));
                             } catch (Exception e) {
                                 log.error("Failed to run lambda", e);
 
-                                postResponse(AmazonLambdaApi.invocationError(requestId),
-                                        new FunctionError(e.getClass().getName(), e.getMessage()), objectMapper);
+                                client.postError(requestId, new FunctionError(e.getClass().getName(), e.getMessage()));
                                 continue;
                             }
 
-                            postResponse(AmazonLambdaApi.invocationResponse(requestId), response, objectMapper);
+                            client.postResponse(requestId, response, objectWriter);
                         } catch (Exception e) {
                             log.error("Error running lambda", e);
                             Application app = Application.currentApplication();
@@ -165,7 +168,7 @@ public class AmazonLambdaRecorder {
                             }
                             return;
                         } finally {
-                            requestConnection.getInputStream().close();
+                            client.close(requestConnection);
                         }
 
                     }
@@ -173,8 +176,11 @@ public class AmazonLambdaRecorder {
                 } catch (Exception e) {
                     try {
                         log.error("Lambda init error", e);
-                        postResponse(AmazonLambdaApi.initError(), new FunctionError(e.getClass().getName(), e.getMessage()),
-                                objectMapper);
+                        if (client == null) {
+                            client = new AmazonLambdaRuntimeClient(AmazonLambdaApi.runtimeApi(),
+                                    objectMapper.writerFor(FunctionError.class));
+                        }
+                        client.postInitError(new FunctionError(e.getClass().getName(), e.getMessage()));
                     } catch (Exception ex) {
                         log.error("Failed to report init error", ex);
                     } finally {
@@ -200,14 +206,4 @@ public class AmazonLambdaRecorder {
         Application.currentApplication().start(args);
     }
 
-    private void postResponse(URL url, Object response, ObjectMapper mapper) throws IOException {
-        HttpURLConnection responseConnection = (HttpURLConnection) url.openConnection();
-        responseConnection.setDoOutput(true);
-        responseConnection.setRequestMethod("POST");
-        mapper.writeValue(responseConnection.getOutputStream(), response);
-        while (responseConnection.getInputStream().read() != -1) {
-            // Read data
-        }
-    }
-
 }
@@ -0,0 +1,98 @@
+package io.quarkus.amazon.lambda.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * A client of the Lambda runtime API used by the poll loop.
+ * <p>
+ * The connections are kept alive between the invocations: the JDK reuses a connection once its response has been fully
+ * read and its input stream closed, so every response is drained with {@link #close(HttpURLConnection)}. The request
+ * bodies are serialized once and written with a fixed length, so they are not buffered again by the connection.
+ * <p>
+ * This client is not thread safe, it is meant to be used by the single Lambda thread.
+ */
+class AmazonLambdaRuntimeClient {
+
+    private final URL invocationNext;
+    private final URL initError;
+    private final String invocationPrefix;
+    private final ObjectWriter errorWriter;
+    private final byte[] drainBuffer = new byte[4096];
+
+    AmazonLambdaRuntimeClient(String runtimeApi, ObjectWriter errorWriter) throws IOException {
+        this.invocationNext = new URL(AmazonLambdaApi.API_PROTOCOL + runtimeApi + AmazonLambdaApi.API_PATH_INVOCATION_NEXT);
+        this.initError = new URL(AmazonLambdaApi.API_PROTOCOL + runtimeApi + AmazonLambdaApi.API_PATH_INIT_ERROR);
+        this.invocationPrefix = AmazonLambdaApi.API_PROTOCOL + runtimeApi + AmazonLambdaApi.API_PATH_INVOCATION;
+        this.errorWriter = errorWriter;
+    }
+
+    /**
+     * Waits for the next invocation. The caller must read the event from the input stream of the returned connection,
+     * without closing the stream, and then {@link #close(HttpURLConnection) close} the connection.
+     *
+     * @return the connection of the next invocation
+     * @throws IOException if the runtime API cannot be reached
+     */
+    HttpURLConnection next() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) invocationNext.openConnection();
+        // the runtime API blocks until there is an invocation
+        connection.setReadTimeout(0);
+        return connection;
+    }
+
+    void postResponse(String requestId, Object response, ObjectWriter writer) throws IOException {
+        post(new URL(invocationPrefix + requestId + AmazonLambdaApi.API_PATH_RESPONSE), writer.writeValueAsBytes(response));
+    }
+
+    void postError(String requestId, FunctionError error) throws IOException {
+        post(new URL(invocationPrefix + requestId + AmazonLambdaApi.API_PATH_ERROR), errorWriter.writeValueAsBytes(error));
+    }
+
+    void postInitError(FunctionError error) throws IOException {
+        post(initError, errorWriter.writeValueAsBytes(error));
+    }
+
+    /**
+     * Reads what is left of the response and closes the input stream, so that the connection can be reused.
+     *
+     * @param connection the connection
+     * @throws IOException if the response cannot be read
+     */
+    void close(HttpURLConnection connection) throws IOException {
+        InputStream is;
+        try {
+            is = connection.getInputStream();
+        } catch (IOException e) {
+            // an error response, the body of which must be consumed as well
+            is = connection.getErrorStream();
+            if (is == null) {
+                throw e;
+            }
+        }
+        try {
+            while (is.read(drainBuffer) != -1) {
+                // Read data
+            }
+        } finally {
+            is.close();
+        }
+    }
+
+    private void post(URL url, byte[] body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setDoOutput(true);
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "application/json");
+        connection.setFixedLengthStreamingMode(body.length);
+        try (OutputStream os = connection.getOutputStream()) {
+            os.write(body);
+        }
+        close(connection);
+    }
+}
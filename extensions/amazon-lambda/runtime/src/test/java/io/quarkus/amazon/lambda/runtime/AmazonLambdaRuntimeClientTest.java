@@ -0,0 +1,103 @@
+package io.quarkus.amazon.lambda.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class AmazonLambdaRuntimeClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Set<InetSocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+    private final List<String> responses = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+
+    @BeforeEach
+    public void startMockRuntimeApi() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(AmazonLambdaApi.API_PATH_INVOCATION_NEXT, exchange -> {
+            clientAddresses.add(exchange.getRemoteAddress());
+            exchange.getResponseHeaders().add(AmazonLambdaApi.LAMBDA_RUNTIME_AWS_REQUEST_ID, "request-" + responses.size());
+            send(exchange, "\"event-" + responses.size() + "\"");
+        });
+        server.createContext(AmazonLambdaApi.API_PATH_INVOCATION + "request-", exchange -> {
+            clientAddresses.add(exchange.getRemoteAddress());
+            responses.add(exchange.getRequestURI().getPath() + " " + read(exchange.getRequestBody()));
+            send(exchange, "{\"status\":\"OK\"}");
+        });
+        server.start();
+    }
+
+    @AfterEach
+    public void stopMockRuntimeApi() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testInvocationsReuseTheConnection() throws IOException {
+        AmazonLambdaRuntimeClient client = new AmazonLambdaRuntimeClient(
+                "localhost:" + server.getAddress().getPort(), objectMapper.writerFor(FunctionError.class));
+        ObjectReader reader = objectMapper.readerFor(String.class).without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        ObjectMapper responseMapper = new ObjectMapper();
+
+        for (int i = 0; i < 5; i++) {
+            HttpURLConnection connection = client.next();
+            try {
+                String requestId = connection.getHeaderField(AmazonLambdaApi.LAMBDA_RUNTIME_AWS_REQUEST_ID);
+                String event = reader.readValue(connection.getInputStream());
+                if (i == 4) {
+                    client.postError(requestId, new FunctionError("java.lang.Exception", event));
+                } else {
+                    client.postResponse(requestId, event.toUpperCase(), responseMapper.writerFor(String.class));
+                }
+            } finally {
+                client.close(connection);
+            }
+        }
+
+        assertEquals(5, responses.size());
+        assertEquals(AmazonLambdaApi.API_PATH_INVOCATION + "request-0" + AmazonLambdaApi.API_PATH_RESPONSE + " \"EVENT-0\"",
+                responses.get(0));
+        assertEquals(AmazonLambdaApi.API_PATH_INVOCATION + "request-4" + AmazonLambdaApi.API_PATH_ERROR
+                + " {\"errorType\":\"java.lang.Exception\",\"errorMessage\":\"event-4\"}", responses.get(4));
+        // the invocations and the responses all go through the same kept alive connection
+        assertEquals(1, clientAddresses.size());
+    }
+
+    private static void send(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private static String read(InputStream is) throws IOException {
+        ByteArrayOutputStream bao = new ByteArrayOutputStream();
+        byte[] data = new byte[1024];
+        int r;
+        while ((r = is.read(data)) > 0) {
+            bao.write(data, 0, r);
+        }
+        return new String(bao.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
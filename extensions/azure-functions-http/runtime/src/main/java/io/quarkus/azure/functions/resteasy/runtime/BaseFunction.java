@@ -20,6 +20,7 @@ import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.util.ReferenceCountUtil;
@@ -56,15 +57,23 @@ public class BaseFunction {
     }
 
     protected HttpResponseMessage dispatch(HttpRequestMessage<Optional<byte[]>> request) {
-        VirtualClientConnection connection = VirtualClientConnection.connect(VertxHttpRecorder.VIRTUAL_HTTP);
+        VirtualClientConnection connection = VirtualClientConnection.acquire(VertxHttpRecorder.VIRTUAL_HTTP);
+        boolean reusable = false;
         try {
-            return nettyDispatch(connection, request);
+            HttpResponseMessage response = nettyDispatch(connection, request);
+            // the whole response has been read, the connection can be reused unless it was closed by the server
+            reusable = true;
+            return response;
         } catch (Exception e) {
             e.printStackTrace();
             return request
                     .createResponseBuilder(HttpStatus.valueOf(500)).build();
         } finally {
-            connection.close();
+            if (reusable) {
+                connection.release();
+            } else {
+                connection.close();
+            }
         }
     }
 
@@ -96,6 +105,7 @@ public class BaseFunction {
         connection.sendMessage(requestContent);
         HttpResponseMessage.Builder responseBuilder = null;
         ByteArrayOutputStream baos = null;
+        boolean keepAlive = true;
         for (;;) {
             // todo should we timeout? have a timeout config?
             //log.info("waiting for message");
@@ -108,6 +118,7 @@ public class BaseFunction {
                 if (msg instanceof HttpResponse) {
                     HttpResponse res = (HttpResponse) msg;
                     responseBuilder = request.createResponseBuilder(HttpStatus.valueOf(res.status().code()));
+                    keepAlive = HttpUtil.isKeepAlive(res);
                     for (Map.Entry<String, String> entry : res.headers()) {
                         responseBuilder.header(entry.getKey(), entry.getValue());
                     }
@@ -125,6 +136,10 @@ public class BaseFunction {
                 }
                 if (msg instanceof LastHttpContent) {
                     responseBuilder.body(baos.toByteArray());
+                    if (!keepAlive) {
+                        // the server closes the connection after the response, it cannot be reused
+                        connection.close();
+                    }
                     return responseBuilder.build();
                 }
             } finally {
@@ -0,0 +1,30 @@
+package io.quarkus.cache.deployment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The cache names used by the application and the cache key positions of the annotated methods, keyed by
+ * {@code declaringClass#name(parameterTypes)}.
+ */
+public final class CacheMethodsBuildItem extends SimpleBuildItem {
+
+    private final Set<String> cacheNames;
+    private final Map<String, List<Integer>> keyPositions;
+
+    public CacheMethodsBuildItem(Set<String> cacheNames, Map<String, List<Integer>> keyPositions) {
+        this.cacheNames = cacheNames;
+        this.keyPositions = keyPositions;
+    }
+
+    public Set<String> getCacheNames() {
+        return cacheNames;
+    }
+
+    public Map<String, List<Integer>> getKeyPositions() {
+        return keyPositions;
+    }
+}
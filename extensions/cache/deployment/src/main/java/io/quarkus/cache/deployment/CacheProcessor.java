@@ -0,0 +1,178 @@
+package io.quarkus.cache.deployment;
+
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheConfig;
+import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
+import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
+import io.quarkus.cache.runtime.CacheRecorder;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.CacheResultInterceptor;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
+
+public class CacheProcessor {
+
+    static final DotName CACHE_RESULT = DotName.createSimple(CacheResult.class.getName());
+    static final DotName CACHE_INVALIDATE = DotName.createSimple(CacheInvalidate.class.getName());
+    static final DotName CACHE_INVALIDATE_ALL = DotName.createSimple(CacheInvalidateAll.class.getName());
+    static final DotName CACHE_KEY = DotName.createSimple(CacheKey.class.getName());
+    static final DotName INTERCEPTOR = DotName.createSimple("javax.interceptor.Interceptor");
+
+    static final String CACHE_NAME = "cacheName";
+
+    @BuildStep
+    FeatureBuildItem feature() {
+        return new FeatureBuildItem(FeatureBuildItem.CACHE);
+    }
+
+    @BuildStep
+    AdditionalBeanBuildItem beans() {
+        return AdditionalBeanBuildItem.builder()
+                .addBeanClasses(CacheResultInterceptor.class, CacheInvalidateInterceptor.class,
+                        CacheInvalidateAllInterceptor.class, CacheRepository.class)
+                .setUnremovable()
+                .build();
+    }
+
+    @BuildStep
+    CacheMethodsBuildItem collectCacheMethods(BeanArchiveIndexBuildItem beanArchiveIndex,
+            BuildProducer<ValidationErrorBuildItem> errors) {
+        IndexView index = beanArchiveIndex.getIndex();
+        Set<String> cacheNames = new TreeSet<>();
+        Map<String, List<Integer>> keyPositions = new HashMap<>();
+        List<Throwable> failures = new ArrayList<>();
+
+        for (DotName binding : Arrays.asList(CACHE_RESULT, CACHE_INVALIDATE, CACHE_INVALIDATE_ALL)) {
+            for (AnnotationInstance annotation : index.getAnnotations(binding)) {
+                if (annotation.target().kind() == Kind.CLASS) {
+                    if (!annotation.target().asClass().classAnnotations().stream()
+                            .anyMatch(a -> a.name().equals(INTERCEPTOR))) {
+                        failures.add(new IllegalStateException(String.format(
+                                "@%s can only be used on a method [class: %s]", binding.withoutPackagePrefix(),
+                                annotation.target())));
+                    }
+                    continue;
+                }
+                if (annotation.target().kind() != Kind.METHOD) {
+                    continue;
+                }
+                MethodInfo method = annotation.target().asMethod();
+                AnnotationValue cacheName = annotation.value(CACHE_NAME);
+                if (cacheName == null || cacheName.asString().trim().isEmpty()) {
+                    failures.add(new IllegalStateException(String.format(
+                            "The cache name of @%s must not be empty [method: %s, class: %s]",
+                            binding.withoutPackagePrefix(), method, method.declaringClass())));
+                    continue;
+                }
+                if (binding.equals(CACHE_RESULT) && method.returnType().kind() == Type.Kind.VOID) {
+                    failures.add(new IllegalStateException(String.format(
+                            "@CacheResult can not be used on a method returning void [method: %s, class: %s]",
+                            method, method.declaringClass())));
+                    continue;
+                }
+                cacheNames.add(cacheName.asString());
+                if (!binding.equals(CACHE_INVALIDATE_ALL)) {
+                    keyPositions.put(methodKey(method), keyPositions(method));
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            errors.produce(new ValidationErrorBuildItem(failures.toArray(new Throwable[0])));
+        }
+        return new CacheMethodsBuildItem(cacheNames, keyPositions);
+    }
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void initialize(CacheRecorder recorder, CacheConfig config, CacheMethodsBuildItem cacheMethods,
+            Capabilities capabilities, BeanContainerBuildItem beanContainer, ShutdownContextBuildItem shutdown) {
+        recorder.initialize(config, beanContainer.getValue(), cacheMethods.getCacheNames(),
+                cacheMethods.getKeyPositions());
+        if (capabilities.isCapabilityPresent(Capabilities.METRICS) && !cacheMethods.getCacheNames().isEmpty()) {
+            recorder.registerMetrics(beanContainer.getValue(), shutdown);
+        }
+    }
+
+    @BuildStep
+    ReflectiveClassBuildItem caffeineClasses() {
+        // the cache and node classes instantiated reflectively by Caffeine for the supported configuration options,
+        // i.e. strong keys and values, recorded statistics, optional maximum size, expire after access and write
+        List<String> classes = new ArrayList<>();
+        for (String size : new String[] { "", "MS" }) {
+            for (String expiration : new String[] { "", "A", "W", "AW" }) {
+                if (!size.isEmpty() || !expiration.isEmpty()) {
+                    classes.add("com.github.benmanes.caffeine.cache.SSS" + size + expiration);
+                    classes.add("com.github.benmanes.caffeine.cache.PS" + expiration + size);
+                }
+            }
+        }
+        return new ReflectiveClassBuildItem(false, false, classes.toArray(new String[0]));
+    }
+
+    /**
+     * The key format must be kept in sync with {@code io.quarkus.cache.runtime.CacheMethod#methodKey}.
+     */
+    static String methodKey(MethodInfo method) {
+        StringBuilder key = new StringBuilder(method.declaringClass().name().toString()).append('#')
+                .append(method.name()).append('(');
+        List<Type> parameters = method.parameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            // the name of an array type is rendered as by Class#getName(), e.g. [Ljava.lang.String;
+            key.append(parameters.get(i).name());
+        }
+        return key.append(')').toString();
+    }
+
+    /**
+     * The parameters annotated with {@link CacheKey}, or all the parameters if none is annotated.
+     */
+    static List<Integer> keyPositions(MethodInfo method) {
+        List<Integer> positions = new ArrayList<>();
+        for (AnnotationInstance annotation : method.annotations()) {
+            if (annotation.name().equals(CACHE_KEY) && annotation.target().kind() == Kind.METHOD_PARAMETER) {
+                positions.add((int) annotation.target().asMethodParameter().position());
+            }
+        }
+        if (positions.isEmpty()) {
+            for (int i = 0; i < method.parameters().size(); i++) {
+                positions.add(i);
+            }
+        } else {
+            positions.sort(null);
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,42 @@
+package io.quarkus.cache.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+
+public class CacheProcessorTest {
+
+    @Test
+    public void testMethodKeyMatchesTheRuntimeKey() throws IOException {
+        Indexer indexer = new Indexer();
+        try (InputStream stream = Service.class.getClassLoader()
+                .getResourceAsStream(Service.class.getName().replace('.', '/') + ".class")) {
+            indexer.index(stream);
+        }
+        Index index = indexer.complete();
+        ClassInfo service = index.getClassByName(DotName.createSimple(Service.class.getName()));
+
+        // the runtime key uses Class#getName() for the parameter types
+        assertEquals(Service.class.getName() + "#arrays([Ljava.lang.String;,[[I,int)",
+                CacheProcessor.methodKey(service.firstMethod("arrays")));
+        assertEquals(Service.class.getName() + "#noParams()", CacheProcessor.methodKey(service.firstMethod("noParams")));
+    }
+
+    static class Service {
+
+        String arrays(String[] strings, int[][] matrix, int key) {
+            return null;
+        }
+
+        String noParams() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.quarkus.cache.test;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.spi.DeploymentException;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheResultVoidMethodTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(VoidService.class))
+            .setExpectedException(DeploymentException.class);
+
+    @Test
+    public void testValidationFailed() {
+        // should not be invoked
+        fail();
+    }
+
+    @ApplicationScoped
+    public static class VoidService {
+
+        @CacheResult(cacheName = "void")
+        public void run() {
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.quarkus.cache.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.metrics.MetricRegistries;
+
+public class CacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CachedService.class)
+                    .addAsResource(new StringAsset("quarkus.cache.caffeine.forecast.maximum-size=100\n"
+                            + "quarkus.cache.caffeine.forecast.expire-after-write=1H"),
+                            "application.properties"));
+
+    @Inject
+    CachedService service;
+
+    @Inject
+    CacheRepository repository;
+
+    @BeforeEach
+    public void reset() {
+        for (CaffeineCache cache : repository.getCaches()) {
+            cache.invalidateAll();
+        }
+        service.reset();
+    }
+
+    @Test
+    public void testCacheResult() {
+        long misses = repository.getCache("forecast").stats().missCount();
+        String forecast = service.forecast("Paris", 1);
+        assertEquals(forecast, service.forecast("Paris", 1));
+        assertEquals(1, service.getInvocations());
+        assertNotEquals(forecast, service.forecast("Paris", 2));
+        assertNotEquals(forecast, service.forecast("Berlin", 1));
+        assertEquals(3, service.getInvocations());
+        String unknown = service.forecast(null, 0);
+        assertEquals(unknown, service.forecast(null, 0));
+        assertEquals(4, service.getInvocations());
+
+        CaffeineCache cache = repository.getCache("forecast");
+        assertEquals(4, cache.size());
+        Gauge<?> hits = MetricRegistries.get(MetricRegistry.Type.VENDOR).getGauges()
+                .get(new MetricID("cache.hits", new Tag("cache", "forecast")));
+        assertEquals(cache.stats().hitCount(), hits.getValue());
+        assertEquals(4, cache.stats().missCount() - misses);
+    }
+
+    @Test
+    public void testCacheKey() {
+        String value = service.keyed("a", 1);
+        assertEquals(value, service.keyed("b", 1));
+        assertNotEquals(value, service.keyed("a", 2));
+        assertEquals(2, service.getInvocations());
+        assertEquals(service.noParams(), service.noParams());
+        assertEquals(3, service.getInvocations());
+    }
+
+    @Test
+    public void testInvalidate() {
+        String forecast = service.forecast("Paris", 1);
+        service.forecast("Berlin", 1);
+        service.invalidate("Paris", 1);
+        assertNotEquals(forecast, service.forecast("Paris", 1));
+        service.forecast("Berlin", 1);
+        assertEquals(3, service.getInvocations());
+
+        service.invalidateAll();
+        service.forecast("Paris", 1);
+        service.forecast("Berlin", 1);
+        assertEquals(5, service.getInvocations());
+    }
+
+    @Test
+    public void testExceptionIsNotCached() {
+        assertThrows(IllegalArgumentException.class, () -> service.failing("x"));
+        assertThrows(IllegalArgumentException.class, () -> service.failing("x"));
+        assertEquals(2, service.getInvocations());
+        assertEquals(0, repository.getCache("failing").size());
+    }
+
+    @Test
+    public void testRecursiveInvocationFails() {
+        // the nested invocation would otherwise wait for the value of the outer invocation forever
+        assertThrows(IllegalStateException.class, () -> service.recursive("x"));
+        assertEquals(1, service.getInvocations());
+        assertEquals(0, repository.getCache("recursive").size());
+    }
+
+    @ApplicationScoped
+    public static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        int getInvocations() {
+            return invocations.get();
+        }
+
+        void reset() {
+            invocations.set(0);
+        }
+
+        @CacheResult(cacheName = "forecast")
+        public String forecast(String city, int day) {
+            return city + ":" + day + ":" + invocations.incrementAndGet();
+        }
+
+        @CacheInvalidate(cacheName = "forecast")
+        public void invalidate(String city, int day) {
+        }
+
+        @CacheInvalidateAll(cacheName = "forecast")
+        public void invalidateAll() {
+        }
+
+        @CacheResult(cacheName = "keyed")
+        public String keyed(String ignored, @CacheKey int key) {
+            return key + ":" + invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = "no-params")
+        public String noParams() {
+            return "" + invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = "failing")
+        public String failing(String key) {
+            invocations.incrementAndGet();
+            throw new IllegalArgumentException(key);
+        }
+
+        @CacheResult(cacheName = "recursive")
+        public String recursive(String key) {
+            invocations.incrementAndGet();
+            // self-invocations are intercepted
+            return recursive(key);
+        }
+    }
+}
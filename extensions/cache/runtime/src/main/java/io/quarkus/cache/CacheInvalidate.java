@@ -0,0 +1,33 @@
+package io.quarkus.cache;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * Removes an entry from a cache once a business method completes successfully.
+ * <p>
+ * The key of the removed entry is computed from the method arguments exactly as for {@link CacheResult}, so a method
+ * with the same {@link CacheKey} parameters invalidates the values cached by the {@link CacheResult} method.
+ *
+ * @see CacheResult
+ * @see CacheInvalidateAll
+ */
+@InterceptorBinding
+@Target({ TYPE, METHOD })
+@Retention(RUNTIME)
+public @interface CacheInvalidate {
+
+    /**
+     *
+     * @return the name of the cache
+     */
+    @Nonbinding
+    String cacheName();
+}
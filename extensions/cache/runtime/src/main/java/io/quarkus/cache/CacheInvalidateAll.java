@@ -0,0 +1,30 @@
+package io.quarkus.cache;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * Removes all the entries from a cache once a business method completes successfully.
+ *
+ * @see CacheResult
+ * @see CacheInvalidate
+ */
+@InterceptorBinding
+@Target({ TYPE, METHOD })
+@Retention(RUNTIME)
+public @interface CacheInvalidateAll {
+
+    /**
+     *
+     * @return the name of the cache
+     */
+    @Nonbinding
+    String cacheName();
+}
@@ -0,0 +1,21 @@
+package io.quarkus.cache;
+
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Identifies the parameters of a {@link CacheResult} or {@link CacheInvalidate} method which are part of the cache key.
+ * <p>
+ * If no parameter of the method is annotated, all the parameters are part of the key. A method without parameters
+ * uses a single default key. The key parameters must implement {@code equals()} and {@code hashCode()} consistently;
+ * array arguments are compared by their content.
+ * <p>
+ * The key parameters are resolved at build time.
+ */
+@Target(PARAMETER)
+@Retention(RUNTIME)
+public @interface CacheKey {
+}
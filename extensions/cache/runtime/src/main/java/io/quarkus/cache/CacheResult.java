@@ -0,0 +1,49 @@
+package io.quarkus.cache;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * Caches the result of a business method.
+ * <p>
+ * When the method is invoked, the cache key is computed from the method arguments, see {@link CacheKey}. If a value is
+ * already cached for that key, it is returned and the method is not invoked. Otherwise the method is invoked and its
+ * result is cached. Concurrent invocations with the same key wait for the first one to complete instead of invoking the
+ * method again. An exception thrown by the method is never cached.
+ *
+ * <pre>
+ * &#64;ApplicationScoped
+ * class WeatherService {
+ *
+ *     &#64;CacheResult(cacheName = "forecast")
+ *     String getForecast(String city, &#64;CacheKey LocalDate date) {
+ *         // call a slow remote service
+ *     }
+ * }
+ * </pre>
+ *
+ * The annotation can only be used on a method which does not return {@code void}. The cache is configured with the
+ * {@code quarkus.cache.caffeine."cache-name".*} properties.
+ *
+ * @see CacheInvalidate
+ * @see CacheInvalidateAll
+ */
+@InterceptorBinding
+@Target({ TYPE, METHOD })
+@Retention(RUNTIME)
+public @interface CacheResult {
+
+    /**
+     *
+     * @return the name of the cache
+     */
+    @Nonbinding
+    String cacheName();
+}
@@ -0,0 +1,56 @@
+package io.quarkus.cache.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "cache", phase = ConfigPhase.RUN_TIME)
+public class CacheConfig {
+
+    /**
+     * The configuration of the Caffeine caches, keyed by cache name.
+     * <p>
+     * A cache which is used by the application but not configured is unbounded and its entries never expire.
+     */
+    @ConfigItem
+    @ConfigDocMapKey("cache-name")
+    public Map<String, CaffeineCacheConfig> caffeine;
+
+    @ConfigGroup
+    public static class CaffeineCacheConfig {
+
+        /**
+         * The minimum total size of the internal data structures of the cache. Setting a sufficiently large value
+         * avoids resizing the cache as it grows.
+         */
+        @ConfigItem
+        public OptionalInt initialCapacity;
+
+        /**
+         * The maximum number of entries the cache may contain. When the cache is about to exceed this size, the
+         * entries which are less likely to be used again are evicted.
+         */
+        @ConfigItem
+        public OptionalLong maximumSize;
+
+        /**
+         * The duration after which an entry expires, counted from its creation.
+         */
+        @ConfigItem
+        public Optional<Duration> expireAfterWrite;
+
+        /**
+         * The duration after which an entry expires, counted from its creation or its last read.
+         */
+        @ConfigItem
+        public Optional<Duration> expireAfterAccess;
+    }
+}
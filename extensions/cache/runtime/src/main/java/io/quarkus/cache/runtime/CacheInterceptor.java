@@ -0,0 +1,16 @@
+package io.quarkus.cache.runtime;
+
+import javax.inject.Inject;
+import javax.interceptor.Interceptor;
+
+public abstract class CacheInterceptor {
+
+    /**
+     * The cache interceptors are invoked after the security interceptors so that an unauthorized caller never gets a
+     * cached value.
+     */
+    public static final int PRIORITY = Interceptor.Priority.LIBRARY_BEFORE + 10;
+
+    @Inject
+    CacheRepository repository;
+}
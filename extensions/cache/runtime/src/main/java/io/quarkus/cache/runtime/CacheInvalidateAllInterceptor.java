@@ -0,0 +1,22 @@
+package io.quarkus.cache.runtime;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+import io.quarkus.cache.CacheInvalidateAll;
+
+@CacheInvalidateAll(cacheName = "")
+@Interceptor
+@Priority(CacheInterceptor.PRIORITY)
+public class CacheInvalidateAllInterceptor extends CacheInterceptor {
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        CacheMethod method = repository.getCacheMethod(context, CacheInvalidateAll.class, CacheInvalidateAll::cacheName);
+        Object result = context.proceed();
+        method.cache.invalidateAll();
+        return result;
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkus.cache.runtime;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+import io.quarkus.cache.CacheInvalidate;
+
+@CacheInvalidate(cacheName = "")
+@Interceptor
+@Priority(CacheInterceptor.PRIORITY)
+public class CacheInvalidateInterceptor extends CacheInterceptor {
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        CacheMethod method = repository.getCacheMethod(context, CacheInvalidate.class, CacheInvalidate::cacheName);
+        // the key is computed first as the method may modify its arguments
+        Object key = method.getKey(context.getParameters());
+        Object result = context.proceed();
+        method.cache.invalidate(key);
+        return result;
+    }
+}
@@ -0,0 +1,108 @@
+package io.quarkus.cache.runtime;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkus.cache.CacheKey;
+
+/**
+ * The cache of an intercepted method together with the positions of the method parameters which are part of the cache
+ * key.
+ */
+final class CacheMethod {
+
+    private static final Object DEFAULT_KEY = new Object() {
+        @Override
+        public String toString() {
+            return "DefaultCacheKey";
+        }
+    };
+
+    private static final Object NULL_KEY = new Object() {
+        @Override
+        public String toString() {
+            return "NullCacheKey";
+        }
+    };
+
+    final CaffeineCache cache;
+    private final int[] keyPositions;
+
+    CacheMethod(CaffeineCache cache, int[] keyPositions) {
+        this.cache = cache;
+        this.keyPositions = keyPositions;
+    }
+
+    Object getKey(Object[] arguments) {
+        switch (keyPositions.length) {
+            case 0:
+                return DEFAULT_KEY;
+            case 1:
+                Object argument = arguments[keyPositions[0]];
+                if (argument == null) {
+                    return NULL_KEY;
+                }
+                return argument.getClass().isArray() ? new CompositeCacheKey(new Object[] { argument }) : argument;
+            default:
+                Object[] elements = new Object[keyPositions.length];
+                for (int i = 0; i < keyPositions.length; i++) {
+                    elements[i] = arguments[keyPositions[i]];
+                }
+                return new CompositeCacheKey(elements);
+        }
+    }
+
+    /**
+     * The key format must be kept in sync with {@code io.quarkus.cache.deployment.CacheProcessor}.
+     */
+    static String methodKey(Method method) {
+        StringBuilder key = new StringBuilder(method.getDeclaringClass().getName()).append('#')
+                .append(method.getName()).append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(parameterTypes[i].getName());
+        }
+        return key.append(')').toString();
+    }
+
+    /**
+     * Used if the key positions of a method were not resolved at build time, e.g. for a method declared by a class
+     * which is not part of the bean archive index.
+     */
+    static int[] keyPositions(Method method) {
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation.annotationType() == CacheKey.class) {
+                    positions.add(i);
+                }
+            }
+        }
+        if (positions.isEmpty()) {
+            return allPositions(parameterAnnotations.length);
+        }
+        return toArray(positions);
+    }
+
+    static int[] allPositions(int parameterCount) {
+        int[] positions = new int[parameterCount];
+        for (int i = 0; i < parameterCount; i++) {
+            positions[i] = i;
+        }
+        return positions;
+    }
+
+    static int[] toArray(List<Integer> positions) {
+        int[] result = new int[positions.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = positions.get(i);
+        }
+        return result;
+    }
+}
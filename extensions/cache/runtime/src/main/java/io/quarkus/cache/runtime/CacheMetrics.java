@@ -0,0 +1,55 @@
+package io.quarkus.cache.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Exposes the statistics of the caches as vendor metrics. This class must only be loaded if the smallrye-metrics
+ * extension is present.
+ */
+class CacheMetrics {
+
+    private final MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+    private final List<MetricID> registered = new ArrayList<>();
+
+    void register(CaffeineCache cache) {
+        Tag tag = new Tag("cache", cache.getName());
+        gauge("cache.hits", "The number of times a cached value was returned", tag, cache, c -> c.stats().hitCount());
+        gauge("cache.misses", "The number of times a value was not found in the cache", tag, cache,
+                c -> c.stats().missCount());
+        gauge("cache.evictions", "The number of entries evicted from the cache", tag, cache,
+                c -> c.stats().evictionCount());
+        gauge("cache.size", "The approximate number of entries in the cache", tag, cache, CaffeineCache::size);
+    }
+
+    void unregister() {
+        for (MetricID id : registered) {
+            registry.remove(id);
+        }
+        registered.clear();
+    }
+
+    private void gauge(String name, String description, Tag tag, CaffeineCache cache,
+            ToLongFunction<CaffeineCache> value) {
+        Metadata metadata = Metadata.builder()
+                .withName(name)
+                .withDisplayName(name)
+                .withType(MetricType.GAUGE)
+                .withUnit(MetricUnits.NONE)
+                .withDescription(description)
+                .build();
+        registry.register(metadata, (Gauge<Long>) () -> value.applyAsLong(cache), tag);
+        registered.add(new MetricID(name, tag));
+    }
+}
@@ -0,0 +1,37 @@
+package io.quarkus.cache.runtime;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class CacheRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheRecorder.class);
+
+    public void initialize(CacheConfig config, BeanContainer beanContainer, Set<String> cacheNames,
+            Map<String, List<Integer>> keyPositions) {
+        if (config.caffeine != null) {
+            for (String name : config.caffeine.keySet()) {
+                if (!cacheNames.contains(name)) {
+                    LOGGER.warnf("Cache [%s] is configured but not used by any cache annotation", name);
+                }
+            }
+        }
+        beanContainer.instance(CacheRepository.class).init(config, cacheNames, keyPositions);
+    }
+
+    public void registerMetrics(BeanContainer beanContainer, ShutdownContext shutdownContext) {
+        CacheMetrics metrics = new CacheMetrics();
+        for (CaffeineCache cache : beanContainer.instance(CacheRepository.class).getCaches()) {
+            metrics.register(cache);
+        }
+        shutdownContext.addShutdownTask(metrics::unregister);
+    }
+}
@@ -0,0 +1,87 @@
+package io.quarkus.cache.runtime;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import javax.inject.Singleton;
+import javax.interceptor.InvocationContext;
+
+import io.quarkus.arc.runtime.InterceptorBindings;
+
+/**
+ * Holds the caches of the application.
+ * <p>
+ * The caches and the cache key positions resolved at build time are set by the {@link CacheRecorder}. The bean can be
+ * injected in order to access the caches programmatically, e.g. to invalidate them.
+ */
+@Singleton
+public class CacheRepository {
+
+    private final ConcurrentMap<String, CaffeineCache> caches = new ConcurrentHashMap<>();
+    private volatile CacheConfig config;
+    private volatile Map<String, List<Integer>> keyPositions = Collections.emptyMap();
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, CacheMethod>> methods = new ConcurrentHashMap<>();
+
+    void init(CacheConfig config, Collection<String> cacheNames, Map<String, List<Integer>> keyPositions) {
+        this.config = config;
+        this.keyPositions = keyPositions;
+        caches.clear();
+        methods.clear();
+        for (String name : cacheNames) {
+            caches.put(name, createCache(name));
+        }
+    }
+
+    /**
+     *
+     * @param name the cache name
+     * @return the cache or {@code null} if there is no cache with the given name
+     */
+    public CaffeineCache getCache(String name) {
+        return caches.get(name);
+    }
+
+    public Collection<CaffeineCache> getCaches() {
+        return caches.values();
+    }
+
+    private CaffeineCache createCache(String name) {
+        CacheConfig config = this.config;
+        return new CaffeineCache(name, config != null && config.caffeine != null ? config.caffeine.get(name) : null);
+    }
+
+    /**
+     * The metadata are resolved once per intercepted method and binding type.
+     */
+    <A extends Annotation> CacheMethod getCacheMethod(InvocationContext context, Class<A> bindingType,
+            Function<A, String> cacheName) {
+        return methods.computeIfAbsent(bindingType, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(context.getMethod(), m -> createCacheMethod(context, m, bindingType, cacheName));
+    }
+
+    private <A extends Annotation> CacheMethod createCacheMethod(InvocationContext context, Method method,
+            Class<A> bindingType, Function<A, String> cacheName) {
+        String name = null;
+        for (Annotation binding : InterceptorBindings.getInterceptorBindings(context)) {
+            if (binding.annotationType() == bindingType) {
+                name = cacheName.apply(bindingType.cast(binding));
+                break;
+            }
+        }
+        if (name == null) {
+            throw new IllegalStateException("No @" + bindingType.getSimpleName() + " binding found for " + method);
+        }
+        // the cache names are collected at build time, a method of a class which is not indexed may use another one
+        CaffeineCache cache = caches.computeIfAbsent(name, this::createCache);
+        List<Integer> positions = keyPositions.get(CacheMethod.methodKey(method));
+        return new CacheMethod(cache, positions != null ? CacheMethod.toArray(positions) : CacheMethod.keyPositions(method));
+    }
+}
@@ -0,0 +1,20 @@
+package io.quarkus.cache.runtime;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+import io.quarkus.cache.CacheResult;
+
+@CacheResult(cacheName = "")
+@Interceptor
+@Priority(CacheInterceptor.PRIORITY)
+public class CacheResultInterceptor extends CacheInterceptor {
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        CacheMethod method = repository.getCacheMethod(context, CacheResult.class, CacheResult::cacheName);
+        return method.cache.get(method.getKey(context.getParameters()), context);
+    }
+}
@@ -0,0 +1,141 @@
+package io.quarkus.cache.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.interceptor.InvocationContext;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.quarkus.cache.runtime.CacheConfig.CaffeineCacheConfig;
+
+/**
+ * A named cache backed by Caffeine.
+ * <p>
+ * The values are stored as futures so that concurrent invocations with the same key wait for the value computed by
+ * the first invocation instead of computing it again, without holding a lock of the underlying map while the value is
+ * computed. A recursive invocation with the same key fails instead of waiting for its own value forever.
+ */
+public class CaffeineCache {
+
+    private final String name;
+    private final Cache<Object, CompletableFuture<Object>> cache;
+
+    public CaffeineCache(String name, CaffeineCacheConfig config) {
+        this.name = name;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (config != null) {
+            if (config.initialCapacity.isPresent()) {
+                builder.initialCapacity(config.initialCapacity.getAsInt());
+            }
+            if (config.maximumSize.isPresent()) {
+                builder.maximumSize(config.maximumSize.getAsLong());
+            }
+            if (config.expireAfterWrite.isPresent()) {
+                builder.expireAfterWrite(config.expireAfterWrite.get().toNanos(), TimeUnit.NANOSECONDS);
+            }
+            if (config.expireAfterAccess.isPresent()) {
+                builder.expireAfterAccess(config.expireAfterAccess.get().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        this.cache = builder.build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the value cached for the given key, or proceeds with the invocation and caches its result.
+     *
+     * @param key the cache key
+     * @param context the invocation context of the cached method
+     * @return the cached or computed value
+     * @throws Exception if the invocation failed
+     */
+    Object get(Object key, InvocationContext context) throws Exception {
+        // getIfPresent() records the hit or the miss
+        CompletableFuture<Object> value = cache.getIfPresent(key);
+        if (value == null) {
+            PendingValue newValue = new PendingValue();
+            value = cache.asMap().putIfAbsent(key, newValue);
+            if (value == null) {
+                Object result;
+                try {
+                    result = context.proceed();
+                } catch (Throwable e) {
+                    cache.asMap().remove(key, newValue);
+                    newValue.completeExceptionally(e);
+                    throw e;
+                }
+                newValue.complete(result);
+                return result;
+            }
+        }
+        if (value instanceof PendingValue && ((PendingValue) value).isComputedBy(Thread.currentThread())) {
+            throw new IllegalStateException(
+                    "Recursive invocation of " + context.getMethod() + " with the cache key " + key + " of the cache "
+                            + name);
+        }
+        try {
+            return value.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    public void invalidate(Object key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public String toString() {
+        return "CaffeineCache [name=" + name + ", size=" + size() + ", stats=" + stats() + "]";
+    }
+
+    /**
+     * A value being computed, remembers the computing thread in order to detect recursive invocations.
+     */
+    private static final class PendingValue extends CompletableFuture<Object> {
+
+        private volatile Thread thread = Thread.currentThread();
+
+        boolean isComputedBy(Thread thread) {
+            return !isDone() && this.thread == thread;
+        }
+
+        @Override
+        public boolean complete(Object value) {
+            thread = null;
+            return super.complete(value);
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable ex) {
+            thread = null;
+            return super.completeExceptionally(ex);
+        }
+    }
+}
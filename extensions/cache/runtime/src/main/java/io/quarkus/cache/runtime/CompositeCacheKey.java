@@ -0,0 +1,40 @@
+package io.quarkus.cache.runtime;
+
+import java.util.Arrays;
+
+/**
+ * A cache key made of several method arguments, or of a single array argument. The arguments are compared by their
+ * content, arrays included.
+ */
+final class CompositeCacheKey {
+
+    private final Object[] elements;
+    private final int hashCode;
+
+    CompositeCacheKey(Object[] elements) {
+        this.elements = elements;
+        this.hashCode = Arrays.deepHashCode(elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CompositeCacheKey)) {
+            return false;
+        }
+        CompositeCacheKey other = (CompositeCacheKey) obj;
+        return hashCode == other.hashCode && Arrays.deepEquals(elements, other.elements);
+    }
+
+    @Override
+    public String toString() {
+        return "CompositeCacheKey" + Arrays.deepToString(elements);
+    }
+}
@@ -6,7 +6,10 @@ import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
 import javax.interceptor.InvocationContext;
 
+import io.quarkus.arc.ProceedsSynchronously;
+
 @MethodValidated
+@ProceedsSynchronously
 @Interceptor
 @Priority(Interceptor.Priority.PLATFORM_AFTER + 800)
 public class MethodValidationInterceptor extends AbstractMethodValidationInterceptor {
@@ -15,9 +15,11 @@ import javax.ws.rs.core.MediaType;
 
 import org.jboss.resteasy.util.MediaTypeHelper;
 
+import io.quarkus.arc.ProceedsSynchronously;
 import io.quarkus.hibernate.validator.runtime.interceptor.AbstractMethodValidationInterceptor;
 
 @JaxrsEndPointValidated
+@ProceedsSynchronously
 @Interceptor
 @Priority(Interceptor.Priority.PLATFORM_AFTER + 800)
 public class JaxrsEndPointValidationInterceptor extends AbstractMethodValidationInterceptor {
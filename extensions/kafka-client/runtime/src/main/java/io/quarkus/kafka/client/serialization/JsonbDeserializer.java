@@ -1,8 +1,6 @@
 package io.quarkus.kafka.client.serialization;
 
 import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.Map;
 
 import javax.json.bind.Jsonb;
@@ -42,11 +40,8 @@ public class JsonbDeserializer<T> implements Deserializer<T> {
             return null;
         }
 
-        try (InputStream is = new ByteArrayInputStream(data)) {
-            return jsonb.fromJson(is, type);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        // closing a ByteArrayInputStream has no effect
+        return jsonb.fromJson(new ByteArrayInputStream(data), type);
     }
 
     @Override
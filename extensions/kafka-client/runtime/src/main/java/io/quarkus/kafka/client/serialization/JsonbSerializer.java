@@ -1,7 +1,5 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.Map;
 
 import javax.json.bind.Jsonb;
@@ -35,11 +33,12 @@ public class JsonbSerializer<T> implements Serializer<T> {
 
     @Override
     public byte[] serialize(String topic, T data) {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+        ReusableByteArrayOutputStream output = ReusableByteArrayOutputStream.get();
+        try {
             jsonb.toJson(data, output);
             return output.toByteArray();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        } finally {
+            output.release();
         }
     }
 
@@ -1,27 +1,26 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Map;
 
-import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
- * A {@link Deserializer} that deserializes JSON using Jackson's ObjectMapper.
+ * A {@link Serializer} that serializes to JSON using Jackson's ObjectMapper.
  */
 public class ObjectMapperSerializer<T> implements Serializer<T> {
 
-    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
 
     public ObjectMapperSerializer() {
         this(ObjectMapperProducer.get());
     }
 
     public ObjectMapperSerializer(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer();
     }
 
     @Override
@@ -30,9 +29,9 @@ public class ObjectMapperSerializer<T> implements Serializer<T> {
 
     @Override
     public byte[] serialize(String topic, T data) {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            objectMapper.writeValue(output, data);
-            return output.toByteArray();
+        try {
+            // the output buffers are recycled by Jackson
+            return writer.writeValueAsBytes(data);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
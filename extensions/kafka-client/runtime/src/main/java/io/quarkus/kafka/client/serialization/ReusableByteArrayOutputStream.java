@@ -0,0 +1,47 @@
+package io.quarkus.kafka.client.serialization;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * A {@link ByteArrayOutputStream} reused by the serializations done on the same thread, so that its buffer is not
+ * grown again for each record.
+ * <p>
+ * Buffers which grew larger than {@link #MAX_RETAINED_SIZE} are not retained.
+ */
+final class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+
+    private static final int INITIAL_SIZE = 512;
+    private static final int MAX_RETAINED_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<ReusableByteArrayOutputStream> CURRENT = new ThreadLocal<>();
+
+    private boolean inUse;
+
+    private ReusableByteArrayOutputStream() {
+        super(INITIAL_SIZE);
+    }
+
+    static ReusableByteArrayOutputStream get() {
+        ReusableByteArrayOutputStream output = CURRENT.get();
+        if (output == null || output.inUse) {
+            // a serializer may be invoked from another one, e.g. by a custom JSON-B serializer
+            output = new ReusableByteArrayOutputStream();
+            if (CURRENT.get() == null) {
+                CURRENT.set(output);
+            }
+        }
+        output.inUse = true;
+        return output;
+    }
+
+    void release() {
+        inUse = false;
+        if (buf.length > MAX_RETAINED_SIZE) {
+            if (CURRENT.get() == this) {
+                CURRENT.remove();
+            }
+        } else {
+            reset();
+        }
+    }
+}
@@ -41,6 +41,24 @@ public class JsonbSerdeTest {
         }
     }
 
+    @Test
+    public void shouldNotShareTheSerializedBytes() {
+        try (JsonbSerde<MyEntity> serde = new JsonbSerde<>(MyEntity.class)) {
+            MyEntity entity = new MyEntity();
+            entity.id = 1L;
+            entity.name = "Alice";
+            byte[] first = serde.serializer().serialize("my-topic", entity);
+
+            entity.id = 2L;
+            entity.name = "Bob";
+            byte[] second = serde.serializer().serialize("my-topic", entity);
+
+            assertThat(serde.deserializer().deserialize("my-topic", first).name).isEqualTo("Alice");
+            assertThat(serde.deserializer().deserialize("my-topic", second).name).isEqualTo("Bob");
+            assertThat(serde.deserializer().deserialize("my-topic", null)).isNull();
+        }
+    }
+
     public static class MyEntity {
         public long id;
         public String name;
@@ -2,9 +2,26 @@ package io.quarkus.narayana.jta.deployment;
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
+import javax.interceptor.Interceptor;
 import javax.transaction.TransactionScoped;
+import javax.transaction.Transactional;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
 
 import com.arjuna.ats.internal.arjuna.coordinator.CheckedActionFactoryImple;
 import com.arjuna.ats.internal.jta.transaction.arjunacore.TransactionManagerImple;
@@ -14,6 +31,7 @@ import com.arjuna.ats.jta.common.JTAEnvironmentBean;
 import com.arjuna.common.util.propertyservice.PropertiesFactory;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
 import io.quarkus.arc.deployment.ContextRegistrarBuildItem;
 import io.quarkus.arc.processor.ContextRegistrar;
 import io.quarkus.deployment.Capabilities;
@@ -21,12 +39,14 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.substrate.RuntimeInitializedClassBuildItem;
 import io.quarkus.deployment.builditem.substrate.SubstrateSystemPropertyBuildItem;
 import io.quarkus.narayana.jta.runtime.CDIDelegatingTransactionManager;
 import io.quarkus.narayana.jta.runtime.NarayanaJtaProducers;
 import io.quarkus.narayana.jta.runtime.NarayanaJtaRecorder;
+import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
 import io.quarkus.narayana.jta.runtime.TransactionManagerConfiguration;
 import io.quarkus.narayana.jta.runtime.context.TransactionContext;
 import io.quarkus.narayana.jta.runtime.interceptor.TransactionalInterceptorMandatory;
@@ -35,9 +55,15 @@ import io.quarkus.narayana.jta.runtime.interceptor.TransactionalInterceptorNotSu
 import io.quarkus.narayana.jta.runtime.interceptor.TransactionalInterceptorRequired;
 import io.quarkus.narayana.jta.runtime.interceptor.TransactionalInterceptorRequiresNew;
 import io.quarkus.narayana.jta.runtime.interceptor.TransactionalInterceptorSupports;
+import io.quarkus.narayana.jta.runtime.interceptor.TransactionalMethodMetadata;
 
 class NarayanaJtaProcessor {
 
+    private static final DotName TRANSACTIONAL = DotName.createSimple(Transactional.class.getName());
+    private static final DotName TRANSACTION_CONFIGURATION = DotName.createSimple(TransactionConfiguration.class.getName());
+    private static final DotName INTERCEPTOR = DotName.createSimple(Interceptor.class.getName());
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+
     /**
      * The transactions configuration.
      */
@@ -84,6 +110,103 @@ class NarayanaJtaProcessor {
         recorder.setDefaultTimeout(transactions);
     }
 
+    /**
+     * Resolves the {@link TransactionConfiguration} timeouts of the methods of the transactional bean classes so that the
+     * interceptors do not need to look up the annotations.
+     */
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    public void transactionalMethods(NarayanaJtaRecorder recorder, BeanArchiveIndexBuildItem beanArchiveIndex,
+            ShutdownContextBuildItem shutdown) {
+        IndexView index = beanArchiveIndex.getIndex();
+        Set<ClassInfo> transactionalClasses = new HashSet<>();
+        for (AnnotationInstance transactional : index.getAnnotations(TRANSACTIONAL)) {
+            AnnotationTarget target = transactional.target();
+            if (target.kind() == AnnotationTarget.Kind.CLASS) {
+                transactionalClasses.add(target.asClass());
+            } else if (target.kind() == AnnotationTarget.Kind.METHOD) {
+                transactionalClasses.add(target.asMethod().declaringClass());
+            }
+        }
+        // The bindings declared on a superclass are inherited
+        for (ClassInfo transactionalClass : new HashSet<>(transactionalClasses)) {
+            if (!Modifier.isInterface(transactionalClass.flags())) {
+                transactionalClasses.addAll(index.getAllKnownSubclasses(transactionalClass.name()));
+            }
+        }
+
+        Map<String, Map<String, Integer>> timeouts = new HashMap<>();
+        for (ClassInfo transactionalClass : transactionalClasses) {
+            if (Modifier.isInterface(transactionalClass.flags()) || transactionalClass.classAnnotation(INTERCEPTOR) != null) {
+                continue;
+            }
+            timeouts.put(transactionalClass.name().toString(), collectTimeouts(index, transactionalClass));
+        }
+        recorder.setTransactionalMethodTimeouts(timeouts, shutdown);
+    }
+
+    /**
+     * @return the configured timeouts of the methods of the given class keyed by
+     *         {@link TransactionalMethodMetadata#methodKey(String, String[])}
+     */
+    private static Map<String, Integer> collectTimeouts(IndexView index, ClassInfo beanClass) {
+        // @TransactionConfiguration is @Inherited
+        Integer classTimeout = null;
+        for (ClassInfo clazz = beanClass; clazz != null && classTimeout == null; clazz = superClass(index, clazz)) {
+            classTimeout = timeout(clazz.classAnnotation(TRANSACTION_CONFIGURATION));
+        }
+
+        Map<String, Integer> timeouts = new HashMap<>();
+        Set<String> visited = new HashSet<>();
+        for (ClassInfo clazz = beanClass; clazz != null; clazz = superClass(index, clazz)) {
+            for (MethodInfo method : clazz.methods()) {
+                if (Modifier.isStatic(method.flags()) || Modifier.isPrivate(method.flags())
+                        || method.name().startsWith("<")) {
+                    continue;
+                }
+                String key = methodKey(method);
+                if (!visited.add(key)) {
+                    // overridden
+                    continue;
+                }
+                Integer timeout = null;
+                AnnotationInstance configuration = method.annotation(TRANSACTION_CONFIGURATION);
+                if (configuration != null && configuration.target().kind() == AnnotationTarget.Kind.METHOD) {
+                    timeout = timeout(configuration);
+                }
+                if (timeout == null) {
+                    timeout = classTimeout;
+                }
+                if (timeout != null && timeout != TransactionConfiguration.UNSET_TIMEOUT) {
+                    timeouts.put(key, timeout);
+                }
+            }
+        }
+        return timeouts;
+    }
+
+    private static ClassInfo superClass(IndexView index, ClassInfo clazz) {
+        DotName superName = clazz.superName();
+        return superName == null || superName.equals(OBJECT) ? null : index.getClassByName(superName);
+    }
+
+    private static Integer timeout(AnnotationInstance configuration) {
+        if (configuration == null) {
+            return null;
+        }
+        AnnotationValue timeout = configuration.value("timeout");
+        return timeout != null ? timeout.asInt() : TransactionConfiguration.UNSET_TIMEOUT;
+    }
+
+    private static String methodKey(MethodInfo method) {
+        List<Type> parameters = method.parameters();
+        String[] parameterTypes = new String[parameters.size()];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypes[i] = parameters.get(i).name().toString();
+        }
+        return TransactionalMethodMetadata.methodKey(method.name(), parameterTypes);
+    }
+
     @BuildStep
     public void transactionContext(
             BuildProducer<ContextRegistrarBuildItem> contextRegistry) {
@@ -0,0 +1,40 @@
+package io.quarkus.narayana.jta.test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.SystemException;
+import javax.transaction.TransactionManager;
+import javax.transaction.Transactional;
+
+@ApplicationScoped
+public class AsyncTransactionalBean {
+
+    @Inject
+    TransactionManager tm;
+
+    @Transactional
+    public CompletionStage<String> async(CompletableFuture<String> result, CompletableFuture<Integer> status)
+            throws Exception {
+        tm.getTransaction().registerSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int completionStatus) {
+                status.complete(completionStatus);
+            }
+        });
+        return result;
+    }
+
+    @Transactional
+    public boolean isActive() throws SystemException {
+        return tm.getStatus() == Status.STATUS_ACTIVE;
+    }
+}
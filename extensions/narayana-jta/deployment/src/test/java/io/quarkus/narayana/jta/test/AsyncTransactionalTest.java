@@ -0,0 +1,54 @@
+package io.quarkus.narayana.jta.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.transaction.Status;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AsyncTransactionalTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(AsyncTransactionalBean.class));
+
+    @Inject
+    AsyncTransactionalBean bean;
+
+    @Test
+    public void testTransactionEndsWithTheStage() throws Exception {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        CompletableFuture<Integer> status = new CompletableFuture<>();
+        CompletableFuture<String> stage = bean.async(result, status).toCompletableFuture();
+        // the transaction was suspended when the method returned
+        assertFalse(status.isDone());
+        assertTrue(bean.isActive());
+        result.complete("ok");
+        assertEquals("ok", stage.get(5, TimeUnit.SECONDS));
+        assertEquals(Status.STATUS_COMMITTED, status.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testTransactionIsRolledBackIfTheStageFails() throws Exception {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        CompletableFuture<Integer> status = new CompletableFuture<>();
+        CompletableFuture<String> stage = bean.async(result, status).toCompletableFuture();
+        result.completeExceptionally(new IllegalStateException());
+        assertThrows(ExecutionException.class, () -> stage.get(5, TimeUnit.SECONDS));
+        assertEquals(Status.STATUS_ROLLEDBACK, status.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,14 @@
+package io.quarkus.narayana.jta.test;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.transaction.SystemException;
+import javax.transaction.Transactional;
+
+@ApplicationScoped
+public class InheritedTransactionConfigurationBean extends TransactionConfigurationBaseBean {
+
+    @Transactional
+    public int subclassMethod() throws SystemException {
+        return TransactionTimeouts.currentTimeout(tm);
+    }
+}
@@ -0,0 +1,26 @@
+package io.quarkus.narayana.jta.test;
+
+import javax.inject.Inject;
+import javax.transaction.SystemException;
+import javax.transaction.TransactionManager;
+import javax.transaction.Transactional;
+
+import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
+
+@TransactionConfiguration(timeout = 30)
+public abstract class TransactionConfigurationBaseBean {
+
+    @Inject
+    TransactionManager tm;
+
+    @Transactional
+    public int inheritedMethod() throws SystemException {
+        return TransactionTimeouts.currentTimeout(tm);
+    }
+
+    @Transactional
+    @TransactionConfiguration(timeout = 40)
+    public int inheritedMethodTimeout() throws SystemException {
+        return TransactionTimeouts.currentTimeout(tm);
+    }
+}
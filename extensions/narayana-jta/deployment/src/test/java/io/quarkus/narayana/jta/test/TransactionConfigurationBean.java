@@ -0,0 +1,28 @@
+package io.quarkus.narayana.jta.test;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.SystemException;
+import javax.transaction.TransactionManager;
+import javax.transaction.Transactional;
+
+import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
+
+@ApplicationScoped
+@TransactionConfiguration(timeout = 20)
+public class TransactionConfigurationBean {
+
+    @Inject
+    TransactionManager tm;
+
+    @Transactional
+    @TransactionConfiguration(timeout = 10)
+    public int methodTimeout() throws SystemException {
+        return TransactionTimeouts.currentTimeout(tm);
+    }
+
+    @Transactional
+    public int classTimeout() throws SystemException {
+        return TransactionTimeouts.currentTimeout(tm);
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.narayana.jta.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TransactionConfigurationTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(TransactionConfigurationBean.class, TransactionConfigurationBaseBean.class,
+                            InheritedTransactionConfigurationBean.class, TransactionTimeouts.class));
+
+    @Inject
+    TransactionConfigurationBean bean;
+
+    @Inject
+    InheritedTransactionConfigurationBean inheritedBean;
+
+    @Test
+    public void testMethodTimeout() throws Exception {
+        assertEquals(10, bean.methodTimeout());
+    }
+
+    @Test
+    public void testClassTimeout() throws Exception {
+        assertEquals(20, bean.classTimeout());
+    }
+
+    @Test
+    public void testInheritedTimeout() throws Exception {
+        // the class level configuration of the superclass is inherited
+        assertEquals(30, inheritedBean.subclassMethod());
+        assertEquals(30, inheritedBean.inheritedMethod());
+        assertEquals(40, inheritedBean.inheritedMethodTimeout());
+    }
+}
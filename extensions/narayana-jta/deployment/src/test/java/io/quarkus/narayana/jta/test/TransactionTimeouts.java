@@ -0,0 +1,19 @@
+package io.quarkus.narayana.jta.test;
+
+import javax.transaction.SystemException;
+import javax.transaction.TransactionManager;
+
+import com.arjuna.ats.internal.jta.transaction.arjunacore.TransactionImple;
+
+final class TransactionTimeouts {
+
+    private TransactionTimeouts() {
+    }
+
+    /**
+     * @return the timeout in seconds of the current transaction
+     */
+    static int currentTimeout(TransactionManager tm) throws SystemException {
+        return ((TransactionImple) tm.getTransaction()).getTimeout();
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.narayana.jta.runtime;
 
 import java.lang.reflect.Field;
+import java.util.Map;
 import java.util.Properties;
 
 import org.jboss.logging.Logger;
@@ -10,6 +11,8 @@ import com.arjuna.ats.arjuna.common.arjPropertyManager;
 import com.arjuna.ats.arjuna.coordinator.TxControl;
 import com.arjuna.common.util.propertyservice.PropertiesFactory;
 
+import io.quarkus.narayana.jta.runtime.interceptor.TransactionalMethodMetadata;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -54,6 +57,11 @@ public class NarayanaJtaRecorder {
         return defaultProperties;
     }
 
+    public void setTransactionalMethodTimeouts(Map<String, Map<String, Integer>> timeouts, ShutdownContext shutdown) {
+        TransactionalMethodMetadata.setTimeouts(timeouts);
+        shutdown.addShutdownTask(TransactionalMethodMetadata::clear);
+    }
+
     public void disableTransactionStatusManager() {
         arjPropertyManager.getCoordinatorEnvironmentBean()
                 .setTransactionStatusManagerEnable(false);
@@ -1,9 +1,6 @@
 package io.quarkus.narayana.jta.runtime.interceptor;
 
 import java.io.Serializable;
-import java.lang.annotation.Annotation;
-import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 
@@ -21,11 +18,9 @@ import org.reactivestreams.Publisher;
 
 import com.arjuna.ats.jta.logging.jtaLogger;
 
-import io.quarkus.arc.runtime.InterceptorBindings;
 import io.quarkus.narayana.jta.runtime.CDIDelegatingTransactionManager;
 import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
-import io.smallrye.reactive.converters.Registry;
 
 /**
  * @author paul.robinson@redhat.com 02/05/2013
@@ -58,36 +53,6 @@ public abstract class TransactionalInterceptorBase implements Serializable {
 
     protected abstract Object doIntercept(TransactionManager tm, Transaction tx, InvocationContext ic) throws Exception;
 
-    /**
-     * <p>
-     * Looking for the {@link Transactional} annotation first on the method,
-     * second on the class.
-     * <p>
-     * Method handles CDI types to cover cases where extensions are used. In
-     * case of EE container uses reflection.
-     *
-     * @param ic
-     *        invocation context of the interceptor
-     * @return instance of {@link Transactional} annotation or null
-     */
-    private Transactional getTransactional(InvocationContext ic) {
-        Set<Annotation> bindings = InterceptorBindings.getInterceptorBindings(ic);
-        for (Annotation i : bindings) {
-            if (i.annotationType() == Transactional.class) {
-                return (Transactional) i;
-            }
-        }
-        throw new RuntimeException(jtaLogger.i18NLogger.get_expected_transactional_annotation());
-    }
-
-    private TransactionConfiguration getTransactionConfiguration(InvocationContext ic) {
-        TransactionConfiguration configuration = ic.getMethod().getAnnotation(TransactionConfiguration.class);
-        if (configuration == null) {
-            return ic.getTarget().getClass().getAnnotation(TransactionConfiguration.class);
-        }
-        return configuration;
-    }
-
     protected Object invokeInOurTx(InvocationContext ic, TransactionManager tm) throws Exception {
         return invokeInOurTx(ic, tm, () -> {
         });
@@ -96,17 +61,17 @@ public abstract class TransactionalInterceptorBase implements Serializable {
     protected Object invokeInOurTx(InvocationContext ic, TransactionManager tm, RunnableWithException afterEndTransaction)
             throws Exception {
 
-        TransactionConfiguration configAnnotation = getTransactionConfiguration(ic);
+        TransactionalMethodMetadata metadata = TransactionalMethodMetadata.of(ic);
         int currentTmTimeout = ((CDIDelegatingTransactionManager) transactionManager).getTransactionTimeout();
-        if (configAnnotation != null && configAnnotation.timeout() != TransactionConfiguration.UNSET_TIMEOUT) {
-            tm.setTransactionTimeout(configAnnotation.timeout());
+        if (metadata.timeout != TransactionConfiguration.UNSET_TIMEOUT) {
+            tm.setTransactionTimeout(metadata.timeout);
         }
         Transaction tx;
         try {
             tm.begin();
             tx = tm.getTransaction();
         } finally {
-            if (configAnnotation != null && configAnnotation.timeout() != TransactionConfiguration.UNSET_TIMEOUT) {
+            if (metadata.timeout != TransactionConfiguration.UNSET_TIMEOUT) {
                 //restore the default behaviour
                 tm.setTransactionTimeout(currentTmTimeout);
             }
@@ -121,20 +86,14 @@ public abstract class TransactionalInterceptorBase implements Serializable {
             throwing = true;
             handleException(ic, e, tx);
         } finally {
-            // handle asynchronously if not throwing
-            if (!throwing && ret != null) {
-                ReactiveTypeConverter<Object> converter = null;
-                if (ret instanceof CompletionStage == false
-                        && ret instanceof Publisher == false) {
-                    @SuppressWarnings({ "rawtypes", "unchecked" })
-                    Optional<ReactiveTypeConverter<Object>> lookup = Registry.lookup((Class) ret.getClass());
-                    if (lookup.isPresent()) {
-                        converter = lookup.get();
-                        if (converter.emitAtMostOneItem()) {
-                            ret = converter.toCompletionStage(ret);
-                        } else {
-                            ret = converter.toRSPublisher(ret);
-                        }
+            // handle asynchronously if not throwing and the method may return a reactive type
+            if (!throwing && ret != null && metadata.resultType != TransactionalMethodMetadata.ResultType.SYNC) {
+                ReactiveTypeConverter<Object> converter = metadata.getConverter(ret);
+                if (converter != null) {
+                    if (converter.emitAtMostOneItem()) {
+                        ret = converter.toCompletionStage(ret);
+                    } else {
+                        ret = converter.toRSPublisher(ret);
                     }
                 }
                 if (ret instanceof CompletionStage) {
@@ -152,7 +111,7 @@ public abstract class TransactionalInterceptorBase implements Serializable {
                     endTransaction(tm, tx, afterEndTransaction);
                 }
             } else {
-                // throwing or null: handle synchronously
+                // throwing, null or not async: handle synchronously
                 endTransaction(tm, tx, afterEndTransaction);
             }
         }
@@ -256,8 +215,7 @@ public abstract class TransactionalInterceptorBase implements Serializable {
     }
 
     private void checkConfiguration(InvocationContext ic) {
-        TransactionConfiguration configAnnotation = getTransactionConfiguration(ic);
-        if (configAnnotation != null && configAnnotation.timeout() != TransactionConfiguration.UNSET_TIMEOUT) {
+        if (TransactionalMethodMetadata.of(ic).timeout != TransactionConfiguration.UNSET_TIMEOUT) {
             throw new RuntimeException("Changing timeout via @TransactionConfiguration can only be done " +
                     "at the entry level of a transaction");
         }
@@ -266,7 +224,7 @@ public abstract class TransactionalInterceptorBase implements Serializable {
     protected void handleExceptionNoThrow(InvocationContext ic, Throwable e, Transaction tx)
             throws IllegalStateException, SystemException {
 
-        Transactional transactional = getTransactional(ic);
+        Transactional transactional = TransactionalMethodMetadata.of(ic).transactional;
 
         for (Class<?> dontRollbackOnClass : transactional.dontRollbackOn()) {
             if (dontRollbackOnClass.isAssignableFrom(e.getClass())) {
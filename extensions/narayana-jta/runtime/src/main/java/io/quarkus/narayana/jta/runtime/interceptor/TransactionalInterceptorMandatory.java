@@ -12,10 +12,13 @@ import javax.transaction.TransactionalException;
 
 import com.arjuna.ats.jta.logging.jtaLogger;
 
+import io.quarkus.arc.ProceedsSynchronously;
+
 /**
  * @author paul.robinson@redhat.com 25/05/2013
  */
 
+@ProceedsSynchronously
 @Interceptor
 @Transactional(Transactional.TxType.MANDATORY)
 @Priority(Interceptor.Priority.PLATFORM_BEFORE + 200)
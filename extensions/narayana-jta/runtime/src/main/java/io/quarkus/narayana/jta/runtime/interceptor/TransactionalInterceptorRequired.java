@@ -8,10 +8,13 @@ import javax.transaction.Transaction;
 import javax.transaction.TransactionManager;
 import javax.transaction.Transactional;
 
+import io.quarkus.arc.ProceedsSynchronously;
+
 /**
  * @author paul.robinson@redhat.com 25/05/2013
  */
 
+@ProceedsSynchronously
 @Interceptor
 @Transactional(Transactional.TxType.REQUIRED)
 @Priority(Interceptor.Priority.PLATFORM_BEFORE + 200)
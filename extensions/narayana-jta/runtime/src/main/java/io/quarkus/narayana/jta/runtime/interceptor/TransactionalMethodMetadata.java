@@ -0,0 +1,186 @@
+package io.quarkus.narayana.jta.runtime.interceptor;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.interceptor.InvocationContext;
+import javax.transaction.Transactional;
+
+import org.reactivestreams.Publisher;
+
+import com.arjuna.ats.jta.logging.jtaLogger;
+
+import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.runtime.InterceptorBindings;
+import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
+import io.smallrye.reactive.converters.ReactiveTypeConverter;
+import io.smallrye.reactive.converters.Registry;
+
+/**
+ * The metadata of a transactional method of a bean class, resolved on the first invocation of the method.
+ * <p>
+ * The {@link TransactionConfiguration} timeouts of the bean classes are resolved at build time, see
+ * {@link #setTimeouts(Map)}. The handling of the return value is decided from the declared return type of the method, the
+ * actual return value is only inspected if the declared return type is a supertype of the reactive types, e.g.
+ * {@link Object}.
+ */
+public final class TransactionalMethodMetadata {
+
+    enum ResultType {
+        // the return value is never completed asynchronously
+        SYNC,
+        COMPLETION_STAGE,
+        PUBLISHER,
+        // the return value is converted with the reactive type converter
+        CONVERTED,
+        // the return value must be inspected
+        UNKNOWN,
+    }
+
+    // bean class name -> method key -> timeout, the methods without a configured timeout are omitted
+    private static volatile Map<String, Map<String, Integer>> timeouts = Collections.emptyMap();
+
+    private static final Map<Class<?>, Map<Method, TransactionalMethodMetadata>> METADATA = new ConcurrentHashMap<>();
+
+    final Transactional transactional;
+    final int timeout;
+    final ResultType resultType;
+    final ReactiveTypeConverter<Object> converter;
+
+    private TransactionalMethodMetadata(Transactional transactional, int timeout, ResultType resultType,
+            ReactiveTypeConverter<Object> converter) {
+        this.transactional = transactional;
+        this.timeout = timeout;
+        this.resultType = resultType;
+        this.converter = converter;
+    }
+
+    /**
+     *
+     * @param timeouts the {@link TransactionConfiguration} timeouts of the methods keyed by bean class name and
+     *        {@link #methodKey(String, String[])}
+     */
+    public static void setTimeouts(Map<String, Map<String, Integer>> timeouts) {
+        TransactionalMethodMetadata.timeouts = timeouts;
+    }
+
+    public static void clear() {
+        METADATA.clear();
+        timeouts = Collections.emptyMap();
+    }
+
+    /**
+     * The key format must be kept in sync with the build time metadata.
+     */
+    public static String methodKey(String name, String[] parameterTypes) {
+        return name + "(" + String.join(",", parameterTypes) + ")";
+    }
+
+    static TransactionalMethodMetadata of(InvocationContext ic) {
+        Class<?> targetClass = ic.getTarget().getClass();
+        Map<Method, TransactionalMethodMetadata> methods = METADATA.get(targetClass);
+        if (methods == null) {
+            methods = METADATA.computeIfAbsent(targetClass, c -> new ConcurrentHashMap<>());
+        }
+        Method method = ic.getMethod();
+        TransactionalMethodMetadata metadata = methods.get(method);
+        if (metadata == null) {
+            metadata = create(ic, targetClass, method);
+            TransactionalMethodMetadata previous = methods.putIfAbsent(method, metadata);
+            if (previous != null) {
+                metadata = previous;
+            }
+        }
+        return metadata;
+    }
+
+    /**
+     *
+     * @param ret the non-null return value of the method
+     * @return the converter to use for the return value, or {@code null}
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    ReactiveTypeConverter<Object> getConverter(Object ret) {
+        if (resultType == ResultType.CONVERTED) {
+            return converter;
+        }
+        if (resultType == ResultType.UNKNOWN && !(ret instanceof CompletionStage) && !(ret instanceof Publisher)) {
+            Optional<ReactiveTypeConverter<Object>> lookup = Registry.lookup((Class) ret.getClass());
+            return lookup.orElse(null);
+        }
+        return null;
+    }
+
+    private static TransactionalMethodMetadata create(InvocationContext ic, Class<?> targetClass, Method method) {
+        Transactional transactional = null;
+        Iterable<Annotation> bindings = ic instanceof ArcInvocationContext
+                ? ((ArcInvocationContext) ic).getInterceptorBindings()
+                : InterceptorBindings.getInterceptorBindings(ic);
+        for (Annotation binding : bindings) {
+            if (binding.annotationType() == Transactional.class) {
+                transactional = (Transactional) binding;
+                break;
+            }
+        }
+        if (transactional == null) {
+            throw new RuntimeException(jtaLogger.i18NLogger.get_expected_transactional_annotation());
+        }
+
+        Class<?> returnType = method.getReturnType();
+        ResultType resultType;
+        ReactiveTypeConverter<Object> converter = null;
+        if (returnType == void.class || returnType.isPrimitive()) {
+            resultType = ResultType.SYNC;
+        } else if (CompletionStage.class.isAssignableFrom(returnType)) {
+            resultType = ResultType.COMPLETION_STAGE;
+        } else if (Publisher.class.isAssignableFrom(returnType)) {
+            resultType = ResultType.PUBLISHER;
+        } else if (returnType.isAssignableFrom(CompletionStage.class) || returnType.isAssignableFrom(Publisher.class)) {
+            resultType = ResultType.UNKNOWN;
+        } else {
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            Optional<ReactiveTypeConverter<Object>> lookup = Registry.lookup((Class) returnType);
+            if (lookup.isPresent()) {
+                resultType = ResultType.CONVERTED;
+                converter = lookup.get();
+            } else {
+                resultType = ResultType.SYNC;
+            }
+        }
+        return new TransactionalMethodMetadata(transactional, getTimeout(targetClass, method), resultType, converter);
+    }
+
+    private static int getTimeout(Class<?> targetClass, Method method) {
+        Map<String, Map<String, Integer>> timeouts = TransactionalMethodMetadata.timeouts;
+        // the target is usually an instance of the intercepted subclass generated for the bean class
+        for (Class<?> clazz = targetClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            Map<String, Integer> methods = timeouts.get(clazz.getName());
+            if (methods != null) {
+                // the table contains all the configured timeouts of the class, including the inherited ones
+                Integer timeout = methods.get(methodKey(method));
+                return timeout != null ? timeout : TransactionConfiguration.UNSET_TIMEOUT;
+            }
+        }
+        // not known at build time, e.g. if the interceptor binding was added programmatically, the result is kept in the
+        // metadata of the method so the annotations are only looked up on its first invocation
+        TransactionConfiguration configuration = method.getAnnotation(TransactionConfiguration.class);
+        if (configuration == null) {
+            configuration = targetClass.getAnnotation(TransactionConfiguration.class);
+        }
+        return configuration != null ? configuration.timeout() : TransactionConfiguration.UNSET_TIMEOUT;
+    }
+
+    private static String methodKey(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        String[] parameterTypeNames = new String[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypeNames[i] = parameterTypes[i].getName();
+        }
+        return methodKey(method.getName(), parameterTypeNames);
+    }
+}
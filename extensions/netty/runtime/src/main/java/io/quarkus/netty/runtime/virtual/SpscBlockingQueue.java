@@ -0,0 +1,179 @@
+package io.quarkus.netty.runtime.virtual;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An unbounded lock-free {@link BlockingQueue} which supports a single producer thread and a single consumer thread at
+ * a time.
+ *
+ * The consumer parks when the queue is empty and the producer unparks it, so no lock or condition is involved. The
+ * producer's volatile link and the consumer's volatile waiter form a Dekker style handshake, so a wakeup cannot be lost.
+ */
+final class SpscBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final class Node<E> {
+        E value;
+        volatile Node<E> next;
+
+        Node(E value) {
+            this.value = value;
+        }
+    }
+
+    // only accessed by the consumer
+    private Node<E> head;
+    // only accessed by the producer
+    private Node<E> tail;
+    private volatile Thread waiter;
+
+    SpscBlockingQueue() {
+        head = tail = new Node<>(null);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        Node<E> node = new Node<>(e);
+        tail.next = node;
+        tail = node;
+        Thread w = waiter;
+        if (w != null) {
+            LockSupport.unpark(w);
+        }
+        return true;
+    }
+
+    @Override
+    public void put(E e) {
+        offer(e);
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) {
+        return offer(e);
+    }
+
+    @Override
+    public E poll() {
+        Node<E> next = head.next;
+        if (next == null) {
+            return null;
+        }
+        E value = next.value;
+        next.value = null;
+        head = next;
+        return value;
+    }
+
+    @Override
+    public E peek() {
+        Node<E> next = head.next;
+        return next != null ? next.value : null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E e;
+        while ((e = poll(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) == null) {
+            // keep waiting
+        }
+        return e;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E e = poll();
+        if (e != null) {
+            return e;
+        }
+        long remaining = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remaining;
+        waiter = Thread.currentThread();
+        try {
+            for (;;) {
+                e = poll();
+                if (e != null || remaining <= 0) {
+                    return e;
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        } finally {
+            waiter = null;
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        int n = 0;
+        E e;
+        while (n < maxElements && (e = poll()) != null) {
+            c.add(e);
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Must only be called by the consumer.
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Node<E> node = head.next; node != null && size < Integer.MAX_VALUE; node = node.next) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Must only be called by the consumer.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Node<E> next = head.next;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                E value = next.value;
+                next = next.next;
+                return value;
+            }
+        };
+    }
+}
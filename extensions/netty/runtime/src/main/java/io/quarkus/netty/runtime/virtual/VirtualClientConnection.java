@@ -1,7 +1,10 @@
 package io.quarkus.netty.runtime.virtual;
 
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import io.netty.channel.Channel;
 import io.netty.util.concurrent.Future;
@@ -12,12 +15,25 @@ import io.netty.util.internal.PlatformDependent;
  *
  * Clients can block and wait directly for posted messages from the server channel.
  *
+ * Connections obtained with {@link #acquire(VirtualAddress)} can be given back with {@link #release()} once an exchange
+ * is complete, so that the next exchange does not need a new server channel.
+ *
  */
 public class VirtualClientConnection {
+    private static final int MAX_POOLED_CONNECTIONS = 16;
+    private static final ConcurrentMap<VirtualAddress, Queue<VirtualClientConnection>> POOLS = new ConcurrentHashMap<>();
+
     protected VirtualAddress address;
-    protected BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
-    protected boolean connected = true;
+    // written by the server channel's event loop only, read by the client
+    protected BlockingQueue<Object> queue = new SpscBlockingQueue<>();
+    protected volatile boolean connected = true;
     protected VirtualChannel peer;
+    private final Runnable finishPeerReadTask = new Runnable() {
+        @Override
+        public void run() {
+            finishPeerRead0(peer);
+        }
+    };
 
     VirtualClientConnection(VirtualAddress address) {
         this.address = address;
@@ -78,12 +94,6 @@ public class VirtualClientConnection {
     private void runFinishPeerReadTask(final VirtualChannel peer) {
         // If the peer is writing, we must wait until after reads are completed for that peer before we can read. So
         // we keep track of the task, and coordinate later that our read can't happen until the peer is done.
-        final Runnable finishPeerReadTask = new Runnable() {
-            @Override
-            public void run() {
-                finishPeerRead0(peer);
-            }
-        };
         try {
             if (peer.writeInProgress) {
                 peer.finishReadFuture = peer.eventLoop().submit(finishPeerReadTask);
@@ -118,4 +128,58 @@ public class VirtualClientConnection {
         return conn;
 
     }
+
+    /**
+     * Obtain a pooled virtual intra-JVM connection, or establish a new one if none is available.
+     *
+     * The connection must be given back with {@link #release()} once the exchange is complete, or closed.
+     *
+     * @param remoteAddress
+     * @return
+     */
+    public static VirtualClientConnection acquire(final VirtualAddress remoteAddress) {
+        Queue<VirtualClientConnection> pool = POOLS.get(remoteAddress);
+        if (pool != null) {
+            VirtualClientConnection conn;
+            while ((conn = pool.poll()) != null) {
+                if (conn.isReusable()) {
+                    return conn;
+                }
+                conn.close();
+            }
+        }
+        return connect(remoteAddress);
+    }
+
+    /**
+     * Give this connection back to the pool. The caller must have consumed all the messages of the exchange, which
+     * must have left the connection open, e.g. an HTTP keep-alive exchange.
+     *
+     * The connection is closed instead if it cannot be reused or if the pool is full.
+     */
+    public void release() {
+        if (!isReusable()
+                || !POOLS.computeIfAbsent(address, a -> new ArrayBlockingQueue<>(MAX_POOLED_CONNECTIONS)).offer(this)) {
+            close();
+        }
+    }
+
+    /**
+     * Close the pooled connections to the given address, e.g. when the application is stopped.
+     *
+     * @param remoteAddress
+     */
+    public static void closePooledConnections(final VirtualAddress remoteAddress) {
+        Queue<VirtualClientConnection> pool = POOLS.remove(remoteAddress);
+        if (pool != null) {
+            VirtualClientConnection conn;
+            while ((conn = pool.poll()) != null) {
+                conn.close();
+            }
+        }
+    }
+
+    private boolean isReusable() {
+        return connected && peer.isActive() && queue.isEmpty();
+    }
 }
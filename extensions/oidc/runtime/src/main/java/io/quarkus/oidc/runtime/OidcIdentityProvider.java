@@ -7,6 +7,8 @@ import javax.enterprise.context.ApplicationScoped;
 
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.jose4j.jwt.JwtClaims;
+import org.jose4j.jwt.MalformedClaimException;
+import org.jose4j.jwt.NumericDate;
 import org.jose4j.jwt.consumer.InvalidJwtException;
 
 import io.quarkus.security.AuthenticationFailedException;
@@ -14,6 +16,7 @@ import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.IdentityCache;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
@@ -61,13 +64,19 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
                 QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder();
 
                 JsonWebToken jwtPrincipal;
+                NumericDate expirationTime;
                 try {
-                    jwtPrincipal = new OidcJwtCallerPrincipal(JwtClaims.parse(token.accessToken().encode()));
-                } catch (InvalidJwtException e) {
+                    JwtClaims claims = JwtClaims.parse(token.accessToken().encode());
+                    jwtPrincipal = new OidcJwtCallerPrincipal(claims);
+                    expirationTime = claims.getExpirationTime();
+                } catch (InvalidJwtException | MalformedClaimException e) {
                     result.completeExceptionally(e);
                     return;
                 }
                 builder.setPrincipal(jwtPrincipal);
+                if (expirationTime != null) {
+                    builder.addAttribute(IdentityCache.EXPIRATION_ATTRIBUTE, expirationTime.getValue());
+                }
                 try {
                     String clientId = config.getClientId().isPresent() ? config.getClientId().get() : null;
                     for (String role : OidcUtils.findRoles(clientId, config.getRoles(), token.accessToken())) {
@@ -230,6 +230,21 @@ public abstract class PanacheEntityBase {
         throw JpaOperations.implementationInjectionMissing();
     }
 
+    /**
+     * Find the entities of this type which come after the given sort key, in the given order. This is keyset
+     * pagination: unlike an offset, the sort key lets the database seek directly to the next page.
+     *
+     * @param sort the sort order to use, the last column should be unique, e.g. the identifier
+     * @param lastSortKey the values of the sort columns of the last entity of the previous page
+     * @return a new {@link PanacheQuery} instance to find the entities after the given sort key.
+     * @see #findAll(Sort)
+     * @see PanacheQuery#after(Object...)
+     */
+    @GenerateBridge
+    public static <T extends PanacheEntityBase> PanacheQuery<T> findAllAfter(Sort sort, Object... lastSortKey) {
+        throw JpaOperations.implementationInjectionMissing();
+    }
+
     /**
      * Find entities matching a query, with optional indexed parameters.
      * This method is a shortcut for <code>find(query, params).list()</code>.
@@ -105,6 +105,34 @@ public interface PanacheQuery<Entity> {
      */
     public int pageCount();
 
+    /**
+     * Restricts this query to the results which come after the given sort key, and sets the current page to the first
+     * page. This is keyset pagination: instead of skipping an offset of results, the database seeks directly to the
+     * results following the last result of the previous page, which stays fast for deep pages.
+     * <p>
+     * The query must have been created with a {@link io.quarkus.panache.common.Sort} whose last column is unique,
+     * e.g. the identifier, and the sort columns must not be null. The next page is then read by passing the values of
+     * the sort columns of the last result of the current page:
+     * 
+     * <pre>
+     * PanacheQuery&lt;Person&gt; query = Person.findAll(Sort.by("name").and("id")).page(Page.ofSize(25));
+     * List&lt;Person&gt; persons = query.list();
+     * Person last = persons.get(persons.size() - 1);
+     * persons = query.after(last.name, last.id).list();
+     * </pre>
+     * 
+     * The {@link #count()} is not affected by the sort key. The offset based methods, e.g. {@link #pageCount()} or
+     * {@link #hasNextPage()}, should not be used for keyset pagination: a page smaller than the page size is the last
+     * one.
+     * 
+     * @param lastSortKey the values of the sort columns of the last result of the previous page
+     * @return this query, modified
+     * @throws IllegalStateException if the query was created without a sort
+     * @throws UnsupportedOperationException if the query is too complex to be restricted, e.g. if it contains an
+     *         <code>ORDER BY</code> or a subquery
+     */
+    public <T extends Entity> PanacheQuery<T> after(Object... lastSortKey);
+
     /**
      * Returns the current page.
      * 
@@ -145,6 +173,20 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Stream} which reads the results in batches of the given size.
+     * The persistence context is flushed, if a transaction is active, and cleared after each batch, so that the
+     * memory used stays flat regardless of the number of results. The entities returned by the stream are therefore
+     * detached once the next batch is read.
+     * <p>
+     * The stream holds a database cursor and must be closed.
+     * 
+     * @param batchSize the number of results fetched from the database at once
+     * @return the current page of results as a {@link Stream}.
+     * @see #stream()
+     */
+    public <T extends Entity> Stream<T> stream(int batchSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
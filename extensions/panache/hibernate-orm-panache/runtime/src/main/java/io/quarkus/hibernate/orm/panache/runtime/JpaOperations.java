@@ -106,76 +106,6 @@ public class JpaOperations {
         return params != null ? params.size() : 0;
     }
 
-    private static String getEntityName(Class<?> entityClass) {
-        // FIXME: not true?
-        return entityClass.getName();
-    }
-
-    private static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
-        if (query == null)
-            return "FROM " + getEntityName(entityClass);
-
-        String trimmed = query.trim();
-        if (trimmed.isEmpty())
-            return "FROM " + getEntityName(entityClass);
-
-        String trimmedLc = trimmed.toLowerCase();
-        if (trimmedLc.startsWith("from ") || trimmedLc.startsWith("select ")) {
-            return query;
-        }
-        if (trimmedLc.startsWith("order by ")) {
-            return "FROM " + getEntityName(entityClass) + " " + query;
-        }
-        if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
-            query += " = ?1";
-        }
-        return "FROM " + getEntityName(entityClass) + " WHERE " + query;
-    }
-
-    private static String createCountQuery(Class<?> entityClass, String query, int paramCount) {
-        if (query == null)
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
-
-        String trimmed = query.trim();
-        if (trimmed.isEmpty())
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
-
-        String trimmedLc = trimmed.toLowerCase();
-        if (trimmedLc.startsWith("from ")) {
-            return "SELECT COUNT(*) " + query;
-        }
-        if (trimmedLc.startsWith("order by ")) {
-            // ignore it
-            return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
-        }
-        if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
-            query += " = ?1";
-        }
-        return "SELECT COUNT(*) FROM " + getEntityName(entityClass) + " WHERE " + query;
-    }
-
-    private static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
-        if (query == null)
-            return "DELETE FROM " + getEntityName(entityClass);
-
-        String trimmed = query.trim();
-        if (trimmed.isEmpty())
-            return "DELETE FROM " + getEntityName(entityClass);
-
-        String trimmedLc = trimmed.toLowerCase();
-        if (trimmedLc.startsWith("from ")) {
-            return "DELETE " + query;
-        }
-        if (trimmedLc.startsWith("order by ")) {
-            // ignore it
-            return "DELETE FROM " + getEntityName(entityClass);
-        }
-        if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
-            query += " = ?1";
-        }
-        return "DELETE FROM " + getEntityName(entityClass) + " WHERE " + query;
-    }
-
     public static String toOrderBy(Sort sort) {
         StringBuilder sb = new StringBuilder(" ORDER BY ");
         for (int i = 0; i < sort.getColumns().size(); i++) {
@@ -202,12 +132,12 @@ public class JpaOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Object... params) {
-        String findQuery = createFindQuery(entityClass, query, paramCount(params));
+        QueryStrings queryStrings = QueryStrings.get(entityClass, query, paramCount(params));
         EntityManager em = getEntityManager();
         // FIXME: check for duplicate ORDER BY clause?
-        Query jpaQuery = em.createQuery(sort != null ? findQuery + toOrderBy(sort) : findQuery);
+        Query jpaQuery = em.createQuery(sort != null ? queryStrings.find() + toOrderBy(sort) : queryStrings.find());
         bindParameters(jpaQuery, params);
-        return new PanacheQueryImpl(em, jpaQuery, findQuery, params);
+        return new PanacheQueryImpl(em, jpaQuery, queryStrings, sort, params);
     }
 
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Map<String, Object> params) {
@@ -216,12 +146,12 @@ public class JpaOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
-        String findQuery = createFindQuery(entityClass, query, paramCount(params));
+        QueryStrings queryStrings = QueryStrings.get(entityClass, query, paramCount(params));
         EntityManager em = getEntityManager();
         // FIXME: check for duplicate ORDER BY clause?
-        Query jpaQuery = em.createQuery(sort != null ? findQuery + toOrderBy(sort) : findQuery);
+        Query jpaQuery = em.createQuery(sort != null ? queryStrings.find() + toOrderBy(sort) : queryStrings.find());
         bindParameters(jpaQuery, params);
-        return new PanacheQueryImpl(em, jpaQuery, findQuery, params);
+        return new PanacheQueryImpl(em, jpaQuery, queryStrings, sort, params);
     }
 
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Parameters params) {
@@ -282,17 +212,21 @@ public class JpaOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> findAll(Class<?> entityClass) {
-        String query = "FROM " + getEntityName(entityClass);
+        QueryStrings queryStrings = QueryStrings.get(entityClass, null, 0);
         EntityManager em = getEntityManager();
-        return new PanacheQueryImpl(em, em.createQuery(query), query, null);
+        return new PanacheQueryImpl(em, em.createQuery(queryStrings.find()), queryStrings, null, null);
     }
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> findAll(Class<?> entityClass, Sort sort) {
-        String query = "FROM " + getEntityName(entityClass);
-        String sortedQuery = query + toOrderBy(sort);
+        QueryStrings queryStrings = QueryStrings.get(entityClass, null, 0);
+        String sortedQuery = queryStrings.find() + toOrderBy(sort);
         EntityManager em = getEntityManager();
-        return new PanacheQueryImpl(em, em.createQuery(sortedQuery), query, null);
+        return new PanacheQueryImpl(em, em.createQuery(sortedQuery), queryStrings, sort, null);
+    }
+
+    public static PanacheQuery<?> findAllAfter(Class<?> entityClass, Sort sort, Object... lastSortKey) {
+        return findAll(entityClass, sort).after(lastSortKey);
     }
 
     public static List<?> listAll(Class<?> entityClass) {
@@ -312,17 +246,19 @@ public class JpaOperations {
     }
 
     public static long count(Class<?> entityClass) {
-        return (long) getEntityManager().createQuery("SELECT COUNT(*) FROM " + getEntityName(entityClass)).getSingleResult();
+        return (long) getEntityManager().createQuery(QueryStrings.get(entityClass, null, 0).count()).getSingleResult();
     }
 
     public static long count(Class<?> entityClass, String query, Object... params) {
-        return (long) bindParameters(getEntityManager().createQuery(createCountQuery(entityClass, query, paramCount(params))),
-                params).getSingleResult();
+        return (long) bindParameters(
+                getEntityManager().createQuery(QueryStrings.get(entityClass, query, paramCount(params)).count()), params)
+                .getSingleResult();
     }
 
     public static long count(Class<?> entityClass, String query, Map<String, Object> params) {
-        return (long) bindParameters(getEntityManager().createQuery(createCountQuery(entityClass, query, paramCount(params))),
-                params).getSingleResult();
+        return (long) bindParameters(
+                getEntityManager().createQuery(QueryStrings.get(entityClass, query, paramCount(params)).count()), params)
+                .getSingleResult();
     }
 
     public static long count(Class<?> entityClass, String query, Parameters params) {
@@ -346,16 +282,18 @@ public class JpaOperations {
     }
 
     public static long deleteAll(Class<?> entityClass) {
-        return (long) getEntityManager().createQuery("DELETE FROM " + getEntityName(entityClass)).executeUpdate();
+        return (long) getEntityManager().createQuery(QueryStrings.get(entityClass, null, 0).delete()).executeUpdate();
     }
 
     public static long delete(Class<?> entityClass, String query, Object... params) {
-        return bindParameters(getEntityManager().createQuery(createDeleteQuery(entityClass, query, paramCount(params))), params)
+        return bindParameters(
+                getEntityManager().createQuery(QueryStrings.get(entityClass, query, paramCount(params)).delete()), params)
                 .executeUpdate();
     }
 
     public static long delete(Class<?> entityClass, String query, Map<String, Object> params) {
-        return bindParameters(getEntityManager().createQuery(createDeleteQuery(entityClass, query, paramCount(params))), params)
+        return bindParameters(
+                getEntityManager().createQuery(QueryStrings.get(entityClass, query, paramCount(params)).delete()), params)
                 .executeUpdate();
     }
 
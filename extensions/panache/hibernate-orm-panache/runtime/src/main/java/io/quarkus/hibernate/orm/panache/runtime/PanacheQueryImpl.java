@@ -2,19 +2,31 @@ package io.quarkus.hibernate.orm.panache.runtime;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
 
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.jpa.QueryHints;
+
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
+    private static final String KEYSET_PARAMETER_PREFIX = "panacheKeyset";
+
     private Query jpaQuery;
     private Object paramsArrayOrMap;
-    private String query;
+    private QueryStrings queryStrings;
+    private Sort sort;
     private EntityManager em;
 
     /*
@@ -24,10 +36,12 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     private Page page;
     private Long count;
 
-    PanacheQueryImpl(EntityManager em, javax.persistence.Query jpaQuery, String query, Object paramsArrayOrMap) {
+    PanacheQueryImpl(EntityManager em, javax.persistence.Query jpaQuery, QueryStrings queryStrings, Sort sort,
+            Object paramsArrayOrMap) {
         this.em = em;
         this.jpaQuery = jpaQuery;
-        this.query = query;
+        this.queryStrings = queryStrings;
+        this.sort = sort;
         this.paramsArrayOrMap = paramsArrayOrMap;
         page = new Page(0, Integer.MAX_VALUE);
     }
@@ -42,6 +56,74 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return (PanacheQuery<T>) this;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> after(Object... lastSortKey) {
+        if (sort == null || sort.getColumns().isEmpty()) {
+            throw new IllegalStateException("Keyset pagination requires a query created with a sort");
+        }
+        if (queryStrings.keysetPrefix() == null) {
+            throw new UnsupportedOperationException("Keyset pagination is not supported for this query: "
+                    + queryStrings.find());
+        }
+        List<Sort.Column> columns = sort.getColumns();
+        if (lastSortKey == null || lastSortKey.length != columns.size()) {
+            throw new IllegalArgumentException("The last sort key must have one value per sort column: " + columns.size());
+        }
+        // the keyset parameters must use the same strategy as the query parameters as they cannot be mixed
+        boolean named = paramsArrayOrMap instanceof Map;
+        int firstPosition = named ? 0 : (paramsArrayOrMap != null ? ((Object[]) paramsArrayOrMap).length : 0) + 1;
+        Query keysetQuery = em.createQuery(queryStrings.keysetPrefix()
+                + toKeysetPredicate(columns, named, firstPosition) + JpaOperations.toOrderBy(sort));
+        if (named) {
+            JpaOperations.bindParameters(keysetQuery, (Map<String, Object>) paramsArrayOrMap);
+        } else {
+            JpaOperations.bindParameters(keysetQuery, (Object[]) paramsArrayOrMap);
+        }
+        for (int i = 0; i < lastSortKey.length; i++) {
+            if (named) {
+                keysetQuery.setParameter(KEYSET_PARAMETER_PREFIX + i, lastSortKey[i]);
+            } else {
+                keysetQuery.setParameter(firstPosition + i, lastSortKey[i]);
+            }
+        }
+        jpaQuery = keysetQuery;
+        return page(page.first());
+    }
+
+    /**
+     * For the sort columns (a, b) the predicate is {@code (a > ?1) OR (a = ?1 AND b > ?2)}, the comparison operator
+     * being {@code <} for descending columns.
+     */
+    private static String toKeysetPredicate(List<Sort.Column> columns, boolean named, int firstPosition) {
+        StringBuilder predicate = new StringBuilder("(");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                predicate.append(" OR ");
+            }
+            predicate.append('(');
+            for (int j = 0; j <= i; j++) {
+                Sort.Column column = columns.get(j);
+                if (j > 0) {
+                    predicate.append(" AND ");
+                }
+                predicate.append(column.getName());
+                if (j < i) {
+                    predicate.append(" = ");
+                } else {
+                    predicate.append(column.getDirection() == Sort.Direction.Descending ? " < " : " > ");
+                }
+                if (named) {
+                    predicate.append(':').append(KEYSET_PARAMETER_PREFIX).append(j);
+                } else {
+                    predicate.append('?').append(firstPosition + j);
+                }
+            }
+            predicate.append(')');
+        }
+        return predicate.append(')').toString();
+    }
+
     @Override
     public <T extends Entity> PanacheQuery<T> page(int pageIndex, int pageSize) {
         return page(Page.of(pageIndex, pageSize));
@@ -96,17 +178,13 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     @SuppressWarnings("unchecked")
     public long count() {
         if (count == null) {
-            // FIXME: this is crude but good enough for a first version
-            String lcQuery = query.toLowerCase();
-            int orderByIndex = lcQuery.lastIndexOf(" order by ");
-            if (orderByIndex != -1)
-                query = query.substring(0, orderByIndex);
-            Query countQuery = em.createQuery("SELECT COUNT(*) " + query);
+            // the count query is derived from the find query once, see QueryStrings
+            Query jpaCountQuery = em.createQuery(queryStrings.countFind());
             if (paramsArrayOrMap instanceof Map)
-                JpaOperations.bindParameters(countQuery, (Map<String, Object>) paramsArrayOrMap);
+                JpaOperations.bindParameters(jpaCountQuery, (Map<String, Object>) paramsArrayOrMap);
             else
-                JpaOperations.bindParameters(countQuery, (Object[]) paramsArrayOrMap);
-            count = (Long) countQuery.getSingleResult();
+                JpaOperations.bindParameters(jpaCountQuery, (Object[]) paramsArrayOrMap);
+            count = (Long) jpaCountQuery.getSingleResult();
         }
         return count;
     }
@@ -125,6 +203,18 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return jpaQuery.getResultStream();
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Stream<T> stream(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
+        jpaQuery.setMaxResults(page.size);
+        jpaQuery.setHint(QueryHints.HINT_FETCH_SIZE, batchSize);
+        ScrollableResults results = jpaQuery.unwrap(org.hibernate.query.Query.class).scroll(ScrollMode.FORWARD_ONLY);
+        return StreamSupport.stream(new BatchSpliterator<T>(em, results, batchSize), false).onClose(results::close);
+    }
+
     @Override
     public <T extends Entity> T firstResult() {
         List<T> list = list();
@@ -138,4 +228,42 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         jpaQuery.setMaxResults(page.size);
         return (T) jpaQuery.getSingleResult();
     }
+
+    /**
+     * Clears the persistence context every {@code batchSize} results so that the entities of the previous batches can
+     * be garbage collected.
+     */
+    private static class BatchSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final EntityManager em;
+        private final ScrollableResults results;
+        private final int batchSize;
+        private int count;
+
+        BatchSpliterator(EntityManager em, ScrollableResults results, int batchSize) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.em = em;
+            this.results = results;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (count > 0 && count % batchSize == 0) {
+                if (em.isJoinedToTransaction()) {
+                    // the changes made to the previous batch would be lost otherwise
+                    em.flush();
+                }
+                em.clear();
+            }
+            if (!results.next()) {
+                return false;
+            }
+            count++;
+            Object[] row = results.get();
+            action.accept((T) (row.length == 1 ? row[0] : row));
+            return true;
+        }
+    }
 }
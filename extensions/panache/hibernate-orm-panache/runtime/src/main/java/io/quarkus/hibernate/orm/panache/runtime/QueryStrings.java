@@ -0,0 +1,235 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The HQL queries expanded from a Panache query for a given entity.
+ * <p>
+ * The expansion only depends on the entity, the Panache query and whether there is a single parameter, so the expanded
+ * queries are computed once and cached. As the same HQL strings are then passed to the entity manager over and over,
+ * Hibernate also finds their translation in its query plan cache. Each query is only expanded when it is first used,
+ * so that a query which is not cached costs no more than expanding the HQL of the operation.
+ */
+final class QueryStrings {
+
+    /**
+     * Queries built by concatenating the parameter values would fill the cache, so no more queries are cached once this
+     * limit is reached.
+     */
+    private static final int MAX_SIZE = 2048;
+
+    private static final ConcurrentMap<Key, QueryStrings> CACHE = new ConcurrentHashMap<>();
+
+    // marks a keyset prefix which was not computed yet, as null means that keyset pagination is not supported
+    private static final String UNKNOWN = new String();
+
+    private final String entityName;
+    private final String query;
+    private final boolean singleParam;
+
+    // the strings are immutable and computed deterministically, so they may be computed more than once concurrently
+    private String find;
+    private String countFind;
+    private String count;
+    private String delete;
+    private String keysetPrefix = UNKNOWN;
+
+    private QueryStrings(String entityName, String query, boolean singleParam) {
+        this.entityName = entityName;
+        this.query = query;
+        this.singleParam = singleParam;
+    }
+
+    /**
+     * The find query, without any sort.
+     */
+    String find() {
+        String find = this.find;
+        if (find == null) {
+            find = this.find = createFindQuery(entityName, query, singleParam);
+        }
+        return find;
+    }
+
+    /**
+     * The count query for the results of {@link #find()}.
+     */
+    String countFind() {
+        String countFind = this.countFind;
+        if (countFind == null) {
+            countFind = this.countFind = createCountQuery(find());
+        }
+        return countFind;
+    }
+
+    String count() {
+        String count = this.count;
+        if (count == null) {
+            count = this.count = createCountQuery(entityName, query, singleParam);
+        }
+        return count;
+    }
+
+    String delete() {
+        String delete = this.delete;
+        if (delete == null) {
+            delete = this.delete = createDeleteQuery(entityName, query, singleParam);
+        }
+        return delete;
+    }
+
+    /**
+     * The {@link #find()} query followed by a {@code WHERE} or an {@code AND} to which a keyset predicate can be
+     * appended, or {@code null} if the query is too complex for keyset pagination.
+     */
+    String keysetPrefix() {
+        String keysetPrefix = this.keysetPrefix;
+        if (keysetPrefix == UNKNOWN) {
+            keysetPrefix = this.keysetPrefix = createKeysetPrefix(find());
+        }
+        return keysetPrefix;
+    }
+
+    static QueryStrings get(Class<?> entityClass, String query, int paramCount) {
+        // the entity name is used instead of the class so that the cache never holds an application class
+        Key key = new Key(getEntityName(entityClass), query, paramCount == 1);
+        QueryStrings queryStrings = CACHE.get(key);
+        if (queryStrings == null) {
+            queryStrings = new QueryStrings(key.entityName, query, key.singleParam);
+            if (CACHE.size() < MAX_SIZE) {
+                CACHE.putIfAbsent(key, queryStrings);
+            }
+        }
+        return queryStrings;
+    }
+
+    private static String getEntityName(Class<?> entityClass) {
+        // FIXME: not true?
+        return entityClass.getName();
+    }
+
+    private static String createFindQuery(String entityName, String query, boolean singleParam) {
+        if (query == null)
+            return "FROM " + entityName;
+
+        String trimmed = query.trim();
+        if (trimmed.isEmpty())
+            return "FROM " + entityName;
+
+        String trimmedLc = trimmed.toLowerCase();
+        if (trimmedLc.startsWith("from ") || trimmedLc.startsWith("select ")) {
+            return query;
+        }
+        if (trimmedLc.startsWith("order by ")) {
+            return "FROM " + entityName + " " + query;
+        }
+        if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && singleParam) {
+            query += " = ?1";
+        }
+        return "FROM " + entityName + " WHERE " + query;
+    }
+
+    private static String createCountQuery(String findQuery) {
+        // FIXME: this is crude but good enough for a first version
+        int orderByIndex = findQuery.toLowerCase().lastIndexOf(" order by ");
+        if (orderByIndex != -1)
+            findQuery = findQuery.substring(0, orderByIndex);
+        return "SELECT COUNT(*) " + findQuery;
+    }
+
+    private static String createKeysetPrefix(String findQuery) {
+        String lcQuery = findQuery.toLowerCase();
+        if (lcQuery.contains(" order by ") || lcQuery.contains(" group by ") || lcQuery.contains(" having ")) {
+            return null;
+        }
+        int whereIndex = lcQuery.indexOf(" where ");
+        if (whereIndex == -1) {
+            return findQuery + " WHERE ";
+        }
+        if (whereIndex != lcQuery.lastIndexOf(" where ")) {
+            // probably a subquery
+            return null;
+        }
+        // the original condition is enclosed in parentheses so that its operators do not apply to the keyset predicate
+        return findQuery.substring(0, whereIndex) + " WHERE (" + findQuery.substring(whereIndex + 7) + ") AND ";
+    }
+
+    private static String createCountQuery(String entityName, String query, boolean singleParam) {
+        if (query == null)
+            return "SELECT COUNT(*) FROM " + entityName;
+
+        String trimmed = query.trim();
+        if (trimmed.isEmpty())
+            return "SELECT COUNT(*) FROM " + entityName;
+
+        String trimmedLc = trimmed.toLowerCase();
+        if (trimmedLc.startsWith("from ")) {
+            return "SELECT COUNT(*) " + query;
+        }
+        if (trimmedLc.startsWith("order by ")) {
+            // ignore it
+            return "SELECT COUNT(*) FROM " + entityName;
+        }
+        if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && singleParam) {
+            query += " = ?1";
+        }
+        return "SELECT COUNT(*) FROM " + entityName + " WHERE " + query;
+    }
+
+    private static String createDeleteQuery(String entityName, String query, boolean singleParam) {
+        if (query == null)
+            return "DELETE FROM " + entityName;
+
+        String trimmed = query.trim();
+        if (trimmed.isEmpty())
+            return "DELETE FROM " + entityName;
+
+        String trimmedLc = trimmed.toLowerCase();
+        if (trimmedLc.startsWith("from ")) {
+            return "DELETE " + query;
+        }
+        if (trimmedLc.startsWith("order by ")) {
+            // ignore it
+            return "DELETE FROM " + entityName;
+        }
+        if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && singleParam) {
+            query += " = ?1";
+        }
+        return "DELETE FROM " + entityName + " WHERE " + query;
+    }
+
+    private static final class Key {
+
+        final String entityName;
+        final String query;
+        final boolean singleParam;
+        final int hashCode;
+
+        Key(String entityName, String query, boolean singleParam) {
+            this.entityName = entityName;
+            this.query = query;
+            this.singleParam = singleParam;
+            this.hashCode = 31 * (31 * entityName.hashCode() + Objects.hashCode(query)) + Boolean.hashCode(singleParam);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return singleParam == other.singleParam && entityName.equals(other.entityName)
+                    && Objects.equals(query, other.query);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class QueryStringsTest {
+
+    private static final String PERSON = Person.class.getName();
+
+    private static class Person {
+    }
+
+    private static class Dog {
+    }
+
+    @Test
+    public void testEmptyQuery() {
+        for (String query : new String[] { null, "", "  " }) {
+            QueryStrings queryStrings = QueryStrings.get(Person.class, query, 0);
+            assertEquals("FROM " + PERSON, queryStrings.find());
+            assertEquals("SELECT COUNT(*) FROM " + PERSON, queryStrings.countFind());
+            assertEquals("SELECT COUNT(*) FROM " + PERSON, queryStrings.count());
+            assertEquals("DELETE FROM " + PERSON, queryStrings.delete());
+            assertEquals("FROM " + PERSON + " WHERE ", queryStrings.keysetPrefix());
+        }
+    }
+
+    @Test
+    public void testShorthandQuery() {
+        QueryStrings queryStrings = QueryStrings.get(Person.class, "name", 1);
+        assertEquals("FROM " + PERSON + " WHERE name = ?1", queryStrings.find());
+        assertEquals("SELECT COUNT(*) FROM " + PERSON + " WHERE name = ?1", queryStrings.countFind());
+        assertEquals("SELECT COUNT(*) FROM " + PERSON + " WHERE name = ?1", queryStrings.count());
+        assertEquals("DELETE FROM " + PERSON + " WHERE name = ?1", queryStrings.delete());
+        assertEquals("FROM " + PERSON + " WHERE (name = ?1) AND ", queryStrings.keysetPrefix());
+
+        // a single property is only expanded if there is a single parameter
+        queryStrings = QueryStrings.get(Person.class, "name", 2);
+        assertEquals("FROM " + PERSON + " WHERE name", queryStrings.find());
+        assertEquals("DELETE FROM " + PERSON + " WHERE name", queryStrings.delete());
+    }
+
+    @Test
+    public void testWhereQuery() {
+        QueryStrings queryStrings = QueryStrings.get(Person.class, "name = ?1 or age > ?2", 2);
+        assertEquals("FROM " + PERSON + " WHERE name = ?1 or age > ?2", queryStrings.find());
+        assertEquals("SELECT COUNT(*) FROM " + PERSON + " WHERE name = ?1 or age > ?2", queryStrings.count());
+        assertEquals("DELETE FROM " + PERSON + " WHERE name = ?1 or age > ?2", queryStrings.delete());
+        // the condition is enclosed in parentheses so that the keyset predicate applies to all the results
+        assertEquals("FROM " + PERSON + " WHERE (name = ?1 or age > ?2) AND ", queryStrings.keysetPrefix());
+
+        queryStrings = QueryStrings.get(Person.class, "name=?1", 1);
+        assertEquals("FROM " + PERSON + " WHERE name=?1", queryStrings.find());
+    }
+
+    @Test
+    public void testOrderByQuery() {
+        QueryStrings queryStrings = QueryStrings.get(Person.class, "order by name", 0);
+        assertEquals("FROM " + PERSON + " order by name", queryStrings.find());
+        assertEquals("SELECT COUNT(*) FROM " + PERSON, queryStrings.countFind());
+        assertEquals("SELECT COUNT(*) FROM " + PERSON, queryStrings.count());
+        assertEquals("DELETE FROM " + PERSON, queryStrings.delete());
+        assertNull(queryStrings.keysetPrefix());
+    }
+
+    @Test
+    public void testFullQuery() {
+        QueryStrings queryStrings = QueryStrings.get(Person.class, "from Person where name = ?1 order by age", 1);
+        assertEquals("from Person where name = ?1 order by age", queryStrings.find());
+        assertEquals("SELECT COUNT(*) from Person where name = ?1", queryStrings.countFind());
+        assertEquals("SELECT COUNT(*) from Person where name = ?1 order by age", queryStrings.count());
+        assertEquals("DELETE from Person where name = ?1 order by age", queryStrings.delete());
+        assertNull(queryStrings.keysetPrefix());
+
+        queryStrings = QueryStrings.get(Person.class, "select p from Person p", 0);
+        assertEquals("select p from Person p", queryStrings.find());
+        assertEquals("SELECT COUNT(*) select p from Person p", queryStrings.countFind());
+
+        // a subquery is too complex for keyset pagination
+        queryStrings = QueryStrings.get(Person.class,
+                "from Person p where p.age = (select max(o.age) from Person o where o.name = p.name)", 0);
+        assertNull(queryStrings.keysetPrefix());
+    }
+
+    @Test
+    public void testCacheKey() {
+        QueryStrings queryStrings = QueryStrings.get(Person.class, "cached", 1);
+        assertSame(queryStrings, QueryStrings.get(Person.class, "cached", 1));
+        assertSame(queryStrings, QueryStrings.get(Person.class, new String("cached"), 1));
+
+        // the expansion differs for a single parameter
+        QueryStrings multipleParams = QueryStrings.get(Person.class, "cached", 2);
+        assertNotSame(queryStrings, multipleParams);
+        assertEquals("FROM " + PERSON + " WHERE cached", multipleParams.find());
+        // but not for any other number of parameters
+        assertSame(multipleParams, QueryStrings.get(Person.class, "cached", 3));
+        assertSame(multipleParams, QueryStrings.get(Person.class, "cached", 0));
+
+        QueryStrings dog = QueryStrings.get(Dog.class, "cached", 1);
+        assertNotSame(queryStrings, dog);
+        assertEquals("FROM " + Dog.class.getName() + " WHERE cached = ?1", dog.find());
+
+        assertSame(QueryStrings.get(Person.class, null, 0), QueryStrings.get(Person.class, null, 0));
+        assertNotSame(QueryStrings.get(Person.class, null, 0), QueryStrings.get(Person.class, "", 0));
+    }
+}
@@ -1,9 +1,14 @@
 package io.quarkus.mongodb.panache.deployment;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
+import org.bson.codecs.pojo.annotations.BsonProperty;
 import org.bson.types.ObjectId;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.DotName;
@@ -12,6 +17,8 @@ import org.jboss.jandex.Type;
 
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
@@ -25,6 +32,7 @@ import io.quarkus.mongodb.panache.PanacheMongoEntity;
 import io.quarkus.mongodb.panache.PanacheMongoEntityBase;
 import io.quarkus.mongodb.panache.PanacheMongoRepository;
 import io.quarkus.mongodb.panache.PanacheMongoRepositoryBase;
+import io.quarkus.mongodb.panache.runtime.PanacheMongoRecorder;
 import io.quarkus.panache.common.deployment.PanacheFieldAccessEnhancer;
 
 public class PanacheResourceProcessor {
@@ -34,6 +42,7 @@ public class PanacheResourceProcessor {
     private static final DotName DOTNAME_PANACHE_ENTITY = DotName.createSimple(PanacheMongoEntity.class.getName());
 
     private static final DotName DOTNAME_OBJECT_ID = DotName.createSimple(ObjectId.class.getName());
+    private static final DotName DOTNAME_BSON_PROPERTY = DotName.createSimple(BsonProperty.class.getName());
 
     @BuildStep(providesCapabilities = "io.quarkus.mongodb.panache")
     FeatureBuildItem featureBuildItem() {
@@ -119,4 +128,42 @@ public class PanacheResourceProcessor {
             }
         }
     }
+
+    /**
+     * Computes the replacements of the field names by their {@link BsonProperty} names used when binding the PanacheQL
+     * queries, so that they are not looked up by reflection at runtime.
+     */
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void buildReplacementMaps(CombinedIndexBuildItem index, PanacheMongoRecorder recorder) {
+        Map<String, Map<String, String>> replacementMaps = new HashMap<>();
+        for (AnnotationInstance annotation : index.getIndex().getAnnotations(DOTNAME_BSON_PROPERTY)) {
+            AnnotationTarget target = annotation.target();
+            if (annotation.value() == null) {
+                continue;
+            }
+            if (target.kind() == AnnotationTarget.Kind.FIELD) {
+                replacementMaps.computeIfAbsent(target.asField().declaringClass().name().toString(), k -> new HashMap<>())
+                        .put(target.asField().name(), annotation.value().asString());
+            } else if (target.kind() == AnnotationTarget.Kind.METHOD && target.asMethod().name().startsWith("get")) {
+                // we try to replace also for getter
+                replacementMaps.computeIfAbsent(target.asMethod().declaringClass().name().toString(), k -> new HashMap<>())
+                        .put(decapitalize(target.asMethod().name().substring(3)), annotation.value().asString());
+            }
+        }
+        recorder.setReplacementMaps(replacementMaps);
+    }
+
+    /**
+     * Same as {@link java.beans.Introspector#decapitalize(String)}.
+     */
+    private static String decapitalize(String name) {
+        if (name.isEmpty()) {
+            return name;
+        }
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
 }
@@ -0,0 +1,13 @@
+package io.quarkus.mongodb.panache.runtime;
+
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class PanacheMongoRecorder {
+
+    public void setReplacementMaps(Map<String, Map<String, String>> replacementMaps) {
+        PanacheQlQueryBinder.setReplacementMaps(replacementMaps);
+    }
+}
@@ -3,8 +3,14 @@ package io.quarkus.mongodb.panache.runtime;
 import java.beans.Introspector;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
@@ -16,8 +22,35 @@ import io.quarkus.panacheql.internal.HqlParserBaseVisitor;
 
 public class PanacheQlQueryBinder {
 
+    /**
+     * Queries built by concatenating the parameter values would fill the cache, so no more queries are cached once this
+     * limit is reached.
+     */
+    private static final int MAX_QUERY_TEMPLATES = 1024;
+
+    /**
+     * The field replacement maps computed at build time, keyed by class name, or {@code null} if they were not computed,
+     * e.g. in unit tests.
+     */
+    private static volatile Map<String, Map<String, String>> replacementMaps;
+
+    private static final ConcurrentMap<String, Map<String, String>> reflectedReplacementMaps = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<TemplateKey, QueryTemplate> queryTemplates = new ConcurrentHashMap<>();
+
+    /**
+     * Sets the replacement maps computed at build time from the {@link BsonProperty} annotations.
+     *
+     * @param maps the replacement maps of the classes which declare {@link BsonProperty} fields or getters, keyed by
+     *        class name
+     */
+    static void setReplacementMaps(Map<String, Map<String, String>> maps) {
+        replacementMaps = maps;
+        reflectedReplacementMaps.clear();
+        queryTemplates.clear();
+    }
+
     public static String bindQuery(Class<?> clazz, String query, Object[] params) {
-        Map<String, String> replacementMap = extractReplacementMap(clazz);
+        Map<String, String> replacementMap = getReplacementMap(clazz);
 
         //shorthand query
         if (params.length == 1 && query.indexOf('?') == -1) {
@@ -25,33 +58,30 @@ public class PanacheQlQueryBinder {
         }
 
         //classic query
-        Map<String, Object> parameterMaps = new HashMap<>();
-        for (int i = 1; i <= params.length; i++) {
-            String bindParamsKey = "?" + i;
-            parameterMaps.put(bindParamsKey, params[i - 1]);
-        }
-
-        return prepareQuery(query, replacementMap, parameterMaps);
+        return getQueryTemplate(clazz, query, replacementMap).bind(params);
     }
 
     public static String bindQuery(Class<?> clazz, String query, Map<String, Object> params) {
-        Map<String, String> replacementMap = extractReplacementMap(clazz);
-
-        Map<String, Object> parameterMaps = new HashMap<>();
-        for (Map.Entry entry : params.entrySet()) {
-            String bindParamsKey = ":" + entry.getKey();
-            parameterMaps.put(bindParamsKey, entry.getValue());
-        }
-
-        return prepareQuery(query, replacementMap, parameterMaps);
+        return getQueryTemplate(clazz, query, getReplacementMap(clazz)).bind(params);
     }
 
     private static String replaceField(String field, Map<String, String> replacementMap) {
         return replacementMap.getOrDefault(field, field);
     }
 
+    private static Map<String, String> getReplacementMap(Class<?> clazz) {
+        Map<String, Map<String, String>> maps = replacementMaps;
+        if (maps != null) {
+            return maps.getOrDefault(clazz.getName(), Collections.emptyMap());
+        }
+        return reflectedReplacementMaps.computeIfAbsent(clazz.getName(), name -> extractReplacementMap(clazz));
+    }
+
+    /**
+     * Must be kept in sync with {@code io.quarkus.mongodb.panache.deployment.PanacheResourceProcessor}, which computes
+     * the same map from the index at build time.
+     */
     private static Map<String, String> extractReplacementMap(Class<?> clazz) {
-        //TODO cache the replacement map or pre-compute it during build (using reflection or jandex)
         Map<String, String> replacementMap = new HashMap<>();
         for (Field field : clazz.getDeclaredFields()) {
             BsonProperty bsonProperty = field.getAnnotation(BsonProperty.class);
@@ -72,12 +102,122 @@ public class PanacheQlQueryBinder {
         return replacementMap;
     }
 
-    private static String prepareQuery(String query, Map<String, String> replacementMap, Map<String, Object> parameterMaps) {
+    private static QueryTemplate getQueryTemplate(Class<?> clazz, String query, Map<String, String> replacementMap) {
+        TemplateKey key = new TemplateKey(clazz.getName(), query);
+        QueryTemplate template = queryTemplates.get(key);
+        if (template == null) {
+            template = prepareQuery(query, replacementMap);
+            if (queryTemplates.size() < MAX_QUERY_TEMPLATES) {
+                queryTemplates.putIfAbsent(key, template);
+            }
+        }
+        return template;
+    }
+
+    private static QueryTemplate prepareQuery(String query, Map<String, String> replacementMap) {
         HqlLexer lexer = new HqlLexer(CharStreams.fromString(query));
         CommonTokenStream tokens = new CommonTokenStream(lexer);
         HqlParser parser = new HqlParser(tokens);
         HqlParser.PredicateContext predicate = parser.predicate();
-        HqlParserBaseVisitor<String> visitor = new MongoParserVisitor(replacementMap, parameterMaps);
-        return "{" + predicate.accept(visitor) + "}";
+        List<String> parameters = new ArrayList<>();
+        HqlParserBaseVisitor<String> visitor = new MongoParserVisitor(replacementMap, parameters);
+        return new QueryTemplate("{" + predicate.accept(visitor) + "}", parameters);
+    }
+
+    /**
+     * A parsed PanacheQL query, made of the text of the Mongo query split around its parameters.
+     */
+    static final class QueryTemplate {
+
+        private final String[] parts;
+        private final String[] parameters;
+        /**
+         * The zero based index of each parameter if it is an indexed one, {@code -1} otherwise.
+         */
+        private final int[] indexes;
+
+        QueryTemplate(String query, List<String> parameters) {
+            this.parameters = parameters.toArray(new String[0]);
+            this.parts = new String[this.parameters.length + 1];
+            this.indexes = new int[this.parameters.length];
+            int start = 0;
+            for (int i = 0; i < this.parameters.length; i++) {
+                int end = query.indexOf(MongoParserVisitor.PARAMETER_PLACEHOLDER, start);
+                parts[i] = query.substring(start, end);
+                start = end + 1;
+                indexes[i] = indexOf(this.parameters[i]);
+            }
+            parts[this.parameters.length] = query.substring(start);
+        }
+
+        private static int indexOf(String parameter) {
+            if (parameter.length() > 1 && parameter.charAt(0) == '?') {
+                try {
+                    return Integer.parseInt(parameter.substring(1)) - 1;
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        String bind(Object[] params) {
+            StringBuilder sb = new StringBuilder(parts[0]);
+            for (int i = 0; i < parameters.length; i++) {
+                int index = indexes[i];
+                if (index >= 0 && index < params.length) {
+                    sb.append(CommonQueryBinder.escape(params[index]));
+                } else {
+                    // we keep the parameter to avoid an exception but the query will be invalid
+                    sb.append(parameters[i]);
+                }
+                sb.append(parts[i + 1]);
+            }
+            return sb.toString();
+        }
+
+        String bind(Map<String, Object> params) {
+            StringBuilder sb = new StringBuilder(parts[0]);
+            for (int i = 0; i < parameters.length; i++) {
+                String parameter = parameters[i];
+                String name = parameter.substring(1);
+                if (parameter.charAt(0) == ':' && params.containsKey(name)) {
+                    sb.append(CommonQueryBinder.escape(params.get(name)));
+                } else {
+                    // we keep the parameter to avoid an exception but the query will be invalid
+                    sb.append(parameter);
+                }
+                sb.append(parts[i + 1]);
+            }
+            return sb.toString();
+        }
+    }
+
+    private static final class TemplateKey {
+
+        private final String className;
+        private final String query;
+
+        TemplateKey(String className, String query) {
+            this.className = className;
+            this.query = query;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * className.hashCode() + query.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TemplateKey)) {
+                return false;
+            }
+            TemplateKey other = (TemplateKey) obj;
+            return className.equals(other.className) && Objects.equals(query, other.query);
+        }
     }
 }
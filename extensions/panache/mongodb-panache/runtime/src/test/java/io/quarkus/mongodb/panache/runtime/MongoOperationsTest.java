@@ -205,4 +205,21 @@ class MongoOperationsTest {
         assertEquals("{'field':{'$regex':'a value'}}", query);
     }
 
+    @Test
+    public void testBindCachedEnhancedQuery() {
+        // the parsed query is reused, the parameters must be bound again each time
+        for (int i = 0; i < 3; i++) {
+            String query = MongoOperations.bindQuery(DemoObj.class, "property = ?1 and field = ?2",
+                    new Object[] { "value" + i, i });
+            assertEquals("{'value':'value" + i + "','field':" + i + "}", query);
+
+            query = MongoOperations.bindQuery(DemoObj.class, "property = :property or field = :field",
+                    Parameters.with("property", "value" + i).and("field", i).map());
+            assertEquals("{'$or':[{'value':'value" + i + "'},{'field':" + i + "}]}", query);
+        }
+
+        // missing parameters are kept as is
+        String query = MongoOperations.bindQuery(Object.class, "field = ?1 and isOk = ?2", new Object[] { "a value" });
+        assertEquals("{'field':'a value','isOk':?2}", query);
+    }
 }
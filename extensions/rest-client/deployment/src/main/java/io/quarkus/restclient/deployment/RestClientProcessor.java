@@ -33,6 +33,7 @@ import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.client.jaxrs.internal.ResteasyClientImpl;
 import org.jboss.resteasy.client.jaxrs.internal.proxy.ProxyBuilderImpl;
 import org.jboss.resteasy.client.jaxrs.internal.proxy.ResteasyClientProxy;
 import org.jboss.resteasy.core.providerfactory.ResteasyProviderFactoryImpl;
@@ -47,6 +48,7 @@ import io.quarkus.arc.processor.BeanConfigurator;
 import io.quarkus.arc.processor.BeanRegistrar;
 import io.quarkus.arc.processor.BuiltinScope;
 import io.quarkus.arc.processor.ScopeInfo;
+import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -54,6 +56,7 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.SslNativeConfigBuildItem;
 import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.substrate.ReflectiveHierarchyBuildItem;
@@ -68,6 +71,7 @@ import io.quarkus.restclient.runtime.RestClientRecorder;
 import io.quarkus.resteasy.common.deployment.JaxrsProvidersToRegisterBuildItem;
 import io.quarkus.resteasy.common.deployment.ResteasyDotNames;
 import io.quarkus.resteasy.common.deployment.ResteasyInjectionReadyBuildItem;
+import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 
 class RestClientProcessor {
     private static final Logger log = Logger.getLogger(RestClientProcessor.class);
@@ -119,6 +123,10 @@ class RestClientProcessor {
 
         reflectiveClass.produce(new ReflectiveClassBuildItem(true, false,
                 ResteasyClientBuilder.class.getName()));
+
+        // the engine of the clients using the Vert.x engine is set reflectively
+        reflectiveClass.produce(new ReflectiveClassBuildItem(false, true,
+                ResteasyClientImpl.class.getName()));
     }
 
     @BuildStep
@@ -232,6 +240,17 @@ class RestClientProcessor {
         restClientRecorder.setSslEnabled(sslNativeConfig.isEnabled());
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void setupVertxEngines(RestClientRecorder restClientRecorder, CoreVertxBuildItem vertx, Capabilities capabilities,
+            ShutdownContextBuildItem shutdown) {
+        // the engine is selected per client with a runtime property, the Vert.x instance is only created on first use
+        restClientRecorder.initializeVertxEngines(vertx.getVertx(), shutdown);
+        if (capabilities.isCapabilityPresent(Capabilities.METRICS)) {
+            restClientRecorder.registerVertxEngineMetrics(shutdown);
+        }
+    }
+
     private ScopeInfo computeDefaultScope(Config config, Map.Entry<DotName, ClassInfo> entry) {
         DotName restClientName = entry.getKey();
         // Initialize a default @Dependent scope as per the spec
@@ -0,0 +1,54 @@
+package io.quarkus.restclient.vertx;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class UnsupportedEngineTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloClient.class)
+                    .addAsResource("unsupported-engine.properties", "application.properties"));
+
+    @Inject
+    @RestClient
+    Instance<HelloClient> client;
+
+    @Test
+    public void testUnsupportedEngine() {
+        Throwable failure = assertThrows(RuntimeException.class, client::get);
+        while (failure != null && !(failure instanceof IllegalArgumentException)) {
+            failure = failure.getCause();
+        }
+        assertNotNull(failure);
+        assertTrue(failure.getMessage().startsWith("Unsupported engine apache configured by 'hello/mp-rest/engine'"),
+                failure.getMessage());
+    }
+
+    @RegisterRestClient(configKey = "hello")
+    @Path("/hello")
+    public interface HelloClient {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        String hello();
+    }
+}
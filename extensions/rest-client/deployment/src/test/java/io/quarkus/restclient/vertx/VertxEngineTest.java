@@ -0,0 +1,145 @@
+package io.quarkus.restclient.vertx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.inject.Inject;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.microprofile.client.RestClientProxy;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class VertxEngineTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloClient.class, HelloResource.class, SlowClient.class, SlowResource.class)
+                    .addAsResource("vertx-engine.properties", "application.properties"));
+
+    @Inject
+    @RestClient
+    HelloClient client;
+
+    @Inject
+    @RestClient
+    SlowClient slowClient;
+
+    @Test
+    public void testSynchronousCalls() {
+        assertEquals("hello", client.hello());
+        assertEquals("hello vertx", client.echo("vertx"));
+    }
+
+    @Test
+    public void testAsynchronousCall() throws Exception {
+        assertEquals("hello", client.helloAsync().toCompletableFuture().get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testVertxEngineIsUsed() throws Exception {
+        // RestClientBuilderImpl replaces the engine with an URLConnection one if the SSL support is disabled
+        ClientHttpEngine engine = ((ResteasyClient) ((RestClientProxy) client).getClient()).httpEngine();
+        assertEquals("io.quarkus.restclient.runtime.VertxClientHttpEngine", engine.getClass().getName());
+
+        Method getRequests = engine.getClass().getDeclaredMethod("getRequests");
+        getRequests.setAccessible(true);
+        long requests = (long) getRequests.invoke(engine);
+        assertEquals("hello", client.hello());
+        assertEquals(requests + 1, (long) getRequests.invoke(engine));
+    }
+
+    @Test
+    public void testRequestTimeout() {
+        ProcessingException e = assertThrows(ProcessingException.class, slowClient::slow);
+        assertTrue(e.getCause() instanceof TimeoutException, e.toString());
+
+        ExecutionException async = assertThrows(ExecutionException.class,
+                () -> slowClient.slowAsync().toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertTrue(async.getCause().getCause() instanceof TimeoutException, async.toString());
+
+        // the connection was released
+        assertEquals("hello", client.hello());
+    }
+
+    @RegisterRestClient(configKey = "hello")
+    @Path("/hello")
+    public interface HelloClient {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        String hello();
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        CompletionStage<String> helloAsync();
+
+        @POST
+        @Consumes(MediaType.TEXT_PLAIN)
+        @Produces(MediaType.TEXT_PLAIN)
+        String echo(String name);
+    }
+
+    @Path("/hello")
+    public static class HelloResource {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String hello() {
+            return "hello";
+        }
+
+        @POST
+        @Consumes(MediaType.TEXT_PLAIN)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String echo(String name) {
+            return "hello " + name;
+        }
+    }
+
+    @RegisterRestClient(configKey = "slow")
+    @Path("/slow")
+    public interface SlowClient {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        String slow();
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        CompletionStage<String> slowAsync();
+    }
+
+    @Path("/slow")
+    public static class SlowResource {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String slow() throws InterruptedException {
+            Thread.sleep(2000);
+            return "slow";
+        }
+    }
+}
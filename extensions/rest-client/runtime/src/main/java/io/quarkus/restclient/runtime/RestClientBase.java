@@ -8,11 +8,27 @@ import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.rest.client.RestClientBuilder;
 
+import io.vertx.core.http.HttpClientOptions;
+
 public class RestClientBase {
 
     public static final String MP_REST = "mp-rest";
     public static final String REST_URL_FORMAT = "%s/" + MP_REST + "/url";
     public static final String REST_URI_FORMAT = "%s/" + MP_REST + "/uri";
+    public static final String REST_ENGINE_FORMAT = "%s/" + MP_REST + "/engine";
+    public static final String REST_MAX_POOL_SIZE_FORMAT = "%s/" + MP_REST + "/max-pool-size";
+    public static final String REST_KEEP_ALIVE_FORMAT = "%s/" + MP_REST + "/keep-alive";
+    public static final String REST_HTTP2_FORMAT = "%s/" + MP_REST + "/http2";
+    public static final String REST_REQUEST_TIMEOUT_FORMAT = "%s/" + MP_REST + "/request-timeout";
+
+    /**
+     * The value of the engine property selecting the non-blocking Vert.x engine, the default RESTEasy engine is used
+     * otherwise.
+     */
+    public static final String VERTX_ENGINE = "vertx";
+
+    // in milliseconds
+    private static final long DEFAULT_REQUEST_TIMEOUT = 30_000;
 
     private final Class<?> proxyType;
     private final String baseUriFromAnnotation;
@@ -29,9 +45,15 @@ public class RestClientBase {
 
     public Object create() {
         RestClientBuilder builder = RestClientBuilder.newBuilder();
-        String baseUrl = getBaseUrl();
+        String prefix = getPropertyPrefix();
+        String baseUrl = getBaseUrl(prefix);
+        VertxClientHttpEngine engine = configureEngine(builder, prefix);
         try {
-            return builder.baseUrl(new URL(baseUrl)).build(proxyType);
+            Object proxy = builder.baseUrl(new URL(baseUrl)).build(proxyType);
+            if (engine != null) {
+                VertxClientHttpEngines.install(proxy, engine);
+            }
+            return proxy;
         } catch (MalformedURLException e) {
             throw new IllegalArgumentException("The value of URL was invalid " + baseUrl, e);
         } catch (Exception e) {
@@ -43,11 +65,38 @@ public class RestClientBase {
         }
     }
 
-    private String getBaseUrl() {
-        String prefix = proxyType.getName();
+    private String getPropertyPrefix() {
         if (propertyPrefixFromAnnotation != null && !propertyPrefixFromAnnotation.isEmpty()) {
-            prefix = propertyPrefixFromAnnotation;
+            return propertyPrefixFromAnnotation;
+        }
+        return proxyType.getName();
+    }
+
+    private VertxClientHttpEngine configureEngine(RestClientBuilder builder, String prefix) {
+        Optional<String> engine = config.getOptionalValue(String.format(REST_ENGINE_FORMAT, prefix), String.class);
+        if (!engine.isPresent()) {
+            return null;
+        }
+        if (!VERTX_ENGINE.equals(engine.get())) {
+            throw new IllegalArgumentException(String.format("Unsupported engine %s configured by '%s'", engine.get(),
+                    String.format(REST_ENGINE_FORMAT, prefix)));
         }
+        int maxPoolSize = config.getOptionalValue(String.format(REST_MAX_POOL_SIZE_FORMAT, prefix), Integer.class)
+                .orElse(HttpClientOptions.DEFAULT_MAX_POOL_SIZE);
+        boolean keepAlive = config.getOptionalValue(String.format(REST_KEEP_ALIVE_FORMAT, prefix), Boolean.class)
+                .orElse(HttpClientOptions.DEFAULT_KEEP_ALIVE);
+        boolean http2 = config.getOptionalValue(String.format(REST_HTTP2_FORMAT, prefix), Boolean.class)
+                .orElse(false);
+        long requestTimeout = config.getOptionalValue(String.format(REST_REQUEST_TIMEOUT_FORMAT, prefix), Long.class)
+                .orElse(DEFAULT_REQUEST_TIMEOUT);
+        // the engines are shared by the clients with the same configuration key, so that they share a connection pool
+        VertxClientHttpEngine vertxEngine = VertxClientHttpEngines.get(prefix, maxPoolSize, keepAlive, http2,
+                requestTimeout);
+        builder.property("resteasy.httpEngine", vertxEngine);
+        return vertxEngine;
+    }
+
+    private String getBaseUrl(String prefix) {
         String propertyName = String.format(REST_URI_FORMAT, prefix);
         Optional<String> propertyOptional = config.getOptionalValue(propertyName, String.class);
         if (!propertyOptional.isPresent()) {
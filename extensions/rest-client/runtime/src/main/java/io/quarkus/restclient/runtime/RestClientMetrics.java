@@ -0,0 +1,57 @@
+package io.quarkus.restclient.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Exposes the connection pool statistics of the Vert.x client engines as vendor metrics. This class must only be loaded
+ * if the smallrye-metrics extension is present.
+ */
+class RestClientMetrics {
+
+    private final MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+    private final List<MetricID> registered = new ArrayList<>();
+
+    synchronized void register(VertxClientHttpEngine engine) {
+        Tag tag = new Tag("client", engine.getName());
+        gauge("rest-client.connections.open", "The number of open connections", tag, engine,
+                VertxClientHttpEngine::getOpenConnections);
+        gauge("rest-client.requests.active", "The number of requests waiting for a connection or a response", tag,
+                engine, VertxClientHttpEngine::getActiveRequests);
+        gauge("rest-client.requests.total", "The number of requests sent", tag, engine,
+                VertxClientHttpEngine::getRequests);
+        gauge("rest-client.requests.failed", "The number of requests that failed without a response", tag, engine,
+                VertxClientHttpEngine::getFailedRequests);
+    }
+
+    synchronized void unregister() {
+        for (MetricID id : registered) {
+            registry.remove(id);
+        }
+        registered.clear();
+    }
+
+    private void gauge(String name, String description, Tag tag, VertxClientHttpEngine engine,
+            ToLongFunction<VertxClientHttpEngine> value) {
+        Metadata metadata = Metadata.builder()
+                .withName(name)
+                .withDisplayName(name)
+                .withType(MetricType.GAUGE)
+                .withUnit(MetricUnits.NONE)
+                .withDescription(description)
+                .build();
+        registry.register(metadata, (Gauge<Long>) () -> value.applyAsLong(engine), tag);
+        registered.add(new MetricID(name, tag));
+    }
+}
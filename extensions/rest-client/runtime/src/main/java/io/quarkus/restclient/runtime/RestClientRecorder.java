@@ -1,6 +1,7 @@
 package io.quarkus.restclient.runtime;
 
 import java.util.Set;
+import java.util.function.Supplier;
 
 import javax.ws.rs.RuntimeType;
 
@@ -14,7 +15,9 @@ import org.jboss.resteasy.spi.InjectorFactory;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
 
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.core.Vertx;
 
 @Recorder
 public class RestClientRecorder {
@@ -57,6 +60,17 @@ public class RestClientRecorder {
         RestClientBuilderImpl.setProviderFactory(clientProviderFactory);
     }
 
+    public void initializeVertxEngines(Supplier<Vertx> vertx, ShutdownContext shutdownContext) {
+        VertxClientHttpEngines.initialize(vertx);
+        shutdownContext.addShutdownTask(VertxClientHttpEngines::shutdown);
+    }
+
+    public void registerVertxEngineMetrics(ShutdownContext shutdownContext) {
+        RestClientMetrics metrics = new RestClientMetrics();
+        VertxClientHttpEngines.setMetrics(metrics);
+        shutdownContext.addShutdownTask(metrics::unregister);
+    }
+
     private static void registerProviders(ResteasyProviderFactory clientProviderFactory, Set<String> providersToRegister) {
         for (String providerToRegister : providersToRegister) {
             try {
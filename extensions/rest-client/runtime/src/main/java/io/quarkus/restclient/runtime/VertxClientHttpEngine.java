@@ -0,0 +1,318 @@
+package io.quarkus.restclient.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.jboss.resteasy.client.jaxrs.engines.AsyncClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.internal.ClientConfiguration;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
+import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
+import org.jboss.resteasy.util.CaseInsensitiveMap;
+
+import io.quarkus.runtime.ExecutorRecorder;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+
+/**
+ * A RESTEasy client engine sending the requests with a Vert.x {@link HttpClient}, on the event loops of the Quarkus
+ * Vert.x instance.
+ * <p>
+ * The request and the response bodies are buffered. The asynchronous invocations, e.g. the methods returning a
+ * {@link java.util.concurrent.CompletionStage}, do not block any thread while waiting for the response, the entity is
+ * then read on a worker thread and never on the event loop. The engine is shared by all the clients using the same
+ * configuration key, so closing a client does not close it, it is closed on shutdown.
+ */
+final class VertxClientHttpEngine implements AsyncClientHttpEngine {
+
+    private final Vertx vertx;
+    private final String name;
+    // in milliseconds, 0 if the requests never time out
+    private final long requestTimeout;
+    private final HttpClient httpClient;
+
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failedRequests = new AtomicLong();
+
+    VertxClientHttpEngine(Vertx vertx, String name, int maxPoolSize, boolean keepAlive, boolean http2,
+            long requestTimeout) {
+        this.vertx = vertx;
+        this.name = name;
+        this.requestTimeout = requestTimeout;
+        HttpClientOptions options = new HttpClientOptions()
+                .setMaxPoolSize(maxPoolSize)
+                .setKeepAlive(keepAlive);
+        if (http2) {
+            options.setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true)
+                    .setHttp2MaxPoolSize(maxPoolSize);
+        }
+        this.httpClient = vertx.createHttpClient(options);
+        httpClient.connectionHandler(connection -> {
+            openConnections.incrementAndGet();
+            connection.closeHandler(v -> openConnections.decrementAndGet());
+        });
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     *
+     * @return the number of connections currently open
+     */
+    int getOpenConnections() {
+        return openConnections.get();
+    }
+
+    /**
+     *
+     * @return the number of requests sent or waiting for a connection, and not completed yet
+     */
+    int getActiveRequests() {
+        return activeRequests.get();
+    }
+
+    long getRequests() {
+        return requests.get();
+    }
+
+    long getFailedRequests() {
+        return failedRequests.get();
+    }
+
+    @Override
+    public SSLContext getSslContext() {
+        return null;
+    }
+
+    @Override
+    public HostnameVerifier getHostnameVerifier() {
+        return null;
+    }
+
+    @Override
+    public Response invoke(Invocation invocation) {
+        if (Context.isOnEventLoopThread()) {
+            // the response would be handled by the blocked event loop
+            throw new IllegalStateException("A synchronous REST client call must not be made on an event loop thread");
+        }
+        CompletableFuture<ClientResponse> response = send((ClientInvocation) invocation);
+        try {
+            if (requestTimeout > 0) {
+                // the request is failed by a timer when it times out, this is only a safety net
+                return response.get(requestTimeout, TimeUnit.MILLISECONDS);
+            }
+            return response.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ProcessingException interrupted = new ProcessingException(e);
+            response.completeExceptionally(interrupted);
+            throw interrupted;
+        } catch (ExecutionException e) {
+            throw toProcessingException(e.getCause());
+        } catch (TimeoutException e) {
+            ProcessingException timeout = timeout((ClientInvocation) invocation);
+            response.completeExceptionally(timeout);
+            throw timeout;
+        }
+    }
+
+    @Override
+    public <T> Future<T> submit(ClientInvocation request, boolean buffered, InvocationCallback<T> callback,
+            ResultExtractor<T> extractor) {
+        CompletableFuture<T> result = submit(request, buffered, extractor, null);
+        if (callback != null) {
+            result.whenComplete((value, failure) -> {
+                if (failure != null) {
+                    callback.failed(unwrap(failure));
+                } else {
+                    callback.completed(value);
+                }
+            });
+        }
+        return result;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(ClientInvocation request, boolean buffered, ResultExtractor<T> extractor,
+            ExecutorService executorService) {
+        // the response is always buffered, but reading the entity may block so it is never done on the event loop
+        return send(request).thenApplyAsync(extractor::extractResult,
+                executorService != null ? executorService : extractorExecutor());
+    }
+
+    private static Executor extractorExecutor() {
+        Executor executor = ExecutorRecorder.getCurrent();
+        return executor != null ? executor : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Does not close the underlying HTTP client as it is shared, see {@link #shutdown()}.
+     */
+    @Override
+    public void close() {
+    }
+
+    void shutdown() {
+        httpClient.close();
+    }
+
+    private CompletableFuture<ClientResponse> send(ClientInvocation invocation) {
+        CompletableFuture<ClientResponse> result = new CompletableFuture<>();
+        Buffer body;
+        try {
+            body = requestBody(invocation);
+        } catch (IOException | RuntimeException e) {
+            result.completeExceptionally(toProcessingException(e));
+            return result;
+        }
+
+        requests.incrementAndGet();
+        activeRequests.incrementAndGet();
+        result.whenComplete((response, failure) -> {
+            activeRequests.decrementAndGet();
+            if (failure != null) {
+                failedRequests.incrementAndGet();
+            }
+        });
+
+        HttpClientRequest request = createRequest(invocation.getMethod(), invocation.getUri().toString());
+        // the headers are copied once the body was written, as the writers may modify them
+        for (Map.Entry<String, List<String>> header : invocation.getHeaders().asMap().entrySet()) {
+            request.headers().add(header.getKey(), header.getValue());
+        }
+        if (requestTimeout > 0) {
+            long timer = vertx.setTimer(requestTimeout, id -> result.completeExceptionally(timeout(invocation)));
+            result.whenComplete((response, failure) -> vertx.cancelTimer(timer));
+        }
+        result.whenComplete((response, failure) -> {
+            if (failure != null) {
+                // frees the connection if the request was failed before the response was read, e.g. on timeout
+                request.reset();
+            }
+        });
+        request.exceptionHandler(failure -> result.completeExceptionally(toProcessingException(failure)));
+        request.handler(response -> {
+            response.exceptionHandler(failure -> result.completeExceptionally(toProcessingException(failure)));
+            response.bodyHandler(buffer -> result.complete(toClientResponse(invocation, response, buffer)));
+        });
+        if (body != null) {
+            request.end(body);
+        } else {
+            request.end();
+        }
+        return result;
+    }
+
+    private HttpClientRequest createRequest(String method, String uri) {
+        HttpMethod httpMethod;
+        try {
+            httpMethod = HttpMethod.valueOf(method);
+        } catch (IllegalArgumentException e) {
+            return httpClient.requestAbs(HttpMethod.OTHER, uri).setRawMethod(method);
+        }
+        return httpClient.requestAbs(httpMethod, uri);
+    }
+
+    private static Buffer requestBody(ClientInvocation invocation) throws IOException {
+        if (invocation.getEntity() == null) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        invocation.writeRequestBody(out);
+        return Buffer.buffer(out.toByteArray());
+    }
+
+    private static ClientResponse toClientResponse(ClientInvocation invocation, HttpClientResponse response,
+            Buffer body) {
+        BufferedClientResponse clientResponse = new BufferedClientResponse(invocation.getClientConfiguration(),
+                body.getBytes());
+        clientResponse.setStatus(response.statusCode());
+        MultivaluedMap<String, String> headers = new CaseInsensitiveMap<>();
+        for (String headerName : response.headers().names()) {
+            headers.put(headerName, response.headers().getAll(headerName));
+        }
+        clientResponse.setHeaders(headers);
+        return clientResponse;
+    }
+
+    private ProcessingException timeout(ClientInvocation invocation) {
+        return new ProcessingException(new TimeoutException(String.format("The %s request to %s timed out after %d ms",
+                invocation.getMethod(), invocation.getUri(), requestTimeout)));
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    private static ProcessingException toProcessingException(Throwable failure) {
+        return failure instanceof ProcessingException ? (ProcessingException) failure : new ProcessingException(failure);
+    }
+
+    private static final class BufferedClientResponse extends ClientResponse {
+
+        private InputStream stream;
+
+        BufferedClientResponse(ClientConfiguration configuration, byte[] body) {
+            super(configuration, RESTEasyTracingLogger.empty());
+            this.stream = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        protected InputStream getInputStream() {
+            return stream;
+        }
+
+        @Override
+        protected void setInputStream(InputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public void releaseConnection() throws IOException {
+            releaseConnection(false);
+        }
+
+        @Override
+        public void releaseConnection(boolean consumeInputStream) throws IOException {
+            // the connection was returned to the pool once the body was read
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.quarkus.restclient.runtime;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.internal.ResteasyClientImpl;
+import org.jboss.resteasy.microprofile.client.RestClientProxy;
+
+import io.vertx.core.Vertx;
+
+/**
+ * The Vert.x client engines, one per REST client configuration key.
+ */
+final class VertxClientHttpEngines {
+
+    private static final Map<String, VertxClientHttpEngine> ENGINES = new ConcurrentHashMap<>();
+
+    private static volatile Supplier<Vertx> vertx;
+    // only set if the smallrye-metrics extension is present
+    private static volatile RestClientMetrics metrics;
+
+    private VertxClientHttpEngines() {
+    }
+
+    static void initialize(Supplier<Vertx> vertx) {
+        VertxClientHttpEngines.vertx = vertx;
+    }
+
+    static void setMetrics(RestClientMetrics metrics) {
+        VertxClientHttpEngines.metrics = metrics;
+    }
+
+    static VertxClientHttpEngine get(String name, int maxPoolSize, boolean keepAlive, boolean http2,
+            long requestTimeout) {
+        return ENGINES.computeIfAbsent(name, n -> {
+            Supplier<Vertx> vertx = VertxClientHttpEngines.vertx;
+            if (vertx == null) {
+                throw new IllegalStateException("The Vert.x engine of the REST client " + n + " is not available");
+            }
+            VertxClientHttpEngine engine = new VertxClientHttpEngine(vertx.get(), n, maxPoolSize, keepAlive, http2,
+                    requestTimeout);
+            RestClientMetrics metrics = VertxClientHttpEngines.metrics;
+            if (metrics != null) {
+                metrics.register(engine);
+            }
+            return engine;
+        });
+    }
+
+    /**
+     * {@code RestClientBuilderImpl} replaces the engine of the client with an {@code URLConnection} based one if the
+     * SSL support is disabled, so the engine is set again once the client proxy is built.
+     */
+    static void install(Object proxy, VertxClientHttpEngine engine) {
+        ResteasyClientImpl client = (ResteasyClientImpl) ((RestClientProxy) proxy).getClient();
+        ClientHttpEngine replaced = client.httpEngine();
+        if (replaced == engine) {
+            return;
+        }
+        try {
+            Field httpEngine = ResteasyClientImpl.class.getDeclaredField("httpEngine");
+            httpEngine.setAccessible(true);
+            httpEngine.set(client, engine);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException("Unable to set the Vert.x engine of the REST client " + engine.getName(), e);
+        }
+        replaced.close();
+    }
+
+    static void shutdown() {
+        for (VertxClientHttpEngine engine : ENGINES.values()) {
+            engine.shutdown();
+        }
+        ENGINES.clear();
+        vertx = null;
+        metrics = null;
+    }
+}
@@ -0,0 +1,35 @@
+package io.quarkus.resteasy.server.common.deployment;
+
+import java.util.Set;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * A build item that holds the resource methods that can be invoked directly on the I/O thread.
+ * <p>
+ * Each method is represented by a key built by {@link #methodKey(String, String, String[])}.
+ */
+public final class ResteasyNonBlockingMethodsBuildItem extends SimpleBuildItem {
+
+    private final Set<String> methods;
+
+    public ResteasyNonBlockingMethodsBuildItem(Set<String> methods) {
+        this.methods = methods;
+    }
+
+    public Set<String> getMethods() {
+        return methods;
+    }
+
+    /**
+     * The key format must be kept in sync with {@code io.quarkus.resteasy.runtime.standalone.NonBlockingResourceMethods}.
+     *
+     * @param declaringClass the binary name of the declaring class
+     * @param name the method name
+     * @param parameterTypes the binary names of the parameter types
+     * @return the method key
+     */
+    public static String methodKey(String declaringClass, String name, String[] parameterTypes) {
+        return declaringClass + "#" + name + "(" + String.join(",", parameterTypes) + ")";
+    }
+}
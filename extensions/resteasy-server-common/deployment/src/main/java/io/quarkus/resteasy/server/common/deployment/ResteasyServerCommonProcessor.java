@@ -81,6 +81,8 @@ public class ResteasyServerCommonProcessor {
 
     private static final DotName JSONB_ANNOTATION = DotName.createSimple("javax.json.bind.annotation.JsonbAnnotation");
 
+    private static final DotName NON_BLOCKING = DotName.createSimple("io.quarkus.resteasy.runtime.NonBlocking");
+
     private static final DotName[] METHOD_ANNOTATIONS = {
             ResteasyDotNames.GET,
             ResteasyDotNames.HEAD,
@@ -399,6 +401,39 @@ public class ResteasyServerCommonProcessor {
                         BuiltinScope.SINGLETON.getName()));
     }
 
+    @BuildStep
+    ResteasyNonBlockingMethodsBuildItem nonBlockingMethods(CombinedIndexBuildItem combinedIndexBuildItem) {
+        // classify the resource methods that never block and can therefore be invoked on the I/O thread
+        Set<String> nonBlockingMethods = new HashSet<>();
+        for (AnnotationInstance annotation : combinedIndexBuildItem.getIndex().getAnnotations(NON_BLOCKING)) {
+            if (annotation.target().kind() == AnnotationTarget.Kind.METHOD) {
+                nonBlockingMethods.add(methodKey(annotation.target().asMethod()));
+            } else if (annotation.target().kind() == AnnotationTarget.Kind.CLASS) {
+                // methods that are not resource methods are never matched at runtime
+                for (MethodInfo method : annotation.target().asClass().methods()) {
+                    if (!Modifier.isStatic(method.flags()) && !method.name().equals("<init>")
+                            && !method.name().equals("<clinit>")) {
+                        nonBlockingMethods.add(methodKey(method));
+                    }
+                }
+            }
+        }
+        if (!nonBlockingMethods.isEmpty()) {
+            log.debugf("Resource methods invoked on the I/O thread: %s", nonBlockingMethods);
+        }
+        return new ResteasyNonBlockingMethodsBuildItem(nonBlockingMethods);
+    }
+
+    private static String methodKey(MethodInfo method) {
+        List<Type> parameters = method.parameters();
+        String[] parameterTypes = new String[parameters.size()];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypes[i] = parameters.get(i).name().toString();
+        }
+        return ResteasyNonBlockingMethodsBuildItem.methodKey(method.declaringClass().name().toString(), method.name(),
+                parameterTypes);
+    }
+
     private boolean hasAutoInjectAnnotation(Set<DotName> autoInjectAnnotationNames, ClassInfo clazz) {
         for (DotName name : autoInjectAnnotationNames) {
             List<AnnotationInstance> instances = clazz.annotations().get(name);
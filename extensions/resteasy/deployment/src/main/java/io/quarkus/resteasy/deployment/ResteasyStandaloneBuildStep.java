@@ -26,13 +26,16 @@ import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.resteasy.common.deployment.ResteasyInjectionReadyBuildItem;
+import io.quarkus.resteasy.runtime.ResteasyVertxConfig;
 import io.quarkus.resteasy.runtime.standalone.ResteasyStandaloneRecorder;
 import io.quarkus.resteasy.server.common.deployment.ResteasyDeploymentBuildItem;
+import io.quarkus.resteasy.server.common.deployment.ResteasyNonBlockingMethodsBuildItem;
 import io.quarkus.vertx.core.deployment.InternalWebVertxBuildItem;
 import io.quarkus.vertx.http.deployment.DefaultRouteBuildItem;
 import io.quarkus.vertx.http.deployment.RequireVirtualHttpBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
 import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.HttpConfiguration;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
@@ -61,6 +64,7 @@ public class ResteasyStandaloneBuildStep {
     public void staticInit(ResteasyStandaloneRecorder recorder,
             Capabilities capabilities,
             ResteasyDeploymentBuildItem deployment,
+            ResteasyNonBlockingMethodsBuildItem nonBlockingMethods,
             ApplicationArchivesBuildItem applicationArchivesBuildItem,
             ResteasyInjectionReadyBuildItem resteasyInjectionReady,
             HttpBuildTimeConfig httpConfig,
@@ -88,10 +92,10 @@ public class ResteasyStandaloneBuildStep {
                 }
                 rootPath += deploymentRootPath;
             }
-            recorder.staticInit(deployment.getDeployment(), rootPath, knownPaths);
+            recorder.staticInit(deployment.getDeployment(), rootPath, knownPaths, nonBlockingMethods.getMethods());
 
         } else if (!knownPaths.isEmpty()) {
-            recorder.staticInit(null, rootPath, knownPaths);
+            recorder.staticInit(null, rootPath, knownPaths, new HashSet<>());
         }
 
         if (deployment != null || !knownPaths.isEmpty()) {
@@ -199,18 +203,24 @@ public class ResteasyStandaloneBuildStep {
             BeanContainerBuildItem beanContainer,
             ResteasyStandaloneBuildItem standalone,
             Optional<RequireVirtualHttpBuildItem> requireVirtual,
-            HttpBuildTimeConfig httpConfig) throws Exception {
+            HttpBuildTimeConfig httpConfig,
+            HttpConfiguration httpConfiguration,
+            ResteasyVertxConfig resteasyVertxConfig) throws Exception {
 
         if (standalone == null) {
             return;
         }
         feature.produce(new FeatureBuildItem(FeatureBuildItem.RESTEASY));
 
+        boolean isVirtual = requireVirtual.isPresent();
+        recorder.configureOutputBuffers(resteasyVertxConfig, isVirtual, shutdown);
+
         boolean isDefaultOrNullDeploymentPath = standalone.deploymentRootPath == null
                 || standalone.deploymentRootPath.equals("/");
         if (!isDefaultOrNullDeploymentPath) {
             // We need to register a special handler for non-default deployment path (specified as application path or resteasyConfig.path)
-            Handler<RoutingContext> handler = recorder.vertxRequestHandler(vertx.getVertx(), beanContainer.getValue());
+            Handler<RoutingContext> handler = recorder.vertxRequestHandler(vertx.getVertx(), beanContainer.getValue(),
+                    httpConfiguration);
             // Exact match for resources matched to the root path
             routes.produce(new RouteBuildItem(standalone.deploymentRootPath, handler));
             String matchPath = standalone.deploymentRootPath;
@@ -223,11 +233,11 @@ public class ResteasyStandaloneBuildStep {
             routes.produce(new RouteBuildItem(matchPath, handler));
         }
 
-        boolean isVirtual = requireVirtual.isPresent();
         Consumer<Route> ut = recorder.start(vertx.getVertx(),
                 shutdown,
                 beanContainer.getValue(),
-                isVirtual, isDefaultOrNullDeploymentPath);
+                isDefaultOrNullDeploymentPath,
+                httpConfiguration);
 
         defaultRoutes.produce(new DefaultRouteBuildItem(ut));
     }
@@ -0,0 +1,135 @@
+package io.quarkus.resteasy.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.resteasy.runtime.NonBlocking;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.restassured.RestAssured;
+import io.vertx.core.Context;
+
+public class NonBlockingResourceTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(NonBlockingResource.class, NonBlockingClassResource.class)
+                    .addAsResource(new StringAsset("quarkus.http.limits.max-body-size=100"), "application.properties"));
+
+    @TestHTTPResource
+    URL url;
+
+    @Test
+    public void testNonBlockingMethods() {
+        RestAssured.when().get("/non-blocking/io").then().body(Matchers.is("true"));
+        RestAssured.when().get("/non-blocking/async").then().body(Matchers.is("true"));
+        RestAssured.when().get("/non-blocking/worker").then().body(Matchers.is("false"));
+        RestAssured.given().body("hello").post("/non-blocking/echo").then().body(Matchers.is("hello:true"));
+    }
+
+    @Test
+    public void testBodyLimit() throws IOException {
+        String body = body(100);
+        RestAssured.given().body(body).post("/non-blocking/echo").then().body(Matchers.is(body + ":true"));
+        RestAssured.given().body(body(101)).post("/non-blocking/echo").then().statusCode(413);
+
+        // without a content length
+        HttpURLConnection connection = (HttpURLConnection) new URL(url, "/non-blocking/echo").openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setChunkedStreamingMode(10);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body(1000).getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(413, connection.getResponseCode());
+    }
+
+    private static String body(int length) {
+        char[] body = new char[length];
+        Arrays.fill(body, 'a');
+        return new String(body);
+    }
+
+    @Test
+    public void testMatchedRequestIsDispatched() {
+        RestAssured.when().get("/non-blocking/io/hello").then().body(Matchers.is("hello:true"));
+        RestAssured.when().get("/non-blocking/unknown").then().statusCode(404);
+    }
+
+    @Test
+    public void testNonBlockingClass() {
+        RestAssured.when().get("/non-blocking-class").then().body(Matchers.is("true"));
+    }
+
+    @Path("non-blocking")
+    public static class NonBlockingResource {
+
+        @NonBlocking
+        @GET
+        @Path("io")
+        public String io() {
+            return "" + Context.isOnEventLoopThread();
+        }
+
+        @NonBlocking
+        @GET
+        @Path("io/{name}")
+        public String name(@PathParam("name") String name) {
+            return name + ":" + Context.isOnEventLoopThread();
+        }
+
+        @NonBlocking
+        @GET
+        @Path("async")
+        public CompletionStage<String> async() {
+            return CompletableFuture.completedFuture("" + Context.isOnEventLoopThread());
+        }
+
+        @GET
+        @Path("worker")
+        public String worker() {
+            return "" + Context.isOnEventLoopThread();
+        }
+
+        @NonBlocking
+        @POST
+        @Path("echo")
+        public String echo(String body) {
+            return body + ":" + Context.isOnEventLoopThread();
+        }
+
+    }
+
+    @NonBlocking
+    @Path("non-blocking-class")
+    public static class NonBlockingClassResource {
+
+        @GET
+        public String get() {
+            return "" + Context.isOnEventLoopThread();
+        }
+
+    }
+
+}
@@ -0,0 +1,55 @@
+package io.quarkus.resteasy.test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class OutputBufferConfigTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(SizedResource.class)
+                    .addAsResource(new StringAsset("quarkus.resteasy.output-buffer-size=1K\n"
+                            + "quarkus.resteasy.direct-output-buffers=false\n"
+                            + "quarkus.resteasy.adaptive-output-buffer=true\n"
+                            + "quarkus.resteasy.output-buffer-statistics=true"), "application.properties"));
+
+    @Test
+    public void testResponseSizes() {
+        for (int i = 0; i < 10; i++) {
+            RestAssured.given().queryParam("size", 10).get("/sized").then().body(Matchers.is(repeat(10)));
+            RestAssured.given().queryParam("size", 5000).get("/sized").then().body(Matchers.is(repeat(5000)));
+            RestAssured.given().queryParam("size", 0).get("/sized").then().statusCode(204);
+        }
+    }
+
+    static String repeat(int size) {
+        StringBuilder builder = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        return builder.toString();
+    }
+
+    @Path("sized")
+    public static class SizedResource {
+
+        @GET
+        public String get(@QueryParam("size") int size) {
+            return size == 0 ? null : repeat(size);
+        }
+
+    }
+
+}
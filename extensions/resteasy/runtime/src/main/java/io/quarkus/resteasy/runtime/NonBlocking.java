@@ -0,0 +1,23 @@
+package io.quarkus.resteasy.runtime;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a JAX-RS resource method (or all the resource methods of a resource class) as non-blocking.
+ * <p>
+ * Non-blocking resource methods are invoked directly on the Vert.x I/O thread instead of being dispatched to a worker
+ * thread. The request body, if any, is fully buffered before the method is invoked and the response is written
+ * without waiting for the connection to become writable.
+ * <p>
+ * The annotated methods must never block, i.e. they should either compute their result without any I/O or return a
+ * {@link java.util.concurrent.CompletionStage} that is completed asynchronously.
+ */
+@Target({ TYPE, METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NonBlocking {
+}
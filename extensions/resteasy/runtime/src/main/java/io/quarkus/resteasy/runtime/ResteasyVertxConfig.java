@@ -0,0 +1,46 @@
+package io.quarkus.resteasy.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Configuration of the RESTEasy integration with the Vert.x HTTP server.
+ */
+@ConfigRoot(name = "resteasy", phase = ConfigPhase.RUN_TIME)
+public class ResteasyVertxConfig {
+
+    /**
+     * The size of the buffers used to write the response body.
+     * <p>
+     * The response body is sent to the client every time a buffer is full.
+     */
+    @ConfigItem(defaultValue = "8K")
+    public MemorySize outputBufferSize;
+
+    /**
+     * If set to true the response buffers are allocated from the direct memory pool, otherwise heap buffers are used.
+     * <p>
+     * Heap buffers are always used if the HTTP server is virtual (e.g. in the AWS Lambda and Azure Functions
+     * extensions).
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean directOutputBuffers;
+
+    /**
+     * If set to true the size of the first response buffer is adapted to the size of the responses previously
+     * produced by the same resource method, up to {@code quarkus.resteasy.output-buffer-size}.
+     * <p>
+     * This avoids allocating a full size buffer for small responses.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean adaptiveOutputBuffer;
+
+    /**
+     * If set to true statistics about the response buffers (allocated bytes, number of flushes per response) are
+     * collected and logged on shutdown.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean outputBufferStatistics;
+}
@@ -13,4 +13,22 @@ public interface BufferAllocator {
     ByteBuf allocateBuffer(boolean direct, int bufferSize);
 
     int getBufferSize();
+
+    /**
+     * @param endpoint the resource method that produces the response, may be {@code null}
+     * @return the size of the first buffer of a response
+     */
+    default int getInitialBufferSize(Object endpoint) {
+        return getBufferSize();
+    }
+
+    /**
+     * Called when a response is completely written.
+     *
+     * @param endpoint the resource method that produced the response, may be {@code null}
+     * @param written the number of bytes written
+     * @param flushes the number of buffers sent to the client
+     */
+    default void responseCompleted(Object endpoint, long written, int flushes) {
+    }
 }
@@ -0,0 +1,135 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.ws.rs.HttpMethod;
+
+import org.jboss.resteasy.core.ResourceMethodInvoker;
+import org.jboss.resteasy.core.ResourceMethodRegistry;
+import org.jboss.resteasy.spi.HttpRequest;
+import org.jboss.resteasy.spi.Registry;
+import org.jboss.resteasy.spi.ResourceInvoker;
+
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * The resource methods annotated with {@code @NonBlocking}.
+ * <p>
+ * A request is only matched against the resource methods if its HTTP method and path may match one of them, so that
+ * the other requests are not matched twice.
+ */
+final class NonBlockingResourceMethods {
+
+    static final NonBlockingResourceMethods NONE = new NonBlockingResourceMethods(Collections.emptySet(),
+            Collections.emptySet(), new String[0]);
+
+    private final Set<ResourceInvoker> invokers;
+    private final Set<String> httpMethods;
+    // the literal path prefixes of the resource methods, up to the first template parameter
+    private final String[] pathPrefixes;
+
+    private NonBlockingResourceMethods(Set<ResourceInvoker> invokers, Set<String> httpMethods, String[] pathPrefixes) {
+        this.invokers = invokers;
+        this.httpMethods = httpMethods;
+        this.pathPrefixes = pathPrefixes;
+    }
+
+    static NonBlockingResourceMethods of(Registry registry, Set<String> nonBlockingMethods, String rootPath) {
+        if (nonBlockingMethods == null || nonBlockingMethods.isEmpty() || !(registry instanceof ResourceMethodRegistry)) {
+            return NONE;
+        }
+        Set<ResourceInvoker> invokers = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> httpMethods = new HashSet<>();
+        List<String> pathPrefixes = new ArrayList<>();
+        for (Map.Entry<String, List<ResourceInvoker>> entry : ((ResourceMethodRegistry) registry).getBounded()
+                .entrySet()) {
+            for (ResourceInvoker invoker : entry.getValue()) {
+                Method method = invoker.getMethod();
+                if (method == null || !nonBlockingMethods.contains(methodKey(method))) {
+                    continue;
+                }
+                invokers.add(invoker);
+                if (invoker instanceof ResourceMethodInvoker) {
+                    httpMethods.addAll(((ResourceMethodInvoker) invoker).getHttpMethods());
+                }
+                pathPrefixes.add(pathPrefix(rootPath, entry.getKey()));
+            }
+        }
+        if (invokers.isEmpty()) {
+            return NONE;
+        }
+        if (httpMethods.contains(HttpMethod.GET)) {
+            // HEAD requests are served by the GET methods
+            httpMethods.add(HttpMethod.HEAD);
+        }
+        return new NonBlockingResourceMethods(invokers, httpMethods, pathPrefixes.toArray(new String[0]));
+    }
+
+    /**
+     * A cheap check, without matching the request against the resource methods.
+     *
+     * @return {@code false} if the request cannot match any of the resource methods
+     */
+    boolean mayMatch(HttpServerRequest request) {
+        if (invokers.isEmpty() || !httpMethods.contains(request.rawMethod())) {
+            return false;
+        }
+        String path = request.path();
+        for (String prefix : pathPrefixes) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Matches the request against the resource methods of the registry, the matched path and parameters are recorded
+     * in the uri info of the request.
+     *
+     * @return the invoker of the resource method if it is non-blocking, {@code null} otherwise
+     */
+    ResourceInvoker match(Registry registry, HttpRequest request) {
+        ResourceInvoker invoker;
+        try {
+            invoker = registry.getResourceInvoker(request);
+        } catch (RuntimeException e) {
+            // not found, method not allowed etc. - let the regular dispatch path report the error
+            return null;
+        }
+        return invokers.contains(invoker) ? invoker : null;
+    }
+
+    private static String pathPrefix(String rootPath, String path) {
+        int parameter = path.indexOf('{');
+        String prefix = parameter < 0 ? path : path.substring(0, parameter);
+        if (rootPath.endsWith("/") && prefix.startsWith("/")) {
+            return rootPath + prefix.substring(1);
+        }
+        if (!rootPath.endsWith("/") && !prefix.startsWith("/")) {
+            return rootPath + "/" + prefix;
+        }
+        return rootPath + prefix;
+    }
+
+    /**
+     * The key format must be kept in sync with
+     * {@code io.quarkus.resteasy.server.common.deployment.ResteasyNonBlockingMethodsBuildItem}.
+     */
+    private static String methodKey(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        String[] parameterTypeNames = new String[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypeNames[i] = parameterTypes[i].getName();
+        }
+        return method.getDeclaringClass().getName() + "#" + method.getName() + "(" + String.join(",", parameterTypeNames)
+                + ")";
+    }
+}
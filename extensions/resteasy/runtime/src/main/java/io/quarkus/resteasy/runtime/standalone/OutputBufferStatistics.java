@@ -0,0 +1,59 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the buffers used to write the response bodies.
+ */
+public class OutputBufferStatistics {
+
+    private final LongAdder allocatedBuffers = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder writtenBytes = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+
+    void bufferAllocated(int size) {
+        allocatedBuffers.increment();
+        allocatedBytes.add(size);
+    }
+
+    void responseCompleted(long written, int flushes) {
+        responses.increment();
+        writtenBytes.add(written);
+        this.flushes.add(flushes);
+    }
+
+    public long getAllocatedBuffers() {
+        return allocatedBuffers.sum();
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    public long getResponses() {
+        return responses.sum();
+    }
+
+    public long getWrittenBytes() {
+        return writtenBytes.sum();
+    }
+
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    public double getFlushesPerResponse() {
+        long responses = getResponses();
+        return responses == 0 ? 0 : (double) getFlushes() / responses;
+    }
+
+    @Override
+    public String toString() {
+        return "OutputBufferStatistics [responses=" + getResponses() + ", writtenBytes=" + getWrittenBytes()
+                + ", allocatedBuffers=" + getAllocatedBuffers() + ", allocatedBytes=" + getAllocatedBytes()
+                + ", flushesPerResponse=" + getFlushesPerResponse() + "]";
+    }
+
+}
@@ -0,0 +1,122 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Allocates the response buffers from the Netty buffer pool.
+ * <p>
+ * In the adaptive mode the size of the first buffer of a response is derived from the average size of the responses
+ * previously produced by the same endpoint. The sizes are rounded up to a power of two so that the pool only deals
+ * with a few size classes.
+ */
+public class PooledBufferAllocator implements BufferAllocator {
+
+    static final int MIN_BUFFER_SIZE = 512;
+
+    private final int bufferSize;
+    private final boolean direct;
+    private final ConcurrentMap<Object, ResponseSize> responseSizes;
+    private final OutputBufferStatistics statistics;
+
+    public PooledBufferAllocator(int bufferSize, boolean direct, boolean adaptive, boolean statistics) {
+        this.bufferSize = bufferSize;
+        this.direct = direct;
+        this.responseSizes = adaptive ? new ConcurrentHashMap<>() : null;
+        this.statistics = statistics ? new OutputBufferStatistics() : null;
+    }
+
+    @Override
+    public ByteBuf allocateBuffer() {
+        return allocateBuffer(direct, bufferSize);
+    }
+
+    @Override
+    public ByteBuf allocateBuffer(boolean direct) {
+        return allocateBuffer(direct, bufferSize);
+    }
+
+    @Override
+    public ByteBuf allocateBuffer(int bufferSize) {
+        return allocateBuffer(direct, bufferSize);
+    }
+
+    @Override
+    public ByteBuf allocateBuffer(boolean direct, int bufferSize) {
+        if (statistics != null) {
+            statistics.bufferAllocated(bufferSize);
+        }
+        if (direct) {
+            return PooledByteBufAllocator.DEFAULT.directBuffer(bufferSize);
+        } else {
+            return PooledByteBufAllocator.DEFAULT.heapBuffer(bufferSize);
+        }
+    }
+
+    @Override
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public int getInitialBufferSize(Object endpoint) {
+        if (responseSizes == null || endpoint == null) {
+            return bufferSize;
+        }
+        ResponseSize size = responseSizes.get(endpoint);
+        return size == null ? bufferSize : size.bufferSize;
+    }
+
+    @Override
+    public void responseCompleted(Object endpoint, long written, int flushes) {
+        if (statistics != null) {
+            statistics.responseCompleted(written, flushes);
+        }
+        if (responseSizes != null && endpoint != null) {
+            ResponseSize size = responseSizes.get(endpoint);
+            if (size == null) {
+                responseSizes.putIfAbsent(endpoint, new ResponseSize(written, bufferSize));
+            } else {
+                size.update(written, bufferSize);
+            }
+        }
+    }
+
+    public OutputBufferStatistics getStatistics() {
+        return statistics;
+    }
+
+    static int sizeClass(long size, int maxSize) {
+        if (size >= maxSize) {
+            return maxSize;
+        }
+        if (size <= MIN_BUFFER_SIZE) {
+            return Math.min(MIN_BUFFER_SIZE, maxSize);
+        }
+        int sizeClass = Integer.highestOneBit((int) size - 1) << 1;
+        return Math.min(sizeClass, maxSize);
+    }
+
+    static final class ResponseSize {
+
+        // races between concurrent updates only make the average slightly less accurate
+        private volatile long average;
+        volatile int bufferSize;
+
+        ResponseSize(long written, int maxSize) {
+            this.average = written;
+            this.bufferSize = sizeClass(written, maxSize);
+        }
+
+        void update(long written, int maxSize) {
+            // exponential moving average with a weight of 1/8 for the latest response
+            long average = this.average + ((written - this.average) >> 3);
+            this.average = average;
+            this.bufferSize = sizeClass(average, maxSize);
+        }
+    }
+
+}
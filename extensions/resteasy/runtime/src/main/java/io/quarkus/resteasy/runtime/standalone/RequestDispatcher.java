@@ -9,7 +9,9 @@ import org.jboss.resteasy.core.ThreadLocalResteasyProviderFactory;
 import org.jboss.resteasy.plugins.server.embedded.SecurityDomain;
 import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.HttpResponse;
+import org.jboss.resteasy.spi.ResourceInvoker;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
 
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
@@ -53,7 +55,32 @@ public class RequestDispatcher {
             HttpServerRequest req,
             HttpServerResponse resp,
             HttpRequest vertxReq, HttpResponse vertxResp, boolean handleNotFound) throws IOException {
+        service(context, req, resp, () -> {
+            if (handleNotFound) {
+                dispatcher.invoke(vertxReq, vertxResp);
+            } else {
+                dispatcher.invokePropagateNotFound(vertxReq, vertxResp);
+            }
+        });
+    }
+
+    /**
+     * Dispatches a request already matched to the given invoker, so that the request is not matched again. Must only be
+     * used if there are no pre-matching filters and preprocessors, as they would not be applied.
+     */
+    public void service(Context context,
+            HttpServerRequest req,
+            HttpServerResponse resp,
+            HttpRequest vertxReq, HttpResponse vertxResp, ResourceInvoker invoker) throws IOException {
+        service(context, req, resp, () -> {
+            RESTEasyTracingLogger.initTracingSupport(providerFactory, vertxReq);
+            RESTEasyTracingLogger.logStart(vertxReq);
+            dispatcher.pushContextObjects(vertxReq, vertxResp);
+            dispatcher.invoke(vertxReq, vertxResp, invoker);
+        });
+    }
 
+    private void service(Context context, HttpServerRequest req, HttpServerResponse resp, Runnable invocation) {
         try {
             ResteasyProviderFactory defaultInstance = ResteasyProviderFactory.getInstance();
             if (defaultInstance instanceof ThreadLocalResteasyProviderFactory) {
@@ -65,11 +92,7 @@ public class RequestDispatcher {
                 ResteasyContext.pushContext(HttpServerRequest.class, req);
                 ResteasyContext.pushContext(HttpServerResponse.class, resp);
                 ResteasyContext.pushContext(Vertx.class, context.owner());
-                if (handleNotFound) {
-                    dispatcher.invoke(vertxReq, vertxResp);
-                } else {
-                    dispatcher.invokePropagateNotFound(vertxReq, vertxResp);
-                }
+                invocation.run();
             } finally {
                 ResteasyContext.clearContextData();
             }
@@ -3,18 +3,21 @@ package io.quarkus.resteasy.runtime.standalone;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.jboss.logging.Logger;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 
-import io.netty.buffer.ByteBuf;
-import io.netty.buffer.PooledByteBufAllocator;
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.resteasy.runtime.ResteasyVertxConfig;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.vertx.http.runtime.HttpConfiguration;
 import io.quarkus.vertx.http.runtime.ThreadLocalHandler;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -30,44 +33,9 @@ public class ResteasyStandaloneRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
 
-    /**
-     * TODO: configuration
-     */
-    protected static final int BUFFER_SIZE = 8 * 1024;
+    private static final Logger log = Logger.getLogger("io.quarkus.resteasy");
 
-    private static boolean useDirect = true;
-
-    //TODO: clean this up
-    private static BufferAllocator ALLOCATOR = new BufferAllocator() {
-        @Override
-        public ByteBuf allocateBuffer() {
-            return allocateBuffer(useDirect);
-        }
-
-        @Override
-        public ByteBuf allocateBuffer(boolean direct) {
-            return allocateBuffer(direct, BUFFER_SIZE);
-        }
-
-        @Override
-        public ByteBuf allocateBuffer(int bufferSize) {
-            return allocateBuffer(useDirect, bufferSize);
-        }
-
-        @Override
-        public ByteBuf allocateBuffer(boolean direct, int bufferSize) {
-            if (direct) {
-                return PooledByteBufAllocator.DEFAULT.directBuffer(bufferSize);
-            } else {
-                return PooledByteBufAllocator.DEFAULT.heapBuffer(bufferSize);
-            }
-        }
-
-        @Override
-        public int getBufferSize() {
-            return BUFFER_SIZE;
-        }
-    };
+    private static volatile BufferAllocator ALLOCATOR;
 
     private static volatile List<Path> hotDeploymentResourcePaths;
 
@@ -78,20 +46,38 @@ public class ResteasyStandaloneRecorder {
     private static ResteasyDeployment deployment;
     private static Set<String> knownPaths;
     private static String contextPath;
+    private static Set<String> nonBlockingMethods;
 
-    public void staticInit(ResteasyDeployment dep, String path, Set<String> known) {
+    public void staticInit(ResteasyDeployment dep, String path, Set<String> known, Set<String> nonBlocking) {
         if (dep != null) {
             deployment = dep;
             deployment.start();
         }
         knownPaths = known;
         contextPath = path;
+        nonBlockingMethods = nonBlocking;
+    }
+
+    public void configureOutputBuffers(ResteasyVertxConfig config, boolean isVirtual, ShutdownContext shutdown) {
+        // the virtual HTTP transport copies the response anyway so direct buffers bring no benefit
+        PooledBufferAllocator allocator = new PooledBufferAllocator((int) config.outputBufferSize.asLongValue(),
+                config.directOutputBuffers && !isVirtual, config.adaptiveOutputBuffer, config.outputBufferStatistics);
+        ALLOCATOR = allocator;
+        if (allocator.getStatistics() != null) {
+            shutdown.addShutdownTask(new Runnable() {
+                @Override
+                public void run() {
+                    log.info(allocator.getStatistics());
+                }
+            });
+        }
     }
 
     public Consumer<Route> start(RuntimeValue<Vertx> vertx,
             ShutdownContext shutdown,
             BeanContainer beanContainer,
-            boolean isVirtual, boolean isDefaultResourcesPath) {
+            boolean isDefaultResourcesPath,
+            HttpConfiguration httpConfiguration) {
 
         shutdown.addShutdownTask(new Runnable() {
             @Override
@@ -101,7 +87,6 @@ public class ResteasyStandaloneRecorder {
                 }
             }
         });
-        useDirect = !isVirtual;
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
 
         if (hotDeploymentResourcePaths != null && !hotDeploymentResourcePaths.isEmpty()) {
@@ -147,7 +132,7 @@ public class ResteasyStandaloneRecorder {
         }
 
         if (deployment != null && isDefaultResourcesPath) {
-            handlers.add(vertxRequestHandler(vertx, beanContainer));
+            handlers.add(vertxRequestHandler(vertx, beanContainer, httpConfiguration));
         }
         return new Consumer<Route>() {
 
@@ -161,9 +146,11 @@ public class ResteasyStandaloneRecorder {
     }
 
     public Handler<RoutingContext> vertxRequestHandler(RuntimeValue<Vertx> vertx,
-            BeanContainer beanContainer) {
+            BeanContainer beanContainer, HttpConfiguration httpConfiguration) {
         if (deployment != null) {
-            return new VertxRequestHandler(vertx.getValue(), beanContainer, deployment, contextPath, ALLOCATOR);
+            Optional<MemorySize> maxBodySize = httpConfiguration.limits.maxBodySize;
+            return new VertxRequestHandler(vertx.getValue(), beanContainer, deployment, contextPath, ALLOCATOR,
+                    nonBlockingMethods, maxBodySize.isPresent() ? maxBodySize.get().asLongValue() : -1);
         }
         return null;
     }
@@ -9,7 +9,9 @@ import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.NewCookie;
 import javax.ws.rs.ext.RuntimeDelegate;
 
+import org.jboss.resteasy.core.ResourceMethodInvoker;
 import org.jboss.resteasy.specimpl.MultivaluedMapImpl;
+import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.HttpResponse;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
 
@@ -30,6 +32,7 @@ public class VertxHttpResponse implements HttpResponse {
     private ResteasyProviderFactory providerFactory;
     private final HttpMethod method;
     private final VertxOutput output;
+    private HttpRequest resteasyRequest;
 
     public VertxHttpResponse(HttpServerRequest request, ResteasyProviderFactory providerFactory,
             final HttpMethod method, BufferAllocator allocator, VertxOutput output) {
@@ -43,6 +46,17 @@ public class VertxHttpResponse implements HttpResponse {
         this.output = output;
     }
 
+    void setResteasyRequest(HttpRequest resteasyRequest) {
+        this.resteasyRequest = resteasyRequest;
+    }
+
+    /**
+     * @return the resource method invoker that produced this response, or {@code null} if not known
+     */
+    Object getEndpoint() {
+        return resteasyRequest != null ? resteasyRequest.getAttribute(ResourceMethodInvoker.class.getName()) : null;
+    }
+
     @Override
     public void setOutputStream(OutputStream os) {
         this.os = os;
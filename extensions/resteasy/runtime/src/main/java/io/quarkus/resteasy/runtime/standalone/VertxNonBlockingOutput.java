@@ -0,0 +1,51 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * An output that is used by resource methods invoked on the I/O thread.
+ * <p>
+ * Unlike {@link VertxBlockingOutput} the data are handed over to Vert.x straight away, i.e. the writes never wait for
+ * the connection write queue to be drained.
+ */
+public class VertxNonBlockingOutput implements VertxOutput {
+    private static final Logger log = Logger.getLogger("io.quarkus.resteasy");
+
+    protected final HttpServerRequest request;
+    protected Throwable throwable;
+
+    public VertxNonBlockingOutput(HttpServerRequest request) {
+        this.request = request;
+        request.response().exceptionHandler(new Handler<Throwable>() {
+            @Override
+            public void handle(Throwable event) {
+                throwable = event;
+                log.debugf(event, "IO Exception ");
+                request.connection().close();
+            }
+        });
+    }
+
+    @Override
+    public void write(ByteBuf data, boolean last) throws IOException {
+        if (throwable != null) {
+            throw new IOException(throwable);
+        }
+        if (last && data == null) {
+            request.response().end();
+            return;
+        }
+        if (last) {
+            request.response().end(new VertxBufferImpl(data));
+        } else {
+            request.response().write(new VertxBufferImpl(data));
+        }
+    }
+
+}
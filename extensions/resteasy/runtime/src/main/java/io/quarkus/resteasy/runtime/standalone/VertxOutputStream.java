@@ -13,6 +13,7 @@ public class VertxOutputStream extends OutputStream {
     private final BufferAllocator allocator;
     private ByteBuf pooledBuffer;
     private long written;
+    private int flushes;
     private final long contentLength;
 
     private boolean closed;
@@ -58,7 +59,9 @@ public class VertxOutputStream extends OutputStream {
         ByteBuf buffer = pooledBuffer;
         try {
             if (buffer == null) {
-                pooledBuffer = buffer = allocator.allocateBuffer();
+                // the first buffer may be smaller if the endpoint is known to produce small responses
+                pooledBuffer = buffer = written == 0 ? allocator.allocateBuffer(
+                        allocator.getInitialBufferSize(response.getEndpoint())) : allocator.allocateBuffer();
             }
             while (rem > 0) {
                 int toWrite = Math.min(rem, buffer.writableBytes());
@@ -66,6 +69,7 @@ public class VertxOutputStream extends OutputStream {
                 rem -= toWrite;
                 idx += toWrite;
                 if (!buffer.isWritable()) {
+                    flushes++;
                     response.writeBlocking(buffer, false);
                     this.pooledBuffer = buffer = allocator.allocateBuffer();
                 }
@@ -96,6 +100,7 @@ public class VertxOutputStream extends OutputStream {
         }
         try {
             if (pooledBuffer != null) {
+                flushes++;
                 response.writeBlocking(pooledBuffer, false);
                 pooledBuffer = null;
             }
@@ -115,6 +120,7 @@ public class VertxOutputStream extends OutputStream {
         if (closed)
             return;
         try {
+            flushes++;
             response.writeBlocking(pooledBuffer, true);
         } catch (Exception e) {
             throw new IOException(e);
@@ -122,6 +128,7 @@ public class VertxOutputStream extends OutputStream {
             closed = true;
             pooledBuffer = null;
         }
+        allocator.responseCompleted(response.getEndpoint(), written, flushes);
     }
 
 }
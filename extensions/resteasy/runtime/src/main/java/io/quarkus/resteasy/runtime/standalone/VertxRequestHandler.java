@@ -2,9 +2,10 @@ package io.quarkus.resteasy.runtime.standalone;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
-import javax.enterprise.inject.Instance;
-import javax.enterprise.inject.spi.CDI;
 import javax.ws.rs.core.SecurityContext;
 
 import org.jboss.logging.Logger;
@@ -13,8 +14,13 @@ import org.jboss.resteasy.core.SynchronousDispatcher;
 import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
 import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.spi.Failure;
+import org.jboss.resteasy.spi.ResourceInvoker;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.arc.Arc;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
@@ -22,6 +28,7 @@ import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -38,24 +45,44 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
     protected final BufferAllocator allocator;
     protected final BeanContainer beanContainer;
     protected final CurrentIdentityAssociation association;
+    protected final NonBlockingResourceMethods nonBlockingMethods;
+    // the pre-matching filters and the preprocessors may modify the request, so it must be matched after them
+    protected final boolean reuseMatchedInvoker;
+    // the maximum size of a body buffered for a non-blocking resource method, -1 if there is no limit
+    protected final long maxBodySize;
 
     public VertxRequestHandler(Vertx vertx,
             BeanContainer beanContainer,
             ResteasyDeployment deployment,
             String rootPath,
-            BufferAllocator allocator) {
+            BufferAllocator allocator,
+            Set<String> nonBlockingMethods,
+            long maxBodySize) {
         this.vertx = vertx;
+        this.maxBodySize = maxBodySize;
         this.beanContainer = beanContainer;
         this.dispatcher = new RequestDispatcher((SynchronousDispatcher) deployment.getDispatcher(),
                 deployment.getProviderFactory(), null);
         this.rootPath = rootPath;
         this.allocator = allocator;
-        Instance<CurrentIdentityAssociation> association = CDI.current().select(CurrentIdentityAssociation.class);
-        this.association = association.isResolvable() ? association.get() : null;
+        Supplier<CurrentIdentityAssociation> association = Arc.container()
+                .beanInstanceSupplier(CurrentIdentityAssociation.class);
+        this.association = association != null ? association.get() : null;
+        this.nonBlockingMethods = NonBlockingResourceMethods.of(dispatcher.getDispatcher().getRegistry(),
+                nonBlockingMethods, rootPath);
+        this.reuseMatchedInvoker = deployment.getProviderFactory().getContainerRequestFilterRegistry().preMatch().length == 0
+                && isEmpty(deployment.getMediaTypeMappings()) && isEmpty(deployment.getLanguageExtensions());
+    }
+
+    private static boolean isEmpty(Map<?, ?> map) {
+        return map == null || map.isEmpty();
     }
 
     @Override
     public void handle(RoutingContext request) {
+        if (nonBlockingMethods.mayMatch(request.request()) && handleNonBlocking(request)) {
+            return;
+        }
         // have to create input stream here.  Cannot execute in another thread
         // otherwise request handlers may not get set up before request ends
         VertxInputStream is;
@@ -67,12 +94,119 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         }
 
         vertx.executeBlocking(event -> {
-            dispatchRequestContext(request, is, new VertxBlockingOutput(request.request()));
+            dispatchRequestContext(request, () -> dispatch(request, is, new VertxBlockingOutput(request.request())));
         }, false, event -> {
         });
     }
 
-    private void dispatchRequestContext(RoutingContext request, InputStream is, VertxOutput output) {
+    /**
+     * @return {@code false} if the request does not match a non-blocking resource method
+     */
+    private boolean handleNonBlocking(RoutingContext request) {
+        HttpServerRequest req = request.request();
+        VertxHttpRequest vertxRequest;
+        // null if the request has to be matched again when dispatched
+        ResourceInvoker invoker = null;
+        try {
+            if (reuseMatchedInvoker) {
+                // the request is matched once, the matched invoker is used for the dispatch
+                vertxRequest = createRequest(request, new VertxNonBlockingOutput(req));
+                invoker = nonBlockingMethods.match(dispatcher.getDispatcher().getRegistry(), vertxRequest);
+                if (invoker == null) {
+                    return false;
+                }
+            } else {
+                // the matching modifies the uri info, so it is done on a separate request
+                VertxHttpRequest matchedRequest = new VertxHttpRequest(null, VertxUtil.extractHttpHeaders(req),
+                        VertxUtil.extractUriInfo(req, rootPath), req.rawMethod(), null, dispatcher.getDispatcher(), null,
+                        false);
+                if (nonBlockingMethods.match(dispatcher.getDispatcher().getRegistry(), matchedRequest) == null) {
+                    return false;
+                }
+                vertxRequest = createRequest(request, new VertxNonBlockingOutput(req));
+            }
+        } catch (Throwable t) {
+            request.fail(t);
+            return true;
+        }
+        ResourceInvoker matchedInvoker = invoker;
+        if (isTooLarge(req)) {
+            request.fail(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE.code());
+            return true;
+        }
+        if (req.isEnded()) {
+            try {
+                vertxRequest.setInputStream(new VertxInputStream(req));
+            } catch (IOException e) {
+                request.fail(e);
+                return true;
+            }
+            dispatchRequestContext(request, () -> dispatch(request, vertxRequest, matchedInvoker));
+        } else {
+            // the body is buffered so that the resource method never waits for the input on the I/O thread
+            bufferBody(request, body -> {
+                vertxRequest.setInputStream(new ByteBufInputStream(body.getByteBuf()));
+                dispatchRequestContext(request, () -> dispatch(request, vertxRequest, matchedInvoker));
+            });
+        }
+        return true;
+    }
+
+    /**
+     * Buffers the body of the request, the request is failed with a 413 status if the body is larger than
+     * {@link #maxBodySize}, the rest of the body is then discarded.
+     */
+    private void bufferBody(RoutingContext request, Handler<Buffer> bodyHandler) {
+        HttpServerRequest req = request.request();
+        Buffer body = Buffer.buffer();
+        // only accessed on the I/O thread of the request
+        boolean[] failed = new boolean[1];
+        req.handler(chunk -> {
+            if (failed[0]) {
+                return;
+            }
+            if (maxBodySize >= 0 && body.length() + chunk.length() > maxBodySize) {
+                failed[0] = true;
+                request.fail(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE.code());
+                return;
+            }
+            body.appendBuffer(chunk);
+        });
+        req.exceptionHandler(failure -> {
+            if (!failed[0]) {
+                failed[0] = true;
+                request.fail(failure);
+            }
+        });
+        req.endHandler(v -> {
+            if (!failed[0]) {
+                bodyHandler.handle(body);
+            }
+        });
+        // the request may still be paused by the root handler
+        req.resume();
+    }
+
+    /**
+     * @return {@code true} if the content length of the request is larger than {@link #maxBodySize}
+     */
+    private boolean isTooLarge(HttpServerRequest req) {
+        if (maxBodySize < 0) {
+            return false;
+        }
+        String contentLength = req.headers().get(HttpHeaderNames.CONTENT_LENGTH);
+        if (contentLength == null) {
+            // the body is checked while it is read
+            return false;
+        }
+        try {
+            return Long.parseLong(contentLength) > maxBodySize;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private void dispatchRequestContext(RoutingContext request, Runnable dispatch) {
         ManagedContext requestContext = beanContainer.requestContext();
         requestContext.activate();
         QuarkusHttpUser user = (QuarkusHttpUser) request.user();
@@ -80,28 +214,54 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
             association.setIdentity(user.getSecurityIdentity());
         }
         try {
-            dispatch(request, is, output);
+            dispatch.run();
         } finally {
             requestContext.terminate();
         }
     }
 
     private void dispatch(RoutingContext routingContext, InputStream is, VertxOutput output) {
+        VertxHttpRequest vertxRequest;
+        try {
+            vertxRequest = createRequest(routingContext, output);
+        } catch (Throwable t) {
+            routingContext.fail(t);
+            return;
+        }
+        vertxRequest.setInputStream(is);
+        dispatch(routingContext, vertxRequest, null);
+    }
+
+    private VertxHttpRequest createRequest(RoutingContext routingContext, VertxOutput output) {
+        Context ctx = vertx.getOrCreateContext();
+        HttpServerRequest request = routingContext.request();
+        ResteasyUriInfo uriInfo = VertxUtil.extractUriInfo(request, rootPath);
+        ResteasyHttpHeaders headers = VertxUtil.extractHttpHeaders(request);
+        VertxHttpResponse vertxResponse = new VertxHttpResponse(request, dispatcher.getProviderFactory(),
+                request.method(), allocator, output);
+        VertxHttpRequest vertxRequest = new VertxHttpRequest(ctx, headers, uriInfo, request.rawMethod(),
+                request.remoteAddress().host(), dispatcher.getDispatcher(), vertxResponse, false);
+        vertxResponse.setResteasyRequest(vertxRequest);
+        return vertxRequest;
+    }
+
+    /**
+     * @param invoker the invoker the request was already matched to, {@code null} if it was not matched yet
+     */
+    private void dispatch(RoutingContext routingContext, VertxHttpRequest vertxRequest, ResourceInvoker invoker) {
         try {
             Context ctx = vertx.getOrCreateContext();
             HttpServerRequest request = routingContext.request();
-            ResteasyUriInfo uriInfo = VertxUtil.extractUriInfo(request, rootPath);
-            ResteasyHttpHeaders headers = VertxUtil.extractHttpHeaders(request);
             HttpServerResponse response = request.response();
-            VertxHttpResponse vertxResponse = new VertxHttpResponse(request, dispatcher.getProviderFactory(),
-                    request.method(), allocator, output);
-            VertxHttpRequest vertxRequest = new VertxHttpRequest(ctx, headers, uriInfo, request.rawMethod(),
-                    request.remoteAddress().host(), dispatcher.getDispatcher(), vertxResponse, false);
-            vertxRequest.setInputStream(is);
+            VertxHttpResponse vertxResponse = vertxRequest.getResponse();
             try {
                 ResteasyContext.pushContext(SecurityContext.class, new QuarkusResteasySecurityContext(request));
                 ResteasyContext.pushContext(RoutingContext.class, routingContext);
-                dispatcher.service(ctx, request, response, vertxRequest, vertxResponse, true);
+                if (invoker != null) {
+                    dispatcher.service(ctx, request, response, vertxRequest, vertxResponse, invoker);
+                } else {
+                    dispatcher.service(ctx, request, response, vertxRequest, vertxResponse, true);
+                }
             } catch (Failure e1) {
                 vertxResponse.setStatus(e1.getErrorCode());
                 if (e1.isLoggable()) {
@@ -0,0 +1,187 @@
+package io.quarkus.security.test.identity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.IdentityProviderManager;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.quarkus.security.runtime.IdentityCache;
+import io.quarkus.security.runtime.QuarkusPrincipal;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class IdentityCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CountingIdentityProvider.class, CountingTokenIdentityProvider.class)
+                    .addAsResource(new StringAsset("quarkus.security.identity-cache.username-password.enabled=true\n"
+                            + "quarkus.security.identity-cache.username-password.max-size=10\n"
+                            + "quarkus.security.identity-cache.token.enabled=true"),
+                            "application.properties"));
+
+    @Inject
+    IdentityProviderManager identityProviderManager;
+
+    @Inject
+    IdentityCache identityCache;
+
+    @Inject
+    CountingIdentityProvider provider;
+
+    @Inject
+    CountingTokenIdentityProvider tokenProvider;
+
+    @BeforeEach
+    public void reset() {
+        identityCache.invalidateAll();
+        provider.reset();
+        tokenProvider.reset();
+    }
+
+    @Test
+    public void testIdentityIsCached() {
+        SecurityIdentity identity = identityProviderManager.authenticateBlocking(request("alice", "secret"));
+        assertEquals("alice", identity.getPrincipal().getName());
+        assertSame(identity, identityProviderManager.authenticateBlocking(request("alice", "secret")));
+        assertSame(identity, identityProviderManager.authenticate(request("alice", "secret")).toCompletableFuture()
+                .join());
+        assertEquals(1, provider.getInvocations());
+
+        // different credentials are never served from the cache
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> identityProviderManager.authenticateBlocking(request("alice", "wrong")));
+        assertEquals(AuthenticationFailedException.class, e.getCause().getClass());
+        assertEquals(2, provider.getInvocations());
+
+        identityCache.invalidate(request("alice", "secret"));
+        identityProviderManager.authenticate(request("alice", "secret")).toCompletableFuture().join();
+        assertEquals(3, provider.getInvocations());
+    }
+
+    @Test
+    public void testFailedAuthenticationIsNotCached() {
+        for (int i = 0; i < 2; i++) {
+            CompletionException e = assertThrows(CompletionException.class,
+                    () -> identityProviderManager.authenticate(request("bob", "wrong")).toCompletableFuture().join());
+            assertEquals(AuthenticationFailedException.class, e.getCause().getClass());
+        }
+        assertEquals(2, provider.getInvocations());
+        assertEquals(0, identityCache.size());
+    }
+
+    @Test
+    public void testTokenIdentityIsCachedUntilTheTokenExpires() {
+        long inOneHour = System.currentTimeMillis() / 1000 + 3600;
+        SecurityIdentity identity = identityProviderManager.authenticateBlocking(tokenRequest("valid:" + inOneHour));
+        assertSame(identity, identityProviderManager.authenticateBlocking(tokenRequest("valid:" + inOneHour)));
+        assertEquals(1, tokenProvider.getInvocations());
+
+        // an expired token is not cached
+        long oneHourAgo = System.currentTimeMillis() / 1000 - 3600;
+        identityProviderManager.authenticateBlocking(tokenRequest("expired:" + oneHourAgo));
+        identityProviderManager.authenticateBlocking(tokenRequest("expired:" + oneHourAgo));
+        assertEquals(3, tokenProvider.getInvocations());
+
+        // nor is a token the expiration time of which is not known
+        identityProviderManager.authenticateBlocking(tokenRequest("opaque"));
+        identityProviderManager.authenticateBlocking(tokenRequest("opaque"));
+        assertEquals(5, tokenProvider.getInvocations());
+        assertEquals(1, identityCache.size());
+    }
+
+    static TokenAuthenticationRequest tokenRequest(String token) {
+        return new TokenAuthenticationRequest(new TokenCredential(token, "bearer"));
+    }
+
+    static UsernamePasswordAuthenticationRequest request(String username, String password) {
+        return new UsernamePasswordAuthenticationRequest(username, new PasswordCredential(password.toCharArray()));
+    }
+
+    @ApplicationScoped
+    public static class CountingIdentityProvider implements IdentityProvider<UsernamePasswordAuthenticationRequest> {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        int getInvocations() {
+            return invocations.get();
+        }
+
+        void reset() {
+            invocations.set(0);
+        }
+
+        @Override
+        public Class<UsernamePasswordAuthenticationRequest> getRequestType() {
+            return UsernamePasswordAuthenticationRequest.class;
+        }
+
+        @Override
+        public CompletionStage<SecurityIdentity> authenticate(UsernamePasswordAuthenticationRequest request,
+                AuthenticationRequestContext context) {
+            invocations.incrementAndGet();
+            if (!"secret".equals(new String(request.getPassword().getPassword()))) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return context.runBlocking(() -> QuarkusSecurityIdentity.builder()
+                    .setPrincipal(new QuarkusPrincipal(request.getUsername())).build());
+        }
+    }
+
+    @ApplicationScoped
+    public static class CountingTokenIdentityProvider implements IdentityProvider<TokenAuthenticationRequest> {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        int getInvocations() {
+            return invocations.get();
+        }
+
+        void reset() {
+            invocations.set(0);
+        }
+
+        @Override
+        public Class<TokenAuthenticationRequest> getRequestType() {
+            return TokenAuthenticationRequest.class;
+        }
+
+        @Override
+        public CompletionStage<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
+                AuthenticationRequestContext context) {
+            invocations.incrementAndGet();
+            String token = request.getToken().getToken();
+            QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder()
+                    .setPrincipal(new QuarkusPrincipal("token"));
+            int separator = token.indexOf(':');
+            if (separator > 0) {
+                builder.addAttribute(IdentityCache.EXPIRATION_ATTRIBUTE, Long.parseLong(token.substring(separator + 1)));
+            }
+            return CompletableFuture.completedFuture(builder.build());
+        }
+    }
+}
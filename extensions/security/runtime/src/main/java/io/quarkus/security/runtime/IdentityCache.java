@@ -0,0 +1,357 @@
+package io.quarkus.security.runtime;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+
+/**
+ * A cache of the identities created by the {@link QuarkusIdentityProviderManagerImpl}.
+ * <p>
+ * Only the request types that were added with {@link #addRequestType(Class, Function, int, long)} are cached. Each
+ * request type has its own bounded cache with its own time to live. If a cache is full its expired entries are purged
+ * and, if that is not enough, arbitrary entries are evicted.
+ * <p>
+ * The identities authenticated by a token are only cached if the expiration time of the token is known, see
+ * {@link #EXPIRATION_ATTRIBUTE}, and never outlive the token.
+ * <p>
+ * The cache can be injected in order to invalidate the identities, e.g. when the credentials of a user are changed.
+ */
+public class IdentityCache {
+
+    /**
+     * The identity attribute holding the expiration time of the credentials, e.g. the {@code exp} claim of a JWT, in
+     * seconds since the epoch. An {@link Instant} or a {@link Date} are also accepted.
+     */
+    public static final String EXPIRATION_ATTRIBUTE = "exp";
+
+    private static final long PURGE_INTERVAL = TimeUnit.SECONDS.toMillis(1);
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    // the request types are added at runtime init, possibly after the cache was injected
+    private final Map<Class<? extends AuthenticationRequest>, RequestTypeCache<?>> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Enables the caching of the given request type.
+     *
+     * @param requestType the request type
+     * @param keyFunction the function that computes the cache key of a request, the key must identify the credentials
+     *        of the request
+     * @param maxSize the maximum number of cached identities
+     * @param timeToLive the time in milliseconds after which a cached identity expires
+     * @return this cache
+     */
+    public <T extends AuthenticationRequest> IdentityCache addRequestType(Class<T> requestType,
+            Function<T, Object> keyFunction, int maxSize, long timeToLive) {
+        return addRequestType(requestType, keyFunction, null, maxSize, timeToLive);
+    }
+
+    /**
+     * Enables the caching of the given request type, the identities of which expire with their credentials.
+     *
+     * @param requestType the request type
+     * @param keyFunction the function that computes the cache key of a request, the key must identify the credentials
+     *        of the request
+     * @param expirationFunction the function that returns the expiration time in milliseconds since the epoch of the
+     *        credentials of an identity, or a negative value if it is not known in which case the identity is not
+     *        cached; may be {@code null} if the credentials do not expire
+     * @param maxSize the maximum number of cached identities
+     * @param timeToLive the time in milliseconds after which a cached identity expires
+     * @return this cache
+     */
+    public <T extends AuthenticationRequest> IdentityCache addRequestType(Class<T> requestType,
+            Function<T, Object> keyFunction, ToLongFunction<SecurityIdentity> expirationFunction, int maxSize,
+            long timeToLive) {
+        caches.put(requestType, new RequestTypeCache<>(keyFunction, expirationFunction, maxSize, timeToLive));
+        return this;
+    }
+
+    /**
+     *
+     * @return {@code true} if no request type is cached
+     */
+    public boolean isEmpty() {
+        return caches.isEmpty();
+    }
+
+    /**
+     *
+     * @param requestType the request type
+     * @return {@code true} if the identities of the given request type are cached
+     */
+    public boolean isCached(Class<? extends AuthenticationRequest> requestType) {
+        return caches.containsKey(requestType);
+    }
+
+    /**
+     *
+     * @param request the authentication request
+     * @return the cached identity or {@code null} if there is no valid cached identity for the request
+     */
+    public SecurityIdentity get(AuthenticationRequest request) {
+        RequestTypeCache<AuthenticationRequest> cache = cache(request);
+        return cache != null ? cache.get(request) : null;
+    }
+
+    /**
+     *
+     * @param request the authentication request
+     * @param identity the identity created for the request
+     */
+    public void put(AuthenticationRequest request, SecurityIdentity identity) {
+        RequestTypeCache<AuthenticationRequest> cache = cache(request);
+        if (cache != null) {
+            cache.put(request, identity);
+        }
+    }
+
+    /**
+     * Removes the cached identity for the credentials of the given request.
+     *
+     * @param request the authentication request
+     */
+    public void invalidate(AuthenticationRequest request) {
+        RequestTypeCache<AuthenticationRequest> cache = cache(request);
+        if (cache != null) {
+            cache.entries.remove(cache.keyFunction.apply(request));
+        }
+    }
+
+    /**
+     * Removes all the cached identities of the given request type.
+     *
+     * @param requestType the request type
+     */
+    public void invalidateAll(Class<? extends AuthenticationRequest> requestType) {
+        RequestTypeCache<?> cache = caches.get(requestType);
+        if (cache != null) {
+            cache.entries.clear();
+        }
+    }
+
+    /**
+     * Removes all the cached identities.
+     */
+    public void invalidateAll() {
+        for (RequestTypeCache<?> cache : caches.values()) {
+            cache.entries.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (RequestTypeCache<?> cache : caches.values()) {
+            size += cache.entries.size();
+        }
+        return size;
+    }
+
+    public long getHits() {
+        long hits = 0;
+        for (RequestTypeCache<?> cache : caches.values()) {
+            hits += cache.hits.sum();
+        }
+        return hits;
+    }
+
+    public long getMisses() {
+        long misses = 0;
+        for (RequestTypeCache<?> cache : caches.values()) {
+            misses += cache.misses.sum();
+        }
+        return misses;
+    }
+
+    @Override
+    public String toString() {
+        return "IdentityCache [requestTypes=" + caches.keySet() + ", size=" + size() + ", hits=" + getHits()
+                + ", misses=" + getMisses() + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private RequestTypeCache<AuthenticationRequest> cache(AuthenticationRequest request) {
+        return (RequestTypeCache<AuthenticationRequest>) caches.get(request.getClass());
+    }
+
+    /**
+     * The key is a digest of the username and the password so that the password is not retained by the cache.
+     *
+     * @param request the request
+     * @return the cache key
+     */
+    public static Object usernamePasswordKey(UsernamePasswordAuthenticationRequest request) {
+        MessageDigest digest = DIGEST.get();
+        digest.update(request.getUsername().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        ByteBuffer password = StandardCharsets.UTF_8.encode(CharBuffer.wrap(request.getPassword().getPassword()));
+        digest.update(password);
+        if (password.hasArray()) {
+            Arrays.fill(password.array(), (byte) 0);
+        }
+        return new DigestKey(digest.digest());
+    }
+
+    /**
+     * The key is a digest of the token type and the token.
+     *
+     * @param request the request
+     * @return the cache key
+     */
+    public static Object tokenKey(TokenAuthenticationRequest request) {
+        MessageDigest digest = DIGEST.get();
+        String type = request.getToken().getType();
+        if (type != null) {
+            digest.update(type.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+        digest.update(request.getToken().getToken().getBytes(StandardCharsets.UTF_8));
+        return new DigestKey(digest.digest());
+    }
+
+    /**
+     *
+     * @param identity the identity authenticated by a token
+     * @return the expiration time of the token in milliseconds since the epoch, see {@link #EXPIRATION_ATTRIBUTE}, or
+     *         {@code -1} if it is not known
+     */
+    public static long tokenExpiration(SecurityIdentity identity) {
+        Object expiration = identity.getAttribute(EXPIRATION_ATTRIBUTE);
+        if (expiration instanceof Number) {
+            return TimeUnit.SECONDS.toMillis(((Number) expiration).longValue());
+        }
+        if (expiration instanceof Instant) {
+            return ((Instant) expiration).toEpochMilli();
+        }
+        if (expiration instanceof Date) {
+            return ((Date) expiration).getTime();
+        }
+        return -1;
+    }
+
+    private static final class RequestTypeCache<T extends AuthenticationRequest> {
+
+        final Function<T, Object> keyFunction;
+        final ToLongFunction<SecurityIdentity> expirationFunction;
+        final int maxSize;
+        final long timeToLive;
+        final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        volatile long lastPurge;
+
+        RequestTypeCache(Function<T, Object> keyFunction, ToLongFunction<SecurityIdentity> expirationFunction,
+                int maxSize, long timeToLive) {
+            this.keyFunction = keyFunction;
+            this.expirationFunction = expirationFunction;
+            this.maxSize = maxSize;
+            this.timeToLive = timeToLive;
+        }
+
+        SecurityIdentity get(T request) {
+            Object key = keyFunction.apply(request);
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > System.currentTimeMillis()) {
+                    hits.increment();
+                    return entry.identity;
+                }
+                entries.remove(key, entry);
+            }
+            misses.increment();
+            return null;
+        }
+
+        void put(T request, SecurityIdentity identity) {
+            if (maxSize <= 0 || identity == null || identity.isAnonymous()) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            long expiresAt = now + timeToLive;
+            if (expirationFunction != null) {
+                long expiration = expirationFunction.applyAsLong(identity);
+                if (expiration <= now) {
+                    // unknown or already expired
+                    return;
+                }
+                expiresAt = Math.min(expiresAt, expiration);
+            }
+            if (entries.size() >= maxSize) {
+                makeRoom(now);
+            }
+            entries.put(keyFunction.apply(request), new Entry(identity, expiresAt));
+        }
+
+        private void makeRoom(long now) {
+            if (now - lastPurge > PURGE_INTERVAL) {
+                lastPurge = now;
+                entries.values().removeIf(e -> e.expiresAt <= now);
+            }
+            Iterator<Object> it = entries.keySet().iterator();
+            while (entries.size() >= maxSize && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        final SecurityIdentity identity;
+        final long expiresAt;
+
+        Entry(SecurityIdentity identity, long expiresAt) {
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class DigestKey {
+
+        private final byte[] digest;
+        private final int hashCode;
+
+        DigestKey(byte[] digest) {
+            this.digest = digest;
+            this.hashCode = Arrays.hashCode(digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DigestKey)) {
+                return false;
+            }
+            return Arrays.equals(digest, ((DigestKey) obj).digest);
+        }
+    }
+}
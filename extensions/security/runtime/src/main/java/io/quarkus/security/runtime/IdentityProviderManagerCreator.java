@@ -6,6 +6,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Produces;
 import javax.inject.Inject;
+import javax.inject.Singleton;
 
 import io.quarkus.runtime.ExecutorRecorder;
 import io.quarkus.security.identity.IdentityProvider;
@@ -25,6 +26,15 @@ public class IdentityProviderManagerCreator {
     @Inject
     Instance<SecurityIdentityAugmentor> augmentors;
 
+    // configured in place by the SecurityRecorder at runtime init
+    private final IdentityCache identityCache = new IdentityCache();
+
+    @Produces
+    @Singleton
+    public IdentityCache identityCache() {
+        return identityCache;
+    }
+
     @Produces
     @ApplicationScoped
     public IdentityProviderManager ipm() {
@@ -42,6 +52,7 @@ public class IdentityProviderManagerCreator {
         for (SecurityIdentityAugmentor i : augmentors) {
             builder.addSecurityIdentityAugmenter(i);
         }
+        builder.setIdentityCache(identityCache);
         builder.setBlockingExecutor(new Executor() {
             @Override
             public void execute(Runnable command) {
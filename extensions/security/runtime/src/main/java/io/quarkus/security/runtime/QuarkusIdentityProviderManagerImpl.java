@@ -31,6 +31,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
     private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider>> providers;
     private final List<SecurityIdentityAugmentor> augmenters;
     private final Executor blockingExecutor;
+    private final IdentityCache identityCache;
 
     private static final AuthenticationRequestContext blockingRequestContext = new AuthenticationRequestContext() {
         @Override
@@ -50,6 +51,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
         this.providers = builder.providers;
         this.augmenters = builder.augmenters;
         this.blockingExecutor = builder.blockingExecutor;
+        this.identityCache = builder.identityCache;
     }
 
     /**
@@ -69,7 +71,21 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
                     "No IdentityProviders were registered to handle AuthenticationRequest " + request));
             return cf;
         }
-        return handleProvider(0, (List) providers, request, new AsyncAuthenticationRequestContext());
+        if (identityCache == null || !identityCache.isCached(request.getClass())) {
+            return handleProvider(0, (List) providers, request, new AsyncAuthenticationRequestContext());
+        }
+        SecurityIdentity cached = identityCache.get(request);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return handleProvider(0, (List) providers, request, new AsyncAuthenticationRequestContext())
+                .thenApply(new Function<SecurityIdentity, SecurityIdentity>() {
+                    @Override
+                    public SecurityIdentity apply(SecurityIdentity identity) {
+                        identityCache.put(request, identity);
+                        return identity;
+                    }
+                });
     }
 
     /**
@@ -87,8 +103,17 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
             throw new IllegalArgumentException(
                     "No IdentityProviders were registered to handle AuthenticationRequest " + request);
         }
-        return (SecurityIdentity) handleProvider(0, (List) providers, request, blockingRequestContext).toCompletableFuture()
-                .join();
+        if (identityCache == null || !identityCache.isCached(request.getClass())) {
+            return (SecurityIdentity) handleProvider(0, (List) providers, request, blockingRequestContext)
+                    .toCompletableFuture().join();
+        }
+        SecurityIdentity identity = identityCache.get(request);
+        if (identity == null) {
+            identity = (SecurityIdentity) handleProvider(0, (List) providers, request, blockingRequestContext)
+                    .toCompletableFuture().join();
+            identityCache.put(request, identity);
+        }
+        return identity;
     }
 
     private <T extends AuthenticationRequest> CompletionStage<SecurityIdentity> handleProvider(int pos,
@@ -101,20 +126,22 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
             return cf;
         }
         IdentityProvider<T> current = providers.get(pos);
-        CompletionStage<SecurityIdentity> cs = current.authenticate(request, context)
-                .thenCompose(new Function<SecurityIdentity, CompletionStage<SecurityIdentity>>() {
-                    @Override
-                    public CompletionStage<SecurityIdentity> apply(SecurityIdentity identity) {
-                        if (identity != null) {
-                            return CompletableFuture.completedFuture(identity);
-                        }
-                        return handleProvider(pos + 1, providers, request, context);
-                    }
-                });
+        CompletionStage<SecurityIdentity> cs = current.authenticate(request, context);
+        if (isCompleted(cs)) {
+            // the provider did not need to do any async work, avoid creating a new stage
+            SecurityIdentity identity = ((CompletableFuture<SecurityIdentity>) cs).join();
+            if (identity != null) {
+                return handleIdentityFromProvider(0, identity, context);
+            }
+            return handleProvider(pos + 1, providers, request, context);
+        }
         return cs.thenCompose(new Function<SecurityIdentity, CompletionStage<SecurityIdentity>>() {
             @Override
             public CompletionStage<SecurityIdentity> apply(SecurityIdentity identity) {
-                return handleIdentityFromProvider(0, identity, context);
+                if (identity != null) {
+                    return handleIdentityFromProvider(0, identity, context);
+                }
+                return handleProvider(pos + 1, providers, request, context);
             }
         });
     }
@@ -125,7 +152,11 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
             return CompletableFuture.completedFuture(identity);
         }
         SecurityIdentityAugmentor a = augmenters.get(pos);
-        return a.augment(identity, context).thenCompose(new Function<SecurityIdentity, CompletionStage<SecurityIdentity>>() {
+        CompletionStage<SecurityIdentity> cs = a.augment(identity, context);
+        if (isCompleted(cs)) {
+            return handleIdentityFromProvider(pos + 1, ((CompletableFuture<SecurityIdentity>) cs).join(), context);
+        }
+        return cs.thenCompose(new Function<SecurityIdentity, CompletionStage<SecurityIdentity>>() {
             @Override
             public CompletionStage<SecurityIdentity> apply(SecurityIdentity identity) {
                 return handleIdentityFromProvider(pos + 1, identity, context);
@@ -133,6 +164,14 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
         });
     }
 
+    private static boolean isCompleted(CompletionStage<SecurityIdentity> cs) {
+        if (cs instanceof CompletableFuture) {
+            CompletableFuture<SecurityIdentity> cf = (CompletableFuture<SecurityIdentity>) cs;
+            return cf.isDone() && !cf.isCompletedExceptionally();
+        }
+        return false;
+    }
+
     /**
      * Creates a builder for constructing instances of {@link QuarkusIdentityProviderManagerImpl}
      *
@@ -153,6 +192,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
         private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider>> providers = new HashMap<>();
         private final List<SecurityIdentityAugmentor> augmenters = new ArrayList<>();
         private Executor blockingExecutor;
+        private IdentityCache identityCache;
         private boolean built = false;
 
         /**
@@ -189,6 +229,15 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
             return this;
         }
 
+        /**
+         * @param identityCache The cache of the authenticated identities
+         * @return this builder
+         */
+        public Builder setIdentityCache(IdentityCache identityCache) {
+            this.identityCache = identityCache;
+            return this;
+        }
+
         /**
          * @return a new {@link QuarkusIdentityProviderManagerImpl}
          */
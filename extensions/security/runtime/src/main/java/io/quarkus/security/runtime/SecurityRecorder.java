@@ -0,0 +1,24 @@
+package io.quarkus.security.runtime;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+
+@Recorder
+public class SecurityRecorder {
+
+    public void configureIdentityCache(SecurityRuntimeConfig config, BeanContainer beanContainer) {
+        IdentityCache cache = beanContainer.instance(IdentityCache.class);
+        SecurityRuntimeConfig.RequestTypeConfig usernamePassword = config.identityCache.usernamePassword;
+        if (usernamePassword.enabled) {
+            cache.addRequestType(UsernamePasswordAuthenticationRequest.class, IdentityCache::usernamePasswordKey,
+                    usernamePassword.maxSize, usernamePassword.timeToLive.toMillis());
+        }
+        SecurityRuntimeConfig.RequestTypeConfig token = config.identityCache.token;
+        if (token.enabled) {
+            cache.addRequestType(TokenAuthenticationRequest.class, IdentityCache::tokenKey,
+                    IdentityCache::tokenExpiration, token.maxSize, token.timeToLive.toMillis());
+        }
+    }
+}
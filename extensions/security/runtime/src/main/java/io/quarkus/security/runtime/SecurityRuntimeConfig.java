@@ -0,0 +1,60 @@
+package io.quarkus.security.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * Runtime configuration of the security extension.
+ */
+@ConfigRoot(name = "security", phase = ConfigPhase.RUN_TIME)
+public class SecurityRuntimeConfig {
+
+    /**
+     * The identity cache configuration.
+     */
+    @ConfigItem
+    public IdentityCacheConfig identityCache;
+
+    @ConfigGroup
+    public static class IdentityCacheConfig {
+
+        /**
+         * The cache of the identities authenticated by a username and a password.
+         */
+        @ConfigItem
+        public RequestTypeConfig usernamePassword;
+
+        /**
+         * The cache of the identities authenticated by a token.
+         */
+        @ConfigItem
+        public RequestTypeConfig token;
+    }
+
+    @ConfigGroup
+    public static class RequestTypeConfig {
+
+        /**
+         * If set to true the identities are cached, i.e. the identity providers and the augmentors are not invoked
+         * again for the same credentials until the cached identity expires or is invalidated.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The maximum number of cached identities.
+         */
+        @ConfigItem(defaultValue = "1000")
+        public int maxSize;
+
+        /**
+         * The time after which a cached identity expires.
+         */
+        @ConfigItem(defaultValue = "1M")
+        public Duration timeToLive;
+    }
+}
@@ -6,11 +6,13 @@ import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
 import javax.interceptor.InvocationContext;
 
+import io.quarkus.arc.ProceedsSynchronously;
 import io.quarkus.security.Authenticated;
 
 /**
  * @author Michal Szynkiewicz, michal.l.szynkiewicz@gmail.com
  */
+@ProceedsSynchronously
 @Interceptor
 @Authenticated
 @Priority(Interceptor.Priority.LIBRARY_BEFORE)
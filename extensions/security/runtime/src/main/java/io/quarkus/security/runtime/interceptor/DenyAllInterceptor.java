@@ -7,10 +7,13 @@ import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
 import javax.interceptor.InvocationContext;
 
+import io.quarkus.arc.ProceedsSynchronously;
+
 /**
  *
  * @author Michal Szynkiewicz, michal.l.szynkiewicz@gmail.com
  */
+@ProceedsSynchronously
 @Interceptor
 @DenyAll
 @Priority(Interceptor.Priority.LIBRARY_BEFORE)
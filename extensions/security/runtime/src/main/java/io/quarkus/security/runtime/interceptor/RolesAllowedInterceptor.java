@@ -7,9 +7,12 @@ import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
 import javax.interceptor.InvocationContext;
 
+import io.quarkus.arc.ProceedsSynchronously;
+
 /**
  * @author Michal Szynkiewicz, michal.l.szynkiewicz@gmail.com
  */
+@ProceedsSynchronously
 @Interceptor
 @RolesAllowed("")
 @Priority(Interceptor.Priority.LIBRARY_BEFORE)
@@ -16,6 +16,7 @@ import org.eclipse.microprofile.faulttolerance.Fallback;
 import org.eclipse.microprofile.faulttolerance.FallbackHandler;
 import org.eclipse.microprofile.faulttolerance.Retry;
 import org.eclipse.microprofile.faulttolerance.Timeout;
+import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationTarget.Kind;
 import org.jboss.jandex.AnnotationValue;
@@ -23,12 +24,9 @@ import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 
-import com.netflix.hystrix.HystrixCircuitBreaker;
-
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
-import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.BeanDefiningAnnotationBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
 import io.quarkus.arc.processor.AnnotationsTransformer;
@@ -43,35 +41,24 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ConfigurationTypeBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
-import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
-import io.quarkus.deployment.builditem.substrate.SubstrateSystemPropertyBuildItem;
-import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.smallrye.faulttolerance.runtime.FaultToleranceBinding;
+import io.quarkus.smallrye.faulttolerance.runtime.FaultToleranceRegistry;
 import io.quarkus.smallrye.faulttolerance.runtime.QuarkusFallbackHandlerProvider;
+import io.quarkus.smallrye.faulttolerance.runtime.QuarkusFaultToleranceInterceptor;
 import io.quarkus.smallrye.faulttolerance.runtime.QuarkusFaultToleranceOperationProvider;
 import io.quarkus.smallrye.faulttolerance.runtime.SmallryeFaultToleranceRecorder;
-import io.smallrye.faulttolerance.DefaultCommandListenersProvider;
-import io.smallrye.faulttolerance.DefaultHystrixConcurrencyStrategy;
-import io.smallrye.faulttolerance.HystrixCommandBinding;
-import io.smallrye.faulttolerance.HystrixCommandInterceptor;
-import io.smallrye.faulttolerance.HystrixInitializer;
-import io.smallrye.faulttolerance.metrics.MetricsCollectorFactory;
 
 public class SmallRyeFaultToleranceProcessor {
 
-    @Inject
-    BuildProducer<ReflectiveClassBuildItem> reflectiveClass;
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
 
     @Inject
-    BuildProducer<SubstrateSystemPropertyBuildItem> nativeImageSystemProperty;
+    BuildProducer<ReflectiveClassBuildItem> reflectiveClass;
 
     @Inject
     CombinedIndexBuildItem combinedIndexBuildItem;
 
-    SubstrateSystemPropertyBuildItem disableJmx() {
-        return new SubstrateSystemPropertyBuildItem("archaius.dynamicPropertyFactory.registerConfigWithJMX", "false");
-    }
-
     @BuildStep
     public void build(BuildProducer<AnnotationsTransformerBuildItem> annotationsTransformer,
             BuildProducer<FeatureBuildItem> feature, BuildProducer<AdditionalBeanBuildItem> additionalBean,
@@ -89,9 +76,6 @@ public class SmallRyeFaultToleranceProcessor {
 
         IndexView index = combinedIndexBuildItem.getIndex();
 
-        // Make sure rx.internal.util.unsafe.UnsafeAccess.DISABLED_BY_USER is set.
-        nativeImageSystemProperty.produce(new SubstrateSystemPropertyBuildItem("rx.unsafe-disable", "true"));
-
         // Add reflective acccess to fallback handlers
         Set<String> fallbackHandlers = new HashSet<>();
         for (ClassInfo implementor : index
@@ -108,7 +92,23 @@ public class SmallRyeFaultToleranceProcessor {
             additionalBean.produce(fallbackHandlersBeans.build());
         }
 
-        reflectiveClass.produce(new ReflectiveClassBuildItem(false, true, HystrixCircuitBreaker.Factory.class.getName()));
+        // Add reflective access to the fallback methods, which are looked up in the class hierarchy of the bean class
+        Set<String> fallbackMethodClasses = new HashSet<>();
+        for (AnnotationInstance fallback : index.getAnnotations(DotName.createSimple(Fallback.class.getName()))) {
+            if (fallback.value("fallbackMethod") != null) {
+                ClassInfo annotatedClass = fallback.target().kind() == Kind.METHOD
+                        ? fallback.target().asMethod().declaringClass()
+                        : fallback.target().asClass();
+                for (ClassInfo subclass : index.getAllKnownSubclasses(annotatedClass.name())) {
+                    fallbackMethodClasses.add(subclass.name().toString());
+                }
+                addClassHierarchy(index, annotatedClass.name(), fallbackMethodClasses);
+            }
+        }
+        for (String fallbackMethodClass : fallbackMethodClasses) {
+            reflectiveClass.produce(new ReflectiveClassBuildItem(true, false, fallbackMethodClass));
+        }
+
         for (DotName annotation : ftAnnotations) {
             reflectiveClass.produce(new ReflectiveClassBuildItem(true, false, annotation.toString()));
             // also make them bean defining annotations
@@ -125,7 +125,7 @@ public class SmallRyeFaultToleranceProcessor {
             @Override
             public void transform(TransformationContext context) {
                 if (ftAnnotations.contains(context.getTarget().asClass().name())) {
-                    context.transform().add(HystrixCommandBinding.class).done();
+                    context.transform().add(FaultToleranceBinding.class).done();
                 }
             }
         }));
@@ -137,11 +137,9 @@ public class SmallRyeFaultToleranceProcessor {
         for (DotName ftAnnotation : ftAnnotations) {
             builder.addBeanClass(ftAnnotation.toString());
         }
-        builder.addBeanClasses(HystrixCommandInterceptor.class, HystrixInitializer.class,
-                DefaultHystrixConcurrencyStrategy.class,
-                QuarkusFaultToleranceOperationProvider.class, QuarkusFallbackHandlerProvider.class,
-                DefaultCommandListenersProvider.class,
-                MetricsCollectorFactory.class);
+        builder.addBeanClasses(FaultToleranceBinding.class, QuarkusFaultToleranceInterceptor.class,
+                FaultToleranceRegistry.class, QuarkusFaultToleranceOperationProvider.class,
+                QuarkusFallbackHandlerProvider.class);
         additionalBean.produce(builder.build());
     }
 
@@ -157,7 +155,7 @@ public class SmallRyeFaultToleranceProcessor {
             public void transform(TransformationContext ctx) {
                 if (ctx.isClass()) {
                     if (!ctx.getTarget().asClass().name().toString()
-                            .equals("io.smallrye.faulttolerance.HystrixCommandInterceptor")) {
+                            .equals(QuarkusFaultToleranceInterceptor.class.getName())) {
                         return;
                     }
 
@@ -192,29 +190,18 @@ public class SmallRyeFaultToleranceProcessor {
         return new ConfigurationTypeBuildItem(ChronoUnit.class);
     }
 
-    @BuildStep
-    public void logCleanup(BuildProducer<LogCleanupFilterBuildItem> logCleanupFilter) {
-        logCleanupFilter.produce(new LogCleanupFilterBuildItem("io.smallrye.faulttolerance.HystrixInitializer",
-                "### Init Hystrix ###",
-                "### Reset Hystrix ###",
-                // no need to log the strategy if it is the default
-                "Hystrix concurrency strategy used: DefaultHystrixConcurrencyStrategy"));
-        logCleanupFilter.produce(new LogCleanupFilterBuildItem("io.smallrye.faulttolerance.DefaultHystrixConcurrencyStrategy",
-                "### Privilleged Thread Factory used ###"));
-
-        logCleanupFilter.produce(new LogCleanupFilterBuildItem("com.netflix.config.sources.URLConfigurationSource",
-                "No URLs will be polled as dynamic configuration sources.",
-                "To enable URLs as dynamic configuration sources"));
-        logCleanupFilter.produce(new LogCleanupFilterBuildItem("com.netflix.config.DynamicPropertyFactory",
-                "DynamicPropertyFactory is initialized with configuration sources"));
-    }
-
-    @Record(ExecutionTime.STATIC_INIT)
-    @BuildStep
-    public void clearStatic(SmallryeFaultToleranceRecorder recorder, ShutdownContextBuildItem context,
-            BeanContainerBuildItem beanContainer) {
-        // impl note - we depend on BeanContainerBuildItem to make sure Arc registers before SR FT
-        // this is needed so that shutdown context of FT is executed before Arc container shuts down
-        recorder.resetCommandContextOnUndeploy(context);
+    private static void addClassHierarchy(IndexView index, DotName className, Set<String> classes) {
+        if (className == null || className.equals(OBJECT) || !classes.add(className.toString())) {
+            return;
+        }
+        ClassInfo classInfo = index.getClassByName(className);
+        if (classInfo == null) {
+            return;
+        }
+        // e.g. a default method of an implemented interface
+        for (DotName interfaceName : classInfo.interfaceNames()) {
+            addClassHierarchy(index, interfaceName, classes);
+        }
+        addClassHierarchy(index, classInfo.superName(), classes);
     }
 }
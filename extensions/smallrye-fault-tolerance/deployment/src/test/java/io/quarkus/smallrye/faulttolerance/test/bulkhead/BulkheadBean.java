@@ -0,0 +1,28 @@
+package io.quarkus.smallrye.faulttolerance.test.bulkhead;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+
+@ApplicationScoped
+public class BulkheadBean {
+
+    @Bulkhead(1)
+    public String sync(CountDownLatch started, CountDownLatch release) throws InterruptedException {
+        started.countDown();
+        release.await();
+        return "sync";
+    }
+
+    @Asynchronous
+    @Bulkhead(value = 1, waitingTaskQueue = 1)
+    public CompletionStage<String> async(CountDownLatch release) throws InterruptedException {
+        release.await();
+        return CompletableFuture.completedFuture("async");
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkus.smallrye.faulttolerance.test.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BulkheadTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(BulkheadBean.class));
+
+    @Inject
+    BulkheadBean bean;
+
+    @Test
+    public void testSynchronousBulkhead() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> first = executor.submit(() -> bean.sync(started, release));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertThrows(BulkheadException.class, () -> bean.sync(new CountDownLatch(1), release));
+            release.countDown();
+            assertEquals("sync", first.get(5, TimeUnit.SECONDS));
+            // the permit is released
+            assertEquals("sync", bean.sync(new CountDownLatch(1), release));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAsynchronousBulkheadQueue() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletionStage<String> running = bean.async(release);
+        CompletionStage<String> queued = bean.async(release);
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> bean.async(release).toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof BulkheadException);
+        release.countDown();
+        assertEquals("async", running.toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertEquals("async", queued.toCompletableFuture().get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,39 @@
+package io.quarkus.smallrye.faulttolerance.test.circuitbreaker;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Retry;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+@ApplicationScoped
+public class CircuitBreakerBean {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @CircuitBreaker(requestVolumeThreshold = 2, failureRatio = 1.0, delay = 60000)
+    public String fail() {
+        throw new IllegalStateException();
+    }
+
+    @Retry(maxRetries = 3, jitter = 0)
+    public String retry() {
+        if (attempts.incrementAndGet() < 3) {
+            throw new IllegalStateException();
+        }
+        return "ok";
+    }
+
+    @Timeout(100)
+    public CompletionStage<String> never() {
+        return new CompletableFuture<>();
+    }
+
+    public int getAttempts() {
+        return attempts.get();
+    }
+}
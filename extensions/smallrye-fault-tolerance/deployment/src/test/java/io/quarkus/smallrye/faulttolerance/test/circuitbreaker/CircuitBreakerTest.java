@@ -0,0 +1,50 @@
+package io.quarkus.smallrye.faulttolerance.test.circuitbreaker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CircuitBreakerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CircuitBreakerBean.class));
+
+    @Inject
+    CircuitBreakerBean bean;
+
+    @Test
+    public void testCircuitBreakerOpens() {
+        assertThrows(IllegalStateException.class, bean::fail);
+        assertThrows(IllegalStateException.class, bean::fail);
+        assertThrows(CircuitBreakerOpenException.class, bean::fail);
+    }
+
+    @Test
+    public void testRetry() {
+        assertEquals("ok", bean.retry());
+        assertEquals(3, bean.getAttempts());
+    }
+
+    @Test
+    public void testCompletionStageTimeout() {
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> bean.never().toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof TimeoutException);
+    }
+}
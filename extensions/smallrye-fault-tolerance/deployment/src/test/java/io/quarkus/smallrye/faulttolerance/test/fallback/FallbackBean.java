@@ -1,14 +1,19 @@
 package io.quarkus.smallrye.faulttolerance.test.fallback;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import javax.enterprise.context.ApplicationScoped;
 
 import org.eclipse.microprofile.faulttolerance.ExecutionContext;
 import org.eclipse.microprofile.faulttolerance.Fallback;
 import org.eclipse.microprofile.faulttolerance.FallbackHandler;
+import org.eclipse.microprofile.faulttolerance.Retry;
 
 @ApplicationScoped
 public class FallbackBean {
 
+    private final AtomicInteger attempts = new AtomicInteger();
+
     public static class RecoverFallback implements FallbackHandler<String> {
         @Override
         public String handle(ExecutionContext context) {
@@ -21,4 +26,19 @@ public class FallbackBean {
         throw new RuntimeException();
     }
 
+    @Retry(maxRetries = 2, jitter = 0)
+    @Fallback(fallbackMethod = "recover")
+    public String retryThenRecover(String name) {
+        attempts.incrementAndGet();
+        throw new IllegalStateException();
+    }
+
+    String recover(String name) {
+        return "recovered " + name;
+    }
+
+    public int getAttempts() {
+        return attempts.get();
+    }
+
 }
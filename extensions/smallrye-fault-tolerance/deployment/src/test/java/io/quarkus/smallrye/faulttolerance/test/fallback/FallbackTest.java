@@ -27,4 +27,10 @@ public class FallbackTest {
         assertEquals(RecoverFallback.class.getName(), bean.ping());
     }
 
+    @Test
+    public void testFallbackMethodAfterRetries() {
+        assertEquals("recovered foo", bean.retryThenRecover("foo"));
+        assertEquals(3, bean.getAttempts());
+    }
+
 }
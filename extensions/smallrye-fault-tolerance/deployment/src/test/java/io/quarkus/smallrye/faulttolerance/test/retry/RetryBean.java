@@ -0,0 +1,70 @@
+package io.quarkus.smallrye.faulttolerance.test.retry;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Retry;
+
+@ApplicationScoped
+public class RetryBean {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final List<String> threads = new CopyOnWriteArrayList<>();
+
+    @Retry(maxRetries = 2, jitter = 0)
+    public String exhausted() {
+        attempts.incrementAndGet();
+        throw new IllegalStateException("exhausted");
+    }
+
+    @Retry(maxRetries = 3, abortOn = UnsupportedOperationException.class, jitter = 0)
+    public String abort() {
+        attempts.incrementAndGet();
+        throw new UnsupportedOperationException();
+    }
+
+    @Retry
+    public String defaults() {
+        threads.add(Thread.currentThread().getName());
+        if (attempts.incrementAndGet() < 3) {
+            throw new IllegalStateException();
+        }
+        return "ok";
+    }
+
+    @Retry(maxRetries = 3, delay = 50)
+    public String delayedSync() {
+        attempts.incrementAndGet();
+        throw new IllegalStateException();
+    }
+
+    @Retry(maxRetries = 3, delay = 50, jitter = 0)
+    public CompletionStage<String> delayed() {
+        threads.add(Thread.currentThread().getName());
+        CompletableFuture<String> result = new CompletableFuture<>();
+        if (attempts.incrementAndGet() < 3) {
+            result.completeExceptionally(new IllegalStateException());
+        } else {
+            result.complete("ok");
+        }
+        return result;
+    }
+
+    public int getAttempts() {
+        return attempts.get();
+    }
+
+    public List<String> getThreads() {
+        return threads;
+    }
+
+    public void reset() {
+        attempts.set(0);
+        threads.clear();
+    }
+}
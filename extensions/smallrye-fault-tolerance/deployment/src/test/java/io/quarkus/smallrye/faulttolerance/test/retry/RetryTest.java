@@ -0,0 +1,107 @@
+package io.quarkus.smallrye.faulttolerance.test.retry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.Vertx;
+
+public class RetryTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(RetryBean.class));
+
+    @Inject
+    RetryBean bean;
+
+    @Inject
+    Vertx vertx;
+
+    @BeforeEach
+    public void reset() {
+        bean.reset();
+    }
+
+    @Test
+    public void testRetriesExhausted() {
+        assertThrows(IllegalStateException.class, bean::exhausted);
+        assertEquals(3, bean.getAttempts());
+    }
+
+    @Test
+    public void testAbortOn() {
+        assertThrows(UnsupportedOperationException.class, bean::abort);
+        assertEquals(1, bean.getAttempts());
+    }
+
+    @Test
+    public void testDefaultRetriesOnTheEventLoop() throws Exception {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        vertx.runOnContext(v -> {
+            try {
+                result.complete(bean.defaults());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+        assertEquals(3, bean.getAttempts());
+        assertTrue(bean.getThreads().stream().allMatch(thread -> thread.startsWith("vert.x-eventloop")),
+                bean.getThreads().toString());
+    }
+
+    @Test
+    public void testDelayedSyncRetriesAreRejectedOnTheEventLoop() throws Exception {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        vertx.runOnContext(v -> {
+            try {
+                result.complete(bean.delayedSync());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause().getMessage().contains("event loop"), e.getCause().getMessage());
+        assertEquals(1, bean.getAttempts());
+    }
+
+    @Test
+    public void testDelayedRetriesRunOnTheExecutor() throws Exception {
+        assertEquals("ok", bean.delayed().toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertEquals(3, bean.getAttempts());
+        assertFalse(bean.getThreads().stream().anyMatch(thread -> thread.startsWith("quarkus-fault-tolerance-timer")),
+                bean.getThreads().toString());
+    }
+
+    @Test
+    public void testDelayedRetriesRunOnTheCallerContext() throws Exception {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        vertx.runOnContext(v -> bean.delayed().whenComplete((value, failure) -> {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        }));
+        assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+        assertEquals(3, bean.getThreads().size());
+        assertTrue(bean.getThreads().stream().allMatch(thread -> thread.startsWith("vert.x-eventloop")),
+                bean.getThreads().toString());
+    }
+}
@@ -0,0 +1,41 @@
+package io.quarkus.smallrye.faulttolerance.test.timeout;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.faulttolerance.Asynchronous;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+
+@ApplicationScoped
+public class TimeoutBean {
+
+    private volatile boolean interrupted;
+
+    @Timeout(100)
+    public String sleep() {
+        try {
+            Thread.sleep(10000);
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+        return "late";
+    }
+
+    @Timeout(1000)
+    public String fast() {
+        return "fast";
+    }
+
+    @Asynchronous
+    @Timeout(100)
+    public CompletionStage<String> asyncSleep() throws InterruptedException {
+        Thread.sleep(10000);
+        return CompletableFuture.completedFuture("late");
+    }
+
+    public boolean isInterrupted() {
+        return interrupted;
+    }
+}
@@ -0,0 +1,74 @@
+package io.quarkus.smallrye.faulttolerance.test.timeout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.Vertx;
+
+public class TimeoutTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(TimeoutBean.class));
+
+    @Inject
+    TimeoutBean bean;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testTimeoutInterruptsTheCaller() {
+        long start = System.nanoTime();
+        assertThrows(TimeoutException.class, bean::sleep);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+        assertTrue(bean.isInterrupted());
+        // the interruption does not leak to the caller
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void testNoTimeout() {
+        for (int i = 0; i < 100; i++) {
+            assertEquals("fast", bean.fast());
+        }
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void testAsynchronousTimeout() {
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> bean.asyncSleep().toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof TimeoutException);
+    }
+
+    @Test
+    public void testEventLoopCallerIsRejected() throws Exception {
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        vertx.runOnContext(v -> {
+            try {
+                bean.fast();
+                failure.complete(null);
+            } catch (Throwable t) {
+                failure.complete(t);
+            }
+        });
+        assertTrue(failure.get(5, TimeUnit.SECONDS) instanceof IllegalStateException);
+    }
+}
@@ -0,0 +1,205 @@
+package io.quarkus.smallrye.faulttolerance.runtime;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A lock-free circuit breaker.
+ * <p>
+ * The state is immutable and replaced atomically: the outcomes of the last {@code requestVolumeThreshold} calls are
+ * kept in a rolling bit set and the circuit opens when the window is full and the failure ratio is reached. Once the
+ * delay elapsed the circuit is half-open and lets {@code successThreshold} trial calls through; it closes if they all
+ * succeed and opens again on the first failure.
+ */
+final class CircuitBreakerState {
+
+    enum Status {
+        CLOSED,
+        OPEN,
+        HALF_OPEN,
+    }
+
+    private final int requestVolumeThreshold;
+    private final double failureRatio;
+    private final int successThreshold;
+    private final long delay;
+    private final AtomicReference<State> state;
+
+    CircuitBreakerState(int requestVolumeThreshold, double failureRatio, int successThreshold, long delay) {
+        this.requestVolumeThreshold = requestVolumeThreshold;
+        this.failureRatio = failureRatio;
+        this.successThreshold = successThreshold;
+        this.delay = delay;
+        this.state = new AtomicReference<>(State.closed(System.nanoTime(), new long[3], requestVolumeThreshold));
+    }
+
+    /**
+     *
+     * @return {@code true} if the call is allowed
+     */
+    boolean tryAcquire() {
+        for (;;) {
+            State current = state.get();
+            switch (current.status) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    long now = System.nanoTime();
+                    if (now - current.since < delay) {
+                        return false;
+                    }
+                    // the first trial call
+                    if (state.compareAndSet(current, current.halfOpen(now, 1))) {
+                        return true;
+                    }
+                    break;
+                default:
+                    if (current.probes >= successThreshold) {
+                        return false;
+                    }
+                    if (state.compareAndSet(current, current.withProbes(current.probes + 1))) {
+                        return true;
+                    }
+            }
+        }
+    }
+
+    void onSuccess() {
+        for (;;) {
+            State current = state.get();
+            State next;
+            switch (current.status) {
+                case CLOSED:
+                    next = current.record(false, requestVolumeThreshold);
+                    break;
+                case HALF_OPEN:
+                    next = current.successes + 1 >= successThreshold
+                            ? State.closed(System.nanoTime(), current.accumulate(System.nanoTime()), requestVolumeThreshold)
+                            : current.withSuccesses(current.successes + 1);
+                    break;
+                default:
+                    // a call started before the circuit opened
+                    return;
+            }
+            if (state.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     *
+     * @return {@code true} if this failure opened the circuit
+     */
+    boolean onFailure() {
+        for (;;) {
+            State current = state.get();
+            State next;
+            switch (current.status) {
+                case CLOSED:
+                    next = current.record(true, requestVolumeThreshold);
+                    if (next.size == requestVolumeThreshold && next.failures >= failureRatio * requestVolumeThreshold) {
+                        next = current.open(System.nanoTime());
+                    }
+                    break;
+                case HALF_OPEN:
+                    next = current.open(System.nanoTime());
+                    break;
+                default:
+                    return false;
+            }
+            if (state.compareAndSet(current, next)) {
+                return next.status == Status.OPEN;
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the total time spent in the given status in nanoseconds
+     */
+    long timeIn(Status status) {
+        State current = state.get();
+        long total = current.totals[status.ordinal()];
+        if (current.status == status) {
+            total += System.nanoTime() - current.since;
+        }
+        return total;
+    }
+
+    Status status() {
+        return state.get().status;
+    }
+
+    private static final class State {
+
+        final Status status;
+        final long since;
+        final long[] totals;
+        // the outcomes of the calls in the closed state, a set bit is a failure
+        final long[] window;
+        final int size;
+        final int next;
+        final int failures;
+        // the calls in the half-open state
+        final int probes;
+        final int successes;
+
+        private State(Status status, long since, long[] totals, long[] window, int size, int next, int failures,
+                int probes, int successes) {
+            this.status = status;
+            this.since = since;
+            this.totals = totals;
+            this.window = window;
+            this.size = size;
+            this.next = next;
+            this.failures = failures;
+            this.probes = probes;
+            this.successes = successes;
+        }
+
+        static State closed(long now, long[] totals, int requestVolumeThreshold) {
+            return new State(Status.CLOSED, now, totals, new long[(requestVolumeThreshold + 63) >>> 6], 0, 0, 0, 0, 0);
+        }
+
+        State record(boolean failure, int capacity) {
+            long[] bits = window.clone();
+            long mask = 1L << next;
+            int index = next >>> 6;
+            int failed = failures;
+            if (size == capacity && (bits[index] & mask) != 0) {
+                // the oldest outcome leaves the window
+                failed--;
+            }
+            if (failure) {
+                bits[index] |= mask;
+                failed++;
+            } else {
+                bits[index] &= ~mask;
+            }
+            return new State(status, since, totals, bits, Math.min(size + 1, capacity), (next + 1) % capacity, failed, 0,
+                    0);
+        }
+
+        State open(long now) {
+            return new State(Status.OPEN, now, accumulate(now), window, 0, 0, 0, 0, 0);
+        }
+
+        State halfOpen(long now, int probes) {
+            return new State(Status.HALF_OPEN, now, accumulate(now), window, 0, 0, 0, probes, 0);
+        }
+
+        State withProbes(int probes) {
+            return new State(status, since, totals, window, size, next, failures, probes, successes);
+        }
+
+        State withSuccesses(int successes) {
+            return new State(status, since, totals, window, size, next, failures, probes, successes);
+        }
+
+        long[] accumulate(long now) {
+            long[] accumulated = totals.clone();
+            accumulated[status.ordinal()] += now - since;
+            return accumulated;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.smallrye.faulttolerance.runtime;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * Binds the {@link QuarkusFaultToleranceInterceptor}. It is added to the fault tolerance annotations at build time, so
+ * that they become interceptor bindings themselves.
+ */
+@Inherited
+@InterceptorBinding
+@Retention(value = RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface FaultToleranceBinding {
+
+}
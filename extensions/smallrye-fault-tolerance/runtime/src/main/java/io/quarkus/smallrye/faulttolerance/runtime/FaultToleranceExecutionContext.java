@@ -0,0 +1,36 @@
+package io.quarkus.smallrye.faulttolerance.runtime;
+
+import java.lang.reflect.Method;
+
+import javax.interceptor.InvocationContext;
+
+import org.eclipse.microprofile.faulttolerance.ExecutionContext;
+
+/**
+ * The execution context passed to a {@link org.eclipse.microprofile.faulttolerance.FallbackHandler}.
+ */
+final class FaultToleranceExecutionContext implements ExecutionContext {
+
+    private final InvocationContext context;
+    private final Throwable failure;
+
+    FaultToleranceExecutionContext(InvocationContext context, Throwable failure) {
+        this.context = context;
+        this.failure = failure;
+    }
+
+    @Override
+    public Method getMethod() {
+        return context.getMethod();
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return context.getParameters();
+    }
+
+    @Override
+    public Throwable getFailure() {
+        return failure;
+    }
+}
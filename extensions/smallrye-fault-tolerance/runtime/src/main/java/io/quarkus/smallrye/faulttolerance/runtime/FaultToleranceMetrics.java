@@ -0,0 +1,230 @@
+package io.quarkus.smallrye.faulttolerance.runtime;
+
+import java.lang.reflect.Method;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+
+import io.smallrye.faulttolerance.config.FaultToleranceOperation;
+
+/**
+ * The metrics of a guarded method, as defined by the MicroProfile Fault Tolerance specification.
+ * <p>
+ * The metrics are resolved once per method and a metric is {@code null} if the corresponding strategy is not used.
+ */
+final class FaultToleranceMetrics {
+
+    static final FaultToleranceMetrics DISABLED = new FaultToleranceMetrics();
+
+    private final Counter invocations;
+    private final Counter invocationsFailed;
+
+    private final Counter retrySucceededNotRetried;
+    private final Counter retrySucceededRetried;
+    private final Counter retryFailed;
+    private final Counter retries;
+
+    private final Histogram timeoutExecutionDuration;
+    private final Counter timedOut;
+    private final Counter notTimedOut;
+
+    private final Counter circuitBreakerSucceeded;
+    private final Counter circuitBreakerFailed;
+    private final Counter circuitBreakerPrevented;
+    private final Counter circuitBreakerOpened;
+
+    private final Counter bulkheadAccepted;
+    private final Counter bulkheadRejected;
+    private final Histogram bulkheadExecutionDuration;
+    private final Histogram bulkheadWaitingDuration;
+
+    private final Counter fallbackCalls;
+
+    private FaultToleranceMetrics() {
+        invocations = null;
+        invocationsFailed = null;
+        retrySucceededNotRetried = null;
+        retrySucceededRetried = null;
+        retryFailed = null;
+        retries = null;
+        timeoutExecutionDuration = null;
+        timedOut = null;
+        notTimedOut = null;
+        circuitBreakerSucceeded = null;
+        circuitBreakerFailed = null;
+        circuitBreakerPrevented = null;
+        circuitBreakerOpened = null;
+        bulkheadAccepted = null;
+        bulkheadRejected = null;
+        bulkheadExecutionDuration = null;
+        bulkheadWaitingDuration = null;
+        fallbackCalls = null;
+    }
+
+    FaultToleranceMetrics(MetricRegistry registry, FaultToleranceOperation operation, CircuitBreakerState circuitBreaker,
+            SemaphoreBulkhead bulkhead) {
+        Method method = operation.getMethod();
+        String prefix = "ft." + method.getDeclaringClass().getCanonicalName() + "." + method.getName();
+
+        invocations = registry.counter(prefix + ".invocations.total");
+        invocationsFailed = registry.counter(prefix + ".invocations.failed.total");
+
+        if (operation.hasRetry()) {
+            retrySucceededNotRetried = registry.counter(prefix + ".retry.callsSucceededNotRetried.total");
+            retrySucceededRetried = registry.counter(prefix + ".retry.callsSucceededRetried.total");
+            retryFailed = registry.counter(prefix + ".retry.callsFailed.total");
+            retries = registry.counter(prefix + ".retry.retries.total");
+        } else {
+            retrySucceededNotRetried = null;
+            retrySucceededRetried = null;
+            retryFailed = null;
+            retries = null;
+        }
+
+        if (operation.hasTimeout()) {
+            timeoutExecutionDuration = registry.histogram(nanoseconds(prefix + ".timeout.executionDuration",
+                    MetricType.HISTOGRAM));
+            timedOut = registry.counter(prefix + ".timeout.callsTimedOut.total");
+            notTimedOut = registry.counter(prefix + ".timeout.callsNotTimedOut.total");
+        } else {
+            timeoutExecutionDuration = null;
+            timedOut = null;
+            notTimedOut = null;
+        }
+
+        if (circuitBreaker != null) {
+            circuitBreakerSucceeded = registry.counter(prefix + ".circuitbreaker.callsSucceeded.total");
+            circuitBreakerFailed = registry.counter(prefix + ".circuitbreaker.callsFailed.total");
+            circuitBreakerPrevented = registry.counter(prefix + ".circuitbreaker.callsPrevented.total");
+            circuitBreakerOpened = registry.counter(prefix + ".circuitbreaker.opened.total");
+            register(registry, prefix + ".circuitbreaker.open.total",
+                    () -> circuitBreaker.timeIn(CircuitBreakerState.Status.OPEN));
+            register(registry, prefix + ".circuitbreaker.halfOpen.total",
+                    () -> circuitBreaker.timeIn(CircuitBreakerState.Status.HALF_OPEN));
+            register(registry, prefix + ".circuitbreaker.closed.total",
+                    () -> circuitBreaker.timeIn(CircuitBreakerState.Status.CLOSED));
+        } else {
+            circuitBreakerSucceeded = null;
+            circuitBreakerFailed = null;
+            circuitBreakerPrevented = null;
+            circuitBreakerOpened = null;
+        }
+
+        if (bulkhead != null) {
+            bulkheadAccepted = registry.counter(prefix + ".bulkhead.callsAccepted.total");
+            bulkheadRejected = registry.counter(prefix + ".bulkhead.callsRejected.total");
+            bulkheadExecutionDuration = registry.histogram(nanoseconds(prefix + ".bulkhead.executionDuration",
+                    MetricType.HISTOGRAM));
+            register(registry, Metadata.builder().withName(prefix + ".bulkhead.concurrentExecutions")
+                    .withType(MetricType.GAUGE).build(), bulkhead::concurrentExecutions);
+            if (operation.isAsync()) {
+                bulkheadWaitingDuration = registry.histogram(nanoseconds(prefix + ".bulkhead.waiting.duration",
+                        MetricType.HISTOGRAM));
+                register(registry, Metadata.builder().withName(prefix + ".bulkhead.waitingQueue.population")
+                        .withType(MetricType.GAUGE).build(), bulkhead::waitingTasks);
+            } else {
+                bulkheadWaitingDuration = null;
+            }
+        } else {
+            bulkheadAccepted = null;
+            bulkheadRejected = null;
+            bulkheadExecutionDuration = null;
+            bulkheadWaitingDuration = null;
+        }
+
+        fallbackCalls = operation.hasFallback() ? registry.counter(prefix + ".fallback.calls.total") : null;
+    }
+
+    void invoked() {
+        inc(invocations);
+    }
+
+    void failed() {
+        inc(invocationsFailed);
+    }
+
+    void retrySucceeded(boolean retried) {
+        inc(retried ? retrySucceededRetried : retrySucceededNotRetried);
+    }
+
+    void retryFailed() {
+        inc(retryFailed);
+    }
+
+    void retried() {
+        inc(retries);
+    }
+
+    void timeoutExecuted(long nanos) {
+        update(timeoutExecutionDuration, nanos);
+    }
+
+    void timedOut(boolean timedOut) {
+        inc(timedOut ? this.timedOut : notTimedOut);
+    }
+
+    void circuitBreakerSucceeded() {
+        inc(circuitBreakerSucceeded);
+    }
+
+    void circuitBreakerFailed() {
+        inc(circuitBreakerFailed);
+    }
+
+    void circuitBreakerPrevented() {
+        inc(circuitBreakerPrevented);
+    }
+
+    void circuitBreakerOpened() {
+        inc(circuitBreakerOpened);
+    }
+
+    void bulkheadAccepted(boolean accepted) {
+        inc(accepted ? bulkheadAccepted : bulkheadRejected);
+    }
+
+    void bulkheadExecuted(long nanos) {
+        update(bulkheadExecutionDuration, nanos);
+    }
+
+    void bulkheadWaited(long nanos) {
+        update(bulkheadWaitingDuration, nanos);
+    }
+
+    void fallbackCalled() {
+        inc(fallbackCalls);
+    }
+
+    private static void inc(Counter counter) {
+        if (counter != null) {
+            counter.inc();
+        }
+    }
+
+    private static void update(Histogram histogram, long value) {
+        if (histogram != null) {
+            histogram.update(value);
+        }
+    }
+
+    private static Metadata nanoseconds(String name, MetricType type) {
+        return Metadata.builder().withName(name).withType(type).withUnit(MetricUnits.NANOSECONDS).build();
+    }
+
+    private static void register(MetricRegistry registry, String name, Gauge<Long> gauge) {
+        register(registry, nanoseconds(name, MetricType.GAUGE), gauge);
+    }
+
+    private static void register(MetricRegistry registry, Metadata metadata, Gauge<?> gauge) {
+        try {
+            registry.register(metadata, gauge);
+        } catch (IllegalArgumentException e) {
+            // already registered, e.g. by another bean class declaring the same method
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.quarkus.smallrye.faulttolerance.runtime;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+import io.smallrye.faulttolerance.FallbackHandlerProvider;
+import io.smallrye.faulttolerance.FaultToleranceOperationProvider;
+import io.smallrye.faulttolerance.config.FaultToleranceOperation;
+
+/**
+ * Holds the state of the fault tolerance strategies, e.g. the circuit breakers and the bulkheads, which is shared by all
+ * the instances of a bean.
+ */
+@Singleton
+public class FaultToleranceRegistry {
+
+    @Inject
+    FaultToleranceOperationProvider operationProvider;
+
+    @Inject
+    FallbackHandlerProvider fallbackHandlerProvider;
+
+    @Inject
+    ManagedExecutor executor;
+
+    @Inject
+    Instance<MetricRegistry> metricRegistry;
+
+    @ConfigProperty(name = "MP_Fault_Tolerance_Metrics_Enabled", defaultValue = "true")
+    boolean metricsEnabled;
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, GuardedMethod>> methods = new ConcurrentHashMap<>();
+
+    // schedules the timeouts and the retry delays, only created if needed
+    private volatile ScheduledThreadPoolExecutor timer;
+
+    GuardedMethod get(Class<?> beanClass, Method method) {
+        ConcurrentMap<Method, GuardedMethod> beanMethods = methods.get(beanClass);
+        if (beanMethods == null) {
+            beanMethods = methods.computeIfAbsent(beanClass, c -> new ConcurrentHashMap<>());
+        }
+        GuardedMethod guardedMethod = beanMethods.get(method);
+        if (guardedMethod == null) {
+            guardedMethod = beanMethods.computeIfAbsent(method, m -> create(beanClass, m));
+        }
+        return guardedMethod;
+    }
+
+    private GuardedMethod create(Class<?> beanClass, Method method) {
+        FaultToleranceOperation operation = operationProvider.get(beanClass, method);
+        if (!operation.isLegitimate()) {
+            return GuardedMethod.UNGUARDED;
+        }
+        boolean needsTimer = operation.hasTimeout() || operation.hasRetry();
+        return new GuardedMethod(beanClass, operation, fallbackHandlerProvider, executor,
+                needsTimer ? timer() : null, metricsEnabled ? metricRegistry.get() : null);
+    }
+
+    private ScheduledExecutorService timer() {
+        ScheduledThreadPoolExecutor timer = this.timer;
+        if (timer == null) {
+            synchronized (this) {
+                timer = this.timer;
+                if (timer == null) {
+                    // the timer thread only completes futures, interrupts threads and dispatches tasks to other threads
+                    timer = new ScheduledThreadPoolExecutor(1, r -> {
+                        Thread thread = new Thread(r, "quarkus-fault-tolerance-timer");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    // most timeouts are cancelled, do not keep them until their delay elapses
+                    timer.setRemoveOnCancelPolicy(true);
+                    this.timer = timer;
+                }
+            }
+        }
+        return timer;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ScheduledThreadPoolExecutor timer = this.timer;
+        if (timer != null) {
+            timer.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,820 @@
+package io.quarkus.smallrye.faulttolerance.runtime;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.interceptor.InvocationContext;
+
+import org.eclipse.microprofile.faulttolerance.Fallback;
+import org.eclipse.microprofile.faulttolerance.FallbackHandler;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+import io.smallrye.faulttolerance.FallbackHandlerProvider;
+import io.smallrye.faulttolerance.config.BulkheadConfig;
+import io.smallrye.faulttolerance.config.CircuitBreakerConfig;
+import io.smallrye.faulttolerance.config.FallbackConfig;
+import io.smallrye.faulttolerance.config.FaultToleranceOperation;
+import io.smallrye.faulttolerance.config.RetryConfig;
+import io.smallrye.faulttolerance.config.TimeoutConfig;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * The fault tolerance strategies of a method, applied in this order: fallback, retry, circuit breaker, timeout and
+ * bulkhead.
+ * <p>
+ * A synchronous method is executed on the calling thread: the bulkhead is a semaphore, the retry delays block the
+ * calling thread and the timeout interrupts it, as required by the specification. An event loop thread is never blocked
+ * or interrupted though: on an event loop, the timeout is only checked once the method returns, the default jitter is
+ * ignored and a synchronous method with a configured retry delay or jitter fails instead of being retried.
+ * <p>
+ * A method returning a {@link CompletionStage} is not blocked on: the strategies are applied to the completion of the
+ * returned stage. An {@link org.eclipse.microprofile.faulttolerance.Asynchronous} method is in addition executed by the
+ * managed executor, and its bulkhead queues the executions that exceed the allowed concurrency.
+ * <p>
+ * The timeouts and the retry delays are scheduled on a dedicated timer thread, which never runs the method or the
+ * dependent stages: the timed out executions are completed and the delayed retries are invoked on the Vert.x context of
+ * the original invocation if any, or by the managed executor.
+ */
+final class GuardedMethod {
+
+    static final GuardedMethod UNGUARDED = new GuardedMethod();
+
+    // the default jitter of @Retry
+    private static final long DEFAULT_JITTER = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final boolean guarded;
+    private final String name;
+    private final boolean async;
+    private final boolean returnsCompletionStage;
+    private final Executor executor;
+    private final ScheduledExecutorService timer;
+    private final FaultToleranceMetrics metrics;
+
+    // fallback
+    private final boolean hasFallback;
+    private final FallbackHandler<?> fallbackHandler;
+    private final Method fallbackMethod;
+
+    // retry
+    private final boolean hasRetry;
+    private final int maxRetries;
+    private final long retryDelay;
+    private final long maxDuration;
+    private final long jitter;
+    // whether a delay or a jitter other than the default one is configured
+    private final boolean explicitRetryDelay;
+    private final Class<?>[] retryOn;
+    private final Class<?>[] abortOn;
+
+    // circuit breaker
+    private final CircuitBreakerState circuitBreaker;
+    private final Class<?>[] failOn;
+
+    // timeout
+    private final long timeout;
+
+    // bulkhead
+    private final SemaphoreBulkhead bulkhead;
+
+    private GuardedMethod() {
+        guarded = false;
+        name = null;
+        async = false;
+        returnsCompletionStage = false;
+        executor = null;
+        timer = null;
+        metrics = null;
+        hasFallback = false;
+        fallbackHandler = null;
+        fallbackMethod = null;
+        hasRetry = false;
+        maxRetries = 0;
+        retryDelay = 0;
+        maxDuration = 0;
+        jitter = 0;
+        explicitRetryDelay = false;
+        retryOn = null;
+        abortOn = null;
+        circuitBreaker = null;
+        failOn = null;
+        timeout = -1;
+        bulkhead = null;
+    }
+
+    GuardedMethod(Class<?> beanClass, FaultToleranceOperation operation, FallbackHandlerProvider fallbackHandlerProvider,
+            Executor executor, ScheduledExecutorService timer, MetricRegistry metricRegistry) {
+        Method method = operation.getMethod();
+        this.guarded = true;
+        this.name = method.getDeclaringClass().getName() + "#" + method.getName();
+        this.async = operation.isAsync();
+        this.returnsCompletionStage = operation.returnsCompletionStage();
+        this.executor = executor;
+        this.timer = timer;
+
+        hasFallback = operation.hasFallback();
+        if (hasFallback) {
+            FallbackConfig fallback = operation.getFallback();
+            String fallbackMethodName = fallback.get(FallbackConfig.FALLBACK_METHOD);
+            if (fallbackMethodName != null && !fallbackMethodName.isEmpty()) {
+                fallbackMethod = findFallbackMethod(beanClass, method, fallbackMethodName);
+                fallbackHandler = null;
+            } else {
+                fallbackMethod = null;
+                fallbackHandler = fallback.get(FallbackConfig.VALUE) != Fallback.DEFAULT.class
+                        ? fallbackHandlerProvider.get(operation)
+                        : null;
+            }
+        } else {
+            fallbackMethod = null;
+            fallbackHandler = null;
+        }
+
+        hasRetry = operation.hasRetry();
+        if (hasRetry) {
+            RetryConfig retry = operation.getRetry();
+            maxRetries = retry.<Integer> get(RetryConfig.MAX_RETRIES);
+            retryDelay = toNanos(retry.get(RetryConfig.DELAY), retry.get(RetryConfig.DELAY_UNIT));
+            maxDuration = toNanos(retry.get(RetryConfig.MAX_DURATION), retry.get(RetryConfig.DURATION_UNIT));
+            jitter = toNanos(retry.getJitter(), retry.getJitterDelayUnit());
+            explicitRetryDelay = retryDelay > 0 || (jitter > 0 && jitter != DEFAULT_JITTER);
+            retryOn = retry.getRetryOn();
+            abortOn = retry.getAbortOn();
+        } else {
+            maxRetries = 0;
+            retryDelay = 0;
+            maxDuration = 0;
+            jitter = 0;
+            explicitRetryDelay = false;
+            retryOn = null;
+            abortOn = null;
+        }
+
+        if (operation.hasCircuitBreaker()) {
+            CircuitBreakerConfig config = operation.getCircuitBreaker();
+            circuitBreaker = new CircuitBreakerState(config.<Integer> get(CircuitBreakerConfig.REQUEST_VOLUME_THRESHOLD),
+                    config.<Double> get(CircuitBreakerConfig.FAILURE_RATIO),
+                    config.<Integer> get(CircuitBreakerConfig.SUCCESS_THRESHOLD),
+                    toNanos(config.get(CircuitBreakerConfig.DELAY), config.get(CircuitBreakerConfig.DELAY_UNIT)));
+            failOn = config.get(CircuitBreakerConfig.FAIL_ON);
+        } else {
+            circuitBreaker = null;
+            failOn = null;
+        }
+
+        if (operation.hasTimeout()) {
+            TimeoutConfig config = operation.getTimeout();
+            timeout = toNanos(config.get(TimeoutConfig.VALUE), config.get(TimeoutConfig.UNIT));
+        } else {
+            timeout = -1;
+        }
+
+        if (operation.hasBulkhead()) {
+            BulkheadConfig config = operation.getBulkhead();
+            bulkhead = new SemaphoreBulkhead(config.<Integer> get(BulkheadConfig.VALUE),
+                    async ? config.<Integer> get(BulkheadConfig.WAITING_TASK_QUEUE) : 0);
+        } else {
+            bulkhead = null;
+        }
+
+        metrics = metricRegistry != null
+                ? new FaultToleranceMetrics(metricRegistry, operation, circuitBreaker, bulkhead)
+                : FaultToleranceMetrics.DISABLED;
+    }
+
+    Object invoke(InvocationContext context) throws Exception {
+        if (!guarded) {
+            return context.proceed();
+        }
+        if (async || returnsCompletionStage) {
+            return invokeStage(context);
+        }
+        metrics.invoked();
+        try {
+            return retry(context);
+        } catch (Exception | Error e) {
+            if (!hasFallback) {
+                metrics.failed();
+                throw e;
+            }
+            try {
+                return fallback(context, e);
+            } catch (Exception | Error fallbackFailure) {
+                metrics.failed();
+                throw fallbackFailure;
+            }
+        }
+    }
+
+    // synchronous invocations
+
+    private Object fallback(InvocationContext context, Throwable failure) throws Exception {
+        metrics.fallbackCalled();
+        if (fallbackHandler != null) {
+            return fallbackHandler.handle(new FaultToleranceExecutionContext(context, failure));
+        }
+        try {
+            return fallbackMethod.invoke(context.getTarget(), context.getParameters());
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private Object retry(InvocationContext context) throws Exception {
+        if (!hasRetry) {
+            return circuitBreaker(context);
+        }
+        long start = System.nanoTime();
+        int retries = 0;
+        for (;;) {
+            try {
+                Object result = circuitBreaker(context);
+                metrics.retrySucceeded(retries > 0);
+                return result;
+            } catch (Exception | Error e) {
+                if (!shouldRetry(e, retries, start)) {
+                    metrics.retryFailed();
+                    throw e;
+                }
+                long delay = nextRetryDelay();
+                if (delay > 0 && Context.isOnEventLoopThread()) {
+                    if (explicitRetryDelay) {
+                        metrics.retryFailed();
+                        throw new IllegalStateException(name + " has a retry delay and must not be retried on an event "
+                                + "loop thread, it should be @Asynchronous or return a CompletionStage", e);
+                    }
+                    // only the default jitter applies, which is not worth blocking the event loop
+                    delay = 0;
+                }
+                if (delay > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(delay);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        metrics.retryFailed();
+                        throw e;
+                    }
+                }
+                retries++;
+                metrics.retried();
+            }
+        }
+    }
+
+    private Object circuitBreaker(InvocationContext context) throws Exception {
+        if (circuitBreaker == null) {
+            return timeout(context);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            metrics.circuitBreakerPrevented();
+            throw new CircuitBreakerOpenException(name);
+        }
+        Object result;
+        try {
+            result = timeout(context);
+        } catch (Exception | Error e) {
+            circuitBreakerCompleted(e);
+            throw e;
+        }
+        circuitBreakerCompleted(null);
+        return result;
+    }
+
+    private Object timeout(InvocationContext context) throws Exception {
+        if (timeout < 0) {
+            return bulkhead(context);
+        }
+        if (Context.isOnEventLoopThread()) {
+            return eventLoopTimeout(context);
+        }
+        SyncTimeout syncTimeout = new SyncTimeout(Thread.currentThread());
+        ScheduledFuture<?> timeoutTask = timer.schedule(syncTimeout, timeout, TimeUnit.NANOSECONDS);
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = bulkhead(context);
+        } catch (Exception | Error e) {
+            metrics.timeoutExecuted(System.nanoTime() - start);
+            if (syncTimeout.finish()) {
+                metrics.timedOut(true);
+                throw new TimeoutException(name);
+            }
+            timeoutTask.cancel(false);
+            metrics.timedOut(false);
+            throw e;
+        }
+        metrics.timeoutExecuted(System.nanoTime() - start);
+        if (syncTimeout.finish()) {
+            // the method ignored the interruption
+            metrics.timedOut(true);
+            throw new TimeoutException(name);
+        }
+        timeoutTask.cancel(false);
+        metrics.timedOut(false);
+        return result;
+    }
+
+    /**
+     * An event loop must not be interrupted, so the execution is only timed out once it completes.
+     */
+    private Object eventLoopTimeout(InvocationContext context) throws Exception {
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = bulkhead(context);
+        } catch (Exception | Error e) {
+            long duration = System.nanoTime() - start;
+            metrics.timeoutExecuted(duration);
+            metrics.timedOut(duration > timeout);
+            if (duration > timeout) {
+                throw new TimeoutException(name);
+            }
+            throw e;
+        }
+        long duration = System.nanoTime() - start;
+        metrics.timeoutExecuted(duration);
+        metrics.timedOut(duration > timeout);
+        if (duration > timeout) {
+            throw new TimeoutException(name);
+        }
+        return result;
+    }
+
+    private Object bulkhead(InvocationContext context) throws Exception {
+        if (bulkhead == null) {
+            return context.proceed();
+        }
+        if (!bulkhead.tryAcquire()) {
+            metrics.bulkheadAccepted(false);
+            throw new BulkheadException(name);
+        }
+        metrics.bulkheadAccepted(true);
+        long start = System.nanoTime();
+        try {
+            return context.proceed();
+        } finally {
+            bulkhead.release();
+            metrics.bulkheadExecuted(System.nanoTime() - start);
+        }
+    }
+
+    // asynchronous invocations
+
+    private CompletableFuture<Object> invokeStage(InvocationContext context) {
+        metrics.invoked();
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        retryStage(context, dispatcher()).whenComplete((value, failure) -> {
+            if (failure == null) {
+                result.complete(value);
+            } else if (!hasFallback) {
+                metrics.failed();
+                result.completeExceptionally(unwrap(failure));
+            } else {
+                fallbackStage(context, unwrap(failure)).whenComplete((fallbackValue, fallbackFailure) -> {
+                    if (fallbackFailure == null) {
+                        result.complete(fallbackValue);
+                    } else {
+                        metrics.failed();
+                        result.completeExceptionally(unwrap(fallbackFailure));
+                    }
+                });
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<Object> fallbackStage(InvocationContext context, Throwable failure) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                complete(result, fallback(context, failure));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        };
+        if (async) {
+            // the failure may have been reported on the event loop, and the fallback may block
+            executor.execute(task);
+        } else {
+            task.run();
+        }
+        return result;
+    }
+
+    /**
+     * The executor of the stages that must not run on the thread completing them, e.g. a retry after a delay: the
+     * Vert.x context of the invocation if any, the managed executor otherwise.
+     */
+    private Executor dispatcher() {
+        if (!async) {
+            Context vertxContext = Vertx.currentContext();
+            if (vertxContext != null) {
+                return task -> vertxContext.runOnContext(v -> task.run());
+            }
+        }
+        return executor;
+    }
+
+    private CompletableFuture<Object> retryStage(InvocationContext context, Executor dispatcher) {
+        if (!hasRetry) {
+            return circuitBreakerStage(context, dispatcher);
+        }
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        retryStage(context, dispatcher, result, 0, System.nanoTime());
+        return result;
+    }
+
+    private void retryStage(InvocationContext context, Executor dispatcher, CompletableFuture<Object> result, int retries,
+            long start) {
+        for (int attempt = retries;; attempt++) {
+            CompletableFuture<Object> execution = circuitBreakerStage(context, dispatcher);
+            if (!execution.isDone()) {
+                int current = attempt;
+                execution.whenComplete((value, failure) -> {
+                    long delay = retryCompleted(result, value, failure, current, start);
+                    if (delay >= 0) {
+                        scheduleRetry(context, dispatcher, result, current + 1, start, delay);
+                    }
+                });
+                return;
+            }
+            // completed synchronously, loop rather than recurse
+            Object value = null;
+            Throwable failure = null;
+            try {
+                value = execution.getNow(null);
+            } catch (CompletionException | CancellationException e) {
+                failure = e;
+            }
+            long delay = retryCompleted(result, value, failure, attempt, start);
+            if (delay < 0) {
+                return;
+            }
+            if (delay > 0) {
+                scheduleRetry(context, dispatcher, result, attempt + 1, start, delay);
+                return;
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the delay in nanoseconds before the next retry, or {@code -1} if the result is completed
+     */
+    private long retryCompleted(CompletableFuture<Object> result, Object value, Throwable failure, int retries, long start) {
+        if (failure == null) {
+            metrics.retrySucceeded(retries > 0);
+            result.complete(value);
+            return -1;
+        }
+        Throwable cause = unwrap(failure);
+        if (!shouldRetry(cause, retries, start)) {
+            metrics.retryFailed();
+            result.completeExceptionally(cause);
+            return -1;
+        }
+        metrics.retried();
+        return nextRetryDelay();
+    }
+
+    /**
+     * The next attempt is invoked on the dispatcher, not on the thread that completed the previous attempt, nor on the
+     * timer thread.
+     */
+    private void scheduleRetry(InvocationContext context, Executor dispatcher, CompletableFuture<Object> result,
+            int retries, long start, long delay) {
+        Runnable retry = () -> retryStage(context, dispatcher, result, retries, start);
+        if (delay == 0) {
+            dispatch(dispatcher, retry, result);
+        } else {
+            try {
+                timer.schedule(() -> dispatch(dispatcher, retry, result), delay, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // shutting down
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private CompletableFuture<Object> circuitBreakerStage(InvocationContext context, Executor dispatcher) {
+        if (circuitBreaker == null) {
+            return timeoutStage(context, dispatcher);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            metrics.circuitBreakerPrevented();
+            return failed(new CircuitBreakerOpenException(name));
+        }
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        timeoutStage(context, dispatcher).whenComplete((value, failure) -> {
+            if (failure == null) {
+                circuitBreakerCompleted(null);
+                result.complete(value);
+            } else {
+                Throwable cause = unwrap(failure);
+                circuitBreakerCompleted(cause);
+                result.completeExceptionally(cause);
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<Object> timeoutStage(InvocationContext context, Executor dispatcher) {
+        if (timeout < 0) {
+            return bulkheadStage(context, null);
+        }
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        Execution execution = async ? new Execution() : null;
+        long start = System.nanoTime();
+        ScheduledFuture<?> timeoutTask = timer.schedule(() -> {
+            if (completed.compareAndSet(false, true)) {
+                metrics.timedOut(true);
+                if (execution != null) {
+                    execution.interrupt();
+                }
+                // the dependent stages must not run on the timer thread
+                dispatch(dispatcher, () -> result.completeExceptionally(new TimeoutException(name)), result);
+            }
+        }, timeout, TimeUnit.NANOSECONDS);
+        bulkheadStage(context, execution).whenComplete((value, failure) -> {
+            timeoutTask.cancel(false);
+            metrics.timeoutExecuted(System.nanoTime() - start);
+            if (completed.compareAndSet(false, true)) {
+                metrics.timedOut(false);
+                forward(value, failure, result);
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<Object> bulkheadStage(InvocationContext context, Execution execution) {
+        if (bulkhead == null) {
+            if (!async) {
+                return proceed(context, null);
+            }
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            executor.execute(() -> forward(proceed(context, execution), result));
+            return result;
+        }
+        if (!async) {
+            if (!bulkhead.tryAcquire()) {
+                metrics.bulkheadAccepted(false);
+                return failed(new BulkheadException(name));
+            }
+            metrics.bulkheadAccepted(true);
+            long start = System.nanoTime();
+            return proceed(context, null).whenComplete((value, failure) -> {
+                bulkhead.release();
+                metrics.bulkheadExecuted(System.nanoTime() - start);
+            });
+        }
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        long queued = System.nanoTime();
+        boolean accepted = bulkhead.submit(() -> {
+            long start = System.nanoTime();
+            metrics.bulkheadWaited(start - queued);
+            return proceed(context, execution).whenComplete((value, failure) -> {
+                metrics.bulkheadExecuted(System.nanoTime() - start);
+                forward(value, failure, result);
+            });
+        }, executor);
+        metrics.bulkheadAccepted(accepted);
+        if (!accepted) {
+            result.completeExceptionally(new BulkheadException(name));
+        }
+        return result;
+    }
+
+    private CompletableFuture<Object> proceed(InvocationContext context, Execution execution) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        if (execution != null) {
+            execution.start();
+        }
+        try {
+            complete(result, context.proceed());
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        } finally {
+            if (execution != null) {
+                execution.end();
+            }
+        }
+        return result;
+    }
+
+    // helpers
+
+    private void circuitBreakerCompleted(Throwable failure) {
+        if (failure != null && isInstance(failure, failOn)) {
+            metrics.circuitBreakerFailed();
+            if (circuitBreaker.onFailure()) {
+                metrics.circuitBreakerOpened();
+            }
+        } else {
+            metrics.circuitBreakerSucceeded();
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    private boolean shouldRetry(Throwable failure, int retries, long start) {
+        if (maxRetries >= 0 && retries >= maxRetries) {
+            return false;
+        }
+        if (maxDuration > 0 && System.nanoTime() - start >= maxDuration) {
+            return false;
+        }
+        return isInstance(failure, retryOn) && !isInstance(failure, abortOn);
+    }
+
+    private long nextRetryDelay() {
+        long delay = retryDelay;
+        if (jitter > 0) {
+            delay += ThreadLocalRandom.current().nextLong(-jitter, jitter + 1);
+        }
+        return Math.max(0, delay);
+    }
+
+    private static boolean isInstance(Throwable failure, Class<?>[] classes) {
+        for (Class<?> clazz : classes) {
+            if (clazz.isInstance(failure)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Completes the future with the value returned by the method, which is unwrapped if the method is asynchronous.
+     */
+    @SuppressWarnings("unchecked")
+    private static void complete(CompletableFuture<Object> future, Object value) throws Exception {
+        if (value instanceof CompletionStage) {
+            forward((CompletionStage<Object>) value, future);
+        } else if (value instanceof Future) {
+            try {
+                future.complete(((Future<?>) value).get());
+            } catch (ExecutionException e) {
+                future.completeExceptionally(e.getCause());
+            }
+        } else {
+            future.complete(value);
+        }
+    }
+
+    private static void forward(CompletionStage<Object> stage, CompletableFuture<Object> future) {
+        stage.whenComplete((value, failure) -> forward(value, failure, future));
+    }
+
+    private static void forward(Object value, Throwable failure, CompletableFuture<Object> future) {
+        if (failure == null) {
+            future.complete(value);
+        } else {
+            future.completeExceptionally(unwrap(failure));
+        }
+    }
+
+    private static void dispatch(Executor dispatcher, Runnable task, CompletableFuture<Object> result) {
+        try {
+            dispatcher.execute(task);
+        } catch (RejectedExecutionException e) {
+            // shutting down
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static CompletableFuture<Object> failed(Throwable failure) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        future.completeExceptionally(failure);
+        return future;
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            return failure.getCause();
+        }
+        return failure;
+    }
+
+    private static long toNanos(Long value, ChronoUnit unit) {
+        try {
+            return unit.getDuration().multipliedBy(value).toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static Method findFallbackMethod(Class<?> beanClass, Method method, String name) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (Class<?> clazz = beanClass; clazz != null; clazz = clazz.getSuperclass()) {
+            try {
+                Method fallbackMethod = clazz.getDeclaredMethod(name, parameterTypes);
+                fallbackMethod.setAccessible(true);
+                return fallbackMethod;
+            } catch (NoSuchMethodException e) {
+                // try the superclass
+            }
+        }
+        try {
+            // e.g. a default method of a REST client interface
+            return method.getDeclaringClass().getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new FaultToleranceDefinitionException("Fallback method " + name + " not found for " + method);
+        }
+    }
+
+    /**
+     * The timeout of a synchronous execution, which interrupts the executing thread.
+     */
+    static final class SyncTimeout implements Runnable {
+
+        private static final int RUNNING = 0;
+        private static final int INTERRUPTING = 1;
+        private static final int TIMED_OUT = 2;
+        private static final int FINISHED = 3;
+
+        private final Thread thread;
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+        SyncTimeout(Thread thread) {
+            this.thread = thread;
+        }
+
+        @Override
+        public void run() {
+            if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+                thread.interrupt();
+                state.set(TIMED_OUT);
+            }
+        }
+
+        /**
+         *
+         * @return {@code true} if the execution timed out
+         */
+        boolean finish() {
+            if (state.compareAndSet(RUNNING, FINISHED)) {
+                return false;
+            }
+            while (state.get() != TIMED_OUT) {
+                Thread.yield();
+            }
+            // clear the interruption caused by the timeout
+            Thread.interrupted();
+            return true;
+        }
+    }
+
+    /**
+     * The thread executing an asynchronous method, which is interrupted when the execution times out.
+     */
+    static final class Execution {
+
+        private Thread thread;
+        private boolean interrupted;
+
+        synchronized void start() {
+            thread = Thread.currentThread();
+        }
+
+        synchronized void end() {
+            thread = null;
+            if (interrupted) {
+                // the pooled thread must not stay interrupted
+                Thread.interrupted();
+            }
+        }
+
+        synchronized void interrupt() {
+            interrupted = true;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.quarkus.smallrye.faulttolerance.runtime;
+
+import javax.annotation.Priority;
+import javax.enterprise.inject.Intercepted;
+import javax.enterprise.inject.spi.Bean;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+/**
+ * Applies the fault tolerance strategies declared on the intercepted method, see {@link GuardedMethod}.
+ */
+@FaultToleranceBinding
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_AFTER + 10)
+public class QuarkusFaultToleranceInterceptor {
+
+    private final FaultToleranceRegistry registry;
+    private final Class<?> beanClass;
+
+    @Inject
+    public QuarkusFaultToleranceInterceptor(FaultToleranceRegistry registry, @Intercepted Bean<?> interceptedBean) {
+        this.registry = registry;
+        this.beanClass = interceptedBean != null ? interceptedBean.getBeanClass() : null;
+    }
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        Class<?> beanClass = this.beanClass != null ? this.beanClass : context.getMethod().getDeclaringClass();
+        return registry.get(beanClass, context.getMethod()).invoke(context);
+    }
+}
@@ -0,0 +1,97 @@
+package io.quarkus.smallrye.faulttolerance.runtime;
+
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A bulkhead limiting the concurrent executions of a method with a semaphore.
+ * <p>
+ * The synchronous executions are rejected if no permit is available. The asynchronous executions are queued up to the
+ * waiting task queue size and are dispatched to the executor when a permit is released, so that no thread is blocked
+ * waiting for a permit.
+ */
+final class SemaphoreBulkhead {
+
+    private final int value;
+    private final Semaphore permits;
+    // the permits for the executing and the queued tasks
+    private final Semaphore capacity;
+    private final Queue<Supplier<CompletionStage<?>>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    SemaphoreBulkhead(int value, int waitingTaskQueue) {
+        this.value = value;
+        this.permits = new Semaphore(value);
+        this.capacity = new Semaphore(value + waitingTaskQueue);
+    }
+
+    boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    /**
+     *
+     * @return {@code false} if the task was rejected
+     */
+    boolean submit(Supplier<CompletionStage<?>> task, Executor executor) {
+        if (!capacity.tryAcquire()) {
+            return false;
+        }
+        waiting.incrementAndGet();
+        queue.add(task);
+        drain(executor);
+        return true;
+    }
+
+    int concurrentExecutions() {
+        return value - permits.availablePermits();
+    }
+
+    int waitingTasks() {
+        return waiting.get();
+    }
+
+    private void drain(Executor executor) {
+        while (!queue.isEmpty() && permits.tryAcquire()) {
+            Supplier<CompletionStage<?>> task = queue.poll();
+            if (task == null) {
+                // dequeued by another thread in the meantime
+                permits.release();
+                continue;
+            }
+            waiting.decrementAndGet();
+            try {
+                executor.execute(() -> run(task, executor));
+            } catch (RuntimeException e) {
+                completed(executor);
+                throw e;
+            }
+        }
+    }
+
+    private void run(Supplier<CompletionStage<?>> task, Executor executor) {
+        CompletionStage<?> stage;
+        try {
+            stage = task.get();
+        } catch (RuntimeException | Error e) {
+            completed(executor);
+            throw e;
+        }
+        stage.whenComplete((result, failure) -> completed(executor));
+    }
+
+    private void completed(Executor executor) {
+        permits.release();
+        capacity.release();
+        drain(executor);
+    }
+}
@@ -8,10 +8,14 @@ import org.eclipse.microprofile.health.Health;
 import org.eclipse.microprofile.health.Liveness;
 import org.eclipse.microprofile.health.Readiness;
 import org.eclipse.microprofile.health.spi.HealthCheckResponseProvider;
+import org.jboss.jandex.AnnotationTarget.Kind;
 import org.jboss.jandex.DotName;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.BeanDefiningAnnotationBuildItem;
+import io.quarkus.arc.processor.AnnotationsTransformer;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -24,8 +28,12 @@ import io.quarkus.kubernetes.spi.KubernetesHealthReadinessPathBuildItem;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
+import io.quarkus.smallrye.health.runtime.HealthCheckBinding;
+import io.quarkus.smallrye.health.runtime.HealthCheckTimeoutInterceptor;
 import io.quarkus.smallrye.health.runtime.SmallRyeHealthHandler;
 import io.quarkus.smallrye.health.runtime.SmallRyeHealthRecorder;
+import io.quarkus.smallrye.health.runtime.SmallRyeHealthRuntimeConfig;
+import io.quarkus.smallrye.health.runtime.SmallRyeHealthSupport;
 import io.quarkus.smallrye.health.runtime.SmallRyeLivenessHandler;
 import io.quarkus.smallrye.health.runtime.SmallRyeReadinessHandler;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
@@ -111,6 +119,10 @@ class SmallRyeHealthProcessor {
 
         // Add additional beans
         additionalBean.produce(new AdditionalBeanBuildItem(SmallRyeHealthReporter.class));
+        additionalBean.produce(AdditionalBeanBuildItem.builder()
+                .addBeanClasses(SmallRyeHealthSupport.class, HealthCheckBinding.class, HealthCheckTimeoutInterceptor.class)
+                .setUnremovable()
+                .build());
 
         // Discover and register the HealthCheckResponseProvider
         Set<String> providers = ServiceUtil.classNamesNamedIn(getClass().getClassLoader(),
@@ -127,6 +139,32 @@ class SmallRyeHealthProcessor {
                 (Class<? extends HealthCheckResponseProvider>) recorderContext.classProxy(providers.iterator().next()));
     }
 
+    @BuildStep
+    AnnotationsTransformerBuildItem bindHealthChecks() {
+        // Make the health checks time limited, see HealthCheckTimeoutInterceptor
+        return new AnnotationsTransformerBuildItem(new AnnotationsTransformer() {
+            @Override
+            public boolean appliesTo(Kind kind) {
+                return kind == Kind.CLASS;
+            }
+
+            @Override
+            public void transform(TransformationContext context) {
+                if (context.getAnnotations().stream().anyMatch(a -> a.name().equals(HEALTH)
+                        || a.name().equals(LIVENESS) || a.name().equals(READINESS))) {
+                    context.transform().add(HealthCheckBinding.class).done();
+                }
+            }
+        });
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void initialize(SmallRyeHealthRecorder recorder, BeanContainerBuildItem beanContainer,
+            SmallRyeHealthRuntimeConfig runtimeConfig) {
+        recorder.initialize(beanContainer.getValue(), runtimeConfig);
+    }
+
     @BuildStep
     public void kubernetes(BuildProducer<KubernetesHealthLivenessPathBuildItem> livenessPathItemProducer,
             BuildProducer<KubernetesHealthReadinessPathBuildItem> readinessPathItemProducer) {
@@ -0,0 +1,71 @@
+package io.quarkus.smallrye.health.test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class HangingHealthCheckTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HangingHealthCheck.class)
+                    .addAsResource(new StringAsset("quarkus.smallrye-health.check-timeout=0.2S\n"),
+                            "application.properties")
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"));
+
+    static final CountDownLatch RELEASE = new CountDownLatch(1);
+    static final AtomicInteger CALLS = new AtomicInteger();
+
+    @AfterAll
+    public static void release() {
+        RELEASE.countDown();
+    }
+
+    @Test
+    public void testHangingCheckIsNotInvokedAgain() {
+        RestAssured.when().get("/health/ready").then()
+                .statusCode(503)
+                .body("checks.name", contains(HangingHealthCheck.class.getName()),
+                        "checks.data.error[0]", is("Health check timed out after 200 ms"));
+        RestAssured.when().get("/health/ready").then()
+                .statusCode(503)
+                .body("checks.data.error[0]", is("Health check still running after a previous timeout"));
+        assertEquals(1, CALLS.get());
+    }
+
+    @ApplicationScoped
+    @Readiness
+    public static class HangingHealthCheck implements HealthCheck {
+
+        @Override
+        public HealthCheckResponse call() {
+            CALLS.incrementAndGet();
+            try {
+                RELEASE.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return HealthCheckResponse.named("hanging").up().build();
+        }
+    }
+}
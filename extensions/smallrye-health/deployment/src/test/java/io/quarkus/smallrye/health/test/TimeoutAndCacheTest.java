@@ -0,0 +1,78 @@
+package io.quarkus.smallrye.health.test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+import org.eclipse.microprofile.health.Readiness;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class TimeoutAndCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CountingHealthCheck.class, SlowHealthCheck.class)
+                    .addAsResource(new StringAsset("quarkus.smallrye-health.check-timeout=0.2S\n"
+                            + "quarkus.smallrye-health.cache-duration=1H\n"), "application.properties")
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"));
+
+    @Test
+    public void testCachedResult() {
+        for (int i = 0; i < 3; i++) {
+            RestAssured.when().get("/health/live").then()
+                    .statusCode(200)
+                    .body("status", is("UP"),
+                            "checks.data.calls[0]", is(1));
+        }
+    }
+
+    @Test
+    public void testSlowCheckIsDown() {
+        RestAssured.when().get("/health/ready").then()
+                .statusCode(503)
+                .body("status", is("DOWN"),
+                        "checks.name", contains(SlowHealthCheck.class.getName()));
+    }
+
+    @ApplicationScoped
+    @Liveness
+    public static class CountingHealthCheck implements HealthCheck {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public HealthCheckResponse call() {
+            return HealthCheckResponse.named("counting").up().withData("calls", calls.incrementAndGet()).build();
+        }
+    }
+
+    @ApplicationScoped
+    @Readiness
+    public static class SlowHealthCheck implements HealthCheck {
+
+        @Override
+        public HealthCheckResponse call() {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return HealthCheckResponse.named("slow").up().build();
+        }
+    }
+}
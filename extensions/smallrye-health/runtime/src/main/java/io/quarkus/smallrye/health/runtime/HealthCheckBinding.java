@@ -0,0 +1,20 @@
+package io.quarkus.smallrye.health.runtime;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * Added to the health check beans so that the health checks are executed by {@link HealthCheckTimeoutInterceptor}.
+ */
+@Inherited
+@InterceptorBinding
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface HealthCheckBinding {
+}
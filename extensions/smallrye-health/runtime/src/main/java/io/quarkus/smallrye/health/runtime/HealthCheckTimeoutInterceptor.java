@@ -0,0 +1,31 @@
+package io.quarkus.smallrye.health.runtime;
+
+import java.lang.reflect.Method;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+/**
+ * Limits the duration of the {@link org.eclipse.microprofile.health.HealthCheck#call()} invocations, see
+ * {@link SmallRyeHealthSupport#call(InvocationContext)}.
+ */
+@HealthCheckBinding
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE)
+public class HealthCheckTimeoutInterceptor {
+
+    @Inject
+    SmallRyeHealthSupport support;
+
+    @AroundInvoke
+    public Object aroundInvoke(InvocationContext context) throws Exception {
+        Method method = context.getMethod();
+        if (!support.hasCheckTimeout() || !method.getName().equals("call") || method.getParameterCount() != 0) {
+            return context.proceed();
+        }
+        return support.call(context);
+    }
+}
@@ -0,0 +1,89 @@
+package io.quarkus.smallrye.health.runtime;
+
+import java.io.ByteArrayOutputStream;
+
+import io.quarkus.arc.Arc;
+import io.smallrye.health.SmallRyeHealth;
+import io.smallrye.health.SmallRyeHealthReporter;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Reports the health of the application. The handlers are executed on a worker thread.
+ * <p>
+ * The reporter is resolved once and, if {@code quarkus.smallrye-health.cache-duration} is set, the serialized report is
+ * reused for that duration.
+ */
+public abstract class SmallRyeHealthHandlerBase implements Handler<RoutingContext> {
+
+    private volatile SmallRyeHealthReporter reporter;
+    private volatile SmallRyeHealthSupport support;
+    private volatile Report cached;
+
+    protected abstract SmallRyeHealth getHealth(SmallRyeHealthReporter reporter);
+
+    @Override
+    public void handle(RoutingContext event) {
+        long cacheDuration = getSupport().getCacheDuration();
+        Report report = cached;
+        if (report == null || cacheDuration <= 0 || System.nanoTime() - report.time >= cacheDuration) {
+            report = report();
+            cached = cacheDuration > 0 ? report : null;
+        }
+        HttpServerResponse resp = event.response();
+        if (report.down) {
+            resp.setStatusCode(503);
+        }
+        resp.headers().set(HttpHeaders.CONTENT_TYPE, "application/json; charset=UTF-8");
+        resp.end(report.body);
+    }
+
+    private Report report() {
+        boolean activated = RequestScopeHelper.activeRequestScope();
+        try {
+            SmallRyeHealthReporter reporter = getReporter();
+            SmallRyeHealth health = getHealth(reporter);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            reporter.reportHealth(outputStream, health);
+            return new Report(System.nanoTime(), health.isDown(), Buffer.buffer(outputStream.toByteArray()));
+        } finally {
+            if (activated) {
+                Arc.container().requestContext().terminate();
+            }
+        }
+    }
+
+    private SmallRyeHealthReporter getReporter() {
+        SmallRyeHealthReporter reporter = this.reporter;
+        if (reporter == null) {
+            // the reporter is application scoped, this is a client proxy
+            this.reporter = reporter = Arc.container().instance(SmallRyeHealthReporter.class).get();
+        }
+        return reporter;
+    }
+
+    private SmallRyeHealthSupport getSupport() {
+        SmallRyeHealthSupport support = this.support;
+        if (support == null) {
+            this.support = support = Arc.container().instance(SmallRyeHealthSupport.class).get();
+        }
+        return support;
+    }
+
+    private static final class Report {
+
+        final long time;
+        final boolean down;
+        // the buffer is not modified, it can be written to several responses
+        final Buffer body;
+
+        Report(long time, boolean down, Buffer body) {
+            this.time = time;
+            this.down = down;
+            this.body = body;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.quarkus.smallrye.health.runtime;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.spi.HealthCheckResponseProvider;
 
+import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -17,4 +18,7 @@ public class SmallRyeHealthRecorder {
         }
     }
 
+    public void initialize(BeanContainer container, SmallRyeHealthRuntimeConfig config) {
+        container.instance(SmallRyeHealthSupport.class).initialize(config);
+    }
 }
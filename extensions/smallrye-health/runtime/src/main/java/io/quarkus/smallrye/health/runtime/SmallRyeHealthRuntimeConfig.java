@@ -0,0 +1,29 @@
+package io.quarkus.smallrye.health.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "smallrye-health", phase = ConfigPhase.RUN_TIME)
+public class SmallRyeHealthRuntimeConfig {
+
+    /**
+     * How long the result of the health checks is reused by the health endpoints.
+     * <p>
+     * By default the health checks are executed on every request.
+     */
+    @ConfigItem
+    public Optional<Duration> cacheDuration;
+
+    /**
+     * The maximal duration of a health check. A health check taking longer is reported as down, and is not invoked
+     * again until the timed out invocation completes.
+     * <p>
+     * By default the health checks are not time limited.
+     */
+    @ConfigItem
+    public Optional<Duration> checkTimeout;
+}
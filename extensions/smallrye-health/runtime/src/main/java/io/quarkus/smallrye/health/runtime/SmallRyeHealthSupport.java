@@ -0,0 +1,146 @@
+package io.quarkus.smallrye.health.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.interceptor.InvocationContext;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+
+/**
+ * Holds the runtime settings of the health endpoints and executes the time limited health checks.
+ */
+@Singleton
+public class SmallRyeHealthSupport {
+
+    private static final String WORKER_POOL_NAME = "quarkus-health-checks";
+
+    @Inject
+    Instance<Vertx> vertx;
+
+    private volatile long cacheDuration;
+    private volatile long checkTimeout;
+    private volatile WorkerExecutor executor;
+    // the checks that timed out and are still running, they are not invoked again until they complete
+    private final ConcurrentMap<Class<?>, CompletableFuture<Void>> abandoned = new ConcurrentHashMap<>();
+
+    void initialize(SmallRyeHealthRuntimeConfig config) {
+        cacheDuration = config.cacheDuration.isPresent() ? config.cacheDuration.get().toNanos() : 0;
+        checkTimeout = config.checkTimeout.isPresent() ? config.checkTimeout.get().toMillis() : 0;
+    }
+
+    /**
+     *
+     * @return the duration in nanoseconds a health result can be reused, or {@code 0}
+     */
+    long getCacheDuration() {
+        return cacheDuration;
+    }
+
+    boolean hasCheckTimeout() {
+        return checkTimeout > 0;
+    }
+
+    /**
+     * Invokes the health check on a dedicated worker pool, so that the caller waits at most for the check timeout.
+     * <p>
+     * The check runs in its own request context, as it may outlive the request context of the caller. A check that
+     * timed out is reported as down, without being invoked again, until its previous invocation completes, so that a
+     * hanging check occupies at most one thread of the pool.
+     */
+    Object call(InvocationContext context) throws Exception {
+        Class<?> check = context.getTarget().getClass();
+        if (abandoned.containsKey(check)) {
+            return down(context, "Health check still running after a previous timeout");
+        }
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        CompletableFuture<Void> finished = new CompletableFuture<>();
+        getExecutor().executeBlocking(promise -> {
+            // the result is already cancelled if the caller gave up before the check started
+            if (!result.isDone()) {
+                ManagedContext requestContext = Arc.container().requestContext();
+                requestContext.activate();
+                try {
+                    result.complete(context.proceed());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                } finally {
+                    requestContext.terminate();
+                }
+            }
+            finished.complete(null);
+            promise.complete();
+        }, false, ignored -> {
+        });
+        try {
+            return result.get(checkTimeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (result.cancel(false)) {
+                abandoned.put(check, finished);
+                finished.whenComplete((ignored, failure) -> abandoned.remove(check, finished));
+                return down(context, "Health check timed out after " + checkTimeout + " ms");
+            }
+            // completed meanwhile
+            return unwrap(result);
+        } catch (ExecutionException e) {
+            return unwrap(result);
+        }
+    }
+
+    private static Object unwrap(CompletableFuture<Object> result) throws Exception {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static HealthCheckResponse down(InvocationContext context, String error) {
+        return HealthCheckResponse.named(context.getMethod().getDeclaringClass().getName())
+                .down()
+                .withData("error", error)
+                .build();
+    }
+
+    private WorkerExecutor getExecutor() {
+        WorkerExecutor executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.executor;
+                if (executor == null) {
+                    this.executor = executor = vertx.get().createSharedWorkerExecutor(WORKER_POOL_NAME);
+                }
+            }
+        }
+        return executor;
+    }
+
+    @PreDestroy
+    void destroy() {
+        WorkerExecutor executor = this.executor;
+        if (executor != null) {
+            executor.close();
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
 import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem.BeanConfiguratorBuildItem;
 import io.quarkus.arc.processor.BeanConfigurator;
@@ -23,9 +24,14 @@ import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.deployment.QuarkusConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.substrate.SubstrateResourceBuildItem;
 import io.quarkus.security.deployment.JCAProviderBuildItem;
+import io.quarkus.smallrye.jwt.runtime.SmallRyeJwtRecorder;
+import io.quarkus.smallrye.jwt.runtime.SmallRyeJwtRuntimeConfig;
 import io.quarkus.smallrye.jwt.runtime.auth.JWTAuthMechanism;
 import io.quarkus.smallrye.jwt.runtime.auth.JwtPrincipalProducer;
 import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
@@ -109,6 +115,18 @@ class SmallRyeJwtProcessor {
         return new JCAProviderBuildItem(config.rsaSigProvider);
     }
 
+    /**
+     * Set up the verified token cache if it is enabled
+     */
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void configureTokenCache(SmallRyeJwtRecorder recorder, SmallRyeJwtRuntimeConfig runtimeConfig,
+            BeanContainerBuildItem beanContainer, ShutdownContextBuildItem shutdown) {
+        if (config.enabled) {
+            recorder.configureTokenCache(runtimeConfig, beanContainer.getValue(), shutdown);
+        }
+    }
+
     @BuildStep
     void registerOptionalClaimProducer(BeanRegistrationPhaseBuildItem beanRegistrationPhase,
             BuildProducer<BeanConfiguratorBuildItem> beanConfigurator) {
@@ -0,0 +1,73 @@
+package io.quarkus.jwt.test;
+
+import java.util.Collections;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+import io.quarkus.smallrye.jwt.runtime.auth.VerifiedTokenCache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class TokenCacheUnitTest {
+    private static Class<?>[] testClasses = {
+            RolesEndpoint.class
+    };
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(testClasses)
+                    .addAsResource("applicationTokenCache.properties", "application.properties"));
+
+    @Inject
+    MpJwtValidator validator;
+
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    public void clearCache() {
+        cache = validator.getTokenCache();
+        Assertions.assertNotNull(cache);
+        cache.clear();
+    }
+
+    @Test
+    public void testVerifiedTokenIsCached() throws Exception {
+        String token = TokenUtils.generateTokenString("/Token1.json");
+        long hits = cache.getHits();
+        long misses = cache.getMisses();
+        long evictions = cache.getEvictions();
+
+        for (int i = 0; i < 3; i++) {
+            RestAssured.given().auth().oauth2(token).get("/endp/echo").then().statusCode(200);
+        }
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(misses + 1, cache.getMisses());
+        Assertions.assertEquals(hits + 2, cache.getHits());
+
+        // max-size is 1 so the first token is evicted
+        String otherToken = TokenUtils.generateTokenString("/Token1.json",
+                TokenUtils.readPrivateKey("/privateKey.pem"), "other");
+        RestAssured.given().auth().oauth2(otherToken).get("/endp/echo").then().statusCode(200);
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(evictions + 1, cache.getEvictions());
+    }
+
+    @Test
+    public void testInvalidTokenIsNotCached() throws Exception {
+        String token = TokenUtils.generateTokenString("/Token1.json",
+                Collections.singleton(TokenUtils.InvalidClaims.EXP));
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given().auth().oauth2(token).get("/endp/echo").then().statusCode(401);
+        }
+        Assertions.assertEquals(0, cache.size());
+    }
+}
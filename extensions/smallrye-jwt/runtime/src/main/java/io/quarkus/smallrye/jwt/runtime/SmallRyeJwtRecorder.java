@@ -0,0 +1,31 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+import io.quarkus.smallrye.jwt.runtime.auth.VerifiedTokenCache;
+
+@Recorder
+public class SmallRyeJwtRecorder {
+
+    private static final Logger log = Logger.getLogger(SmallRyeJwtRecorder.class);
+
+    public void configureTokenCache(SmallRyeJwtRuntimeConfig config, BeanContainer beanContainer,
+            ShutdownContext shutdown) {
+        if (!config.tokenCache.enabled) {
+            return;
+        }
+        VerifiedTokenCache cache = new VerifiedTokenCache(config.tokenCache.maxSize,
+                config.tokenCache.maxAge.toMillis());
+        beanContainer.instance(MpJwtValidator.class).setTokenCache(cache);
+        shutdown.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                log.debug(cache);
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * Runtime configuration of the MP-JWT extension.
+ */
+@ConfigRoot(name = "smallrye-jwt", phase = ConfigPhase.RUN_TIME)
+public class SmallRyeJwtRuntimeConfig {
+
+    /**
+     * The verified token cache configuration.
+     */
+    @ConfigItem
+    public TokenCacheConfig tokenCache;
+
+    @ConfigGroup
+    public static class TokenCacheConfig {
+
+        /**
+         * If set to true the security identities built from the verified bearer tokens are cached, so that a token
+         * which is sent again is not parsed and its signature is not verified again until it expires.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The maximum number of cached tokens.
+         */
+        @ConfigItem(defaultValue = "1000")
+        public int maxSize;
+
+        /**
+         * The maximum time a verified token is cached for.
+         * <p>
+         * A token is never cached beyond its expiration time, this value caps the time for the long lived tokens.
+         */
+        @ConfigItem(defaultValue = "5M")
+        public Duration maxAge;
+    }
+}
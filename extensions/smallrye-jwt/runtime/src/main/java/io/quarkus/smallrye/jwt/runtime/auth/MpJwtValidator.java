@@ -10,6 +10,7 @@ import javax.inject.Inject;
 import org.jboss.logging.Logger;
 import org.jose4j.jwt.JwtClaims;
 import org.jose4j.jwt.MalformedClaimException;
+import org.jose4j.jwt.NumericDate;
 import org.jose4j.jwt.consumer.JwtContext;
 
 import io.quarkus.security.AuthenticationFailedException;
@@ -17,6 +18,7 @@ import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.IdentityCache;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
 import io.smallrye.jwt.auth.principal.DefaultJWTTokenParser;
 import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
@@ -34,6 +36,8 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
 
     private DefaultJWTTokenParser parser = new DefaultJWTTokenParser();
 
+    private volatile VerifiedTokenCache tokenCache;
+
     public MpJwtValidator() {
         authContextInfo = null;
     }
@@ -43,6 +47,14 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
         this.authContextInfo = authContextInfo;
     }
 
+    public VerifiedTokenCache getTokenCache() {
+        return tokenCache;
+    }
+
+    public void setTokenCache(VerifiedTokenCache tokenCache) {
+        this.tokenCache = tokenCache;
+    }
+
     @Override
     public Class<TokenAuthenticationRequest> getRequestType() {
         return TokenAuthenticationRequest.class;
@@ -51,8 +63,16 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
     @Override
     public CompletionStage<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
             AuthenticationRequestContext context) {
+        String token = request.getToken().getToken();
+        VerifiedTokenCache tokenCache = this.tokenCache;
+        if (tokenCache != null) {
+            SecurityIdentity identity = tokenCache.get(token);
+            if (identity != null) {
+                return CompletableFuture.completedFuture(identity);
+            }
+        }
         try {
-            JwtContext jwtContext = parser.parse(request.getToken().getToken(), authContextInfo);
+            JwtContext jwtContext = parser.parse(token, authContextInfo);
 
             JwtClaims claims = jwtContext.getJwtClaims();
             String name = claims.getClaimValue("upn", String.class);
@@ -63,10 +83,18 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
                 }
             }
             QuarkusJwtCallerPrincipal principal = new QuarkusJwtCallerPrincipal(name, claims);
-            return CompletableFuture
-                    .completedFuture(QuarkusSecurityIdentity.builder().setPrincipal(principal)
-                            .addRoles(new HashSet<>(claims.getStringListClaimValue("groups")))
-                            .addAttribute(QuarkusSecurityIdentity.USER_ATTRIBUTE, principal).build());
+            QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder().setPrincipal(principal)
+                    .addRoles(new HashSet<>(claims.getStringListClaimValue("groups")))
+                    .addAttribute(QuarkusSecurityIdentity.USER_ATTRIBUTE, principal);
+            NumericDate expirationTime = claims.getExpirationTime();
+            if (expirationTime != null) {
+                builder.addAttribute(IdentityCache.EXPIRATION_ATTRIBUTE, expirationTime.getValue());
+            }
+            SecurityIdentity identity = builder.build();
+            if (tokenCache != null && expirationTime != null) {
+                tokenCache.put(token, expirationTime.getValue(), identity);
+            }
+            return CompletableFuture.completedFuture(identity);
 
         } catch (ParseException | MalformedClaimException e) {
             log.debug("Authentication failed", e);
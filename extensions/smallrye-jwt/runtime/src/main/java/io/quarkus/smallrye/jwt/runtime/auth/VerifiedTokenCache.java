@@ -0,0 +1,174 @@
+package io.quarkus.smallrye.jwt.runtime.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.security.identity.SecurityIdentity;
+
+/**
+ * A bounded cache of the security identities built from verified bearer tokens.
+ * <p>
+ * The entries are keyed by the SHA-256 digest of the token so that the tokens themselves are not retained as keys.
+ * An entry is never returned after the expiration time of its token or after the configured maximum age, whichever
+ * comes first. If the cache is full the expired entries are purged and, if that is not enough, arbitrary entries are
+ * evicted.
+ */
+public class VerifiedTokenCache {
+
+    private static final long PURGE_INTERVAL = TimeUnit.SECONDS.toMillis(1);
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final int maxSize;
+    private final long maxAge;
+    private final Map<TokenKey, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private volatile long lastPurge;
+
+    /**
+     *
+     * @param maxSize the maximum number of entries
+     * @param maxAge the maximum time in milliseconds an entry is kept for
+     */
+    public VerifiedTokenCache(int maxSize, long maxAge) {
+        this.maxSize = maxSize;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     *
+     * @param token the raw token
+     * @return the identity built from the token or {@code null} if the token is not cached or expired
+     */
+    public SecurityIdentity get(String token) {
+        TokenKey key = new TokenKey(token);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt > System.currentTimeMillis()) {
+                hits.increment();
+                return entry.identity;
+            }
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     *
+     * @param token the raw token, which must have been verified successfully
+     * @param expirationTime the expiration time of the token in seconds since the epoch
+     * @param identity the identity built from the token
+     */
+    public void put(String token, long expirationTime, SecurityIdentity identity) {
+        if (maxSize <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(TimeUnit.SECONDS.toMillis(expirationTime), now + maxAge);
+        if (expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            makeRoom(now);
+        }
+        entries.put(new TokenKey(token), new Entry(identity, expiresAt));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private void makeRoom(long now) {
+        if (now - lastPurge > PURGE_INTERVAL) {
+            lastPurge = now;
+            entries.values().removeIf(e -> e.expiresAt <= now);
+        }
+        Iterator<TokenKey> it = entries.keySet().iterator();
+        while (entries.size() >= maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "VerifiedTokenCache [size=" + size() + ", hits=" + getHits() + ", misses=" + getMisses()
+                + ", evictions=" + getEvictions() + "]";
+    }
+
+    private static final class Entry {
+
+        final SecurityIdentity identity;
+        final long expiresAt;
+
+        Entry(SecurityIdentity identity, long expiresAt) {
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class TokenKey {
+
+        private final byte[] digest;
+        private final int hashCode;
+
+        TokenKey(String token) {
+            this.digest = DIGEST.get().digest(token.getBytes(StandardCharsets.UTF_8));
+            // the digest bytes are uniformly distributed already
+            this.hashCode = (digest[0] & 0xFF) << 24 | (digest[1] & 0xFF) << 16 | (digest[2] & 0xFF) << 8
+                    | (digest[3] & 0xFF);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TokenKey)) {
+                return false;
+            }
+            TokenKey other = (TokenKey) obj;
+            return hashCode == other.hashCode && Arrays.equals(digest, other.digest);
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package io.quarkus.smallrye.metrics.runtime;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
-import javax.enterprise.inject.spi.CDI;
-
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
 import io.smallrye.metrics.MetricsRequestHandler;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
@@ -18,6 +18,8 @@ public class SmallRyeMetricsHandler implements Handler<RoutingContext> {
 
     private String metricsPath;
 
+    private volatile Supplier<MetricsRequestHandler> internalHandler;
+
     private static final Logger LOGGER = Logger.getLogger(SmallRyeMetricsHandler.class.getName());
 
     public void setMetricsPath(String metricsPath) {
@@ -26,7 +28,7 @@ public class SmallRyeMetricsHandler implements Handler<RoutingContext> {
 
     @Override
     public void handle(RoutingContext routingContext) {
-        MetricsRequestHandler internalHandler = CDI.current().select(MetricsRequestHandler.class).get();
+        MetricsRequestHandler internalHandler = getInternalHandler();
         HttpServerResponse response = routingContext.response();
         HttpServerRequest request = routingContext.request();
         Stream<String> acceptHeaders = request.headers().getAll("Accept").stream();
@@ -44,4 +46,13 @@ public class SmallRyeMetricsHandler implements Handler<RoutingContext> {
             LOGGER.error(e);
         }
     }
+
+    private MetricsRequestHandler getInternalHandler() {
+        Supplier<MetricsRequestHandler> supplier = this.internalHandler;
+        if (supplier == null) {
+            // the handler is created before the container is started
+            this.internalHandler = supplier = Arc.container().beanInstanceSupplier(MetricsRequestHandler.class);
+        }
+        return supplier.get();
+    }
 }
@@ -1,5 +1,6 @@
 package io.quarkus.smallrye.openapi.deployment;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -15,6 +16,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
@@ -250,9 +252,13 @@ public class SmallRyeOpenApiProcessor {
             OpenApiDocument finalDocument = loadDocument(staticModel, annotationModel);
             for (OpenApiSerializer.Format format : OpenApiSerializer.Format.values()) {
                 String name = OpenApiHandler.BASE_NAME + format;
-                resourceBuildItemBuildProducer.produce(new GeneratedResourceBuildItem(name,
-                        OpenApiSerializer.serialize(finalDocument.get(), format).getBytes(StandardCharsets.UTF_8)));
+                byte[] content = OpenApiSerializer.serialize(finalDocument.get(), format).getBytes(StandardCharsets.UTF_8);
+                resourceBuildItemBuildProducer.produce(new GeneratedResourceBuildItem(name, content));
                 substrateResources.produce(new SubstrateResourceBuildItem(name));
+                // also pre-compress the document, most clients accept a gzipped response
+                resourceBuildItemBuildProducer.produce(new GeneratedResourceBuildItem(name + OpenApiHandler.GZIP_SUFFIX,
+                        gzip(content)));
+                substrateResources.produce(new SubstrateResourceBuildItem(name + OpenApiHandler.GZIP_SUFFIX));
             }
         } finally {
             Thread.currentThread().setContextClassLoader(old);
@@ -265,6 +271,14 @@ public class SmallRyeOpenApiProcessor {
                 "OpenAPI document initialized:");
     }
 
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
     private OpenAPI generateStaticModel(ApplicationArchivesBuildItem archivesBuildItem) throws IOException {
         Result result = findStaticModel(archivesBuildItem);
         if (result != null) {
@@ -0,0 +1,51 @@
+package io.quarkus.smallrye.openapi.test;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class OpenApiEtagTestCase {
+    private static final String OPEN_API_PATH = "/openapi";
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(OpenApiResource.class));
+
+    @Test
+    public void testConditionalRequest() {
+        String etag = RestAssured.given().header("Accept-Encoding", "identity")
+                .when().get(OPEN_API_PATH)
+                .then().statusCode(200)
+                .header("ETag", Matchers.notNullValue())
+                .extract().header("ETag");
+        RestAssured.given().header("Accept-Encoding", "identity").header("If-None-Match", etag)
+                .when().get(OPEN_API_PATH)
+                .then().statusCode(304)
+                .header("ETag", etag);
+        RestAssured.given().header("Accept-Encoding", "identity").header("If-None-Match", "\"other\"")
+                .when().get(OPEN_API_PATH)
+                .then().statusCode(200);
+        // the JSON document is another representation
+        RestAssured.given().header("Accept-Encoding", "identity").header("If-None-Match", etag)
+                .queryParam("format", "JSON")
+                .when().get(OPEN_API_PATH)
+                .then().statusCode(200)
+                .body("paths", Matchers.hasKey("/resource"));
+    }
+
+    @Test
+    public void testGzippedDocument() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .queryParam("format", "JSON")
+                .when().get(OPEN_API_PATH)
+                .then().statusCode(200)
+                .header("ETag", Matchers.endsWith("-gzip\""))
+                .body("paths", Matchers.hasKey("/resource"));
+    }
+}
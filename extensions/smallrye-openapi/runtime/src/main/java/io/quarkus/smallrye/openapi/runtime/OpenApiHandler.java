@@ -3,17 +3,27 @@ package io.quarkus.smallrye.openapi.runtime;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.smallrye.openapi.runtime.io.OpenApiSerializer;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
 /**
+ * Serves the OpenAPI document generated at build time.
+ * <p>
+ * Each format is loaded once, together with its gzipped form, and served with an {@code ETag} so that clients can
+ * revalidate their copy with a conditional request.
+ *
  * @author Ken Finnigan
  */
 public class OpenApiHandler implements Handler<RoutingContext> {
@@ -35,8 +45,13 @@ public class OpenApiHandler implements Handler<RoutingContext> {
 
     private static final String QUERY_PARAM_FORMAT = "format";
 
+    private static final String GZIP = "gzip";
+
     public static final String GENERATED_DOC_BASE = "quarkus-generated-openapi-doc.";
     public static final String BASE_NAME = "META-INF/" + GENERATED_DOC_BASE;
+    public static final String GZIP_SUFFIX = ".gz";
+
+    private final Map<OpenApiSerializer.Format, Document> documents = new ConcurrentHashMap<>();
 
     private static void addCorsResponseHeaders(HttpServerResponse response) {
         response.headers().set("Access-Control-Allow-Origin", "*");
@@ -68,21 +83,101 @@ public class OpenApiHandler implements Handler<RoutingContext> {
                 format = OpenApiSerializer.Format.JSON;
             }
 
+            Document document;
+            try {
+                document = getDocument(format);
+            } catch (IOException e) {
+                event.fail(e);
+                return;
+            }
+
+            String acceptEncoding = req.headers().get(HttpHeaders.ACCEPT_ENCODING);
+            boolean gzip = acceptEncoding != null && acceptEncoding.contains(GZIP);
+            String etag = gzip ? document.gzipEtag : document.etag;
+
             addCorsResponseHeaders(resp);
+            resp.headers().set("Vary", "Accept, Accept-Encoding");
+            resp.headers().set(HttpHeaders.ETAG, etag);
+            if (matches(req.headers().get(HttpHeaders.IF_NONE_MATCH), etag)) {
+                resp.setStatusCode(304).end();
+                return;
+            }
             resp.headers().set("Content-Type", format.getMimeType() + ";charset=UTF-8");
+            if (gzip) {
+                // the server does not compress a response that already has a content encoding
+                resp.headers().set(HttpHeaders.CONTENT_ENCODING, GZIP);
+                resp.end(document.gzipped);
+            } else {
+                resp.end(document.content);
+            }
+        }
+    }
+
+    private Document getDocument(OpenApiSerializer.Format format) throws IOException {
+        Document document = documents.get(format);
+        if (document == null) {
             ClassLoader cl = classLoader == null ? Thread.currentThread().getContextClassLoader() : classLoader;
-            try (InputStream in = cl.getResourceAsStream(BASE_NAME + format)) {
-                ByteArrayOutputStream out = new ByteArrayOutputStream();
-                int r;
-                byte[] buf = new byte[1024];
-                while ((r = in.read(buf)) > 0) {
-                    out.write(buf, 0, r);
-                }
-                resp.end(Buffer.buffer(out.toByteArray()));
-            } catch (IOException e) {
-                event.fail(e);
+            document = new Document(read(cl, BASE_NAME + format), read(cl, BASE_NAME + format + GZIP_SUFFIX));
+            documents.putIfAbsent(format, document);
+        }
+        return document;
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals("*") || candidate.equals(etag) || candidate.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] read(ClassLoader cl, String name) throws IOException {
+        try (InputStream in = cl.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IOException("OpenAPI document not found: " + name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int r;
+            byte[] buf = new byte[1024];
+            while ((r = in.read(buf)) > 0) {
+                out.write(buf, 0, r);
             }
+            return out.toByteArray();
+        }
+    }
+
+    private static final class Document {
+
+        // the buffers are not modified, they can be written to several responses
+        final Buffer content;
+        final Buffer gzipped;
+        final String etag;
+        final String gzipEtag;
 
+        Document(byte[] content, byte[] gzipped) {
+            this.content = Buffer.buffer(content);
+            this.gzipped = Buffer.buffer(gzipped);
+            String hash = hash(content);
+            this.etag = "\"" + hash + "\"";
+            this.gzipEtag = "\"" + hash + "-gzip\"";
+        }
+
+        private static String hash(byte[] content) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+                StringBuilder hash = new StringBuilder();
+                for (int i = 0; i < 16; i++) {
+                    hash.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+                }
+                return hash.toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
         }
     }
 }
@@ -26,6 +26,7 @@ import io.quarkus.arc.Arc;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.netty.runtime.virtual.VirtualAddress;
 import io.quarkus.netty.runtime.virtual.VirtualChannel;
+import io.quarkus.netty.runtime.virtual.VirtualClientConnection;
 import io.quarkus.netty.runtime.virtual.VirtualServerChannel;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
@@ -152,6 +153,12 @@ public class VertxHttpRecorder {
         Vertx vertx = vertxRuntimeValue.getValue();
         if (startVirtual) {
             initializeVirtual(vertx);
+            shutdown.addShutdownTask(new Runnable() {
+                @Override
+                public void run() {
+                    VirtualClientConnection.closePooledConnections(VIRTUAL_HTTP);
+                }
+            });
         }
         if (startSocket) {
             // Start the server
@@ -88,6 +88,9 @@ public class BeanGenerator extends AbstractGenerator {
 
     protected final PrivateMembersCollector privateMembers;
 
+    // the next index of a request scoped bean, see InjectableBean#getRequestContextIndex()
+    private int requestContextIndex;
+
     public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             PrivateMembersCollector privateMembers) {
         this.annotationLiterals = annotationLiterals;
@@ -219,6 +222,9 @@ public class BeanGenerator extends AbstractGenerator {
         }
         implementGetBeanClass(bean, beanCreator);
         implementGetName(bean, beanCreator);
+        if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            implementGetRequestContextIndex(beanCreator);
+        }
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
@@ -299,6 +305,9 @@ public class BeanGenerator extends AbstractGenerator {
         }
         implementGetBeanClass(bean, beanCreator);
         implementGetName(bean, beanCreator);
+        if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            implementGetRequestContextIndex(beanCreator);
+        }
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
@@ -394,6 +403,9 @@ public class BeanGenerator extends AbstractGenerator {
         }
         implementGetBeanClass(bean, beanCreator);
         implementGetName(bean, beanCreator);
+        if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            implementGetRequestContextIndex(beanCreator);
+        }
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
@@ -474,6 +486,9 @@ public class BeanGenerator extends AbstractGenerator {
         }
         implementGetBeanClass(bean, beanCreator);
         implementGetName(bean, beanCreator);
+        if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            implementGetRequestContextIndex(beanCreator);
+        }
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
@@ -1496,6 +1511,17 @@ public class BeanGenerator extends AbstractGenerator {
                 .returnValue(isDefaultBean.load(bean.isDefaultBean()));
     }
 
+    /**
+     *
+     * @param beanCreator
+     * @see InjectableBean#getRequestContextIndex()
+     */
+    protected void implementGetRequestContextIndex(ClassCreator beanCreator) {
+        MethodCreator getRequestContextIndex = beanCreator.getMethodCreator("getRequestContextIndex", int.class)
+                .setModifiers(ACC_PUBLIC);
+        getRequestContextIndex.returnValue(getRequestContextIndex.load(requestContextIndex++));
+    }
+
     protected void implementGetStereotypes(BeanInfo bean, ClassCreator beanCreator, FieldDescriptor stereotypesField) {
         MethodCreator getStereotypes = beanCreator.getMethodCreator("getStereotypes", Set.class).setModifiers(ACC_PUBLIC);
         getStereotypes.returnValue(getStereotypes.readInstanceField(stereotypesField, getStereotypes.getThis()));
@@ -6,6 +6,7 @@ import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.impl.ApplicationScopedInstanceCache;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.AssignableResultHandle;
@@ -85,9 +86,19 @@ public class ClientProxyGenerator extends AbstractGenerator {
                 .interfaces(interfaces.toArray(new String[0])).build();
         FieldCreator beanField = clientProxy.getFieldCreator("bean", DescriptorUtils.extToInt(beanClassName))
                 .setModifiers(ACC_PRIVATE | ACC_FINAL);
+        // The contextual instance of an @ApplicationScoped bean is cached
+        FieldDescriptor instanceCacheField = null;
+        if (BuiltinScope.APPLICATION.is(bean.getScope())) {
+            instanceCacheField = clientProxy.getFieldCreator("instanceCache", ApplicationScopedInstanceCache.class)
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL).getFieldDescriptor();
+        }
 
-        createConstructor(clientProxy, beanClassName, superClass, beanField.getFieldDescriptor());
-        implementDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor());
+        createConstructor(clientProxy, beanClassName, superClass, beanField.getFieldDescriptor(), instanceCacheField);
+        if (instanceCacheField != null) {
+            implementCachedDelegate(clientProxy, providerTypeName, instanceCacheField);
+        } else {
+            implementDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor());
+        }
         implementGetContextualInstance(clientProxy, providerTypeName);
         implementGetBean(clientProxy, beanField.getFieldDescriptor());
 
@@ -173,10 +184,18 @@ public class ClientProxyGenerator extends AbstractGenerator {
         return classOutput.getResources();
     }
 
-    void createConstructor(ClassCreator clientProxy, String beanClassName, String superClasName, FieldDescriptor beanField) {
+    void createConstructor(ClassCreator clientProxy, String beanClassName, String superClasName, FieldDescriptor beanField,
+            FieldDescriptor instanceCacheField) {
         MethodCreator creator = clientProxy.getMethodCreator(Methods.INIT, void.class, beanClassName);
         creator.invokeSpecialMethod(MethodDescriptor.ofConstructor(superClasName), creator.getThis());
         creator.writeInstanceField(beanField, creator.getThis(), creator.getMethodParam(0));
+        if (instanceCacheField != null) {
+            // this.instanceCache = new ApplicationScopedInstanceCache(bean)
+            creator.writeInstanceField(instanceCacheField, creator.getThis(),
+                    creator.newInstance(
+                            MethodDescriptor.ofConstructor(ApplicationScopedInstanceCache.class, InjectableBean.class),
+                            creator.getMethodParam(0)));
+        }
         creator.returnValue(null);
     }
 
@@ -208,6 +227,15 @@ public class ClientProxyGenerator extends AbstractGenerator {
         creator.returnValue(ret);
     }
 
+    void implementCachedDelegate(ClassCreator clientProxy, String providerTypeName, FieldDescriptor instanceCacheField) {
+        MethodCreator creator = clientProxy.getMethodCreator(DELEGATE_METHOD_NAME, providerTypeName)
+                .setModifiers(Modifier.PRIVATE);
+        // return instanceCache.get()
+        ResultHandle instanceCache = creator.readInstanceField(instanceCacheField, creator.getThis());
+        creator.returnValue(creator.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(ApplicationScopedInstanceCache.class, "get", Object.class), instanceCache));
+    }
+
     void implementGetContextualInstance(ClassCreator clientProxy, String providerTypeName) {
         MethodCreator creator = clientProxy.getMethodCreator(GET_CONTEXTUAL_INSTANCE_METHOD_NAME, Object.class)
                 .setModifiers(Modifier.PUBLIC);
@@ -2,6 +2,7 @@ package io.quarkus.arc.processor;
 
 import io.quarkus.arc.AlternativePriority;
 import io.quarkus.arc.DefaultBean;
+import io.quarkus.arc.ProceedsSynchronously;
 import io.quarkus.arc.impl.ComputingCache;
 import java.util.Optional;
 import javax.annotation.PostConstruct;
@@ -71,6 +72,7 @@ public final class DotNames {
     public static final DotName ALTERNATIVE = create(Alternative.class);
     public static final DotName ALTERNATIVE_PRIORITY = create(AlternativePriority.class);
     public static final DotName DEFAULT_BEAN = create(DefaultBean.class);
+    public static final DotName PROCEEDS_SYNCHRONOUSLY = create(ProceedsSynchronously.class);
     public static final DotName STEREOTYPE = create(Stereotype.class);
     public static final DotName TYPED = create(Typed.class);
     public static final DotName VETOED = create(Vetoed.class);
@@ -140,6 +140,12 @@ final class MethodDescriptors {
             Object.class, Object.class, Method.class, Function.class, Object[].class, List.class,
             Set.class);
 
+    static final MethodDescriptor INVOCATION_CONTEXTS_PERFORM_SHARED_AROUND_INVOKE = MethodDescriptor.ofMethod(
+            InvocationContexts.class,
+            "performSharedAroundInvoke",
+            Object.class, Object.class, Method.class, Function.class, Object[].class, List.class,
+            Set.class);
+
     static final MethodDescriptor INVOCATION_CONTEXTS_AROUND_CONSTRUCT = MethodDescriptor.ofMethod(
             InvocationContexts.class,
             "aroundConstruct",
@@ -184,7 +190,7 @@ final class MethodDescriptors {
 
     static final MethodDescriptor SUBCLASS_METHOD_METADATA_CONSTRUCTOR = MethodDescriptor.ofConstructor(
             SubclassMethodMetadata.class,
-            List.class, Method.class, Set.class);
+            List.class, Method.class, Set.class, Function.class);
 
     private MethodDescriptors() {
     }
@@ -67,6 +67,8 @@ public class SubclassGenerator extends AbstractGenerator {
             List.class);
     protected static final FieldDescriptor FIELD_METADATA_BINDINGS = FieldDescriptor.of(SubclassMethodMetadata.class,
             "bindings", Set.class);
+    protected static final FieldDescriptor FIELD_METADATA_AROUND_INVOKE_FORWARD = FieldDescriptor.of(
+            SubclassMethodMetadata.class, "aroundInvokeForward", Function.class);
 
     private final Predicate<DotName> applicationClassPredicate;
 
@@ -254,8 +256,11 @@ public class SubclassGenerator extends AbstractGenerator {
                                 Types.getPackageName(subclass.getClassName())));
             }
 
+            // The forwarding function is created once, it does not capture any state of a particular invocation
+            ResultHandle aroundInvokeForward = createAroundInvokeForward(constructor, method, providerTypeName);
+
             ResultHandle methodMetadataHandle = constructor.newInstance(MethodDescriptors.SUBCLASS_METHOD_METADATA_CONSTRUCTOR,
-                    chainHandle, methodHandle, bindingsHandle);
+                    chainHandle, methodHandle, bindingsHandle, aroundInvokeForward);
             // metadata.put("m1", new SubclassMethodMetadata(...))
             constructor.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, metadataHandle, methodIdHandle, methodMetadataHandle);
 
@@ -304,25 +309,6 @@ public class SubclassGenerator extends AbstractGenerator {
                     notConstructed.invokeSpecialMethod(superDescriptor, notConstructed.getThis(), params));
         }
 
-        // Forwarding function
-        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = forwardMethod.createFunction(Function.class);
-        BytecodeCreator funcBytecode = func.getBytecode();
-        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
-        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
-        ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
-                MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
-                ctxHandle);
-        // autoboxing is handled inside Gizmo
-        for (int i = 0; i < superParamHandles.length; i++) {
-            superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
-        }
-        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
-                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
-                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
-                                .toArray(new String[0])),
-                forwardMethod.getThis(), superParamHandles);
-        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
         for (Type declaredException : method.exceptions()) {
             forwardMethod.addException(declaredException.name().toString());
         }
@@ -356,16 +342,49 @@ public class SubclassGenerator extends AbstractGenerator {
             catchOtherExceptions.throwException(ArcUndeclaredThrowableException.class, "Error invoking subclass method",
                     catchOtherExceptions.getCaughtException());
         }
-        // InvocationContexts.performAroundInvoke(...)
+        // InvocationContexts.performAroundInvoke(...) or InvocationContexts.performSharedAroundInvoke(...)
+        // A single invocation context is only shared if no interceptor of the chain may proceed asynchronously
+        boolean shared = interceptedMethod.interceptors.stream()
+                .allMatch(interceptor -> interceptor.getTarget().get().asClass().classAnnotation(
+                        DotNames.PROCEEDS_SYNCHRONOUSLY) != null);
         ResultHandle methodIdHandle = tryCatch.load(methodId);
         ResultHandle methodMetadataHandle = tryCatch.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
                 tryCatch.readInstanceField(metadataField, tryCatch.getThis()), methodIdHandle);
-        ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
+        ResultHandle ret = tryCatch.invokeStaticMethod(shared
+                ? MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_SHARED_AROUND_INVOKE
+                : MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
                 tryCatch.getThis(),
-                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
+                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle),
+                tryCatch.readInstanceField(FIELD_METADATA_AROUND_INVOKE_FORWARD, methodMetadataHandle), paramsHandle,
                 tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
                 tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
-        tryCatch.returnValue(superResult != null ? ret : null);
+        if (method.returnType().kind() == Type.Kind.VOID) {
+            tryCatch.returnValue(null);
+        } else {
+            tryCatch.returnValue(ret);
+        }
+    }
+
+    private ResultHandle createAroundInvokeForward(MethodCreator constructor, MethodInfo method, String providerTypeName) {
+        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
+        FunctionCreator func = constructor.createFunction(Function.class);
+        BytecodeCreator funcBytecode = func.getBytecode();
+        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
+        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
+        ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
+                MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
+                ctxHandle);
+        // autoboxing is handled inside Gizmo
+        for (int i = 0; i < superParamHandles.length; i++) {
+            superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
+        }
+        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
+                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
+                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
+                                .toArray(new String[0])),
+                constructor.getThis(), superParamHandles);
+        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
+        return func.getInstance();
     }
 
     /**
@@ -82,6 +82,21 @@ public interface ArcContainer {
      */
     <T> Supplier<InstanceHandle<T>> instanceSupplier(Class<T> type, Annotation... qualifiers);
 
+    /**
+     * Returns a supplier of the contextual reference of a {@link javax.inject.Singleton} or a normal scoped bean, or null if
+     * no matching bean can be found. The bean is resolved once and the reference obtained on the first invocation of
+     * {@link Supplier#get()} is returned by all subsequent invocations, i.e. a lookup does not allocate.
+     * <p>
+     * The supplier must not be used after the container is shut down.
+     *
+     * @param type
+     * @param qualifiers
+     * @param <T>
+     * @return the supplier or null
+     * @throws IllegalArgumentException if the matching bean is neither {@link javax.inject.Singleton} nor normal scoped
+     */
+    <T> Supplier<T> beanInstanceSupplier(Class<T> type, Annotation... qualifiers);
+
     /**
      *
      * @param bean
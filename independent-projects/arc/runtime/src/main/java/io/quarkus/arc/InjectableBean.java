@@ -105,4 +105,14 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * The index is assigned by the container to {@link javax.enterprise.context.RequestScoped} beans and is used to
+     * store the contextual instances in an array instead of a map.
+     *
+     * @return the index of the bean in the request context, or -1 if no index was assigned
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
 }
@@ -0,0 +1,18 @@
+package io.quarkus.arc;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that the around invoke method of the interceptor marked with this annotation only invokes
+ * {@link javax.interceptor.InvocationContext#proceed()} before it returns and on the calling thread.
+ * <p>
+ * By default, a new invocation context is created for each interceptor of a chain. If all interceptors bound to a method
+ * are annotated with this annotation then a single invocation context is shared by the whole chain instead.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ProceedsSynchronously {
+}
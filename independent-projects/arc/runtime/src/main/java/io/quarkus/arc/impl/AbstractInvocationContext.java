@@ -21,7 +21,8 @@ abstract class AbstractInvocationContext implements ArcInvocationContext, Suppli
     protected Object target;
     protected Object[] parameters;
     // The map is initialized lazily but we need to use a holder so that all interceptors in the chain can access the same data
-    protected LazyValue<Map<String, Object>> contextData;
+    // The holder itself is only created when needed
+    private LazyValue<Map<String, Object>> contextData;
 
     protected AbstractInvocationContext(Object target, Method method,
             Constructor<?> constructor,
@@ -31,14 +32,23 @@ abstract class AbstractInvocationContext implements ArcInvocationContext, Suppli
         this.method = method;
         this.constructor = constructor;
         this.parameters = parameters;
-        this.contextData = contextData != null ? contextData : new LazyValue<>(this);
+        this.contextData = contextData;
         this.interceptorBindings = interceptorBindings;
         this.chain = chain;
     }
 
     @Override
     public Map<String, Object> getContextData() {
-        return contextData.get();
+        return contextDataHolder().get();
+    }
+
+    protected LazyValue<Map<String, Object>> contextDataHolder() {
+        LazyValue<Map<String, Object>> holder = contextData;
+        if (holder == null) {
+            holder = new LazyValue<>(this);
+            contextData = holder;
+        }
+        return holder;
     }
 
     @Override
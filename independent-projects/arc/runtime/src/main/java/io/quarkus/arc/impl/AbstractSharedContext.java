@@ -31,6 +31,11 @@ abstract class AbstractSharedContext implements InjectableContext {
         return handle != null ? (T) handle.get() : null;
     }
 
+    @SuppressWarnings("unchecked")
+    <T> ContextInstanceHandleImpl<T> getInstanceHandle(InjectableBean<T> bean) {
+        return (ContextInstanceHandleImpl<T>) instances.getValue(new Key<>(bean, new CreationalContextImpl<>(bean)));
+    }
+
     @Override
     public ContextState getState() {
         return new InstanceHandlesContextState(instances.getPresentValues());
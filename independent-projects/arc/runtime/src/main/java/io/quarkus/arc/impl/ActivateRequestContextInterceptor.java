@@ -2,12 +2,14 @@ package io.quarkus.arc.impl;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.ProceedsSynchronously;
 import javax.annotation.Priority;
 import javax.enterprise.context.control.ActivateRequestContext;
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
 import javax.interceptor.InvocationContext;
 
+@ProceedsSynchronously
 @Interceptor
 @ActivateRequestContext
 @Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
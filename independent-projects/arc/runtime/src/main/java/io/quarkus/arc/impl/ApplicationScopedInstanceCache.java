@@ -0,0 +1,36 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * Caches the contextual instance of an {@link ApplicationScoped} bean for its client proxy.
+ * <p>
+ * The application context is only queried if no instance was obtained yet or if the cached instance was destroyed, i.e.
+ * after {@link javax.enterprise.context.spi.AlterableContext#destroy(javax.enterprise.context.spi.Contextual)} or after
+ * the container was shut down.
+ *
+ * @param <T>
+ */
+public final class ApplicationScopedInstanceCache<T> {
+
+    private final InjectableBean<T> bean;
+
+    private volatile ContextInstanceHandleImpl<T> handle;
+
+    public ApplicationScopedInstanceCache(InjectableBean<T> bean) {
+        this.bean = bean;
+    }
+
+    public T get() {
+        ContextInstanceHandleImpl<T> handle = this.handle;
+        if (handle == null || handle.isDestroyed()) {
+            handle = ((AbstractSharedContext) Arc.container().getActiveContext(ApplicationScoped.class))
+                    .getInstanceHandle(bean);
+            this.handle = handle;
+        }
+        return handle.get();
+    }
+
+}
@@ -37,6 +37,7 @@ import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.context.Destroyed;
 import javax.enterprise.context.Initialized;
+import javax.enterprise.context.NormalScope;
 import javax.enterprise.event.Event;
 import javax.enterprise.inject.AmbiguousResolutionException;
 import javax.enterprise.inject.Any;
@@ -94,9 +95,7 @@ public class ArcContainerImpl implements ArcContainer {
 
         applicationContext = new ApplicationContext();
         singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
         contexts = new ArrayList<>();
-        contexts.add(requestContext);
 
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
@@ -128,6 +127,10 @@ public class ArcContainerImpl implements ArcContainer {
         // register built-in beans
         addBuiltInBeans();
 
+        // the request context needs to know all the beans to set up the indexed storage
+        requestContext = new RequestContext(beans);
+        contexts.add(0, requestContext);
+
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
@@ -224,6 +227,22 @@ public class ArcContainerImpl implements ArcContainer {
         };
     }
 
+    @Override
+    public <T> Supplier<T> beanInstanceSupplier(Class<T> type, Annotation... qualifiers) {
+        requireRunning();
+
+        InjectableBean<T> bean = getBean(type, qualifiers);
+        if (bean == null) {
+            return null;
+        }
+        Class<? extends Annotation> scope = bean.getScope();
+        if (!Singleton.class.equals(scope) && !scope.isAnnotationPresent(NormalScope.class)) {
+            throw new IllegalArgumentException(
+                    "The reference of a bean that is neither @Singleton nor normal scoped may not be cached: " + bean);
+        }
+        return new CachedInstanceSupplier<>(bean);
+    }
+
     @Override
     public <T> InstanceHandle<T> instance(InjectableBean<T> bean) {
         Objects.requireNonNull(bean);
@@ -675,4 +694,30 @@ public class ArcContainerImpl implements ArcContainer {
         }
 
     }
+
+    /**
+     * For a normal scoped bean the cached reference is the client proxy, for a {@link Singleton} bean it is the instance
+     * itself.
+     */
+    private final class CachedInstanceSupplier<T> implements Supplier<T> {
+
+        private final InjectableBean<T> bean;
+        private volatile T instance;
+
+        CachedInstanceSupplier(InjectableBean<T> bean) {
+            this.bean = bean;
+        }
+
+        @Override
+        public T get() {
+            T value = instance;
+            if (value == null) {
+                // a race may only obtain the same reference twice
+                value = beanInstanceHandle(bean, null).get();
+                instance = value;
+            }
+            return value;
+        }
+    }
+
 }
@@ -17,6 +17,10 @@ import javax.interceptor.InvocationContext;
  * "cut off" the chain (interceptors executed before dispatch return immediately) and execute all remaining interceptors
  * asynchronously, possibly on a different thread.
  * <p>
+ * This context is used unless all interceptors in the chain are annotated with
+ * {@link io.quarkus.arc.ProceedsSynchronously}, in which case a single {@link SharedAroundInvokeInvocationContext} is
+ * used for the whole chain.
+ * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredicatble behavior may occur.
  */
@@ -48,7 +52,7 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
             if (position < chain.size()) {
                 // Invoke the next interceptor in the chain
                 return chain.get(position).invoke(new AroundInvokeInvocationContext(target, method,
-                        parameters, contextData, interceptorBindings, position + 1, chain, aroundInvokeForward));
+                        parameters, contextDataHolder(), interceptorBindings, position + 1, chain, aroundInvokeForward));
             } else {
                 // Invoke the target method
                 return aroundInvokeForward.apply(this);
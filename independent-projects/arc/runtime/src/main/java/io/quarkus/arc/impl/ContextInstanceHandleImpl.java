@@ -15,9 +15,16 @@ public class ContextInstanceHandleImpl<T> extends InstanceHandleImpl<T> implemen
         super(bean, instance, creationalContext);
     }
 
+    private volatile boolean destroyed;
+
     @Override
     public void destroy() {
+        destroyed = true;
         destroyInternal();
     }
 
+    boolean isDestroyed() {
+        return destroyed;
+    }
+
 }
@@ -32,6 +32,28 @@ public final class InvocationContexts {
         return AroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain, interceptorBindings);
     }
 
+    /**
+     * Unlike {@link #performAroundInvoke(Object, Method, Function, Object[], List, Set)} a single invocation context is
+     * shared by all interceptors in the chain.
+     *
+     * @param target
+     * @param method
+     * @param aroundInvokeForward
+     * @param args
+     * @param chain
+     * @param interceptorBindings
+     * @return the return value
+     * @throws Exception
+     * @see io.quarkus.arc.ProceedsSynchronously
+     */
+    public static Object performSharedAroundInvoke(Object target, Method method,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] args,
+            List<InterceptorInvocation> chain,
+            Set<Annotation> interceptorBindings) throws Exception {
+        return SharedAroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain,
+                interceptorBindings);
+    }
+
     /**
      *
      * @param target
@@ -6,11 +6,17 @@ import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.Destroyed;
@@ -23,6 +29,10 @@ import org.jboss.logging.Logger;
 
 /**
  * The built-in context for {@link RequestScoped}.
+ * <p>
+ * The instances of beans with a request context index assigned at build time are stored in an array, the instances of
+ * other contextuals are stored in a map. Both are only allocated once an instance is stored, so that activating a context
+ * which is never used is cheap.
  *
  * @author Martin Kouba
  */
@@ -31,13 +41,17 @@ class RequestContext implements ManagedContext {
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<RequestContextState> currentState = new ThreadLocal<>();
+
+    // bean -> index in the context state, used to verify that the index belongs to a bean of this container
+    private final InjectableBean<?>[] indexedBeans;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
-    public RequestContext() {
+    public RequestContext(List<InjectableBean<?>> beans) {
+        this.indexedBeans = initIndexedBeans(beans);
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -54,17 +68,18 @@ class RequestContext implements ManagedContext {
         if (contextual == null) {
             throw new IllegalArgumentException("Contextual parameter must not be null");
         }
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
-        if (ctx == null) {
+        RequestContextState state = currentState.get();
+        if (state == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual);
+        int index = indexOf(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.get(contextual, index);
         if (instance == null && creationalContext != null) {
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctx.put(contextual, instance);
+            state.put(contextual, index, instance);
         }
         return instance != null ? instance.get() : null;
     }
@@ -76,17 +91,17 @@ class RequestContext implements ManagedContext {
 
     @Override
     public boolean isActive() {
-        return currentContext.get() != null;
+        return currentState.get() != null;
     }
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
-        if (ctx == null) {
+        RequestContextState state = currentState.get();
+        if (state == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<?> instance = ctx.remove(contextual);
+        ContextInstanceHandle<?> instance = state.remove(contextual, indexOf(contextual));
         if (instance != null) {
             instance.destroy();
         }
@@ -95,12 +110,16 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            currentState.set(new RequestContextState(indexedBeans.length));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
             if (initialState instanceof InstanceHandlesContextState) {
-                currentContext.set(((InstanceHandlesContextState) initialState).toConcurrentMap());
+                RequestContextState state = new RequestContextState(indexedBeans.length);
+                for (ContextInstanceHandle<?> handle : ((InstanceHandlesContextState) initialState).getHandles()) {
+                    state.put(handle.getBean(), indexOf(handle.getBean()), handle);
+                }
+                currentState.set(state);
             } else {
                 throw new IllegalArgumentException("Invalid inital state: " + initialState);
             }
@@ -109,31 +128,31 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
-        if (ctx == null) {
+        RequestContextState state = currentState.get();
+        if (state == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        return new InstanceHandlesContextState(ctx.values());
+        return new InstanceHandlesContextState(state.handles());
     }
 
     @Override
     public void deactivate() {
-        currentContext.remove();
+        currentState.remove();
     }
 
     @Override
     public void destroy() {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
-        if (ctx != null) {
-            synchronized (ctx) {
+        RequestContextState state = currentState.get();
+        if (state != null) {
+            synchronized (state) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
                 try {
                     fireIfNotEmpty(beforeDestroyedNotifier);
                 } catch (Exception e) {
                     LOGGER.warn("An error occured during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
                 }
-                for (InstanceHandle<?> instance : ctx.values()) {
+                for (InstanceHandle<?> instance : state.handles()) {
                     try {
                         instance.destroy();
                     } catch (Exception e) {
@@ -146,9 +165,42 @@ class RequestContext implements ManagedContext {
                 } catch (Exception e) {
                     LOGGER.warn("An error occured during delivery of the @Destroyed(RequestScoped.class) event", e);
                 }
-                ctx.clear();
+                state.clear();
+            }
+        }
+    }
+
+    private int indexOf(Contextual<?> contextual) {
+        if (contextual instanceof InjectableBean) {
+            int index = ((InjectableBean<?>) contextual).getRequestContextIndex();
+            if (index >= 0 && index < indexedBeans.length && indexedBeans[index] == contextual) {
+                return index;
             }
         }
+        return -1;
+    }
+
+    private static InjectableBean<?>[] initIndexedBeans(List<InjectableBean<?>> beans) {
+        int size = 0;
+        for (InjectableBean<?> bean : beans) {
+            size = Math.max(size, bean.getRequestContextIndex() + 1);
+        }
+        InjectableBean<?>[] indexedBeans = new InjectableBean<?>[size];
+        Set<Integer> conflicts = new HashSet<>();
+        for (InjectableBean<?> bean : beans) {
+            int index = bean.getRequestContextIndex();
+            if (index >= 0) {
+                if (indexedBeans[index] != null) {
+                    // Multiple deployments may assign the same index - such beans are stored in the map
+                    conflicts.add(index);
+                }
+                indexedBeans[index] = bean;
+            }
+        }
+        for (Integer conflict : conflicts) {
+            indexedBeans[conflict] = null;
+        }
+        return indexedBeans;
     }
 
     private void fireIfNotEmpty(LazyValue<Notifier<Object>> value) {
@@ -176,4 +228,123 @@ class RequestContext implements ManagedContext {
                 ArcContainerImpl.instance());
     }
 
+    static final class RequestContextState {
+
+        private final int size;
+
+        private volatile AtomicReferenceArray<ContextInstanceHandle<?>> indexed;
+
+        // contextuals without an index, e.g. custom beans
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others;
+
+        RequestContextState(int size) {
+            this.size = size;
+        }
+
+        ContextInstanceHandle<?> get(Contextual<?> contextual, int index) {
+            if (index >= 0) {
+                AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+                return indexed != null ? indexed.get(index) : null;
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            return others != null ? others.get(contextual) : null;
+        }
+
+        void put(Contextual<?> contextual, int index, ContextInstanceHandle<?> handle) {
+            if (index >= 0) {
+                indexed().set(index, handle);
+            } else {
+                others().put(contextual, handle);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual, int index) {
+            if (index >= 0) {
+                AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+                return indexed != null ? indexed.getAndSet(index, null) : null;
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            return others != null ? others.remove(contextual) : null;
+        }
+
+        void clear() {
+            AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+            if (indexed != null) {
+                for (int i = 0; i < indexed.length(); i++) {
+                    indexed.set(i, null);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null) {
+                others.clear();
+            }
+        }
+
+        /**
+         *
+         * @return a view of the handles, the iteration reflects the state at the time the iterator is created
+         */
+        Collection<ContextInstanceHandle<?>> handles() {
+            return new AbstractCollection<ContextInstanceHandle<?>>() {
+
+                @Override
+                public Iterator<ContextInstanceHandle<?>> iterator() {
+                    return snapshot().iterator();
+                }
+
+                @Override
+                public int size() {
+                    return snapshot().size();
+                }
+            };
+        }
+
+        private List<ContextInstanceHandle<?>> snapshot() {
+            List<ContextInstanceHandle<?>> handles = new ArrayList<>();
+            AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+            if (indexed != null) {
+                for (int i = 0; i < indexed.length(); i++) {
+                    ContextInstanceHandle<?> handle = indexed.get(i);
+                    if (handle != null) {
+                        handles.add(handle);
+                    }
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null) {
+                handles.addAll(others.values());
+            }
+            return handles;
+        }
+
+        private AtomicReferenceArray<ContextInstanceHandle<?>> indexed() {
+            AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+            if (indexed == null) {
+                synchronized (this) {
+                    indexed = this.indexed;
+                    if (indexed == null) {
+                        indexed = new AtomicReferenceArray<>(size);
+                        this.indexed = indexed;
+                    }
+                }
+            }
+            return indexed;
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others == null) {
+                synchronized (this) {
+                    others = this.others;
+                    if (others == null) {
+                        others = new ConcurrentHashMap<>();
+                        this.others = others;
+                    }
+                }
+            }
+            return others;
+        }
+
+    }
+
 }
@@ -0,0 +1,79 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import javax.interceptor.InvocationContext;
+
+/**
+ * InvocationContext for AroundInvoke interceptors that is shared by all interceptors in the chain.
+ * <p>
+ * A single instance is created per invocation and the current interceptor is tracked with a position index. Therefore, the
+ * chain must be executed synchronously, i.e. {@link #proceed()} may only be invoked before the calling interceptor method
+ * returns. This context is only used if all interceptors in the chain are annotated with
+ * {@link io.quarkus.arc.ProceedsSynchronously}, otherwise {@link AroundInvokeInvocationContext} is used.
+ */
+class SharedAroundInvokeInvocationContext extends AbstractInvocationContext {
+
+    private final Function<InvocationContext, Object> aroundInvokeForward;
+    private int position;
+    private boolean completed;
+
+    SharedAroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
+            Set<Annotation> interceptorBindings, List<InterceptorInvocation> chain,
+            Function<InvocationContext, Object> aroundInvokeForward) {
+        super(target, method, null, parameters, null, interceptorBindings, chain);
+        this.aroundInvokeForward = aroundInvokeForward;
+    }
+
+    static Object perform(Object target, Method method,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] parameters,
+            List<InterceptorInvocation> chain,
+            Set<Annotation> interceptorBindings) throws Exception {
+        SharedAroundInvokeInvocationContext ctx = new SharedAroundInvokeInvocationContext(target, method, parameters,
+                interceptorBindings, chain, aroundInvokeForward);
+        try {
+            return ctx.proceed();
+        } finally {
+            ctx.completed = true;
+        }
+    }
+
+    @Override
+    public Object proceed() throws Exception {
+        if (completed) {
+            throw new IllegalStateException("The interceptor chain of " + method
+                    + " has already completed - an interceptor that invokes proceed() asynchronously must not be annotated "
+                    + "with @io.quarkus.arc.ProceedsSynchronously");
+        }
+        int current = position;
+        try {
+            if (current < chain.size()) {
+                // Invoke the next interceptor in the chain
+                position = current + 1;
+                try {
+                    return chain.get(current).invoke(this);
+                } finally {
+                    // An interceptor may proceed multiple times
+                    position = current;
+                }
+            } else {
+                // Invoke the target method
+                return aroundInvokeForward.apply(this);
+            }
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+}
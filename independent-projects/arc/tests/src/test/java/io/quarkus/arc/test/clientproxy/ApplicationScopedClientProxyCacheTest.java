@@ -0,0 +1,66 @@
+package io.quarkus.arc.test.clientproxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ApplicationScopedClientProxyCacheTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Counter.class);
+
+    @Test
+    public void testCachedInstanceInvalidatedOnDestroy() {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        Object instance = ((ClientProxy) counter).arc_contextualInstance();
+        String id = counter.getId();
+        assertSame(instance, ((ClientProxy) counter).arc_contextualInstance());
+        assertEquals(id, counter.getId());
+
+        InjectableBean<?> bean = ((ClientProxy) counter).arc_bean();
+        Arc.container().getActiveContext(ApplicationScoped.class).destroy(bean);
+        assertEquals(1, Counter.DESTROYED.get());
+
+        // The proxy must not delegate to the destroyed instance
+        assertNotEquals(id, counter.getId());
+        assertNotEquals(instance, ((ClientProxy) counter).arc_contextualInstance());
+        assertSame(((ClientProxy) counter).arc_contextualInstance(),
+                ((ClientProxy) Arc.container().instance(Counter.class).get()).arc_contextualInstance());
+    }
+
+    @ApplicationScoped
+    static class Counter {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+}
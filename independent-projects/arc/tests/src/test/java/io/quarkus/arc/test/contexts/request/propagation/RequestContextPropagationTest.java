@@ -2,6 +2,7 @@ package io.quarkus.arc.test.contexts.request.propagation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -64,4 +65,27 @@ public class RequestContextPropagationTest {
         assertTrue(SuperButton.DESTROYED.get());
     }
 
+    @Test
+    public void testExportedStateIsNotReused() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+
+        requestContext.activate();
+        String controllerId = arc.instance(SuperController.class).get().getId();
+        ContextState state = requestContext.getState();
+        requestContext.deactivate();
+
+        // A new request on the same thread must not see the instances of the exported state
+        requestContext.activate();
+        assertNotEquals(controllerId, arc.instance(SuperController.class).get().getId());
+        requestContext.terminate();
+
+        requestContext.activate(state);
+        assertEquals(controllerId, arc.instance(SuperController.class).get().getId());
+        requestContext.terminate();
+
+        SuperController.DESTROYED.set(false);
+        SuperButton.DESTROYED.set(false);
+    }
+
 }
@@ -0,0 +1,80 @@
+package io.quarkus.arc.test.instance.supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class BeanInstanceSupplierTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class, Charlie.class);
+
+    @Test
+    public void testSingleton() {
+        Supplier<Alpha> supplier = Arc.container().beanInstanceSupplier(Alpha.class);
+        Alpha alpha = supplier.get();
+        assertSame(alpha, supplier.get());
+        assertSame(Arc.container().instance(Alpha.class).get(), alpha);
+        assertEquals(1, Alpha.CREATED.get());
+    }
+
+    @Test
+    public void testApplicationScoped() {
+        Supplier<Bravo> supplier = Arc.container().beanInstanceSupplier(Bravo.class);
+        Bravo bravo = supplier.get();
+        assertTrue(bravo instanceof ClientProxy);
+        assertSame(bravo, supplier.get());
+        assertEquals("bravo", bravo.ping());
+    }
+
+    @Test
+    public void testDependent() {
+        assertThrows(IllegalArgumentException.class, () -> Arc.container().beanInstanceSupplier(Charlie.class));
+    }
+
+    @Test
+    public void testUnsatisfied() {
+        assertNull(Arc.container().beanInstanceSupplier(String.class));
+    }
+
+    @Singleton
+    static class Alpha {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        @PostConstruct
+        void init() {
+            CREATED.incrementAndGet();
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Bravo {
+
+        String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @Dependent
+    static class Charlie {
+
+    }
+
+}
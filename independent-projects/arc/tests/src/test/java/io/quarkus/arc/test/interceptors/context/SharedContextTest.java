@@ -0,0 +1,121 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ProceedsSynchronously;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Logging;
+import io.quarkus.arc.test.interceptors.Simple;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Priority;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class SharedContextTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, Logging.class, SimpleBean.class, MixedBean.class,
+            AlphaInterceptor.class, BravoInterceptor.class, CharlieInterceptor.class);
+
+    @Test
+    public void testProceedTwice() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        SimpleBean.COUNTER.set(0);
+        // Alpha proceeds twice, Bravo and the target method are invoked twice
+        assertEquals("A:B2:B1", bean.foo("B"));
+        assertEquals(2, SimpleBean.COUNTER.get());
+        assertSame(AlphaInterceptor.context, BravoInterceptor.context);
+    }
+
+    @Test
+    public void testProceedAfterCompletion() {
+        Arc.container().instance(SimpleBean.class).get().foo("B");
+        assertThrows(IllegalStateException.class, () -> AlphaInterceptor.context.proceed());
+    }
+
+    @Test
+    public void testNotSharedUnlessAllInterceptorsProceedSynchronously() {
+        assertEquals("A:C2:C1", Arc.container().instance(MixedBean.class).get().foo("C"));
+        assertNotSame(AlphaInterceptor.context, BravoInterceptor.context);
+        assertNotSame(BravoInterceptor.context, CharlieInterceptor.context);
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        static final AtomicInteger COUNTER = new AtomicInteger();
+
+        String foo(String val) {
+            return val + COUNTER.incrementAndGet();
+        }
+
+    }
+
+    @Logging
+    @Simple
+    @Singleton
+    static class MixedBean {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        String foo(String val) {
+            return val + counter.incrementAndGet();
+        }
+
+    }
+
+    @ProceedsSynchronously
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        static volatile InvocationContext context;
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            context = ctx;
+            Object first = ctx.proceed();
+            return "A:" + ctx.proceed() + ":" + first;
+        }
+    }
+
+    @ProceedsSynchronously
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        static volatile InvocationContext context;
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            context = ctx;
+            return ctx.proceed();
+        }
+    }
+
+    @Logging
+    @Priority(3)
+    @Interceptor
+    public static class CharlieInterceptor {
+
+        static volatile InvocationContext context;
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            context = ctx;
+            return ctx.proceed();
+        }
+    }
+
+}
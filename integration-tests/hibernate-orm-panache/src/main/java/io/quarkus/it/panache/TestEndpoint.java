@@ -20,6 +20,7 @@ import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.junit.jupiter.api.Assertions;
 
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.hibernate.orm.panache.runtime.JpaOperations;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
@@ -770,6 +771,68 @@ public class TestEndpoint {
         return "OK";
     }
 
+    @GET
+    @Path("keyset")
+    @Transactional
+    public String testKeyset() {
+        Assertions.assertEquals(0, Person.count());
+        for (int i = 0; i < 7; i++) {
+            Person person = new Person();
+            // two persons per name so that the keyset needs the id to tell them apart
+            person.name = "keyset" + (i / 2);
+            person.status = i % 3 == 0 ? Status.DECEASED : Status.LIVING;
+            person.persist();
+        }
+        List<Person> all = Person.list("ORDER BY name, id");
+
+        // entity, no parameters
+        PanacheQuery<Person> query = Person.findAll(Sort.by("name").and("id")).page(Page.ofSize(3));
+        List<Person> persons = query.list();
+        Assertions.assertEquals(all.subList(0, 3), persons);
+        persons = query.after(persons.get(2).name, persons.get(2).id).list();
+        Assertions.assertEquals(all.subList(3, 6), persons);
+        persons = query.after(persons.get(2).name, persons.get(2).id).list();
+        Assertions.assertEquals(all.subList(6, 7), persons);
+        Assertions.assertEquals(7, query.count());
+        Assertions.assertEquals(all.subList(4, 7),
+                Person.findAllAfter(Sort.by("name").and("id"), all.get(3).name, all.get(3).id).list());
+
+        // descending, indexed and named parameters
+        List<Person> living = Person.list("status = ?1 ORDER BY name DESC, id DESC", Status.LIVING);
+        Person first = living.get(0);
+        Assertions.assertEquals(living.subList(1, living.size()),
+                Person.find("status", Sort.descending("name", "id"), Status.LIVING).after(first.name, first.id)
+                        .list());
+        Assertions.assertEquals(living.subList(1, living.size()),
+                Person.find("status = :status", Sort.descending("name", "id"), Parameters.with("status", Status.LIVING))
+                        .after(first.name, first.id).list());
+
+        // repository
+        Assertions.assertEquals(all.subList(2, 4),
+                personDao.findAllAfter(Sort.by("name").and("id"), all.get(1).name, all.get(1).id).page(0, 2).list());
+
+        try {
+            Person.findAll().after(1L);
+            Assertions.fail();
+        } catch (IllegalStateException x) {
+        }
+        try {
+            Person.findAll(Sort.by("id")).after(1L, 2L);
+            Assertions.fail();
+        } catch (IllegalArgumentException x) {
+        }
+
+        // batched stream
+        try (Stream<Person> stream = Person.findAll(Sort.by("name").and("id")).stream(2)) {
+            Assertions.assertEquals(all.stream().map(p -> p.id).collect(Collectors.toList()),
+                    stream.map(p -> p.id).collect(Collectors.toList()));
+        }
+        Assertions.assertFalse(JpaOperations.getEntityManager().contains(all.get(0)));
+
+        Person.deleteAll();
+        return "OK";
+    }
+
     @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
     @GET
     @Path("ignored-properties")
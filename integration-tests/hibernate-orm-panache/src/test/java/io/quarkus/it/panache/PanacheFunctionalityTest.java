@@ -25,6 +25,7 @@ public class PanacheFunctionalityTest {
         RestAssured.when().get("/test/model1").then().body(is("OK"));
         RestAssured.when().get("/test/model2").then().body(is("OK"));
         RestAssured.when().get("/test/model3").then().body(is("OK"));
+        RestAssured.when().get("/test/keyset").then().body(is("OK"));
     }
 
     @Test